@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -86,7 +86,7 @@ public abstract class ExpressionHelper<T> extends ExpressionHelperBase {
 
     protected final ObservableValue<T> observable;
 
-    private ExpressionHelper(ObservableValue<T> observable) {
+    ExpressionHelper(ObservableValue<T> observable) {
         this.observable = observable;
     }
 
@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.binding;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.DoubleChangeListener;
+import javafx.beans.value.FloatChangeListener;
+import javafx.beans.value.IntegerChangeListener;
+import javafx.beans.value.LongChangeListener;
+import javafx.beans.value.ObservableDoubleValue;
+import javafx.beans.value.ObservableFloatValue;
+import javafx.beans.value.ObservableIntegerValue;
+import javafx.beans.value.ObservableLongValue;
+import javafx.beans.value.ObservableValue;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+/**
+ * An {@link ExpressionHelper} for numeric properties that also holds the
+ * primitive change listeners ({@link DoubleChangeListener},
+ * {@link IntegerChangeListener} etc.) of the property.
+ *
+ * The invalidation and change listeners are kept in a regular
+ * {@code ExpressionHelper}, to which this helper delegates. The primitive
+ * change listeners are notified after them, with the value of the last
+ * notification as the old value, like {@code ExpressionHelper.Generic} does
+ * for change listeners. When the last primitive change listener is removed,
+ * the delegate is returned, so the property is left with a regular helper.
+ *
+ * The primitive change listeners are kept in an immutable array: adding or
+ * removing a listener creates a new array, so firing an event never copies or
+ * locks the array, and listeners may be added or removed while the event is
+ * being delivered. The arrays are also shared. Every array remembers the last
+ * array that was derived from it by adding a listener, so properties to which
+ * the same listeners are added in the same order end up referencing one
+ * array. The derived array is only weakly referenced, so a listener is never
+ * kept alive by an array that no property uses anymore.
+ *
+ * This class is not thread-safe.
+ */
+public abstract class PrimitiveExpressionHelper extends ExpressionHelper<Number> {
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Static methods
+
+    public static ExpressionHelper<Number> addListener(ExpressionHelper<Number> helper, ObservableDoubleValue observable, DoubleChangeListener listener) {
+        if ((observable == null) || (listener == null)) {
+            throw new NullPointerException();
+        }
+        if (helper instanceof OfDouble) {
+            ((PrimitiveExpressionHelper) helper).add(listener);
+            return helper;
+        }
+        return new OfDouble(observable, helper, listener);
+    }
+
+    public static ExpressionHelper<Number> removeListener(ExpressionHelper<Number> helper, DoubleChangeListener listener) {
+        return remove(helper, listener);
+    }
+
+    public static ExpressionHelper<Number> addListener(ExpressionHelper<Number> helper, ObservableFloatValue observable, FloatChangeListener listener) {
+        if ((observable == null) || (listener == null)) {
+            throw new NullPointerException();
+        }
+        if (helper instanceof OfFloat) {
+            ((PrimitiveExpressionHelper) helper).add(listener);
+            return helper;
+        }
+        return new OfFloat(observable, helper, listener);
+    }
+
+    public static ExpressionHelper<Number> removeListener(ExpressionHelper<Number> helper, FloatChangeListener listener) {
+        return remove(helper, listener);
+    }
+
+    public static ExpressionHelper<Number> addListener(ExpressionHelper<Number> helper, ObservableIntegerValue observable, IntegerChangeListener listener) {
+        if ((observable == null) || (listener == null)) {
+            throw new NullPointerException();
+        }
+        if (helper instanceof OfInteger) {
+            ((PrimitiveExpressionHelper) helper).add(listener);
+            return helper;
+        }
+        return new OfInteger(observable, helper, listener);
+    }
+
+    public static ExpressionHelper<Number> removeListener(ExpressionHelper<Number> helper, IntegerChangeListener listener) {
+        return remove(helper, listener);
+    }
+
+    public static ExpressionHelper<Number> addListener(ExpressionHelper<Number> helper, ObservableLongValue observable, LongChangeListener listener) {
+        if ((observable == null) || (listener == null)) {
+            throw new NullPointerException();
+        }
+        if (helper instanceof OfLong) {
+            ((PrimitiveExpressionHelper) helper).add(listener);
+            return helper;
+        }
+        return new OfLong(observable, helper, listener);
+    }
+
+    public static ExpressionHelper<Number> removeListener(ExpressionHelper<Number> helper, LongChangeListener listener) {
+        return remove(helper, listener);
+    }
+
+    private static ExpressionHelper<Number> remove(ExpressionHelper<Number> helper, Object listener) {
+        if (listener == null) {
+            throw new NullPointerException();
+        }
+        if (helper instanceof PrimitiveExpressionHelper) {
+            final PrimitiveExpressionHelper primitiveHelper = (PrimitiveExpressionHelper) helper;
+            primitiveHelper.listeners = primitiveHelper.listeners.without(listener);
+            return (primitiveHelper.listeners == null)? primitiveHelper.delegate : primitiveHelper;
+        }
+        return helper;
+    }
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Common implementations
+
+    private ExpressionHelper<Number> delegate;
+    private Listeners listeners;
+
+    private PrimitiveExpressionHelper(ObservableValue<Number> observable, ExpressionHelper<Number> delegate, Object listener) {
+        super(observable);
+        this.delegate = delegate;
+        this.listeners = Listeners.EMPTY.derive(listener);
+    }
+
+    private void add(Object listener) {
+        listeners = listeners.derive(listener);
+    }
+
+    /**
+     * Returns the number of primitive change listeners.
+     */
+    public int size() {
+        return listeners.listeners.length;
+    }
+
+    @Override
+    protected ExpressionHelper<Number> addListener(InvalidationListener listener) {
+        delegate = ExpressionHelper.addListener(delegate, observable, listener);
+        return this;
+    }
+
+    @Override
+    protected ExpressionHelper<Number> removeListener(InvalidationListener listener) {
+        delegate = ExpressionHelper.removeListener(delegate, listener);
+        return this;
+    }
+
+    @Override
+    protected ExpressionHelper<Number> addListener(ChangeListener<? super Number> listener) {
+        delegate = ExpressionHelper.addListener(delegate, observable, listener);
+        return this;
+    }
+
+    @Override
+    protected ExpressionHelper<Number> removeListener(ChangeListener<? super Number> listener) {
+        delegate = ExpressionHelper.removeListener(delegate, listener);
+        return this;
+    }
+
+    @Override
+    protected void fireValueChangedEvent() {
+        ExpressionHelper.fireValueChangedEvent(delegate);
+        firePrimitiveChangeEvent(listeners.listeners);
+    }
+
+    /**
+     * Notifies the primitive change listeners if the value differs from the
+     * one of the last notification.
+     */
+    abstract void firePrimitiveChangeEvent(Object[] curListeners);
+
+    ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
+    // Implementations
+
+    private static final class OfDouble extends PrimitiveExpressionHelper {
+
+        private double currentValue;
+
+        private OfDouble(ObservableDoubleValue observable, ExpressionHelper<Number> delegate, DoubleChangeListener listener) {
+            super(observable, delegate, listener);
+            this.currentValue = observable.get();
+        }
+
+        @Override
+        void firePrimitiveChangeEvent(Object[] curListeners) {
+            final ObservableDoubleValue observableValue = (ObservableDoubleValue) observable;
+            final double oldValue = currentValue;
+            currentValue = observableValue.get();
+            // same semantics as Double.equals()
+            if (Double.doubleToLongBits(oldValue) != Double.doubleToLongBits(currentValue)) {
+                for (int i = 0; i < curListeners.length; i++) {
+                    try {
+                        ((DoubleChangeListener) curListeners[i]).changed(observableValue, oldValue, currentValue);
+                    } catch (Exception e) {
+                        Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class OfFloat extends PrimitiveExpressionHelper {
+
+        private float currentValue;
+
+        private OfFloat(ObservableFloatValue observable, ExpressionHelper<Number> delegate, FloatChangeListener listener) {
+            super(observable, delegate, listener);
+            this.currentValue = observable.get();
+        }
+
+        @Override
+        void firePrimitiveChangeEvent(Object[] curListeners) {
+            final ObservableFloatValue observableValue = (ObservableFloatValue) observable;
+            final float oldValue = currentValue;
+            currentValue = observableValue.get();
+            // same semantics as Float.equals()
+            if (Float.floatToIntBits(oldValue) != Float.floatToIntBits(currentValue)) {
+                for (int i = 0; i < curListeners.length; i++) {
+                    try {
+                        ((FloatChangeListener) curListeners[i]).changed(observableValue, oldValue, currentValue);
+                    } catch (Exception e) {
+                        Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class OfInteger extends PrimitiveExpressionHelper {
+
+        private int currentValue;
+
+        private OfInteger(ObservableIntegerValue observable, ExpressionHelper<Number> delegate, IntegerChangeListener listener) {
+            super(observable, delegate, listener);
+            this.currentValue = observable.get();
+        }
+
+        @Override
+        void firePrimitiveChangeEvent(Object[] curListeners) {
+            final ObservableIntegerValue observableValue = (ObservableIntegerValue) observable;
+            final int oldValue = currentValue;
+            currentValue = observableValue.get();
+            if (oldValue != currentValue) {
+                for (int i = 0; i < curListeners.length; i++) {
+                    try {
+                        ((IntegerChangeListener) curListeners[i]).changed(observableValue, oldValue, currentValue);
+                    } catch (Exception e) {
+                        Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class OfLong extends PrimitiveExpressionHelper {
+
+        private long currentValue;
+
+        private OfLong(ObservableLongValue observable, ExpressionHelper<Number> delegate, LongChangeListener listener) {
+            super(observable, delegate, listener);
+            this.currentValue = observable.get();
+        }
+
+        @Override
+        void firePrimitiveChangeEvent(Object[] curListeners) {
+            final ObservableLongValue observableValue = (ObservableLongValue) observable;
+            final long oldValue = currentValue;
+            currentValue = observableValue.get();
+            if (oldValue != currentValue) {
+                for (int i = 0; i < curListeners.length; i++) {
+                    try {
+                        ((LongChangeListener) curListeners[i]).changed(observableValue, oldValue, currentValue);
+                    } catch (Exception e) {
+                        Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * An immutable array of primitive change listeners, shared between the
+     * helpers to which the same listeners were added in the same order.
+     */
+    private static final class Listeners extends ExpressionHelperBase {
+
+        private static final Listeners EMPTY = new Listeners(new Object[0]);
+
+        private final Object[] listeners;
+        private WeakReference<Listeners> derived;
+
+        private Listeners(Object[] listeners) {
+            this.listeners = listeners;
+        }
+
+        private Listeners derive(Object listener) {
+            final Listeners cached = (derived == null)? null : derived.get();
+            if ((cached != null) && (cached.listeners[cached.listeners.length - 1] == listener)) {
+                return cached;
+            }
+            int size = listeners.length;
+            Object[] newListeners = Arrays.copyOf(listeners, size + 1);
+            size = trim(size, newListeners);
+            newListeners[size++] = listener;
+            if (size < newListeners.length) {
+                // some weak listeners were garbage collected, don't cache
+                return new Listeners(Arrays.copyOf(newListeners, size));
+            }
+            final Listeners result = new Listeners(newListeners);
+            derived = new WeakReference<>(result);
+            return result;
+        }
+
+        private Listeners without(Object listener) {
+            for (int index = 0; index < listeners.length; index++) {
+                if (listener.equals(listeners[index])) {
+                    if (listeners.length == 1) {
+                        return null;
+                    }
+                    final Object[] newListeners = new Object[listeners.length - 1];
+                    System.arraycopy(listeners, 0, newListeners, 0, index);
+                    System.arraycopy(listeners, index + 1, newListeners, index, newListeners.length - index);
+                    return new Listeners(newListeners);
+                }
+            }
+            return this;
+        }
+    }
+}
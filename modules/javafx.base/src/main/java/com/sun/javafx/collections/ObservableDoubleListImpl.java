@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.collections;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import javafx.collections.ModifiableObservableListBase;
+import javafx.collections.ObservableDoubleList;
+
+/**
+ * ObservableDoubleList default implementation.
+ *
+ * The elements are stored in a {@code DoubleBuffer}, which is either backed by a
+ * {@code double[]} array or allocated off-heap by
+ * {@link ByteBuffer#allocateDirect(int)}. The boxed {@code Double} values are
+ * only created by the methods inherited from {@code List}.
+ */
+public final class ObservableDoubleListImpl extends ModifiableObservableListBase<Double>
+        implements ObservableDoubleList, RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MOVE_CHUNK_SIZE = 1024;
+    // the largest capacity whose size in bytes fits in an int
+    private static final int MAX_DIRECT_CAPACITY = Integer.MAX_VALUE / Double.BYTES;
+
+    private final boolean direct;
+    private DoubleBuffer data;
+    private int size;
+    // the chunk elements of a direct buffer are moved through
+    private double[] moveBuffer;
+
+    /**
+     * Creates an empty observable double list.
+     * @param direct whether the elements are stored off-heap
+     */
+    public ObservableDoubleListImpl(boolean direct) {
+        this.direct = direct;
+        this.data = allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Creates an observable double list stored on the heap with a copy of the
+     * given values.
+     * @param values the initial values
+     */
+    public ObservableDoubleListImpl(double... values) {
+        this.direct = false;
+        this.data = allocate(Math.max(INITIAL_CAPACITY, values.length));
+        data.put(values);
+        size = values.length;
+    }
+
+    private DoubleBuffer allocate(int capacity) {
+        if (direct) {
+            if (capacity > MAX_DIRECT_CAPACITY) {
+                throw new OutOfMemoryError("Required direct buffer size too large");
+            }
+            return ByteBuffer.allocateDirect(capacity * Double.BYTES).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+        }
+        return DoubleBuffer.allocate(capacity);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity < 0) {
+            // the required size overflowed
+            throw new OutOfMemoryError("Required array size too large");
+        }
+        if (capacity > data.capacity()) {
+            int newCapacity = Math.max(capacity, data.capacity() + (data.capacity() >> 1));
+            if (direct && newCapacity > MAX_DIRECT_CAPACITY) {
+                newCapacity = Math.max(capacity, MAX_DIRECT_CAPACITY);
+            }
+            final DoubleBuffer newData = allocate(newCapacity);
+            final DoubleBuffer src = data.duplicate();
+            src.limit(size).position(0);
+            newData.put(src);
+            data = newData;
+        }
+    }
+
+    /**
+     * Moves {@code length} elements from {@code srcIndex} to {@code destIndex};
+     * the ranges may overlap.
+     */
+    private void move(int srcIndex, int destIndex, int length) {
+        if (length == 0) {
+            return;
+        }
+        if (data.hasArray()) {
+            final double[] array = data.array();
+            final int offset = data.arrayOffset();
+            System.arraycopy(array, offset + srcIndex, array, offset + destIndex, length);
+        } else {
+            // copy through a reused chunk, starting from the end of the
+            // elements when moving them up so that the ranges may overlap
+            if (moveBuffer == null) {
+                moveBuffer = new double[MOVE_CHUNK_SIZE];
+            }
+            final DoubleBuffer src = data.duplicate();
+            final DoubleBuffer dest = data.duplicate();
+            for (int done = 0; done < length; ) {
+                final int n = Math.min(MOVE_CHUNK_SIZE, length - done);
+                final int offset = destIndex > srcIndex ? length - done - n : done;
+                src.position(srcIndex + offset);
+                src.get(moveBuffer, 0, n);
+                dest.position(destIndex + offset);
+                dest.put(moveBuffer, 0, n);
+                done += n;
+            }
+        }
+    }
+
+    private void rangeCheck(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private void rangeCheckForAdd(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    private List<Double> copyOf(int from, int to) {
+        final List<Double> copy = new ArrayList<>(to - from);
+        for (int i = from; i < to; ++i) {
+            copy.add(data.get(i));
+        }
+        return copy;
+    }
+
+    @Override
+    public Double get(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double getDouble(int index) {
+        rangeCheck(index);
+        return data.get(index);
+    }
+
+    @Override
+    public double setDouble(int index, double value) {
+        rangeCheck(index);
+        final double old = data.get(index);
+        data.put(index, value);
+        beginChange();
+        nextSet(index, old);
+        endChange();
+        return old;
+    }
+
+    @Override
+    public void addDouble(double value) {
+        ensureCapacity(size + 1);
+        data.put(size++, value);
+        ++modCount;
+        beginChange();
+        nextAdd(size - 1, size);
+        endChange();
+    }
+
+    @Override
+    public void addDoubles(double... values) {
+        if (values.length == 0) {
+            return;
+        }
+        ensureCapacity(size + values.length);
+        data.duplicate().position(size).put(values);
+        size += values.length;
+        ++modCount;
+        beginChange();
+        nextAdd(size - values.length, size);
+        endChange();
+    }
+
+    @Override
+    public void setAllDoubles(double... values) {
+        if (size == 0 && values.length == 0) {
+            return;
+        }
+        beginChange();
+        try {
+            clear();
+            addDoubles(values);
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public void copyTo(int srcIndex, double[] dest, int destIndex, int length) {
+        if (srcIndex < 0 || length < 0 || srcIndex + length > size) {
+            throw new IndexOutOfBoundsException();
+        }
+        data.duplicate().position(srcIndex).get(dest, destIndex, length);
+    }
+
+    @Override
+    public double[] toDoubleArray() {
+        final double[] array = new double[size];
+        copyTo(0, array, 0, size);
+        return array;
+    }
+
+    @Override
+    protected void doAdd(int index, Double element) {
+        rangeCheckForAdd(index);
+        final double value = element;
+        ensureCapacity(size + 1);
+        move(index, index + 1, size - index);
+        data.put(index, value);
+        ++size;
+    }
+
+    @Override
+    protected Double doSet(int index, Double element) {
+        rangeCheck(index);
+        final double value = element;
+        final double old = data.get(index);
+        data.put(index, value);
+        return old;
+    }
+
+    @Override
+    protected Double doRemove(int index) {
+        rangeCheck(index);
+        final double old = data.get(index);
+        move(index + 1, index, size - index - 1);
+        --size;
+        return old;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Double> c) {
+        return addAll(size, c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends Double> c) {
+        rangeCheckForAdd(index);
+        final Object[] values = c.toArray();
+        if (values.length == 0) {
+            return false;
+        }
+        for (Object value : values) {
+            if (value == null) {
+                throw new NullPointerException();
+            }
+        }
+        ensureCapacity(size + values.length);
+        move(index, index + values.length, size - index);
+        for (int i = 0; i < values.length; ++i) {
+            data.put(index + i, (Double) values[i]);
+        }
+        size += values.length;
+        ++modCount;
+        beginChange();
+        nextAdd(index, index + values.length);
+        endChange();
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        remove(0, size);
+    }
+
+    @Override
+    public void remove(int from, int to) {
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (from == to) {
+            return;
+        }
+        final boolean notify = hasListeners();
+        if (notify) {
+            beginChange();
+            nextRemove(from, copyOf(from, to));
+        }
+        move(to, from, size - to);
+        size -= to - from;
+        ++modCount;
+        if (notify) {
+            endChange();
+        }
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        remove(fromIndex, toIndex);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (o instanceof Double) {
+            final double value = (Double) o;
+            for (int i = 0; i < size; ++i) {
+                if (Double.doubleToLongBits(data.get(i)) == Double.doubleToLongBits(value)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (o instanceof Double) {
+            final double value = (Double) o;
+            for (int i = size - 1; i >= 0; --i) {
+                if (Double.doubleToLongBits(data.get(i)) == Double.doubleToLongBits(value)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,7 +31,9 @@ import javafx.collections.ObservableMap;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -46,6 +48,9 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V>{
     private MapListenerHelper<K, V> listenerHelper;
     private final Map<K, V> backingMap;
 
+    private int changeLock;
+    private Map<K, MapChangeListener.Change<K,V>> pendingChanges;
+
     public ObservableMapWrapper(Map<K, V> map) {
         this.backingMap = map;
     }
@@ -112,9 +117,59 @@ public class ObservableMapWrapper<K, V> implements ObservableMap<K, V>{
     }
 
     protected void callObservers(MapChangeListener.Change<K,V> change) {
+        if (changeLock > 0) {
+            if (pendingChanges == null) {
+                pendingChanges = new LinkedHashMap<>();
+            }
+            // only the first change of a key is needed to restore its state before the batch
+            pendingChanges.putIfAbsent(change.getKey(), change);
+            return;
+        }
         MapListenerHelper.fireValueChangedEvent(listenerHelper, change);
     }
 
+    /**
+     * Starts a batch of changes. Until the matching {@link #endChange()} call,
+     * no changes are reported; instead, at most one change per key is reported
+     * by the outermost {@code endChange()}, describing the difference between
+     * the mapping of the key before the batch and after it. Calls can be nested.
+     */
+    public void beginChange() {
+        changeLock++;
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginChange()}.
+     *
+     * @throws IllegalStateException if there is no batch in progress
+     */
+    public void endChange() {
+        if (changeLock <= 0) {
+            throw new IllegalStateException("Called endChange before beginChange");
+        }
+        if (--changeLock > 0 || pendingChanges == null) {
+            return;
+        }
+        final Map<K, MapChangeListener.Change<K,V>> changes = pendingChanges;
+        pendingChanges = null;
+        for (MapChangeListener.Change<K,V> first : changes.values()) {
+            final K key = first.getKey();
+            final boolean hadKey = first.wasRemoved();
+            final V oldValue = first.getValueRemoved();
+            final boolean hasKey = backingMap.containsKey(key);
+            final V newValue = hasKey ? backingMap.get(key) : null;
+            if (hadKey && hasKey) {
+                if (!Objects.equals(oldValue, newValue)) {
+                    callObservers(new SimpleChange(key, oldValue, newValue, true, true));
+                }
+            } else if (hadKey) {
+                callObservers(new SimpleChange(key, oldValue, null, false, true));
+            } else if (hasKey) {
+                callObservers(new SimpleChange(key, null, newValue, true, false));
+            }
+        }
+    }
+
     @Override
     public void addListener(InvalidationListener listener) {
         listenerHelper = MapListenerHelper.addListener(listenerHelper, listener);
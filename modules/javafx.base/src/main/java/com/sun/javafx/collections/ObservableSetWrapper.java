@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,6 +31,8 @@ import javafx.collections.SetChangeListener;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -42,6 +44,9 @@ public class ObservableSetWrapper<E> implements ObservableSet<E> {
 
     private SetListenerHelper<E> listenerHelper;
 
+    private int changeLock;
+    private Map<E, SetChangeListener.Change<E>> pendingChanges;
+
     /**
      * Creates new instance of ObservableSet that wraps
      * the particular set specified by the parameter set.
@@ -125,9 +130,56 @@ public class ObservableSetWrapper<E> implements ObservableSet<E> {
     }
 
     private void callObservers(SetChangeListener.Change<E> change) {
+        if (changeLock > 0) {
+            if (pendingChanges == null) {
+                pendingChanges = new LinkedHashMap<>();
+            }
+            // only the first change of an element is needed to know whether it was in the set before the batch
+            pendingChanges.putIfAbsent(change.wasAdded() ? change.getElementAdded() : change.getElementRemoved(), change);
+            return;
+        }
         SetListenerHelper.fireValueChangedEvent(listenerHelper, change);
     }
 
+    /**
+     * Starts a batch of changes. Until the matching {@link #endChange()} call,
+     * no changes are reported; instead, at most one change per element is
+     * reported by the outermost {@code endChange()}, for every element whose
+     * membership differs before and after the batch. Calls can be nested.
+     */
+    public void beginChange() {
+        changeLock++;
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginChange()}.
+     *
+     * @throws IllegalStateException if there is no batch in progress
+     */
+    public void endChange() {
+        if (changeLock <= 0) {
+            throw new IllegalStateException("Called endChange before beginChange");
+        }
+        if (--changeLock > 0 || pendingChanges == null) {
+            return;
+        }
+        final Map<E, SetChangeListener.Change<E>> changes = pendingChanges;
+        pendingChanges = null;
+        for (SetChangeListener.Change<E> first : changes.values()) {
+            if (first.wasRemoved()) {
+                final E element = first.getElementRemoved();
+                if (!backingSet.contains(element)) {
+                    callObservers(new SimpleRemoveChange(element));
+                }
+            } else {
+                final E element = first.getElementAdded();
+                if (backingSet.contains(element)) {
+                    callObservers(new SimpleAddChange(element));
+                }
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
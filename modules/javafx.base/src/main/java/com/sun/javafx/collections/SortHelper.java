@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,7 +26,6 @@
 package com.sun.javafx.collections;
 
 import java.lang.reflect.Array;
-import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.ListIterator;
@@ -88,25 +87,31 @@ public class SortHelper {
     public <T> int[] sort(T[] a, int fromIndex, int toIndex,
                 Comparator<? super T> c) {
         rangeCheck(a.length, fromIndex, toIndex);
-        T[] aux = (T[])copyOfRange(a, fromIndex, toIndex);
-        int[] result = initPermutation(a.length);
-        if (c==null)
-            mergeSort(aux, a, fromIndex, toIndex, -fromIndex);
-        else
-            mergeSort(aux, a, fromIndex, toIndex, -fromIndex, c);
-        reversePermutation = null;
-        permutation = null;
-        return Arrays.copyOfRange(result, fromIndex, toIndex);
+        // The merge sort tracks the permutation only when it sorts from
+        // index 0, so the range is sorted as an array of its own.
+        T[] range = (T[])copyOfRange(a, fromIndex, toIndex);
+        int[] result = sort(range, c);
+        System.arraycopy(range, 0, a, fromIndex, range.length);
+        return toRangePermutation(result, fromIndex);
     }
 
     public int[] sort(int[] a, int fromIndex, int toIndex) {
         rangeCheck(a.length, fromIndex, toIndex);
-        int[] aux = (int[])copyOfRange(a, fromIndex, toIndex);
-        int[] result = initPermutation(a.length);
-        mergeSort(aux, a, fromIndex, toIndex, -fromIndex);
+        int[] range = copyOfRange(a, fromIndex, toIndex);
+        int[] aux = range.clone();
+        int[] result = initPermutation(range.length);
+        mergeSort(aux, range, 0, range.length, 0);
         reversePermutation = null;
         permutation = null;
-        return Arrays.copyOfRange(result, fromIndex, toIndex);
+        System.arraycopy(range, 0, a, fromIndex, range.length);
+        return toRangePermutation(result, fromIndex);
+    }
+
+    private static int[] toRangePermutation(int[] permutation, int fromIndex) {
+        for (int i = 0; i < permutation.length; ++i) {
+            permutation[i] += fromIndex;
+        }
+        return permutation;
     }
 
     private static void rangeCheck(int arrayLen, int fromIndex, int toIndex) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -32,8 +32,10 @@ import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 
 import com.sun.javafx.binding.ExpressionHelper;
+import com.sun.javafx.binding.PrimitiveExpressionHelper;
 import java.lang.ref.WeakReference;
 import javafx.beans.WeakListener;
+import javafx.beans.value.LongChangeListener;
 import javafx.beans.value.ObservableLongValue;
 import javafx.beans.value.ObservableNumberValue;
 
@@ -94,10 +96,57 @@ public abstract class LongPropertyBase extends LongProperty {
         helper = ExpressionHelper.removeListener(helper, listener);
     }
 
+    /**
+     * Adds a {@link LongChangeListener} which will be notified whenever the
+     * value of this property changes. If the same listener is added more
+     * than once, then it will be notified more than once. That is, no check
+     * is made to ensure uniqueness.
+     * <p>
+     * In contrast to a {@link ChangeListener}, the old and the new value are
+     * passed as primitive {@code long} values, so notifying the listener
+     * does not create any wrapper objects. Primitive change listeners are
+     * notified after all {@code InvalidationListeners} and
+     * {@code ChangeListeners} of this property.
+     * <p>
+     * Note that the same actual {@code LongChangeListener} instance may be
+     * safely registered for different properties.
+     *
+     * @param listener
+     *            The listener to register
+     * @throws NullPointerException
+     *             if the listener is null
+     * @see #removePrimitiveChangeListener(LongChangeListener)
+     * @since 17.0.21
+     */
+    public void addPrimitiveChangeListener(LongChangeListener listener) {
+        helper = PrimitiveExpressionHelper.addListener(helper, this, listener);
+    }
+
+    /**
+     * Removes the given listener from the list of listeners, that are notified
+     * whenever the value of this property changes.
+     * <p>
+     * If the given listener has not been previously registered (i.e. it was
+     * never added) then this method call is a no-op. If it had been previously
+     * added then it will be removed. If it had been added more than once, then
+     * only the first occurrence will be removed.
+     *
+     * @param listener
+     *            The listener to remove
+     * @throws NullPointerException
+     *             if the listener is null
+     * @see #addPrimitiveChangeListener(LongChangeListener)
+     * @since 17.0.21
+     */
+    public void removePrimitiveChangeListener(LongChangeListener listener) {
+        helper = PrimitiveExpressionHelper.removeListener(helper, listener);
+    }
+
     /**
      * Sends notifications to all attached
-     * {@link javafx.beans.InvalidationListener InvalidationListeners} and
-     * {@link javafx.beans.value.ChangeListener ChangeListeners}.
+     * {@link javafx.beans.InvalidationListener InvalidationListeners},
+     * {@link javafx.beans.value.ChangeListener ChangeListeners}
+     * and {@link javafx.beans.value.LongChangeListener LongChangeListeners}.
      *
      * This method is called when the value is changed, either manually by
      * calling {@link #set(long)} or in case of a bound property, if the
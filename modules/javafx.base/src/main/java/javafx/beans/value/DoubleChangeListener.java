@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.beans.value;
+
+/**
+ * A {@code DoubleChangeListener} is notified whenever the value of an
+ * {@link ObservableDoubleValue} changes. Unlike a {@link ChangeListener}, it
+ * receives the old and the new value as primitive {@code double} values,
+ * so no wrapper objects are created when the value changes.
+ * <p>
+ * It can be registered and unregistered with
+ * {@link javafx.beans.property.DoublePropertyBase#addPrimitiveChangeListener(DoubleChangeListener)}
+ * respectively
+ * {@link javafx.beans.property.DoublePropertyBase#removePrimitiveChangeListener(DoubleChangeListener)}.
+ * <p>
+ * The same instance of {@code DoubleChangeListener} can be registered to listen
+ * to multiple {@code ObservableDoubleValues}.
+ *
+ * @see ChangeListener
+ * @see ObservableDoubleValue
+ *
+ * @since 17.0.21
+ */
+@FunctionalInterface
+public interface DoubleChangeListener {
+
+    /**
+     * Called when the value of an {@link ObservableDoubleValue} changes.
+     * <p>
+     * In general, it is considered bad practice to modify the observed value in
+     * this method.
+     *
+     * @param observable
+     *            The {@code ObservableDoubleValue} which value changed
+     * @param oldValue
+     *            The old value
+     * @param newValue
+     *            The new value
+     */
+    void changed(ObservableDoubleValue observable, double oldValue, double newValue);
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -53,8 +53,10 @@ import com.sun.javafx.collections.ObservableListWrapper;
 import com.sun.javafx.collections.ObservableMapWrapper;
 import com.sun.javafx.collections.ObservableSetWrapper;
 import com.sun.javafx.collections.MapAdapterChange;
+import com.sun.javafx.collections.ObservableDoubleListImpl;
 import com.sun.javafx.collections.ObservableFloatArrayImpl;
 import com.sun.javafx.collections.ObservableIntegerArrayImpl;
+import com.sun.javafx.collections.ObservableLongListImpl;
 import com.sun.javafx.collections.ObservableSequentialListWrapper;
 import com.sun.javafx.collections.SetAdapterChange;
 import com.sun.javafx.collections.SortableList;
@@ -308,6 +310,72 @@ public class FXCollections {
         return new ObservableFloatArrayImpl(array);
     }
 
+    /**
+     * Creates a new empty observable double list that stores its elements on
+     * the heap.
+     * @return a newly created ObservableDoubleList
+     * @since 17.0.21
+     */
+    public static ObservableDoubleList observableDoubleList() {
+        return new ObservableDoubleListImpl(false);
+    }
+
+    /**
+     * Creates a new observable double list that stores its elements on the heap
+     * and contains a copy of the given values.
+     * @param values the values that will be in the new list
+     * @return a newly created ObservableDoubleList
+     * @since 17.0.21
+     */
+    public static ObservableDoubleList observableDoubleList(double... values) {
+        return new ObservableDoubleListImpl(values);
+    }
+
+    /**
+     * Creates a new empty observable double list that stores its elements
+     * off-heap, in a direct {@code java.nio.ByteBuffer}. Such a list does
+     * not count against the Java heap, which makes it suitable for very
+     * large data sets.
+     * @return a newly created ObservableDoubleList
+     * @since 17.0.21
+     */
+    public static ObservableDoubleList observableDirectDoubleList() {
+        return new ObservableDoubleListImpl(true);
+    }
+
+    /**
+     * Creates a new empty observable long list that stores its elements on
+     * the heap.
+     * @return a newly created ObservableLongList
+     * @since 17.0.21
+     */
+    public static ObservableLongList observableLongList() {
+        return new ObservableLongListImpl(false);
+    }
+
+    /**
+     * Creates a new observable long list that stores its elements on the heap
+     * and contains a copy of the given values.
+     * @param values the values that will be in the new list
+     * @return a newly created ObservableLongList
+     * @since 17.0.21
+     */
+    public static ObservableLongList observableLongList(long... values) {
+        return new ObservableLongListImpl(values);
+    }
+
+    /**
+     * Creates a new empty observable long list that stores its elements
+     * off-heap, in a direct {@code java.nio.ByteBuffer}. Such a list does
+     * not count against the Java heap, which makes it suitable for very
+     * large data sets.
+     * @return a newly created ObservableLongList
+     * @since 17.0.21
+     */
+    public static ObservableLongList observableDirectLongList() {
+        return new ObservableLongListImpl(true);
+    }
+
     /**
      * Creates a new empty observable list that is backed by an array list.
      * @see #observableList(java.util.List)
@@ -710,6 +778,141 @@ public class FXCollections {
         }
     }
 
+    /**
+     * Starts a batch of changes to the provided observable list.
+     * Until the matching {@link #endChange(ObservableList)} call, modifications
+     * of the list are not reported to its listeners; instead, the outermost
+     * {@code endChange} call reports all of them as <b>one</b> change
+     * notification. Calls can be nested.
+     * <p>
+     * Batching is supported by lists extending {@link ObservableListBase},
+     * which includes the lists created by {@link #observableList(List)},
+     * {@link #observableList(List, Callback)} and the
+     * {@code observableArrayList} methods. The lists created by
+     * {@link #unmodifiableObservableList(ObservableList)},
+     * {@link #checkedObservableList(ObservableList, Class)} and
+     * {@link #synchronizedObservableList(ObservableList)} forward the batch to
+     * the list they wrap. For other lists, this method does nothing and
+     * changes are reported as they happen.
+     * @param list the list to start the batch on
+     * @see #endChange(ObservableList)
+     * @since 17.0.21
+     */
+    public static void beginChange(ObservableList<?> list) {
+        list = getBatchedList(list);
+        if (list instanceof ObservableListBase) {
+            ((ObservableListBase<?>) list).beginChange();
+        }
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginChange(ObservableList)}.
+     * If this is the outermost batch, the listeners of the list are notified
+     * of all modifications made since the batch started.
+     * @param list the list to end the batch on
+     * @throws IllegalStateException if the list supports batching and there
+     * is no batch in progress
+     * @see #beginChange(ObservableList)
+     * @since 17.0.21
+     */
+    public static void endChange(ObservableList<?> list) {
+        list = getBatchedList(list);
+        if (list instanceof ObservableListBase) {
+            ((ObservableListBase<?>) list).endChange();
+        }
+    }
+
+    // The wrappers report the changes of the backing list as they receive
+    // them, so a batch has to be started on the list that is modified.
+    private static ObservableList<?> getBatchedList(ObservableList<?> list) {
+        while (true) {
+            if (list instanceof UnmodifiableObservableListImpl) {
+                list = ((UnmodifiableObservableListImpl<?>) list).backingList;
+            } else if (list instanceof CheckedObservableList) {
+                list = ((CheckedObservableList<?>) list).list;
+            } else if (list instanceof SynchronizedObservableList) {
+                list = ((SynchronizedObservableList<?>) list).backingList;
+            } else {
+                return list;
+            }
+        }
+    }
+
+    /**
+     * Starts a batch of changes to the provided observable map.
+     * Until the matching {@link #endChange(ObservableMap)} call, modifications
+     * of the map are not reported to its listeners; instead, the outermost
+     * {@code endChange} call reports at most one change per key, describing
+     * the difference between the mapping of the key before and after the
+     * batch. Calls can be nested.
+     * <p>
+     * Batching is supported by the maps created by
+     * {@link #observableMap(java.util.Map)} and {@link #observableHashMap()}.
+     * For other maps, this method does nothing and changes are reported as
+     * they happen.
+     * @param map the map to start the batch on
+     * @see #endChange(ObservableMap)
+     * @since 17.0.21
+     */
+    public static void beginChange(ObservableMap<?, ?> map) {
+        if (map instanceof ObservableMapWrapper) {
+            ((ObservableMapWrapper<?, ?>) map).beginChange();
+        }
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginChange(ObservableMap)}.
+     * If this is the outermost batch, the listeners of the map are notified
+     * of every key whose mapping differs from the one before the batch.
+     * @param map the map to end the batch on
+     * @throws IllegalStateException if the map supports batching and there
+     * is no batch in progress
+     * @see #beginChange(ObservableMap)
+     * @since 17.0.21
+     */
+    public static void endChange(ObservableMap<?, ?> map) {
+        if (map instanceof ObservableMapWrapper) {
+            ((ObservableMapWrapper<?, ?>) map).endChange();
+        }
+    }
+
+    /**
+     * Starts a batch of changes to the provided observable set.
+     * Until the matching {@link #endChange(ObservableSet)} call, modifications
+     * of the set are not reported to its listeners; instead, the outermost
+     * {@code endChange} call reports every element that was added or removed
+     * by the batch as a whole. Calls can be nested.
+     * <p>
+     * Batching is supported by the sets created by
+     * {@link #observableSet(java.util.Set)} and {@link #observableSet(Object...)}.
+     * For other sets, this method does nothing and changes are reported as
+     * they happen.
+     * @param set the set to start the batch on
+     * @see #endChange(ObservableSet)
+     * @since 17.0.21
+     */
+    public static void beginChange(ObservableSet<?> set) {
+        if (set instanceof ObservableSetWrapper) {
+            ((ObservableSetWrapper<?>) set).beginChange();
+        }
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginChange(ObservableSet)}.
+     * If this is the outermost batch, the listeners of the set are notified
+     * of every element whose membership differs from the one before the batch.
+     * @param set the set to end the batch on
+     * @throws IllegalStateException if the set supports batching and there
+     * is no batch in progress
+     * @see #beginChange(ObservableSet)
+     * @since 17.0.21
+     */
+    public static void endChange(ObservableSet<?> set) {
+        if (set instanceof ObservableSetWrapper) {
+            ((ObservableSetWrapper<?>) set).endChange();
+        }
+    }
+
     private static class EmptyObservableList<E> extends AbstractList<E> implements ObservableList<E> {
 
         private static final ListIterator iterator = new ListIterator() {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -113,7 +113,8 @@ final class ListChangeBuilder<E> {
             SubChange<E> change = addRemoveChanges.get(idx);
             change.to--; // Removed one element from the previously added list
             if (change.from == change.to && (change.removed == null || change.removed.isEmpty())) {
-                    addRemoveChanges.remove(idx);
+                addRemoveChanges.remove(idx);
+                --idx; // The following changes moved down by one
             }
         }
         for (int i = idx + 1; i < addRemoveChanges.size(); ++i) {
@@ -202,10 +203,6 @@ final class ListChangeBuilder<E> {
 
         if (last != null && last.to == idx) {
             last.removed.add(removed);
-        } else if (last != null && last.from == idx + 1) {
-            last.from--;
-            last.to--;
-            last.removed.add(0, removed);
         } else {
             insertRemoved(idx, removed);
         }
@@ -284,7 +281,18 @@ final class ListChangeBuilder<E> {
             //Because there were already some changes to the list, we need
             // to "reconstruct" the original list and create a permutation
             // as-if there were no changes to the list. We can then
-            // merge this with the permutation we already did
+            // merge this with the permutation we already did.
+            // The reconstructed list is the permutated list without the
+            // added elements, with the removed elements put back at the
+            // (permutated) positions of their add/remove changes, so that
+            // applying the add/remove changes after the permutation gives
+            // the current list.
+
+            // Adjacent changes would map their removed elements to the same
+            // position, so they have to be merged first
+            if (compress(addRemoveChanges) > 0) {
+                addRemoveChanges.removeAll(Collections.singleton(null));
+            }
 
             // This maps elements from current list to the original list.
             // -1 means the map was not in the original list.
@@ -292,8 +300,8 @@ final class ListChangeBuilder<E> {
             // by the permutation. So it basically contains the order in which the original
             // items were permutated by our new permutation.
             int[] mapToOriginal = new int[list.size()];
-            // Marks the original-list indexes that were removed
-            Set<Integer> removed = new TreeSet<Integer>();
+            // The original-list index of the first removed element of every change
+            int[] removedFrom = new int[addRemoveChanges.size()];
             int last = 0;
             int offset = 0;
             for (int i = 0, sz = addRemoveChanges.size(); i < sz; ++i) {
@@ -305,11 +313,8 @@ final class ListChangeBuilder<E> {
                     mapToOriginal[j < from || j >= to ? j : perm[j - from]] = -1;
                 }
                 last = change.to;
+                removedFrom[i] = change.from + offset;
                 int removedSize = (change.removed != null ? change.removed.size() : 0);
-                for (int j = change.from + offset, upTo = change.from + offset + removedSize;
-                        j < upTo; ++j) {
-                    removed.add(j);
-                }
                 offset += removedSize - (change.to - change.from);
 
             }
@@ -318,17 +323,23 @@ final class ListChangeBuilder<E> {
                 mapToOriginal[i < from || i >= to ? i : perm[i - from]] = i + offset;
             }
 
+            List<List<Integer>> removedIndexes = permutateAddRemoveChanges(from, to, perm, removedFrom);
+
             int[] newPerm = new int[list.size() + offset];
+            int newPos = 0;
             int mapPtr = 0;
-            for (int i = 0; i < newPerm.length; ++i) {
-                if (removed.contains(i)) {
-                    newPerm[i] = i;
-                } else {
-                    while(mapToOriginal[mapPtr] == -1) {
-                        mapPtr++;
-                    }
-                    newPerm[mapToOriginal[mapPtr++]] = i;
+            for (int i = 0, sz = addRemoveChanges.size(); i < sz; ++i) {
+                SubChange<E> change = addRemoveChanges.get(i);
+                for (; mapPtr < change.from; ++mapPtr) {
+                    newPerm[mapToOriginal[mapPtr]] = newPos++;
                 }
+                for (int removedIndex : removedIndexes.get(i)) {
+                    newPerm[removedIndex] = newPos++;
+                }
+                mapPtr = change.to;
+            }
+            for (; mapPtr < mapToOriginal.length; ++mapPtr) {
+                newPerm[mapToOriginal[mapPtr]] = newPos++;
             }
 
             // We could theoretically find the first and last items such that
@@ -338,8 +349,6 @@ final class ListChangeBuilder<E> {
             prePerm = newPerm;
         }
 
-
-
         if (permutationChange != null) {
             if (prePermFrom == permutationChange.from && prePermTo == permutationChange.to) {
                 for (int i = 0; i < prePerm.length; ++i) {
@@ -371,53 +380,6 @@ final class ListChangeBuilder<E> {
             permutationChange = new SubChange<E>(prePermFrom, prePermTo, null, prePerm, false);
         }
 
-        if ((addRemoveChanges != null && !addRemoveChanges.isEmpty())) {
-            Set<Integer> newAdded = new TreeSet<Integer>();
-            Map<Integer, List<E>> newRemoved = new HashMap<Integer, List<E>>();
-            for (int i = 0, sz = addRemoveChanges.size(); i < sz; ++i) {
-                SubChange<E> change = addRemoveChanges.get(i);
-                for (int cIndex = change.from; cIndex < change.to; ++cIndex) {
-                    if (cIndex < from || cIndex >= to) {
-                        newAdded.add(cIndex);
-                    } else {
-                        newAdded.add(perm[cIndex - from]);
-                    }
-                }
-                if (change.removed != null) {
-                    if (change.from < from || change.from >= to) {
-                        newRemoved.put(change.from, change.removed);
-                    } else {
-                        newRemoved.put(perm[change.from - from], change.removed);
-                    }
-                }
-            }
-            addRemoveChanges.clear();
-            SubChange<E> lastChange = null;
-            for (Integer i : newAdded) {
-                if (lastChange == null || lastChange.to != i) {
-                    lastChange = new SubChange<E>(i, i + 1, null, EMPTY_PERM, false);
-                    addRemoveChanges.add(lastChange);
-                } else {
-                    lastChange.to = i + 1;
-                }
-                List<E> removed = newRemoved.remove(i);
-                if (removed != null) {
-                    if (lastChange.removed != null) {
-                        lastChange.removed.addAll(removed);
-                    } else {
-                        lastChange.removed = removed;
-                    }
-                }
-            }
-
-            for(Entry<Integer, List<E>> e : newRemoved.entrySet()) {
-                final Integer at = e.getKey();
-                int idx = findSubChange(at, addRemoveChanges);
-                assert(idx < 0);
-                addRemoveChanges.add(~idx, new SubChange<E>(at, at, e.getValue(), new int[0], false));
-            }
-        }
-
         if (updateChanges != null && !updateChanges.isEmpty()) {
             Set<Integer> newUpdated = new TreeSet<Integer>();
             for (int i = 0, sz = updateChanges.size(); i < sz; ++i) {
@@ -444,6 +406,70 @@ final class ListChangeBuilder<E> {
     }
 
 
+    /**
+     * Moves the add/remove changes by the permutation, merging the changes
+     * that become adjacent.
+     *
+     * @param removedFrom the original-list index of the first removed element of every change
+     * @return the original-list indexes of the removed elements of every resulting change
+     */
+    private List<List<Integer>> permutateAddRemoveChanges(int from, int to, int[] perm, int[] removedFrom) {
+        Set<Integer> newAdded = new TreeSet<Integer>();
+        Map<Integer, List<E>> newRemoved = new HashMap<Integer, List<E>>();
+        Map<Integer, Integer> newRemovedFrom = new HashMap<Integer, Integer>();
+        for (int i = 0, sz = addRemoveChanges.size(); i < sz; ++i) {
+            SubChange<E> change = addRemoveChanges.get(i);
+            for (int cIndex = change.from; cIndex < change.to; ++cIndex) {
+                if (cIndex < from || cIndex >= to) {
+                    newAdded.add(cIndex);
+                } else {
+                    newAdded.add(perm[cIndex - from]);
+                }
+            }
+            if (change.removed != null) {
+                final int at = change.from < from || change.from >= to ? change.from : perm[change.from - from];
+                newRemoved.put(at, change.removed);
+                newRemovedFrom.put(at, removedFrom[i]);
+            }
+        }
+        addRemoveChanges.clear();
+        List<List<Integer>> removedIndexes = new ArrayList<List<Integer>>();
+        SubChange<E> lastChange = null;
+        List<Integer> lastIndexes = null;
+        for (Integer i : newAdded) {
+            if (lastChange == null || lastChange.to != i) {
+                lastChange = new SubChange<E>(i, i + 1, new ArrayList<E>(), EMPTY_PERM, false);
+                lastIndexes = new ArrayList<Integer>();
+                addRemoveChanges.add(lastChange);
+                removedIndexes.add(lastIndexes);
+            } else {
+                lastChange.to = i + 1;
+            }
+            List<E> removed = newRemoved.remove(i);
+            if (removed != null) {
+                addIndexes(lastIndexes, newRemovedFrom.get(i), removed.size());
+                lastChange.removed.addAll(removed);
+            }
+        }
+
+        for(Entry<Integer, List<E>> e : newRemoved.entrySet()) {
+            final Integer at = e.getKey();
+            int idx = findSubChange(at, addRemoveChanges);
+            assert(idx < 0);
+            addRemoveChanges.add(~idx, new SubChange<E>(at, at, e.getValue(), new int[0], false));
+            List<Integer> indexes = new ArrayList<Integer>();
+            addIndexes(indexes, newRemovedFrom.get(at), e.getValue().size());
+            removedIndexes.add(~idx, indexes);
+        }
+        return removedIndexes;
+    }
+
+    private static void addIndexes(List<Integer> indexes, int from, int size) {
+        for (int i = from; i < from + size; ++i) {
+            indexes.add(i);
+        }
+    }
+
     public void nextReplace(int from, int to, List<? extends E> removed) {
         nextRemove(from, removed);
         nextAdd(from, to);
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.collections;
+
+/**
+ * {@code ObservableLongList} is an {@code ObservableList} that stores its
+ * elements as {@code long} values instead of {@code Long} objects. It reports
+ * changes to {@link ListChangeListener}s like any other {@code ObservableList},
+ * but the methods declared here read and write the elements without boxing
+ * them.
+ * <p>
+ * {@code null} elements are not permitted.
+ *
+ * @see FXCollections#observableLongList(long...)
+ * @see FXCollections#observableDirectLongList()
+ * @since 17.0.21
+ */
+public interface ObservableLongList extends ObservableList<Long> {
+
+    /**
+     * Gets the value at the given index without boxing it.
+     * @param index index of the element to get
+     * @return the value at the given index
+     * @throws IndexOutOfBoundsException if {@code index} is outside the list
+     */
+    public long getLong(int index);
+
+    /**
+     * Replaces the value at the given index.
+     * @param index index of the element to replace
+     * @param value the new value
+     * @return the previous value at the given index
+     * @throws IndexOutOfBoundsException if {@code index} is outside the list
+     */
+    public long setLong(int index, long value);
+
+    /**
+     * Appends the given value to the end of this list.
+     * @param value the value to append
+     */
+    public void addLong(long value);
+
+    /**
+     * Appends the given values to the end of this list. Fires only
+     * <b>one</b> change notification.
+     * @param values the values to append
+     */
+    public void addLongs(long... values);
+
+    /**
+     * Replaces the content of this list with the given values. Fires only
+     * <b>one</b> change notification.
+     * @param values the new content of this list
+     */
+    public void setAllLongs(long... values);
+
+    /**
+     * Copies the specified portion of this list into the {@code dest} array.
+     * @param srcIndex starting position in this list
+     * @param dest destination array
+     * @param destIndex starting position in the destination array
+     * @param length length of the portion to copy
+     * @throws IndexOutOfBoundsException if the portion is outside this list
+     * or the destination array
+     */
+    public void copyTo(int srcIndex, long[] dest, int destIndex, int length);
+
+    /**
+     * Returns a new array containing the values of this list.
+     * @return an array containing the values of this list
+     */
+    public long[] toLongArray();
+}
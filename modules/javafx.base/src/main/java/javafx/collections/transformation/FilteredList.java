@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -55,6 +55,10 @@ public final class FilteredList<E> extends TransformationList<E, E>{
     private SortHelper helper;
     private static final Predicate ALWAYS_TRUE = t -> true;
 
+    private enum Refinement { NONE, NARROWING, WIDENING }
+
+    private Refinement refinement = Refinement.NONE;
+
     /**
      * Constructs a new FilteredList wrapper around the source list.
      * The provided predicate will match the elements in the source list that will be visible.
@@ -99,7 +103,16 @@ public final class FilteredList<E> extends TransformationList<E, E>{
             predicate = new ObjectPropertyBase<Predicate<? super E>>() {
                 @Override
                 protected void invalidated() {
-                    refilter();
+                    switch (refinement) {
+                        case NARROWING:
+                            narrow();
+                            break;
+                        case WIDENING:
+                            widen();
+                            break;
+                        default:
+                            refilter();
+                    }
                 }
 
                 @Override
@@ -125,6 +138,48 @@ public final class FilteredList<E> extends TransformationList<E, E>{
         predicateProperty().set(predicate);
     }
 
+    /**
+     * Sets a predicate that matches a subset of the elements matched by the
+     * current predicate. Only the elements currently in this list are tested
+     * against the new predicate, and only the elements that no longer match
+     * are reported as removed.
+     * <p>
+     * The result is undefined if the new predicate matches an element that the
+     * current predicate does not match.
+     * @param predicate the new predicate or null to match all elements
+     * @see #widenPredicate(java.util.function.Predicate)
+     * @since 17.0.21
+     */
+    public final void narrowPredicate(Predicate<? super E> predicate) {
+        refinement = Refinement.NARROWING;
+        try {
+            setPredicate(predicate);
+        } finally {
+            refinement = Refinement.NONE;
+        }
+    }
+
+    /**
+     * Sets a predicate that matches a superset of the elements matched by the
+     * current predicate. Only the elements of the source list that are not in
+     * this list are tested against the new predicate, and only the elements
+     * that now match are reported as added.
+     * <p>
+     * The result is undefined if the new predicate does not match an element
+     * that the current predicate matches.
+     * @param predicate the new predicate or null to match all elements
+     * @see #narrowPredicate(java.util.function.Predicate)
+     * @since 17.0.21
+     */
+    public final void widenPredicate(Predicate<? super E> predicate) {
+        refinement = Refinement.WIDENING;
+        try {
+            setPredicate(predicate);
+        } finally {
+            refinement = Refinement.NONE;
+        }
+    }
+
     private Predicate<? super E> getPredicateImpl() {
         if (getPredicate() != null) {
             return getPredicate();
@@ -317,6 +372,46 @@ public final class FilteredList<E> extends TransformationList<E, E>{
         }
     }
 
+    private void narrow() {
+        Predicate<? super E> pred = getPredicateImpl();
+        beginChange();
+        int newSize = 0;
+        for (int i = 0; i < size; ++i) {
+            final E e = getSource().get(filtered[i]);
+            if (pred.test(e)) {
+                filtered[newSize++] = filtered[i];
+            } else {
+                nextRemove(newSize, e);
+            }
+        }
+        size = newSize;
+        endChange();
+    }
+
+    private void widen() {
+        Predicate<? super E> pred = getPredicateImpl();
+        int[] newFiltered = new int[getSource().size() * 3 / 2 + 1];
+        int newSize = 0;
+        int pos = 0;
+        int i = 0;
+        beginChange();
+        for (Iterator<? extends E> it = getSource().iterator(); it.hasNext(); ++i) {
+            final E next = it.next();
+            if (pos < size && filtered[pos] == i) {
+                // already matched by the current predicate
+                newFiltered[newSize++] = i;
+                ++pos;
+            } else if (pred.test(next)) {
+                newFiltered[newSize] = i;
+                nextAdd(newSize, newSize + 1);
+                ++newSize;
+            }
+        }
+        filtered = newFiltered;
+        size = newSize;
+        endChange();
+    }
+
     @SuppressWarnings("unchecked")
     private void refilter() {
         ensureSize(getSource().size());
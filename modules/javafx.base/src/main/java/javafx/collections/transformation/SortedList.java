@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -98,12 +98,21 @@ public final class SortedList<E> extends TransformationList<E, E>{
     @Override
     protected void sourceChanged(Change<? extends E> c) {
         if (elementComparator != null) {
+            // an updated element can only be moved into place when it is the
+            // only one out of order, that is the only one the change updates
+            int updated = 0;
+            while (c.next()) {
+                if (c.wasUpdated()) {
+                    updated += c.getTo() - c.getFrom();
+                }
+            }
+            c.reset();
             beginChange();
             while (c.next()) {
                 if (c.wasPermutated()) {
                     updatePermutationIndexes(c);
                 } else if (c.wasUpdated()) {
-                    update(c);
+                    update(c, updated == 1 && isIncrementalUpdate(1));
                 } else {
                     addRemove(c);
                 }
@@ -379,17 +388,61 @@ public final class SortedList<E> extends TransformationList<E, E>{
         nextRemove(0, removed);
     }
 
-    private void update(Change<? extends E> c) {
-        int[] perm = helper.sort(sorted, 0, size, elementComparator);
-        for (int i = 0; i < size; i++) {
-            this.perm[sorted[i].index] = i;
+    private void update(Change<? extends E> c, boolean incremental) {
+        if (incremental) {
+            reposition(c.getFrom());
+        } else {
+            int[] perm = helper.sort(sorted, 0, size, elementComparator);
+            for (int i = 0; i < size; i++) {
+                this.perm[sorted[i].index] = i;
+            }
+            nextPermutation(0, size, perm);
         }
-        nextPermutation(0, size, perm);
         for (int i = c.getFrom(), to = c.getTo(); i < to; ++i) {
             nextUpdate(this.perm[i]);
         }
     }
 
+    /**
+     * Returns true if moving the updated elements to their new position
+     * is cheaper than sorting the whole list again.
+     */
+    private boolean isIncrementalUpdate(int updated) {
+        return (long) updated * (32 - Integer.numberOfLeadingZeros(size)) < size;
+    }
+
+    /**
+     * Moves the element with the given source index to its position in the
+     * otherwise sorted list, using binary search. All the other elements
+     * must be in order.
+     */
+    private void reposition(int idx) {
+        final int pos = perm[idx];
+        final Element<E> el = sorted[pos];
+        if ((pos == 0 || elementComparator.compare(sorted[pos - 1], el) <= 0)
+                && (pos == size - 1 || elementComparator.compare(el, sorted[pos + 1]) <= 0)) {
+            return;
+        }
+        System.arraycopy(sorted, pos + 1, sorted, pos, size - pos - 1);
+        int newPos = Arrays.binarySearch(sorted, 0, size - 1, el, elementComparator);
+        if (newPos < 0) {
+            newPos = ~newPos;
+        }
+        System.arraycopy(sorted, newPos, sorted, newPos + 1, size - newPos - 1);
+        sorted[newPos] = el;
+
+        final int from = Math.min(pos, newPos);
+        final int to = Math.max(pos, newPos) + 1;
+        final int[] perm = new int[to - from];
+        final int shift = newPos > pos ? -1 : 1;
+        for (int i = from; i < to; ++i) {
+            this.perm[sorted[i].index] = i;
+            perm[i - from] = i + shift;
+        }
+        perm[pos - from] = newPos;
+        nextPermutation(from, to, perm);
+    }
+
     private void addRemove(Change<? extends E> c) {
         if (c.getFrom() == 0 && c.getRemovedSize() == size) {
             removeAllFromMapping();
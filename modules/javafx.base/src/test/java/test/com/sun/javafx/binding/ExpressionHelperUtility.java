@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -58,6 +58,7 @@ public class ExpressionHelperUtility {
     private static final String SET_EXPRESSION_HELPER_SINGLE_CHANGE        = "com.sun.javafx.binding.SetExpressionHelper$SingleChange";
     private static final String SET_EXPRESSION_HELPER_SINGLE_SET_CHANGE    = "com.sun.javafx.binding.SetExpressionHelper$SingleSetChange";
     private static final String SET_EXPRESSION_HELPER_GENERIC              = "com.sun.javafx.binding.SetExpressionHelper$Generic";
+    private static final String PRIMITIVE_EXPRESSION_HELPER                = "com.sun.javafx.binding.PrimitiveExpressionHelper";
 
     private ExpressionHelperUtility() {}
 
@@ -321,13 +322,23 @@ public class ExpressionHelperUtility {
             try {
                 final Field field = clazz.getDeclaredField("helper");
                 field.setAccessible(true);
-                return field.get(bean);
+                return unwrapPrimitiveExpressionHelper(field.get(bean));
             } catch (Exception ex) { }
             clazz = clazz.getSuperclass();
         }
         return null;
     }
 
+    private static Object unwrapPrimitiveExpressionHelper(Object helper) throws Exception {
+        final Class clazz = Class.forName(PRIMITIVE_EXPRESSION_HELPER);
+        if (clazz.isInstance(helper)) {
+            final Field field = clazz.getDeclaredField("delegate");
+            field.setAccessible(true);
+            return field.get(helper);
+        }
+        return helper;
+    }
+
     private static List<InvalidationListener> getInvalidationListenerFromSingleInvalidationClass(Class clazz, Object helper) {
         try {
             final Field field = clazz.getDeclaredField("listener");
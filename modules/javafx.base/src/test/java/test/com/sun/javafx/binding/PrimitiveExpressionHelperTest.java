@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.binding;
+
+import com.sun.javafx.binding.ExpressionHelper;
+import com.sun.javafx.binding.PrimitiveExpressionHelper;
+import javafx.beans.InvalidationListener;
+import javafx.beans.binding.DoubleBinding;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.DoubleChangeListener;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PrimitiveExpressionHelperTest {
+
+    private double value;
+    private DoubleBinding observable;
+    private List<String> events;
+    private DoubleChangeListener listener1;
+    private DoubleChangeListener listener2;
+
+    @Before
+    public void setUp() {
+        value = 1.0;
+        observable = new DoubleBinding() {
+            @Override
+            protected double computeValue() {
+                return value;
+            }
+        };
+        events = new ArrayList<>();
+        listener1 = (o, oldValue, newValue) -> events.add("1:" + oldValue + "->" + newValue);
+        listener2 = (o, oldValue, newValue) -> events.add("2:" + oldValue + "->" + newValue);
+    }
+
+    private void fire(ExpressionHelper<Number> helper, double newValue) {
+        value = newValue;
+        observable.invalidate();
+        ExpressionHelper.fireValueChangedEvent(helper);
+    }
+
+    private static Object getListeners(ExpressionHelper<Number> helper) throws Exception {
+        final Field field = PrimitiveExpressionHelper.class.getDeclaredField("listeners");
+        field.setAccessible(true);
+        return field.get(helper);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAddNull() {
+        PrimitiveExpressionHelper.addListener(null, observable, (DoubleChangeListener) null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testRemoveNull() {
+        PrimitiveExpressionHelper.removeListener(null, (DoubleChangeListener) null);
+    }
+
+    @Test
+    public void testFire() {
+        ExpressionHelper<Number> helper = PrimitiveExpressionHelper.addListener(null, observable, listener1);
+        helper = PrimitiveExpressionHelper.addListener(helper, observable, listener2);
+        fire(helper, 2.0);
+        assertEquals(List.of("1:1.0->2.0", "2:1.0->2.0"), events);
+    }
+
+    @Test
+    public void testFireWithoutChange() {
+        final ExpressionHelper<Number> helper = PrimitiveExpressionHelper.addListener(null, observable, listener1);
+        fire(helper, 1.0);
+        assertEquals(List.of(), events);
+        fire(helper, Double.NaN);
+        events.clear();
+        fire(helper, Double.NaN);
+        assertEquals(List.of(), events);
+
+        // same semantics as Double.equals()
+        fire(helper, 0.0);
+        events.clear();
+        fire(helper, -0.0);
+        assertEquals(List.of("1:0.0->-0.0"), events);
+    }
+
+    @Test
+    public void testOldValueIsLastNotifiedValue() {
+        final ExpressionHelper<Number> helper = PrimitiveExpressionHelper.addListener(null, observable, listener1);
+        value = 2.0;
+        fire(helper, 3.0);
+        assertEquals(List.of("1:1.0->3.0"), events);
+    }
+
+    @Test
+    public void testRemove() {
+        ExpressionHelper<Number> helper = PrimitiveExpressionHelper.addListener(null, observable, listener1);
+        helper = PrimitiveExpressionHelper.addListener(helper, observable, listener2);
+        helper = PrimitiveExpressionHelper.removeListener(helper, listener1);
+        assertEquals(1, ((PrimitiveExpressionHelper) helper).size());
+        fire(helper, 2.0);
+        assertEquals(List.of("2:1.0->2.0"), events);
+
+        assertSame(helper, PrimitiveExpressionHelper.removeListener(helper, listener1));
+        assertNull(PrimitiveExpressionHelper.removeListener(helper, listener2));
+    }
+
+    @Test
+    public void testRemoveWhileFiring() {
+        final List<ExpressionHelper<Number>> helper = new ArrayList<>();
+        final DoubleChangeListener removing = (o, oldValue, newValue) -> {
+            events.add("removing");
+            helper.set(0, PrimitiveExpressionHelper.removeListener(helper.get(0), listener2));
+        };
+        helper.add(PrimitiveExpressionHelper.addListener(null, observable, removing));
+        helper.set(0, PrimitiveExpressionHelper.addListener(helper.get(0), observable, listener2));
+
+        fire(helper.get(0), 2.0);
+        assertEquals(List.of("removing", "2:1.0->2.0"), events);
+
+        events.clear();
+        fire(helper.get(0), 3.0);
+        assertEquals(List.of("removing"), events);
+    }
+
+    @Test
+    public void testDelegatesInvalidationAndChangeListeners() {
+        final InvalidationListener invalidationListener = o -> events.add("invalidated");
+        final ChangeListener<Number> changeListener = (o, oldValue, newValue) -> events.add("changed:" + oldValue + "->" + newValue);
+        ExpressionHelper<Number> helper = ExpressionHelper.addListener(null, observable, invalidationListener);
+        helper = PrimitiveExpressionHelper.addListener(helper, observable, listener1);
+        helper = ExpressionHelper.addListener(helper, observable, changeListener);
+        assertTrue(helper instanceof PrimitiveExpressionHelper);
+
+        fire(helper, 2.0);
+        assertEquals(List.of("invalidated", "changed:1.0->2.0", "1:1.0->2.0"), events);
+
+        // removing the last primitive listener leaves the other listeners
+        helper = PrimitiveExpressionHelper.removeListener(helper, listener1);
+        helper = ExpressionHelper.removeListener(helper, invalidationListener);
+        events.clear();
+        fire(helper, 3.0);
+        assertEquals(List.of("changed:2.0->3.0"), events);
+    }
+
+    @Test
+    public void testSharedBetweenIdenticalListenerSets() throws Exception {
+        final ExpressionHelper<Number> a = PrimitiveExpressionHelper.addListener(
+                PrimitiveExpressionHelper.addListener(null, observable, listener1), observable, listener2);
+        final ExpressionHelper<Number> b = PrimitiveExpressionHelper.addListener(
+                PrimitiveExpressionHelper.addListener(null, observable, listener1), observable, listener2);
+        assertNotSame(a, b);
+        assertSame(getListeners(a), getListeners(b));
+
+        final ExpressionHelper<Number> c = PrimitiveExpressionHelper.addListener(
+                PrimitiveExpressionHelper.addListener(null, observable, listener2), observable, listener1);
+        assertNotSame(getListeners(a), getListeners(c));
+        assertEquals(2, ((PrimitiveExpressionHelper) c).size());
+    }
+
+    @Test
+    public void testExceptionNotPropagatedFromListener() {
+        ExpressionHelper<Number> helper = PrimitiveExpressionHelper.addListener(null, observable,
+                (DoubleChangeListener) (o, oldValue, newValue) -> { throw new RuntimeException(); });
+        helper = PrimitiveExpressionHelper.addListener(helper, observable, listener1);
+
+        final Thread.UncaughtExceptionHandler handler = Thread.currentThread().getUncaughtExceptionHandler();
+        final int[] caught = new int[1];
+        Thread.currentThread().setUncaughtExceptionHandler((t, e) -> caught[0]++);
+        try {
+            fire(helper, 2.0);
+        } finally {
+            Thread.currentThread().setUncaughtExceptionHandler(handler);
+        }
+        assertEquals(1, caught[0]);
+        assertEquals(List.of("1:1.0->2.0"), events);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,6 +28,7 @@ package test.javafx.beans.property;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.DoublePropertyBase;
 import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.value.DoubleChangeListener;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -106,6 +107,41 @@ public class DoublePropertyBaseTest {
         changeListener.check(null, UNDEFINED, UNDEFINED, 0);
     }
 
+    @Test
+    public void testPrimitiveChangeListener() {
+        final double[] values = new double[2];
+        final int[] counter = new int[1];
+        final DoubleChangeListener listener = (observable, oldValue, newValue) -> {
+            assertEquals(property, observable);
+            values[0] = oldValue;
+            values[1] = newValue;
+            counter[0]++;
+        };
+        property.addPrimitiveChangeListener(listener);
+        property.set(Math.PI);
+        assertEquals(1, counter[0]);
+        assertEquals(0, values[0], EPSILON);
+        assertEquals(Math.PI, values[1], EPSILON);
+
+        // setting the same value does not notify
+        property.set(Math.PI);
+        assertEquals(1, counter[0]);
+
+        property.set(Math.E);
+        assertEquals(2, counter[0]);
+        assertEquals(Math.PI, values[0], EPSILON);
+        assertEquals(Math.E, values[1], EPSILON);
+
+        property.removePrimitiveChangeListener(listener);
+        property.set(Math.PI);
+        assertEquals(2, counter[0]);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAddPrimitiveChangeListener_Null() {
+        property.addPrimitiveChangeListener(null);
+    }
+
     @Test
     public void testLazySet() {
         attachInvalidationListener();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,6 +28,7 @@ package test.javafx.beans.property;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.IntegerPropertyBase;
 import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.value.IntegerChangeListener;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -107,6 +108,41 @@ public class IntegerPropertyBaseTest {
         changeListener.check(null, UNDEFINED, UNDEFINED, 0);
     }
 
+    @Test
+    public void testPrimitiveChangeListener() {
+        final int[] values = new int[2];
+        final int[] counter = new int[1];
+        final IntegerChangeListener listener = (observable, oldValue, newValue) -> {
+            assertEquals(property, observable);
+            values[0] = oldValue;
+            values[1] = newValue;
+            counter[0]++;
+        };
+        property.addPrimitiveChangeListener(listener);
+        property.set(VALUE_2);
+        assertEquals(1, counter[0]);
+        assertEquals(0, values[0]);
+        assertEquals(VALUE_2, values[1]);
+
+        // setting the same value does not notify
+        property.set(VALUE_2);
+        assertEquals(1, counter[0]);
+
+        property.set(VALUE_1);
+        assertEquals(2, counter[0]);
+        assertEquals(VALUE_2, values[0]);
+        assertEquals(VALUE_1, values[1]);
+
+        property.removePrimitiveChangeListener(listener);
+        property.set(VALUE_2);
+        assertEquals(2, counter[0]);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAddPrimitiveChangeListener_Null() {
+        property.addPrimitiveChangeListener(null);
+    }
+
     @Test
     public void testLazySet() {
         attachInvalidationListener();
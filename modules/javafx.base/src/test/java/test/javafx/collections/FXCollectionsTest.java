@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -703,6 +703,214 @@ public class FXCollectionsTest {
         testIterationProtection(FXCollections.synchronizedObservableList(FXCollections.observableArrayList()), this::modifyList, this::iterateOverList);
     }
 
+    /**
+     * Applies every reported change to a copy of the list, so that the copy
+     * only matches the list when the changes describe the modifications correctly.
+     */
+    private static <E> List<E> replayChanges(ObservableList<E> list, List<ListChangeListener.Change<? extends E>> changes) {
+        List<E> replay = new ArrayList<>(list);
+        list.addListener((ListChangeListener<E>) c -> {
+            changes.add(c);
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    List<E> permuted = new ArrayList<>(replay);
+                    for (int i = c.getFrom(); i < c.getTo(); i++) {
+                        permuted.set(c.getPermutation(i), replay.get(i));
+                    }
+                    replay.clear();
+                    replay.addAll(permuted);
+                } else {
+                    assertEquals(c.getRemoved(), replay.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()));
+                    replay.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+                    replay.addAll(c.getFrom(), c.getAddedSubList());
+                }
+            }
+        });
+        return replay;
+    }
+
+    @Test
+    public void batchListChangeTest() {
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b", "c", "d");
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        List<String> replay = replayChanges(list, changes);
+
+        FXCollections.beginChange(list);
+        list.set(0, "x");
+        list.add("e");
+        list.remove("b");
+        FXCollections.beginChange(list);
+        list.set(1, "y");
+        list.add(0, "z");
+        FXCollections.endChange(list);
+        FXCollections.sort(list);
+        assertTrue(changes.isEmpty());
+        FXCollections.endChange(list);
+
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList("d", "e", "x", "y", "z"), list);
+        assertEquals(list, replay);
+    }
+
+    @Test
+    public void batchWrappedListChangeTest() {
+        ObservableList<String> backing = FXCollections.observableArrayList("a", "b", "c");
+        ObservableList<String> sync = FXCollections.synchronizedObservableList(
+                FXCollections.checkedObservableList(backing, String.class));
+        ObservableList<String> unmodifiable = FXCollections.unmodifiableObservableList(sync);
+        List<ListChangeListener.Change<? extends String>> syncChanges = new ArrayList<>();
+        List<String> syncReplay = replayChanges(sync, syncChanges);
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        List<String> replay = replayChanges(unmodifiable, changes);
+
+        FXCollections.beginChange(sync);
+        sync.add("d");
+        sync.remove("a");
+        FXCollections.beginChange(unmodifiable);
+        sync.set(0, "x");
+        FXCollections.endChange(unmodifiable);
+        assertTrue(syncChanges.isEmpty());
+        assertTrue(changes.isEmpty());
+        FXCollections.endChange(sync);
+
+        assertEquals(1, syncChanges.size());
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList("x", "c", "d"), unmodifiable);
+        assertEquals(unmodifiable, syncReplay);
+        assertEquals(unmodifiable, replay);
+    }
+
+    @Test
+    public void batchListChangeRemovesElementAddedBeforeOtherChangeTest() {
+        ObservableList<String> list = FXCollections.observableArrayList("a", "b", "c", "d");
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        List<String> replay = replayChanges(list, changes);
+
+        FXCollections.beginChange(list);
+        list.set(1, "X");
+        list.add(0, "Y");
+        list.set(0, "Z");
+        FXCollections.endChange(list);
+
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList("Z", "a", "X", "c", "d"), list);
+        assertEquals(list, replay);
+
+        list.setAll("p", "q", "r");
+        changes.clear();
+        FXCollections.beginChange(list);
+        list.add(1, "A");
+        list.add(0, "B");
+        list.set(2, "C");
+        list.remove(0);
+        FXCollections.endChange(list);
+
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList("p", "C", "q", "r"), list);
+        assertEquals(list, replay);
+    }
+
+    @Test
+    public void batchListChangeRandomTest() {
+        Random random = new Random(17);
+        for (int run = 0; run < 2000; run++) {
+            ObservableList<Integer> list = FXCollections.observableArrayList();
+            for (int i = 0, size = random.nextInt(10); i < size; i++) {
+                list.add(random.nextInt(100));
+            }
+            List<ListChangeListener.Change<? extends Integer>> changes = new ArrayList<>();
+            List<Integer> replay = replayChanges(list, changes);
+
+            FXCollections.beginChange(list);
+            for (int op = 0, ops = 1 + random.nextInt(8); op < ops; op++) {
+                int size = list.size();
+                switch (random.nextInt(size == 0 ? 2 : 6)) {
+                    case 0:
+                        list.add(random.nextInt(size + 1), random.nextInt(100));
+                        break;
+                    case 1:
+                        list.addAll(random.nextInt(size + 1), Arrays.asList(random.nextInt(100), random.nextInt(100)));
+                        break;
+                    case 2:
+                        list.remove(random.nextInt(size));
+                        break;
+                    case 3: {
+                        int from = random.nextInt(size);
+                        list.remove(from, from + 1 + random.nextInt(size - from));
+                        break;
+                    }
+                    case 4:
+                        list.set(random.nextInt(size), random.nextInt(100));
+                        break;
+                    default:
+                        FXCollections.sort(list);
+                        break;
+                }
+            }
+            FXCollections.endChange(list);
+
+            assertTrue(changes.size() <= 1);
+            assertEquals(list, replay);
+        }
+    }
+
+    @Test
+    public void batchMapChangeTest() {
+        ObservableMap<String, Integer> map = FXCollections.observableHashMap();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        MockMapObserver<String, Integer> observer = new MockMapObserver<>();
+        map.addListener(observer);
+
+        FXCollections.beginChange(map);
+        map.put("a", 10);
+        map.put("a", 1);
+        map.remove("b");
+        map.put("d", 4);
+        FXCollections.beginChange(map);
+        map.put("c", 30);
+        map.remove("d");
+        FXCollections.endChange(map);
+        map.put("e", 5);
+        observer.check0();
+        FXCollections.endChange(map);
+
+        observer.assertMultipleCalls(MockMapObserver.Call.call("b", 2, null),
+                MockMapObserver.Call.call("c", 3, 30),
+                MockMapObserver.Call.call("e", null, 5));
+    }
+
+    @Test
+    public void batchSetChangeTest() {
+        ObservableSet<String> set = FXCollections.observableSet("a", "b", "c");
+        MockSetObserver<String> observer = new MockSetObserver<>();
+        set.addListener(observer);
+
+        FXCollections.beginChange(set);
+        set.remove("a");
+        set.add("a");
+        set.remove("b");
+        set.add("d");
+        set.retainAll(Arrays.asList("a", "c"));
+        set.add("e");
+        observer.check0();
+        FXCollections.endChange(set);
+
+        observer.assertMultipleCalls(MockSetObserver.Call.call("b", null),
+                MockSetObserver.Call.call(null, "e"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void endChangeWithoutBeginChangeMapTest() {
+        FXCollections.endChange(FXCollections.observableHashMap());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void endChangeWithoutBeginChangeSetTest() {
+        FXCollections.endChange(FXCollections.observableSet());
+    }
+
     private void modifyList(List<Integer> list, Random rnd) {
         if (rnd.nextInt(1000) > list.size()) {
             list.add(rnd.nextInt(1000));
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2020, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -299,6 +299,34 @@ public class FilteredListTest {
         compareIndices();
     }
 
+    @Test
+    public void testNarrowPredicate() {
+        list.addAll("b", "e", "a");
+        mlo.clear();
+        filteredList.narrowPredicate(e -> e.equals("a") || e.equals("e"));
+        assertEquals(Arrays.asList("a", "e", "a"), filteredList);
+        mlo.check1AddRemove(filteredList, Arrays.asList("d", "b"), 1, 1);
+        compareIndices();
+    }
+
+    @Test
+    public void testWidenPredicate() {
+        list.add("b");
+        mlo.clear();
+        filteredList.widenPredicate(null);
+        assertEquals(list, filteredList);
+        mlo.checkAddRemove(0, filteredList, Collections.<String>emptyList(), 1, 2);
+        mlo.checkAddRemove(1, filteredList, Collections.<String>emptyList(), 3, 4);
+        compareIndices();
+
+        mlo.clear();
+        filteredList.narrowPredicate(e -> !e.equals("c"));
+        assertEquals(Arrays.asList("a", "d", "b"), filteredList);
+        mlo.checkAddRemove(0, filteredList, Arrays.asList("c"), 1, 1);
+        mlo.checkAddRemove(1, filteredList, Arrays.asList("c"), 2, 2);
+        compareIndices();
+    }
+
     @Test
     public void testSingleArgConstructor() {
         filteredList = new FilteredList<>(list);
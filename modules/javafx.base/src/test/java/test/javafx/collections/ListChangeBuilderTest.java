@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -363,7 +363,8 @@ public class ListChangeBuilderTest {
 
         builder.endChange();
 
-        observer.checkPermutation(0, observableList, 0, 6, new int[] {4, 0, 2, 3, 1, 5});
+        // "c", "a", "bb", "bbb", "b", "d" to "a", "bb", "bbb", "b", "c", "d"
+        observer.checkPermutation(0, observableList, 0, 6, new int[] {4, 0, 1, 2, 3, 5});
         observer.checkAddRemove(1, observableList, removed, 1, 1);
 
     }
@@ -382,7 +383,8 @@ public class ListChangeBuilderTest {
 
         builder.endChange();
 
-        observer.checkPermutation(0, observableList, 0, 4, new int[] {3, 1, 2, 0});
+        // "d", "c1", "c2", "c" to "c1", "c2", "c", "d"
+        observer.checkPermutation(0, observableList, 0, 4, new int[] {3, 0, 1, 2});
         observer.checkAddRemove(1, observableList, removed, 0, 2);
     }
 
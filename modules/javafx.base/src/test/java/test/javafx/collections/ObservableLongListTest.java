@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.collections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableLongList;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import static org.junit.Assert.*;
+
+@RunWith(Parameterized.class)
+public class ObservableLongListTest {
+
+    @Parameterized.Parameters
+    public static Collection<Object[]> createParameters() {
+        return Arrays.asList(new Object[][] {
+            { (Supplier<ObservableLongList>) FXCollections::observableLongList },
+            { (Supplier<ObservableLongList>) FXCollections::observableDirectLongList },
+        });
+    }
+
+    private final Supplier<ObservableLongList> factory;
+    private ObservableLongList list;
+    private MockListObserver<Long> observer;
+
+    public ObservableLongListTest(Supplier<ObservableLongList> factory) {
+        this.factory = factory;
+    }
+
+    @Before
+    public void setUp() {
+        list = factory.get();
+        list.addLongs(1L, 2L, -3L);
+        observer = new MockListObserver<>();
+        list.addListener(observer);
+    }
+
+    @Test
+    public void testAddPrimitive() {
+        list.addLong(4L);
+        assertEquals(Arrays.asList(1L, 2L, -3L, 4L), list);
+        observer.check1AddRemove(list, Collections.<Long>emptyList(), 3, 4);
+    }
+
+    @Test
+    public void testAddPrimitives() {
+        list.addLongs(4L, 1L);
+        assertEquals(5, list.size());
+        assertEquals(1L, list.getLong(4));
+        observer.check1AddRemove(list, Collections.<Long>emptyList(), 3, 5);
+    }
+
+    @Test
+    public void testGrow() {
+        for (int i = 0; i < 1000; i++) {
+            list.addLong(i);
+        }
+        assertEquals(1003, list.size());
+        assertEquals(999, list.getLong(1002));
+        assertEquals(-3L, list.getLong(2));
+    }
+
+    @Test
+    public void testInsertAndRemoveInManyElements() {
+        // moves more elements than are copied at once within direct buffers
+        final List<Long> expected = new ArrayList<>(list);
+        for (int i = 0; i < 5000; i++) {
+            list.addLong(i);
+            expected.add((long) i);
+        }
+        list.add(1, 7L);
+        expected.add(1, 7L);
+        list.remove(2, 2503);
+        expected.subList(2, 2503).clear();
+        list.remove(0);
+        expected.remove(0);
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void testSetPrimitive() {
+        assertEquals(2L, list.setLong(1, 4L));
+        assertEquals(Arrays.asList(1L, 4L, -3L), list);
+        observer.check1AddRemove(list, Arrays.asList(2L), 1, 2);
+    }
+
+    @Test
+    public void testBoxedOperations() {
+        list.add(1, 4L);
+        assertEquals(Arrays.asList(1L, 4L, 2L, -3L), list);
+        observer.check1AddRemove(list, Collections.<Long>emptyList(), 1, 2);
+        observer.clear();
+
+        list.remove(0);
+        assertEquals(Arrays.asList(4L, 2L, -3L), list);
+        observer.check1AddRemove(list, Arrays.asList(1L), 0, 0);
+        observer.clear();
+
+        list.addAll(1, Arrays.asList(1L, 1L));
+        assertEquals(Arrays.asList(4L, 1L, 1L, 2L, -3L), list);
+        observer.check1AddRemove(list, Collections.<Long>emptyList(), 1, 3);
+        assertEquals(1, list.indexOf(1L));
+        assertEquals(2, list.lastIndexOf(1L));
+        assertTrue(list.contains(-3L));
+        assertFalse(list.contains("foo"));
+    }
+
+    @Test
+    public void testRemoveRange() {
+        list.remove(0, 2);
+        assertEquals(Arrays.asList(-3L), list);
+        observer.check1AddRemove(list, Arrays.asList(1L, 2L), 0, 0);
+    }
+
+    @Test
+    public void testSetAll() {
+        list.setAllLongs(4L);
+        assertEquals(Arrays.asList(4L), list);
+        observer.check1AddRemove(list, Arrays.asList(1L, 2L, -3L), 0, 1);
+    }
+
+    @Test
+    public void testClear() {
+        list.clear();
+        assertTrue(list.isEmpty());
+        observer.check1AddRemove(list, Arrays.asList(1L, 2L, -3L), 0, 0);
+    }
+
+    @Test
+    public void testToArray() {
+        assertArrayEquals(new long[] {1L, 2L, -3L}, list.toLongArray());
+        long[] dest = new long[4];
+        list.copyTo(1, dest, 2, 2);
+        assertArrayEquals(new long[] {0, 0, 2L, -3L}, dest);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGetOutOfBounds() {
+        list.getLong(3);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testAddNull() {
+        list.add(null);
+    }
+}
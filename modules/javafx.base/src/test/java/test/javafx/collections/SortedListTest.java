@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -34,11 +34,13 @@ import java.util.Collections;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Map;
+import java.util.Random;
 
 import javafx.beans.Observable;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ListChangeListener;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableListWrapperShim;
 import javafx.collections.transformation.FilteredList;
@@ -249,7 +251,7 @@ public class SortedListTest {
         ObservableList<Person> expected = FXCollections.observableArrayList(
                 new Person("five"), new Person("one"), new Person("three"),
                 new Person("two"), new Person("zero"));
-        listener.checkPermutation(0, expected, 0, list.size(), new int[]{0, 4, 1, 2, 3});
+        listener.checkPermutation(0, expected, 1, list.size(), new int[]{4, 1, 2, 3});
         listener.checkUpdate(1, expected, 4, 5);
         assertEquals(expected, sorted);
 
@@ -286,7 +288,7 @@ public class SortedListTest {
         ObservableList<Person> expected = FXCollections.observableArrayList(
                 new Person("five"), new Person("one"), new Person("three"),
                 new Person("two"), new Person("zero"));
-        listener.checkPermutation(0, expected, 0, expected.size(), new int[] {0, 4, 1, 2, 3});
+        listener.checkPermutation(0, expected, 1, expected.size(), new int[] {4, 1, 2, 3});
         listener.checkUpdate(1, expected, 4, 5);
         assertEquals(expected, sorted);
         assertEquals(expected, unsorted);
@@ -321,6 +323,71 @@ public class SortedListTest {
         compareIndices(sorted);
     }
 
+    @Test
+    public void testMutableElementKeepsPosition() {
+        ObservableList<Person> list = createPersonsList();
+        SortedList<Person> sorted = list.sorted();
+        MockListObserver<Person> listener = new MockListObserver<>();
+        sorted.addListener(listener);
+        list.get(0).name.set("onf"); // one -> onf, stays between four and three
+        ObservableList<Person> expected = FXCollections.observableArrayList(
+                new Person("five"), new Person("four"), new Person("onf"),
+                new Person("three"), new Person("two"));
+        listener.check1Update(expected, 2, 3);
+        assertEquals(expected, sorted);
+
+        compareIndices(sorted);
+    }
+
+    @Test
+    public void testMutableElementMovesBackwards() {
+        ObservableList<Person> list = createPersonsList();
+        SortedList<Person> sorted = list.sorted();
+        MockListObserver<Person> listener = new MockListObserver<>();
+        sorted.addListener(listener);
+        list.get(1).name.set("a"); // two -> a
+        ObservableList<Person> expected = FXCollections.observableArrayList(
+                new Person("a"), new Person("five"), new Person("four"),
+                new Person("one"), new Person("three"));
+        listener.checkPermutation(0, expected, 0, expected.size(), new int[] {1, 2, 3, 4, 0});
+        listener.checkUpdate(1, expected, 0, 1);
+        assertEquals(expected, sorted);
+
+        compareIndices(sorted);
+    }
+
+    @Test
+    public void testMutableElementsManyUpdates() {
+        ObservableList<Person> list = FXCollections.observableArrayList(
+                (Person p) -> new Observable[]{p.name});
+        for (int i = 0; i < 100; i++) {
+            list.add(new Person(String.format("%03d", i)));
+        }
+        SortedList<Person> sorted = list.sorted();
+        List<Person> replay = new ArrayList<>(sorted);
+        sorted.addListener((ListChangeListener<Person>) c -> {
+            while (c.next()) {
+                if (c.wasPermutated()) {
+                    List<Person> permuted = new ArrayList<>(replay);
+                    for (int i = c.getFrom(); i < c.getTo(); i++) {
+                        permuted.set(c.getPermutation(i), replay.get(i));
+                    }
+                    replay.clear();
+                    replay.addAll(permuted);
+                }
+            }
+        });
+        for (int i = 0; i < 100; i += 7) {
+            list.get(i).name.set(String.format("%03d", (i * 37) % 101));
+        }
+        List<Person> expected = new ArrayList<>(list);
+        Collections.sort(expected);
+        assertEquals(expected, sorted);
+        assertEquals(sorted, replay);
+
+        compareIndices(sorted);
+    }
+
     private ObservableList<Person> createPersonsList() {
         ObservableList<Person> list = FXCollections.observableArrayList(
                 (Person p) -> new Observable[]{p.name});
@@ -595,4 +662,131 @@ public class SortedListTest {
         mockListObserver.check1Permutation(sortedList, new int[] {0, 3, 2, 1});
         compareIndices();
     }
+
+    /* A list whose elements change in place, several of them in one change */
+    private static class UpdatableList extends ModifiableObservableListBase<Person> {
+        private final List<Person> elements = new ArrayList<>();
+
+        @Override public Person get(int index) { return elements.get(index); }
+        @Override public int size() { return elements.size(); }
+        @Override protected void doAdd(int index, Person element) { elements.add(index, element); }
+        @Override protected Person doSet(int index, Person element) { return elements.set(index, element); }
+        @Override protected Person doRemove(int index) { return elements.remove(index); }
+
+        void rename(int[] indices, String[] names) {
+            beginChange();
+            for (int i = 0; i < indices.length; i++) {
+                elements.get(indices[i]).name.set(names[i]);
+                nextUpdate(indices[i]);
+            }
+            endChange();
+        }
+    }
+
+    @Test
+    public void testSeveralElementsUpdatedInOneChange() {
+        Random random = new Random(42);
+        for (int run = 0; run < 2000; run++) {
+            UpdatableList list = new UpdatableList();
+            int size = 2 + random.nextInt(40);
+            for (int i = 0; i < size; i++) {
+                list.add(new Person(Integer.toString(random.nextInt(50))));
+            }
+            SortedList<Person> sorted = list.sorted();
+            List<Person> replay = new ArrayList<>(sorted);
+            sorted.addListener((ListChangeListener<Person>) c -> {
+                while (c.next()) {
+                    if (c.wasPermutated()) {
+                        List<Person> permuted = new ArrayList<>(replay);
+                        for (int i = c.getFrom(); i < c.getTo(); i++) {
+                            permuted.set(c.getPermutation(i), replay.get(i));
+                        }
+                        replay.clear();
+                        replay.addAll(permuted);
+                    } else if (!c.wasUpdated()) {
+                        fail("Unexpected change " + c);
+                    }
+                }
+            });
+
+            int count = 1 + random.nextInt(Math.min(3, size));
+            List<Integer> shuffled = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                shuffled.add(i);
+            }
+            Collections.shuffle(shuffled, random);
+            int[] indices = new int[count];
+            String[] names = new String[count];
+            for (int i = 0; i < count; i++) {
+                indices[i] = shuffled.get(i);
+                names[i] = Integer.toString(random.nextInt(50));
+            }
+            list.rename(indices, names);
+
+            List<Person> expected = new ArrayList<>(list);
+            Collections.sort(expected);
+            assertEquals(expected, sorted);
+            for (int i = 0; i < sorted.size(); i++) {
+                assertSame(sorted.get(i), replay.get(i));
+            }
+            compareIndices(sorted);
+        }
+    }
+
+    /**
+     * An update that moves an element within a part of a sorted list, and
+     * adds it to or removes it from a filtered list on top of it, must give
+     * the filtered list's listeners the changes that turn its old content
+     * into the new one.
+     */
+    @Test
+    public void testUpdateThroughFilteredList() {
+        Random random = new Random(17);
+        for (int run = 0; run < 2000; run++) {
+            ObservableList<Person> list = FXCollections.observableArrayList(
+                    (Person p) -> new Observable[]{p.name});
+            int size = 1 + random.nextInt(30);
+            for (int i = 0; i < size; i++) {
+                list.add(new Person(Integer.toString(random.nextInt(20))));
+            }
+            if (run == 0) {
+                list.setAll(new Person("1"), new Person("1"), new Person("2"), new Person("3"),
+                        new Person("3"), new Person("5"), new Person("8"), new Person("13"),
+                        new Person("21"), new Person("34"), new Person("55"), new Person("89"),
+                        new Person("144"), new Person("233"), new Person("377"));
+            }
+            SortedList<Person> sorted = list.sorted(
+                    Comparator.comparingInt((Person p) -> Integer.parseInt(p.name.get())));
+            FilteredList<Person> filtered = sorted.filtered(
+                    p -> Integer.parseInt(p.name.get()) % 3 != 0);
+            List<Person> replay = new ArrayList<>(filtered);
+            filtered.addListener((ListChangeListener<Person>) c -> {
+                while (c.next()) {
+                    if (c.wasPermutated()) {
+                        List<Person> permuted = new ArrayList<>(replay);
+                        for (int i = c.getFrom(); i < c.getTo(); i++) {
+                            permuted.set(c.getPermutation(i), replay.get(i));
+                        }
+                        replay.clear();
+                        replay.addAll(permuted);
+                    } else if (!c.wasUpdated()) {
+                        replay.subList(c.getFrom(), c.getFrom() + c.getRemovedSize()).clear();
+                        replay.addAll(c.getFrom(), c.getAddedSubList());
+                    }
+                }
+            });
+
+            for (int op = 0; op < 5; op++) {
+                if (run == 0 && op == 0) {
+                    list.get(0).name.set("12");
+                } else {
+                    list.get(random.nextInt(size)).name.set(Integer.toString(random.nextInt(20)));
+                }
+                assertEquals(filtered.size(), replay.size());
+                for (int i = 0; i < filtered.size(); i++) {
+                    assertSame(filtered.get(i), replay.get(i));
+                }
+            }
+        }
+    }
 }
@@ -0,0 +1,379 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.charts;
+
+import java.util.Arrays;
+import javafx.scene.chart.LineChart.DownsamplingPolicy;
+
+/**
+ * Reduces the points of a line chart series to the ones that are visible at
+ * the current display resolution.
+ *
+ * Points are given in display coordinates, in data order, after the chart
+ * has mapped them through its axes. Points left or right of the plot area
+ * are culled down to the single nearest point on each side, so the line
+ * still leaves the plot area in the right direction. The remaining points
+ * are reduced per pixel column ({@link DownsamplingPolicy#MIN_MAX}) or with
+ * the Largest-Triangle-Three-Buckets algorithm ({@link DownsamplingPolicy#LTTB}).
+ *
+ * The result is cached together with a key that describes the axis mapping.
+ * While the key does not change, the chart does not need to visit the data
+ * again, and points appended to the end of a series are merged into the
+ * existing result by re-evaluating only the last pixel column. Points evicted
+ * from the head of a streaming series are dropped from the visible points,
+ * which are then sampled again without visiting the remaining data.
+ */
+public final class Downsampler {
+
+    private DownsamplingPolicy policy;
+    private double[] key;
+    private boolean valid;
+    private boolean resample;
+    private int processedItems;
+
+    private double xMin;
+    private double xMax;
+
+    // visible points, in display coordinates, and the data items they belong to
+    private double[] xs = new double[16];
+    private double[] ys = new double[16];
+    private int[] items = new int[16];
+    private int count;
+    private boolean sorted;
+
+    // culled points outside of the plot area
+    private boolean hasPrev;
+    private double prevX;
+    private double prevY;
+    private int prevItem;
+    private boolean hasNext;
+    private double nextX;
+    private double nextY;
+    private int nextItem;
+
+    // indexes of the sampled visible points
+    private int[] sampled = new int[16];
+    private int sampledCount;
+    private int lastColumnStart;
+    private int lastColumnSampled;
+
+    // resulting path, including the culled points
+    private double[] pathX = new double[0];
+    private double[] pathY = new double[0];
+    private int pathCount;
+
+    /**
+     * Prepares a layout pass of the series.
+     *
+     * @param policy the downsampling policy
+     * @param key the values that determine the display position of the data
+     * points, or null if the result must not be reused
+     * @param xMin the left edge of the plot area
+     * @param xMax the right edge of the plot area
+     * @param itemCount the number of data items of the series
+     * @return the index of the first data item that has to be passed to
+     * {@link #addPoint}, or -1 if the result of the previous pass is still valid
+     */
+    public int prepare(DownsamplingPolicy policy, double[] key, double xMin, double xMax, int itemCount) {
+        if (valid && key != null && policy == this.policy && Arrays.equals(key, this.key)) {
+            // only items appended since the previous pass are left to add
+            return (itemCount == processedItems && !resample) ? -1 : processedItems;
+        }
+        this.policy = policy;
+        this.key = key;
+        this.xMin = xMin;
+        this.xMax = xMax;
+        count = 0;
+        sorted = true;
+        hasPrev = false;
+        hasNext = false;
+        sampledCount = 0;
+        lastColumnStart = 0;
+        lastColumnSampled = 0;
+        processedItems = 0;
+        resample = false;
+        return 0;
+    }
+
+    /**
+     * Adds the display position of a data item. Items must be added in data
+     * order.
+     *
+     * @param itemIndex the index of the data item in the series
+     * @param x the display position of the item on the x axis
+     * @param y the display position of the item on the y axis
+     */
+    public void addPoint(int itemIndex, double x, double y) {
+        if (x < xMin) {
+            if (!hasPrev || prevX <= x) {
+                hasPrev = true;
+                prevX = x;
+                prevY = y;
+                prevItem = itemIndex;
+            }
+        } else if (x <= xMax) {
+            if (count == xs.length) {
+                xs = Arrays.copyOf(xs, count * 2);
+                ys = Arrays.copyOf(ys, count * 2);
+                items = Arrays.copyOf(items, count * 2);
+            }
+            if (count > 0 && x < xs[count - 1]) {
+                sorted = false;
+            }
+            xs[count] = x;
+            ys[count] = y;
+            items[count] = itemIndex;
+            count++;
+        } else if (!hasNext || x < nextX) {
+            hasNext = true;
+            nextX = x;
+            nextY = y;
+            nextItem = itemIndex;
+        }
+    }
+
+    /**
+     * Downsamples the points added since {@link #prepare} and builds the
+     * resulting path.
+     *
+     * @param itemCount the number of data items of the series
+     * @param width the width of the plot area in pixels
+     */
+    public void finish(int itemCount, double width) {
+        if (!sorted) {
+            sortPoints();
+            sorted = true;
+            sampledCount = 0;
+            lastColumnStart = 0;
+            lastColumnSampled = 0;
+        }
+        if (policy == DownsamplingPolicy.LTTB) {
+            sampleLargestTriangles(Math.max(3, (int) Math.ceil(width) * 2));
+        } else {
+            sampleMinMax();
+        }
+
+        pathCount = 0;
+        final int size = sampledCount + (hasPrev ? 1 : 0) + (hasNext ? 1 : 0);
+        if (pathX.length < size) {
+            pathX = new double[size];
+            pathY = new double[size];
+        }
+        if (hasPrev) {
+            pathX[pathCount] = prevX;
+            pathY[pathCount++] = prevY;
+        }
+        for (int i = 0; i < sampledCount; i++) {
+            pathX[pathCount] = xs[sampled[i]];
+            pathY[pathCount++] = ys[sampled[i]];
+        }
+        if (hasNext) {
+            pathX[pathCount] = nextX;
+            pathY[pathCount++] = nextY;
+        }
+        processedItems = itemCount;
+        resample = false;
+        valid = key != null;
+    }
+
+    /**
+     * Notifies that a data item was added to the series.
+     */
+    public void itemAdded(int itemIndex) {
+        // Only items appended after the processed ones can be merged
+        if (itemIndex < processedItems) {
+            valid = false;
+        }
+    }
+
+    /**
+     * Notifies that the first {@code evictedCount} data items were removed
+     * from the series. If the points left and right of the plot area are
+     * kept, the evicted points are dropped and the remaining visible points
+     * are sampled again in the next pass, otherwise the cached result is
+     * discarded.
+     */
+    public void itemsEvicted(int evictedCount) {
+        if (!valid) {
+            return;
+        }
+        if ((hasPrev && prevItem < evictedCount) || (hasNext && nextItem < evictedCount)) {
+            // the new point next to the plot area is only known after a full pass
+            valid = false;
+            return;
+        }
+        int retained = 0;
+        for (int i = 0; i < count; i++) {
+            if (items[i] >= evictedCount) {
+                xs[retained] = xs[i];
+                ys[retained] = ys[i];
+                items[retained] = items[i] - evictedCount;
+                retained++;
+            }
+        }
+        count = retained;
+        prevItem -= evictedCount;
+        nextItem -= evictedCount;
+        processedItems -= evictedCount;
+        sampledCount = 0;
+        lastColumnStart = 0;
+        lastColumnSampled = 0;
+        resample = true;
+    }
+
+    /**
+     * Discards the cached result.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    public int getPathCount() {
+        return pathCount;
+    }
+
+    public double getPathX(int index) {
+        return pathX[index];
+    }
+
+    public double getPathY(int index) {
+        return pathY[index];
+    }
+
+    private void addSample(int index) {
+        if (sampledCount == sampled.length) {
+            sampled = Arrays.copyOf(sampled, sampledCount * 2);
+        }
+        sampled[sampledCount++] = index;
+    }
+
+    /**
+     * Keeps the first, the lowest, the highest and the last point of every
+     * pixel column, which preserves the extent of the line in that column.
+     * Resumes at the last column of the previous pass, as that is the only
+     * column appended points can fall into.
+     */
+    private void sampleMinMax() {
+        int i = lastColumnStart;
+        sampledCount = lastColumnSampled;
+        while (i < count) {
+            final double column = Math.floor(xs[i]);
+            int last = i;
+            int min = i;
+            int max = i;
+            while (last + 1 < count && Math.floor(xs[last + 1]) == column) {
+                last++;
+                if (ys[last] < ys[min]) {
+                    min = last;
+                }
+                if (ys[last] > ys[max]) {
+                    max = last;
+                }
+            }
+            lastColumnStart = i;
+            lastColumnSampled = sampledCount;
+            addSample(i);
+            final int lo = Math.min(min, max);
+            final int hi = Math.max(min, max);
+            if (lo != i && lo != last) {
+                addSample(lo);
+            }
+            if (hi != lo && hi != last) {
+                addSample(hi);
+            }
+            if (last != i) {
+                addSample(last);
+            }
+            i = last + 1;
+        }
+    }
+
+    private void sampleLargestTriangles(int threshold) {
+        sampledCount = 0;
+        if (count <= threshold) {
+            for (int i = 0; i < count; i++) {
+                addSample(i);
+            }
+            return;
+        }
+        final double every = (double) (count - 2) / (threshold - 2);
+        int a = 0;
+        addSample(a);
+        for (int i = 0; i < threshold - 2; i++) {
+            int avgFrom = (int) Math.floor((i + 1) * every) + 1;
+            int avgTo = Math.min((int) Math.floor((i + 2) * every) + 1, count);
+            double avgX = 0;
+            double avgY = 0;
+            for (int j = avgFrom; j < avgTo; j++) {
+                avgX += xs[j];
+                avgY += ys[j];
+            }
+            final int avgCount = avgTo - avgFrom;
+            if (avgCount > 0) {
+                avgX /= avgCount;
+                avgY /= avgCount;
+            } else {
+                avgX = xs[count - 1];
+                avgY = ys[count - 1];
+            }
+
+            final int rangeFrom = (int) Math.floor(i * every) + 1;
+            final int rangeTo = (int) Math.floor((i + 1) * every) + 1;
+            double maxArea = -1;
+            int next = rangeFrom;
+            for (int j = rangeFrom; j < rangeTo; j++) {
+                final double area = Math.abs((xs[a] - avgX) * (ys[j] - ys[a])
+                        - (xs[a] - xs[j]) * (avgY - ys[a]));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = j;
+                }
+            }
+            addSample(next);
+            a = next;
+        }
+        addSample(count - 1);
+    }
+
+    private void sortPoints() {
+        final Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (i1, i2) -> Double.compare(xs[i1], xs[i2]));
+        final double[] sortedX = new double[xs.length];
+        final double[] sortedY = new double[ys.length];
+        final int[] sortedItems = new int[items.length];
+        for (int i = 0; i < count; i++) {
+            sortedX[i] = xs[order[i]];
+            sortedY[i] = ys[order[i]];
+            sortedItems[i] = items[order[i]];
+        }
+        xs = sortedX;
+        ys = sortedY;
+        items = sortedItems;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.javafx.scene.control;
+
+import java.lang.ref.WeakReference;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javafx.scene.control.IndexedCell;
+
+/**
+ * A pool of cells that virtualized controls have stopped using, shared by all
+ * controls so that a control that is shown after another one was disposed or
+ * removed from its scene reuses its cells instead of building new ones. Cells
+ * are pooled by a key that identifies how they were created, and the
+ * pool holds at most a fixed number of cells in total. When the pool is full,
+ * releasing a cell evicts a cell of the key that was used least recently, so
+ * cells released by controls that are never shown again do not stay forever.
+ *
+ * <p>The shared pool is disabled unless the
+ * {@code javafx.scene.control.cellPool.size} system property is set to the
+ * maximum number of pooled cells. The
+ * {@code javafx.scene.control.cellPool.prewarm} system property sets the
+ * number of cells that each {@code VirtualFlow} creates ahead of time, a few
+ * per pulse, after its first layout.</p>
+ *
+ * <p>The pool is only used on the JavaFX Application Thread.</p>
+ */
+public final class CellPool {
+
+    private static final CellPool SHARED =
+            new CellPool(getIntegerProperty("javafx.scene.control.cellPool.size"));
+
+    /**
+     * The number of cells each VirtualFlow creates ahead of time.
+     */
+    public static final int PREWARM_COUNT =
+            getIntegerProperty("javafx.scene.control.cellPool.prewarm");
+
+    @SuppressWarnings("removal")
+    private static int getIntegerProperty(String name) {
+        return AccessController.doPrivileged((PrivilegedAction<Integer>) () ->
+                Math.max(0, Integer.getInteger(name, 0)));
+    }
+
+    public static CellPool getShared() {
+        return SHARED;
+    }
+
+    private final int maxSize;
+    // in access order, so that the first key is the one used least recently
+    private final Map<Object, ArrayDeque<IndexedCell<?>>> cells = new LinkedHashMap<>(16, 0.75f, true);
+    private int size;
+    private long hitCount;
+    private long missCount;
+
+    public CellPool(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the maximum number of cells in the pool, zero if the pool is
+     * disabled.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of times {@link #acquire} returned a pooled cell.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of times {@link #acquire} found no pooled cell.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Removes a cell created with the given key from the pool.
+     *
+     * @return the cell, or null if the pool has no cell for the key
+     */
+    @SuppressWarnings("unchecked")
+    public <C extends IndexedCell<?>> C acquire(Object key) {
+        if (maxSize == 0) {
+            return null;
+        }
+        ArrayDeque<IndexedCell<?>> pooled = cells.get(key);
+        if (pooled == null) {
+            missCount++;
+            return null;
+        }
+        IndexedCell<?> cell = pooled.removeLast();
+        if (pooled.isEmpty()) {
+            cells.remove(key);
+        }
+        size--;
+        hitCount++;
+        return (C) cell;
+    }
+
+    /**
+     * Adds a cell that is no longer used to the pool. If the pool is full, the
+     * oldest cell of the key used least recently is dropped. The cell must not
+     * have a parent.
+     *
+     * @return true if the cell was added to the pool
+     */
+    public boolean release(Object key, IndexedCell<?> cell) {
+        if (maxSize == 0 || key == null || cell.getParent() != null) {
+            return false;
+        }
+        if (size >= maxSize) {
+            Iterator<ArrayDeque<IndexedCell<?>>> eldest = cells.values().iterator();
+            ArrayDeque<IndexedCell<?>> pooled = eldest.next();
+            pooled.removeFirst();
+            if (pooled.isEmpty()) {
+                eldest.remove();
+            }
+            size--;
+        }
+        cells.computeIfAbsent(key, k -> new ArrayDeque<>()).addLast(cell);
+        size++;
+        return true;
+    }
+
+    public void clear() {
+        cells.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns the key of the cells of the given class created by a cell
+     * factory. The key holds the factory weakly, so that pooled cells do not
+     * keep a factory that is no longer used from being collected.
+     */
+    public static Object getFactoryKey(Object cellFactory, Class<?> cellClass) {
+        return new FactoryKey(cellFactory, cellClass);
+    }
+
+    private static final class FactoryKey {
+        private final WeakReference<Object> cellFactory;
+        private final Class<?> cellClass;
+        private final int hash;
+
+        FactoryKey(Object cellFactory, Class<?> cellClass) {
+            this.cellFactory = new WeakReference<>(cellFactory);
+            this.cellClass = cellClass;
+            this.hash = System.identityHashCode(cellFactory) * 31 + cellClass.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof FactoryKey)) {
+                return false;
+            }
+            FactoryKey other = (FactoryKey) obj;
+            // the key of a factory that was collected only equals itself
+            Object factory = cellFactory.get();
+            return factory != null && factory == other.cellFactory.get()
+                    && cellClass == other.cellClass;
+        }
+    }
+}
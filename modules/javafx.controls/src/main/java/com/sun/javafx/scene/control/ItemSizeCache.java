@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+package com.sun.javafx.scene.control;
+
+import java.util.BitSet;
+
+/**
+ * The sizes of the items of a virtualized control, of which only some have
+ * been measured. Unmeasured items are assumed to have an estimated size that
+ * is supplied when querying offsets.
+ *
+ * <p>The sizes and the number of measured items are kept in Fenwick trees, so
+ * that the offset of an item and the item at an offset are found in
+ * O(log n) time, and updating the size of an item takes O(log n) time.</p>
+ */
+public class ItemSizeCache {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private double[] sizes = new double[INITIAL_CAPACITY];
+    private final BitSet measured = new BitSet();
+    private int size;
+
+    // 1-based Fenwick trees over the measured sizes and the measured flags
+    private double[] sizeTree = new double[INITIAL_CAPACITY + 1];
+    private int[] countTree = new int[INITIAL_CAPACITY + 1];
+
+    /**
+     * Returns the number of items this cache has room for, measured or not.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the measured size of the item, or -1 if it is not measured.
+     */
+    public double get(int index) {
+        return isMeasured(index) ? sizes[index] : -1;
+    }
+
+    public boolean isMeasured(int index) {
+        return index >= 0 && index < size && measured.get(index);
+    }
+
+    /**
+     * Makes room for the given number of items, without measuring any.
+     */
+    public void ensureSize(int newSize) {
+        if (newSize <= size) {
+            return;
+        }
+        if (newSize > sizes.length) {
+            int capacity = Math.max(newSize, sizes.length * 2);
+            double[] newSizes = new double[capacity];
+            System.arraycopy(sizes, 0, newSizes, 0, size);
+            sizes = newSizes;
+            rebuildTrees();
+        }
+        size = newSize;
+    }
+
+    /**
+     * Stores the measured size of the item, making room for it if needed.
+     */
+    public void set(int index, double itemSize) {
+        ensureSize(index + 1);
+        double delta = itemSize;
+        if (measured.get(index)) {
+            delta -= sizes[index];
+        } else {
+            measured.set(index);
+            for (int i = index + 1; i < countTree.length; i += i & -i) {
+                countTree[i]++;
+            }
+        }
+        sizes[index] = itemSize;
+        if (delta != 0) {
+            for (int i = index + 1; i < sizeTree.length; i += i & -i) {
+                sizeTree[i] += delta;
+            }
+        }
+    }
+
+    public void clear() {
+        measured.clear();
+        size = 0;
+        sizes = new double[INITIAL_CAPACITY];
+        sizeTree = new double[INITIAL_CAPACITY + 1];
+        countTree = new int[INITIAL_CAPACITY + 1];
+    }
+
+    /**
+     * Returns the number of measured items before the given index.
+     */
+    public int getMeasuredCount(int end) {
+        int count = 0;
+        for (int i = Math.min(end, size); i > 0; i -= i & -i) {
+            count += countTree[i];
+        }
+        return count;
+    }
+
+    /**
+     * Returns the total size of the measured items before the given index.
+     */
+    public double getMeasuredSize(int end) {
+        double total = 0;
+        for (int i = Math.min(end, size); i > 0; i -= i & -i) {
+            total += sizeTree[i];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the offset of the start of the item, which is the total size of
+     * the items before it, using the estimate for unmeasured items.
+     */
+    public double getOffset(int index, double estimate) {
+        if (index <= 0) {
+            return 0;
+        }
+        int unmeasured = index - getMeasuredCount(index);
+        double offset = getMeasuredSize(index);
+        return unmeasured == 0 ? offset : offset + unmeasured * estimate;
+    }
+
+    /**
+     * Returns the index of the item that contains the offset, which is the
+     * first item whose end is beyond the offset, using the estimate for
+     * unmeasured items. Returns the last item if the offset is beyond the
+     * end of all items.
+     */
+    public int getIndexAt(double offset, double estimate, int itemCount) {
+        if (itemCount <= 0) {
+            return 0;
+        }
+        int n = Math.min(size, itemCount);
+        int index = 0;
+        double total = 0;
+        for (int step = Integer.highestOneBit(Math.max(n, 1)); step > 0; step >>= 1) {
+            int next = index + step;
+            if (next <= n) {
+                // tree node 'next' covers the items index .. next - 1
+                int unmeasured = step - countTree[next];
+                double nodeSize = unmeasured == 0
+                        ? sizeTree[next]
+                        : sizeTree[next] + unmeasured * estimate;
+                if (total + nodeSize <= offset) {
+                    index = next;
+                    total += nodeSize;
+                }
+            }
+        }
+        if (index < n) {
+            return index;
+        }
+        // the items beyond the cache are all estimated
+        if (estimate > 0 && index < itemCount) {
+            double extra = Math.floor((offset - total) / estimate);
+            if (extra < itemCount - index) {
+                return index + (int) extra;
+            }
+        }
+        return itemCount - 1;
+    }
+
+    private void rebuildTrees() {
+        int capacity = sizes.length;
+        sizeTree = new double[capacity + 1];
+        countTree = new int[capacity + 1];
+        for (int i = 1; i <= capacity; i++) {
+            if (measured.get(i - 1)) {
+                sizeTree[i] += sizes[i - 1];
+                countTree[i]++;
+            }
+            int parent = i + (i & -i);
+            if (parent <= capacity) {
+                sizeTree[parent] += sizeTree[i];
+                countTree[parent] += countTree[i];
+            }
+        }
+    }
+}
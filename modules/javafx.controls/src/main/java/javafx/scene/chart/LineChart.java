@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -57,6 +57,7 @@ import javafx.scene.shape.PathElement;
 import javafx.scene.shape.StrokeLineJoin;
 import javafx.util.Duration;
 
+import com.sun.javafx.charts.Downsampler;
 import com.sun.javafx.charts.Legend.LegendItem;
 
 import javafx.css.StyleableBooleanProperty;
@@ -88,6 +89,10 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
     private Map<Data<X,Y>, Double> XYValueMap =
                                 new HashMap<Data<X,Y>, Double>();
     private Timeline seriesRemoveTimeline = null;
+    private Map<Series<X,Y>, Downsampler> downsamplerMap = new HashMap<>();
+    /** Hidden symbols of evicted data items, handed to the items appended next */
+    private Map<Series<X,Y>, Deque<Node>> symbolPoolMap = new HashMap<>();
+    private static final Object POOLABLE_SYMBOL = new Object();
     // -------------- PUBLIC PROPERTIES ----------------------------------------
 
     /** When true, CSS styleable symbols are created for any data items that don't have a symbol node specified. */
@@ -108,6 +113,11 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
                     }
                 }
             }
+            if (!get()) {
+                for (Series<X,Y> series : new ArrayList<>(symbolPoolMap.keySet())) {
+                    discardSymbolPool(series);
+                }
+            }
             requestChartLayout();
         }
 
@@ -161,6 +171,42 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
     public final void setAxisSortingPolicy(SortingPolicy value) { axisSortingPolicy.setValue(value); }
     public final ObjectProperty<SortingPolicy> axisSortingPolicyProperty() { return axisSortingPolicy; }
 
+    /**
+     * The downsampling policy used for series with many more data points than
+     * the plot area has pixel columns. If this is not
+     * {@link DownsamplingPolicy#NONE}, only the points that make a visible
+     * difference are passed to the line of the series. The result is reused
+     * until the axes change, and points appended to a series are merged into
+     * it without visiting the rest of the series again.
+     * <p>
+     * Downsampling requires {@link #axisSortingPolicyProperty()} to be
+     * {@link SortingPolicy#X_AXIS}, and the result is only reused when both
+     * axes are {@link ValueAxis ValueAxes}, the chart is not animated and the
+     * series has no data point symbols (see {@link #createSymbolsProperty()}).
+     *
+     * @since 17.0.21
+     * @see DownsamplingPolicy
+     * @defaultValue DownsamplingPolicy#NONE
+     */
+    private ObjectProperty<DownsamplingPolicy> downsamplingPolicy = new ObjectPropertyBase<DownsamplingPolicy>(DownsamplingPolicy.NONE) {
+        @Override protected void invalidated() {
+            requestChartLayout();
+        }
+
+        public Object getBean() {
+            return LineChart.this;
+        }
+
+        public String getName() {
+            return "downsamplingPolicy";
+        }
+
+    };
+
+    public final DownsamplingPolicy getDownsamplingPolicy() { return downsamplingPolicy.getValue(); }
+    public final void setDownsamplingPolicy(DownsamplingPolicy value) { downsamplingPolicy.setValue(value); }
+    public final ObjectProperty<DownsamplingPolicy> downsamplingPolicyProperty() { return downsamplingPolicy; }
+
     // -------------- CONSTRUCTORS ----------------------------------------------
 
     /**
@@ -214,6 +260,11 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
     }
 
     @Override protected void dataItemAdded(final Series<X,Y> series, int itemIndex, final Data<X,Y> item) {
+        final Downsampler downsampler = downsamplerMap.get(series);
+        if (downsampler != null) {
+            downsampler.itemAdded(itemIndex);
+        }
+        final boolean reused = reusePooledSymbol(series, item);
         final Node symbol = createSymbol(series, getData().indexOf(series), item, itemIndex);
         if (shouldAnimate()) {
             if (dataRemoveTimeline != null && dataRemoveTimeline.getStatus().equals(Animation.Status.RUNNING)) {
@@ -264,7 +315,7 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
             } else if(symbol != null) {
                 // fade in new symbol
                 symbol.setOpacity(0);
-                getPlotChildren().add(symbol);
+                if (!reused) getPlotChildren().add(symbol);
                 FadeTransition ft = new FadeTransition(Duration.millis(500),symbol);
                 ft.setToValue(1);
                 ft.play();
@@ -285,11 +336,96 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
             }
 
         } else {
-            if (symbol != null) getPlotChildren().add(symbol);
+            if (symbol != null && !reused) getPlotChildren().add(symbol);
+        }
+    }
+
+    /**
+     * Evicted items are removed without animation. Their symbols stay in the
+     * plot children, hidden, and are reused for the next appended items
+     * instead of being removed and created again. Keeping them in the plot
+     * children means a series that streams at its capacity doesn't change the
+     * plot children at all, so the symbols don't get their CSS reapplied and
+     * the plot content isn't synced again on each append. At most as many
+     * symbols as the capacity of the series are kept, the other ones are
+     * removed.
+     */
+    @Override void dataItemsEvicted(Series<X,Y> series, List<Data<X,Y>> items) {
+        final Downsampler downsampler = downsamplerMap.get(series);
+        if (downsampler != null) {
+            downsampler.itemsEvicted(items.size());
+        }
+        Deque<Node> pool = null;
+        Set<Node> removedSymbols = null;
+        for (Data<X,Y> item : items) {
+            final Node symbol = item.getNode();
+            if (symbol == null) {
+                // no symbol to reuse
+            } else if (symbol.getProperties().containsKey(POOLABLE_SYMBOL)) {
+                if (pool == null) {
+                    pool = symbolPoolMap.computeIfAbsent(series, s -> new ArrayDeque<>());
+                }
+                item.setNode(null);
+                symbol.setVisible(false);
+                pool.push(symbol);
+                if (pool.size() > series.getCapacity()) {
+                    // the capacity was lowered, or the pool isn't drained by appends
+                    if (removedSymbols == null) {
+                        removedSymbols = new HashSet<>();
+                    }
+                    final Node extra = pool.pollLast();
+                    extra.focusTraversableProperty().unbind();
+                    removedSymbols.add(extra);
+                }
+            } else {
+                // the symbol was provided by the application and stays with its item
+                if (removedSymbols == null) {
+                    removedSymbols = new HashSet<>();
+                }
+                symbol.focusTraversableProperty().unbind();
+                removedSymbols.add(symbol);
+            }
+            item.setSeries(null);
+        }
+        if (removedSymbols != null) {
+            getPlotChildren().removeAll(removedSymbols);
+        }
+        removeDataItemsFromDisplay(series, items);
+    }
+
+    private boolean reusePooledSymbol(Series<X,Y> series, Data<X,Y> item) {
+        final Deque<Node> pool = symbolPoolMap.get(series);
+        if (pool == null || item.getNode() != null || !getCreateSymbols()) {
+            return false;
+        }
+        final Node symbol = pool.poll();
+        if (pool.isEmpty()) {
+            symbolPoolMap.remove(series);
+        }
+        if (symbol == null) {
+            return false;
+        }
+        symbol.getStyleClass().clear();
+        symbol.setVisible(true);
+        item.setNode(symbol);
+        return true;
+    }
+
+    private void discardSymbolPool(Series<X,Y> series) {
+        final Deque<Node> pool = symbolPoolMap.remove(series);
+        if (pool != null) {
+            for (Node symbol : pool) {
+                symbol.focusTraversableProperty().unbind();
+            }
+            getPlotChildren().removeAll(new HashSet<>(pool));
         }
     }
 
     @Override protected  void dataItemRemoved(final Data<X,Y> item, final Series<X,Y> series) {
+        final Downsampler downsampler = downsamplerMap.get(series);
+        if (downsampler != null) {
+            downsampler.invalidate();
+        }
         final Node symbol = item.getNode();
 
         if (symbol != null) {
@@ -371,6 +507,9 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
 
     /** {@inheritDoc} */
     @Override protected void dataItemChanged(Data<X, Y> item) {
+        for (Downsampler downsampler : downsamplerMap.values()) {
+            downsampler.invalidate();
+        }
     }
 
     @Override protected void seriesChanged(ListChangeListener.Change<? extends Series> c) {
@@ -437,6 +576,8 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
     @Override protected  void seriesRemoved(final Series<X,Y> series) {
         // remove all symbol nodes
         seriesYMultiplierMap.remove(series);
+        downsamplerMap.remove(series);
+        discardSymbolPool(series);
         if (shouldAnimate()) {
             seriesRemoveTimeline = new Timeline(createSeriesRemoveTimeLine(series, 900));
             seriesRemoveTimeline.play();
@@ -455,13 +596,88 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
             final DoubleProperty seriesYAnimMultiplier = seriesYMultiplierMap.get(series);
             final Node seriesNode = series.getNode();
             if (seriesNode instanceof Path) {
-                AreaChart.makePaths(this, series,
-                                    constructedPath, null, (Path) seriesNode,
-                                    seriesYAnimMultiplier.get(), getAxisSortingPolicy());
+                if (getDownsamplingPolicy() != DownsamplingPolicy.NONE
+                        && getAxisSortingPolicy() == SortingPolicy.X_AXIS) {
+                    makeDownsampledPath(series, (Path) seriesNode, seriesYAnimMultiplier.get());
+                } else {
+                    downsamplerMap.remove(series);
+                    AreaChart.makePaths(this, series,
+                                        constructedPath, null, (Path) seriesNode,
+                                        seriesYAnimMultiplier.get(), getAxisSortingPolicy());
+                }
             }
         }
     }
 
+    private void makeDownsampledPath(Series<X,Y> series, Path linePath, double yAnimMultiplier) {
+        final Axis<X> axisX = getXAxis();
+        final Axis<Y> axisY = getYAxis();
+        final double hlw = linePath.getStrokeWidth() / 2.0;
+        // the items being removed are still displayed, so items are indexed
+        // in the displayed data
+        final int itemCount = series.getDataSize();
+        Downsampler downsampler = downsamplerMap.get(series);
+        if (downsampler == null) {
+            downsampler = new Downsampler();
+            downsamplerMap.put(series, downsampler);
+        }
+
+        double[] key = null;
+        if (axisX instanceof ValueAxis && axisY instanceof ValueAxis && !getAnimated() && !getCreateSymbols()) {
+            // the display position of a value is offset + value * scale on both axes
+            final double x0 = axisX.getDisplayPosition(axisX.toRealValue(0));
+            final double y0 = axisY.getDisplayPosition(axisY.toRealValue(0));
+            key = new double[] {
+                x0, axisX.getDisplayPosition(axisX.toRealValue(1)) - x0,
+                y0, axisY.getDisplayPosition(axisY.toRealValue(1)) - y0,
+                axisX.getWidth(), yAnimMultiplier, hlw
+            };
+        }
+        final int from = downsampler.prepare(getDownsamplingPolicy(), key, -hlw, axisX.getWidth() + hlw, itemCount);
+        if (from < 0) {
+            // neither the axes nor the data changed since the last layout
+            return;
+        }
+
+        final Iterator<Data<X, Y>> it = series.getDisplayedDataIterator(from);
+        for (int itemIndex = from; it.hasNext(); itemIndex++) {
+            final Data<X, Y> item = it.next();
+            final double x = axisX.getDisplayPosition(item.getCurrentX());
+            final double y = axisY.getDisplayPosition(
+                    axisY.toRealValue(axisY.toNumericValue(item.getCurrentY()) * yAnimMultiplier));
+            final boolean skip = (Double.isNaN(x) || Double.isNaN(y));
+            final Node symbol = item.getNode();
+            if (symbol != null) {
+                final double w = symbol.prefWidth(-1);
+                final double h = symbol.prefHeight(-1);
+                if (skip) {
+                    symbol.resizeRelocate(-w*2, -h*2, w, h);
+                } else {
+                    symbol.resizeRelocate(x-(w/2), y-(h/2), w, h);
+                }
+                // the position of the symbol has to be updated on every layout
+                key = null;
+            }
+            if (!skip) {
+                downsampler.addPoint(itemIndex, x, y);
+            }
+        }
+        if (key == null) {
+            downsampler.invalidate();
+        }
+        downsampler.finish(itemCount, axisX.getWidth());
+
+        final int count = downsampler.getPathCount();
+        final List<PathElement> elements = new ArrayList<>(count + 1);
+        if (count > 0) {
+            elements.add(new MoveTo(downsampler.getPathX(0), downsampler.getPathY(0)));
+            for (int i = 1; i < count; i++) {
+                elements.add(new LineTo(downsampler.getPathX(i), downsampler.getPathY(i)));
+            }
+        }
+        linePath.getElements().setAll(elements);
+    }
+
     /** {@inheritDoc} */
     @Override void dataBeingRemovedIsAdded(Data item, Series series) {
         if (fadeSymbolTransition != null) {
@@ -526,6 +742,7 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
             symbol.setAccessibleRole(AccessibleRole.TEXT);
             symbol.setAccessibleRoleDescription("Point");
             symbol.focusTraversableProperty().bind(Platform.accessibilityActiveProperty());
+            symbol.getProperties().put(POOLABLE_SYMBOL, Boolean.TRUE);
             item.setNode(symbol);
         }
         // set symbol styles
@@ -587,6 +804,29 @@ public class LineChart<X,Y> extends XYChart<X,Y> {
         return getClassCssMetaData();
     }
 
+    /**
+     * This enum defines a policy for {@link LineChart#downsamplingPolicyProperty()}.
+     * @since 17.0.21
+     */
+    public static enum DownsamplingPolicy {
+        /**
+         * All data points are drawn.
+         */
+        NONE,
+        /**
+         * For every pixel column of the plot area, the first, the lowest, the
+         * highest and the last data point are drawn, so the line is visually
+         * equivalent to the line through all data points.
+         */
+        MIN_MAX,
+        /**
+         * The data points are reduced to two per pixel column with the
+         * Largest-Triangle-Three-Buckets algorithm, which preserves the visual
+         * shape of the line while drawing fewer points than {@link #MIN_MAX}.
+         */
+        LTTB
+    }
+
     /**
      * This enum defines a policy for {@link LineChart#axisSortingPolicyProperty()}.
      * @since JavaFX 8u40
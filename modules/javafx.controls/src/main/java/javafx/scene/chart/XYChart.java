@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,6 +29,8 @@ package javafx.scene.chart;
 import com.sun.javafx.charts.Legend;
 import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -42,6 +44,8 @@ import javafx.animation.KeyFrame;
 import javafx.animation.KeyValue;
 import javafx.beans.binding.StringBinding;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.IntegerPropertyBase;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ObjectPropertyBase;
 import javafx.beans.property.ReadOnlyObjectProperty;
@@ -512,6 +516,24 @@ public abstract class XYChart<X,Y> extends Chart {
         requestChartLayout();
     }
 
+    /**
+     * Called instead of {@link #dataItemRemoved} for the data items that were
+     * evicted from the head of a series that has a
+     * {@link Series#capacityProperty() capacity}. The default implementation
+     * calls {@code dataItemRemoved} for each item, which may animate it out
+     * like any removed item. Implementations that keep the nodes of evicted items for
+     * items appended later must remove the items from the displayed data with
+     * {@link #removeDataItemsFromDisplay}.
+     *
+     * @param series The series the items were evicted from
+     * @param items The evicted items, in data order
+     */
+    void dataItemsEvicted(Series<X,Y> series, List<Data<X,Y>> items) {
+        for (Data<X,Y> item : items) {
+            dataItemRemoved(item, series);
+        }
+    }
+
     private <T> void dataValueChanged(Data<X,Y> item, T newValue, ObjectProperty<T> currentValueProperty) {
         if (currentValueProperty.get() != newValue) invalidateRange();
         dataItemChanged(item);
@@ -1070,6 +1092,13 @@ public abstract class XYChart<X,Y> extends Chart {
         series.removeDataItemRef(item);
     }
 
+    /**
+     * Removes all the given data items from the series's display list at once.
+     */
+    final void removeDataItemsFromDisplay(Series<X, Y> series, List<Data<X, Y>> items) {
+        series.removeDataItemRefs(items);
+    }
+
     // -------------- STYLESHEET HANDLING ------------------------------------------------------------------------------
 
     private static class StyleableProperties {
@@ -1424,6 +1453,8 @@ public abstract class XYChart<X,Y> extends Chart {
         /** the style class for default color for this series */
         String defaultColorStyleClass;
         boolean setToRemove = false;
+        /** true while the head of the data is evicted to stay within the capacity */
+        private boolean evicting = false;
 
         private List<Data<X, Y>> displayedData = new ArrayList<>();
 
@@ -1439,11 +1470,20 @@ public abstract class XYChart<X,Y> extends Chart {
                             return;
                         }
 
-                        Set<Data<X, Y>> dupCheck = new HashSet<>(displayedData);
-                        dupCheck.removeAll(c.getRemoved());
-                        for (Data<X, Y> d : c.getAddedSubList()) {
-                            if (!dupCheck.add(d)) {
-                                throw new IllegalArgumentException("Duplicate data added");
+                        // hash only the changed items and scan the displayed data once,
+                        // rather than copying the displayed data into a set
+                        if (c.wasAdded()) {
+                            Set<Data<X, Y>> added = new HashSet<>();
+                            for (Data<X, Y> d : c.getAddedSubList()) {
+                                if (!added.add(d)) {
+                                    throw new IllegalArgumentException("Duplicate data added");
+                                }
+                            }
+                            Set<Data<X, Y>> removed = new HashSet<>(c.getRemoved());
+                            for (Data<X, Y> d : displayedData) {
+                                if (added.contains(d) && !removed.contains(d)) {
+                                    throw new IllegalArgumentException("Duplicate data added");
+                                }
                             }
                         }
 
@@ -1470,8 +1510,14 @@ public abstract class XYChart<X,Y> extends Chart {
                             }
                         }
                         // inform chart
-                        chart.dataItemsChanged(Series.this,
-                                (List<Data<X, Y>>) c.getRemoved(), c.getFrom(), c.getTo(), c.wasPermutated());
+                        if (evicting && c.getFrom() == 0 && c.wasRemoved()) {
+                            chart.dataItemsEvicted(Series.this, (List<Data<X, Y>>) c.getRemoved());
+                            chart.dataItemsChanged(Series.this,
+                                    Collections.<Data<X, Y>>emptyList(), c.getFrom(), c.getTo(), false);
+                        } else {
+                            chart.dataItemsChanged(Series.this,
+                                    (List<Data<X, Y>>) c.getRemoved(), c.getFrom(), c.getTo(), c.wasPermutated());
+                        }
                     } else {
                         Set<Data<X, Y>> dupCheck = new HashSet<>();
                         for (Data<X, Y> d : data) {
@@ -1542,6 +1588,12 @@ public abstract class XYChart<X,Y> extends Chart {
             private ObservableList<Data<X,Y>> old;
             @Override protected void invalidated() {
                 final ObservableList<Data<X,Y>> current = getValue();
+                // the oldest items of data beyond the capacity are evicted
+                // before the chart is told about the new data
+                final int capacity = getCapacity();
+                if (current != null && capacity > 0 && current.size() > capacity) {
+                    current.remove(0, current.size() - capacity);
+                }
                 // add remove listeners
                 if(old != null) old.removeListener(dataChangeListener);
                 if(current != null) current.addListener(dataChangeListener);
@@ -1585,6 +1637,44 @@ public abstract class XYChart<X,Y> extends Chart {
         public final void setData(ObservableList<Data<X,Y>> value) { data.setValue(value); }
         public final ObjectProperty<ObservableList<Data<X,Y>>> dataProperty() { return data; }
 
+        /**
+         * The maximum number of data items this series retains when data is
+         * {@link #append(Collection) appended}. When appending would exceed
+         * the capacity, the oldest items are evicted from the head of the data
+         * in the same change as the appended items are added. A
+         * {@code LineChart} removes evicted items without animation and may
+         * reuse their symbols for the appended items, other charts remove
+         * them like any other removed items. Lowering the capacity evicts the oldest items
+         * immediately, and so does setting data that holds more items than
+         * the capacity. A value of {@code 0} or less means the series is
+         * unbounded.
+         *
+         * @since 17.0.21
+         * @defaultValue 0
+         */
+        private final IntegerProperty capacity = new IntegerPropertyBase(0) {
+            @Override protected void invalidated() {
+                final ObservableList<Data<X,Y>> data = getData();
+                final int capacity = get();
+                if (data != null && capacity > 0 && data.size() > capacity) {
+                    evict(data, data.size() - capacity);
+                }
+            }
+
+            @Override
+            public Object getBean() {
+                return Series.this;
+            }
+
+            @Override
+            public String getName() {
+                return "capacity";
+            }
+        };
+        public final int getCapacity() { return capacity.get(); }
+        public final void setCapacity(int value) { capacity.set(value); }
+        public final IntegerProperty capacityProperty() { return capacity; }
+
         // -------------- CONSTRUCTORS ----------------------------------------------
 
         /**
@@ -1625,6 +1715,59 @@ public abstract class XYChart<X,Y> extends Chart {
             return "Series["+getName()+"]";
         }
 
+        /**
+         * Appends the given data items to the end of this series, evicting
+         * the oldest items if the series would exceed its
+         * {@link #capacityProperty() capacity}.
+         *
+         * @param items the data items to append
+         * @since 17.0.21
+         */
+        @SafeVarargs
+        public final void append(Data<X,Y>... items) {
+            append(Arrays.asList(items));
+        }
+
+        /**
+         * Appends the given data items to the end of this series, evicting
+         * the oldest items if the series would exceed its
+         * {@link #capacityProperty() capacity}. If the data list supports
+         * {@link FXCollections#beginChange(ObservableList) change
+         * transactions}, the evicted and the appended items are reported in a
+         * single change.
+         *
+         * @param items the data items to append
+         * @since 17.0.21
+         */
+        public final void append(Collection<? extends Data<X,Y>> items) {
+            final ObservableList<Data<X,Y>> data = getData();
+            final int capacity = getCapacity();
+            if (capacity <= 0) {
+                data.addAll(items);
+                return;
+            }
+            List<? extends Data<X,Y>> added = new ArrayList<>(items);
+            if (added.size() > capacity) {
+                // items that would be evicted right away are never added
+                added = added.subList(added.size() - capacity, added.size());
+            }
+            final int evictedCount = Math.max(0, data.size() + added.size() - capacity);
+            evicting = evictedCount > 0;
+            try {
+                FXCollections.beginChange(data);
+                try {
+                    if (evictedCount > 0) {
+                        data.remove(0, evictedCount);
+                    }
+                    data.addAll(added);
+                } finally {
+                    FXCollections.endChange(data);
+                }
+            } finally {
+                evicting = false;
+            }
+        }
+
         // -------------- PRIVATE/PROTECTED METHODS -----------------------------------
 
         /*
@@ -1636,6 +1779,32 @@ public abstract class XYChart<X,Y> extends Chart {
             displayedData.remove(item);
         }
 
+        private void removeDataItemRefs(List<Data<X,Y>> items) {
+            for (Data<X,Y> item : items) {
+                item.setToRemove = false;
+            }
+            final int count = items.size();
+            boolean head = count <= displayedData.size();
+            for (int i = 0; head && i < count; i++) {
+                head = displayedData.get(i) == items.get(i);
+            }
+            if (head) {
+                // evicted items are usually the first displayed items
+                displayedData.subList(0, count).clear();
+            } else {
+                displayedData.removeAll(new HashSet<>(items));
+            }
+        }
+
+        private void evict(ObservableList<Data<X,Y>> data, int count) {
+            evicting = true;
+            try {
+                data.remove(0, count);
+            } finally {
+                evicting = false;
+            }
+        }
+
         int getItemIndex(Data<X,Y> item) {
             return displayedData.indexOf(item);
         }
@@ -1644,6 +1813,10 @@ public abstract class XYChart<X,Y> extends Chart {
             return displayedData.get(i);
         }
 
+        Iterator<Data<X, Y>> getDisplayedDataIterator(int from) {
+            return Collections.unmodifiableList(displayedData).listIterator(from);
+        }
+
         int getDataSize() {
             return displayedData.size();
         }
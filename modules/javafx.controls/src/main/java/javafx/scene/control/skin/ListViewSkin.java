@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,6 +28,7 @@ package javafx.scene.control.skin;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.sun.javafx.scene.control.CellPool;
 import com.sun.javafx.scene.control.Properties;
 import javafx.beans.InvalidationListener;
 import javafx.beans.WeakInvalidationListener;
@@ -83,6 +84,9 @@ public class ListViewSkin<T> extends VirtualContainerBase<ListView<T>, ListCell<
     private static final boolean IS_PANNABLE =
             AccessController.doPrivileged((PrivilegedAction<Boolean>) () -> Boolean.getBoolean("javafx.scene.control.skin.ListViewSkin.pannable"));
 
+    // the key of the default cells in the shared cell pool
+    private static final Object DEFAULT_CELL_POOL_KEY = new Object();
+
 
 
     /* *************************************************************************
@@ -107,6 +111,10 @@ public class ListViewSkin<T> extends VirtualContainerBase<ListView<T>, ListCell<
 
     private ObservableList<T> listViewItems;
 
+    // the class of the cells created by the custom cell factory, null until
+    // the factory has created a cell
+    private Class<?> factoryCellClass;
+
     private boolean needCellsRebuilt = true;
     private boolean needCellsReconfigured = false;
 
@@ -251,7 +259,10 @@ public class ListViewSkin<T> extends VirtualContainerBase<ListView<T>, ListCell<
         registerChangeListener(control.orientationProperty(), o ->
             flow.setVertical(control.getOrientation() == Orientation.VERTICAL)
         );
-        registerChangeListener(control.cellFactoryProperty(), o -> flow.recreateCells());
+        registerChangeListener(control.cellFactoryProperty(), o -> {
+            factoryCellClass = null;
+            flow.recreateCells();
+        });
         registerChangeListener(control.parentProperty(), o -> {
             if (control.getParent() != null && control.isVisible()) {
                 control.requestLayout();
@@ -282,6 +293,7 @@ public class ListViewSkin<T> extends VirtualContainerBase<ListView<T>, ListCell<
             listViewItems = null;
         }
         // flow related cleanup
+        releaseCellsToPool();
         // leaking without nulling factory
         flow.setCellFactory(null);
         // for completeness - but no effect with/out?
@@ -451,11 +463,16 @@ public class ListViewSkin<T> extends VirtualContainerBase<ListView<T>, ListCell<
 
     /** {@inheritDoc} */
     private ListCell<T> createCell() {
-        ListCell<T> cell;
-        if (getSkinnable().getCellFactory() != null) {
-            cell = getSkinnable().getCellFactory().call(getSkinnable());
-        } else {
-            cell = createDefaultCellImpl();
+        // reuse a cell released by a list view whose skin was disposed
+        final Object key = getCellPoolKey();
+        ListCell<T> cell = key == null ? null : CellPool.getShared().acquire(key);
+        if (cell == null) {
+            if (getSkinnable().getCellFactory() != null) {
+                cell = getSkinnable().getCellFactory().call(getSkinnable());
+                factoryCellClass = cell.getClass();
+            } else {
+                cell = createDefaultCellImpl();
+            }
         }
 
         cell.updateListView(getSkinnable());
@@ -463,6 +480,37 @@ public class ListViewSkin<T> extends VirtualContainerBase<ListView<T>, ListCell<
         return cell;
     }
 
+    /*
+     * Default cells are shared by all list views. The cells of a custom cell
+     * factory are shared by the list views that use the same factory, and are
+     * pooled by their class, since a factory may create cells of several
+     * classes. The pool is not used until the factory has created a cell of
+     * this list view, which tells the class of the cells it creates.
+     */
+    private Object getCellPoolKey() {
+        Object cellFactory = getSkinnable().getCellFactory();
+        if (cellFactory == null) {
+            return DEFAULT_CELL_POOL_KEY;
+        }
+        return factoryCellClass == null ? null : CellPool.getFactoryKey(cellFactory, factoryCellClass);
+    }
+
+    /*
+     * Hands the cells of the flow over to the shared cell pool, if it is
+     * enabled.
+     */
+    private void releaseCellsToPool() {
+        if (CellPool.getShared().getMaxSize() == 0) {
+            return;
+        }
+        final Object cellFactory = getSkinnable().getCellFactory();
+        flow.releaseCells(cell -> {
+            cell.updateListView(null);
+            CellPool.getShared().release(cellFactory == null ? DEFAULT_CELL_POOL_KEY
+                    : CellPool.getFactoryKey(cellFactory, cell.getClass()), cell);
+        });
+    }
+
     private void updateListViewItems() {
         if (listViewItems != null) {
             listViewItems.removeListener(weakListViewItemsListener);
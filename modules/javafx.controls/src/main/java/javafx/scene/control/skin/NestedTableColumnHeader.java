@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -168,7 +168,7 @@ public class NestedTableColumnHeader extends TableColumnHeader {
             TableHeaderRow tableHeader = header.getTableHeaderRow();
             TableColumnHeader columnHeader = tableHeader.getColumnHeaderFor(column);
             if (columnHeader != null) {
-                columnHeader.resizeColumnToFitContent(-1);
+                columnHeader.resizeColumnToFitContentInBackground(-1);
             }
         } else {
             // rather than refer to the rect variable, we just grab
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -30,6 +30,11 @@ import com.sun.javafx.scene.control.Properties;
 import com.sun.javafx.scene.control.TableColumnBaseHelper;
 import com.sun.javafx.scene.control.TreeTableViewBackingList;
 import com.sun.javafx.scene.control.skin.Utils;
+import com.sun.javafx.scene.text.FontHelper;
+import com.sun.javafx.scene.text.TextMeasurer;
+import com.sun.javafx.tk.Toolkit;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.ReadOnlyObjectWrapper;
@@ -68,12 +73,15 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
+import javafx.scene.text.Font;
 import javafx.util.Callback;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 
 import static com.sun.javafx.scene.control.TableColumnSortTypeWrapper.getSortTypeName;
 import static com.sun.javafx.scene.control.TableColumnSortTypeWrapper.getSortTypeProperty;
@@ -102,6 +110,10 @@ public class TableColumnHeader extends Region {
     // the value in TableColumn
     static final double DEFAULT_COLUMN_WIDTH = 80.0F;
 
+    // the number of rows from which the text of default cells is measured
+    // in parallel when resizing a column to fit its content
+    static final int PARALLEL_MEASURE_ROW_COUNT = 1000;
+
 
 
     /* *************************************************************************
@@ -137,6 +149,14 @@ public class TableColumnHeader extends Region {
 
     private int newColumnPos;
 
+    // the resize waiting for the text of the cells to be measured on the
+    // text measurement threads, package for testing
+    CompletableFuture<Void> pendingMeasure;
+
+    // set while the column is resized on a double click on its edge, the only
+    // resize that may complete after resizeColumnToFitContent has returned
+    private boolean measureInBackground;
+
     // the line drawn in the table when a user presses and moves a column header
     // to indicate where the column will be dropped. This is provided by the
     // table skin, but manipulated by the header
@@ -560,6 +580,7 @@ public class TableColumnHeader extends Region {
         }
 
         changeListenerHandler.dispose();
+        cancelPendingMeasure();
     }
 
     private boolean isSortingEnabled() {
@@ -633,6 +654,28 @@ public class TableColumnHeader extends Region {
         }
     }
 
+    /*
+     * Resizes the column as resizeColumnToFitContent(int) does, but lets the
+     * default cells of many rows of a TableView column be measured on the text
+     * measurement threads, in which case the column is resized later on the
+     * FX application thread.
+     */
+    void resizeColumnToFitContentInBackground(int maxRows) {
+        measureInBackground = true;
+        try {
+            resizeColumnToFitContent(maxRows);
+        } finally {
+            measureInBackground = false;
+        }
+    }
+
+    private void cancelPendingMeasure() {
+        if (pendingMeasure != null) {
+            pendingMeasure.cancel(false);
+            pendingMeasure = null;
+        }
+    }
+
     private <T,S> void resizeColumnToFitContent(TableView<T> tv, TableColumn<T, S> tc, TableViewSkinBase tableSkin, int maxRows) {
         List<?> items = tv.getItems();
         if (items == null || items.isEmpty()) return;
@@ -658,7 +701,35 @@ public class TableColumnHeader extends Region {
         TableRow<T> tableRow = new TableRow<>();
         tableRow.updateTableView(tv);
 
+        // a newer resize supersedes the measurement still in progress
+        cancelPendingMeasure();
+
         int rows = maxRows == -1 ? items.size() : Math.min(items.size(), maxRows);
+        if (measureInBackground && rows >= PARALLEL_MEASURE_ROW_COUNT
+                && cellFactory == TableColumn.DEFAULT_CELL_FACTORY && tv.getRowFactory() == null) {
+            CompletableFuture<Double> cellWidth = measureDefaultCells(tv, tc, tableSkin, cell, tableRow, rows);
+            if (cellWidth != null) {
+                cell.updateIndex(-1);
+                final double cellPadding = padding;
+                final ObservableList<T> measuredItems = tv.getItems();
+                // widths measured for items that have since changed are stale
+                final InvalidationListener itemsListener = o -> cancelPendingMeasure();
+                measuredItems.addListener(itemsListener);
+                CompletableFuture<Void> measure = cellWidth.thenAcceptAsync(width -> {
+                    // the header, the skin or the column may have gone while
+                    // the cells were measured
+                    if (tv.getItems() == measuredItems && tv.getSkin() == tableSkin
+                            && tc.getTableView() == tv && getTableSkin() == tableSkin
+                            && tableSkin.getTableHeaderRow().getColumnHeaderFor(tc) != null) {
+                        fitColumnWidth(tv, tc, tableSkin, maxRows, width, cellPadding);
+                    }
+                }, Platform::runLater);
+                measure.whenComplete((v, ex) -> measuredItems.removeListener(itemsListener));
+                pendingMeasure = measure;
+                return;
+            }
+        }
+
         double maxWidth = 0;
         for (int row = 0; row < rows; row++) {
             tableRow.updateIndex(row);
@@ -679,6 +750,15 @@ public class TableColumnHeader extends Region {
         // dispose of the cell to prevent it retaining listeners (see RT-31015)
         cell.updateIndex(-1);
 
+        fitColumnWidth(tv, tc, tableSkin, maxRows, maxWidth, padding);
+    }
+
+    /*
+     * Sets the width of the column to the largest preferred width of its
+     * cells, the width of its header and the padding of the cells.
+     */
+    private <T,S> void fitColumnWidth(TableView<T> tv, TableColumn<T, S> tc, TableViewSkinBase tableSkin,
+                                      int maxRows, double maxWidth, double padding) {
         // RT-36855 - take into account the column header text / graphic widths.
         // Magic 10 is to allow for sort arrow to appear without text truncation.
         TableColumnHeader header = tableSkin.getTableHeaderRow().getColumnHeaderFor(tc);
@@ -710,6 +790,78 @@ public class TableColumnHeader extends Region {
         }
     }
 
+    /*
+     * The default cells of a column only differ by their text and by the
+     * pseudo-classes of their row, so only the first cell with text in each
+     * state is laid out with CSS and the width of the text of the other ones
+     * is measured in parallel off the FX thread. Returns the largest preferred
+     * width of the cells once it is known, or null if they have to be laid
+     * out one by one because some show a graphic, do not show plain text, or
+     * do not have the same font and padding in every state.
+     */
+    private <T,S> CompletableFuture<Double> measureDefaultCells(TableView<T> tv, TableColumn<T, S> tc,
+                                                                TableViewSkinBase tableSkin, TableCell<T,?> cell,
+                                                                TableRow<T> tableRow, int rows) {
+        TableView.TableViewSelectionModel<T> sm = tv.getSelectionModel();
+        TableView.TableViewFocusModel<T> fm = tv.getFocusModel();
+
+        // the first row with text for each combination of the odd, selected
+        // and focused states
+        int[] firstRows = new int[8];
+        Arrays.fill(firstRows, -1);
+        List<String> texts = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            Object item = tc.getCellData(row);
+            if (item instanceof Node) return null;
+            String text = item == null ? null : item.toString();
+            if (text != null && !text.isEmpty()) {
+                int state = (row & 1)
+                        | (sm != null && sm.isSelected(row, tc) ? 2 : 0)
+                        | (fm != null && fm.isFocused(row, tc) ? 4 : 0);
+                if (firstRows[state] == -1) firstRows[state] = row;
+                texts.add(text);
+            }
+        }
+        if (texts.isEmpty()) return CompletableFuture.completedFuture(0.0);
+
+        Font font = null;
+        double padding = 0;
+        TextMeasurer measurer = Toolkit.getToolkit().getTextMeasurer();
+        for (int row : firstRows) {
+            if (row == -1) continue;
+
+            tableRow.updateIndex(row);
+            cell.updateTableColumn(tc);
+            cell.updateTableView(tv);
+            cell.updateTableRow(tableRow);
+            cell.updateIndex(row);
+
+            tableSkin.getChildren().add(cell);
+            cell.applyCss();
+            double prefWidth = cell.prefWidth(-1);
+            tableSkin.getChildren().remove(cell);
+
+            String text = String.valueOf(tc.getCellData(row));
+            if (cell.getGraphic() != null || cell.isMnemonicParsing()
+                    || cell.getPrefWidth() != Region.USE_COMPUTED_SIZE
+                    || !text.equals(cell.getText())) {
+                return null;
+            }
+
+            double cellPadding = prefWidth - measurer.computeWidth(text, FontHelper.getNativeFont(cell.getFont()));
+            if (font == null) {
+                font = cell.getFont();
+                padding = cellPadding;
+            } else if (!font.equals(cell.getFont()) || Math.abs(padding - cellPadding) > 0.001) {
+                return null;
+            }
+        }
+
+        final double textPadding = padding;
+        return measurer.computeMaxWidth(texts, FontHelper.getNativeFont(font))
+                .thenApply(width -> textPadding + width);
+    }
+
     private <T,S> void resizeColumnToFitContent(TreeTableView<T> ttv, TreeTableColumn<T, S> tc, TableViewSkinBase tableSkin, int maxRows) {
         List<?> items = new TreeTableViewBackingList(ttv);
         if (items == null || items.isEmpty()) return;
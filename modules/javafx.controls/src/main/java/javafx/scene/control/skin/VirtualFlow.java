@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,8 @@
 package javafx.scene.control.skin;
 
 import com.sun.javafx.scene.ParentHelper;
+import com.sun.javafx.scene.control.CellPool;
+import com.sun.javafx.scene.control.ItemSizeCache;
 import com.sun.javafx.scene.control.Logging;
 import com.sun.javafx.scene.control.Properties;
 import com.sun.javafx.scene.control.VirtualScrollBar;
@@ -36,6 +38,7 @@ import com.sun.javafx.scene.traversal.ParentTraversalEngine;
 import com.sun.javafx.scene.traversal.TraversalContext;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
+import javafx.application.Platform;
 import javafx.beans.InvalidationListener;
 import javafx.beans.Observable;
 import javafx.beans.property.BooleanProperty;
@@ -73,6 +76,7 @@ import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Implementation of a virtualized container using a cell based mechanism. This
@@ -108,6 +112,8 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
      */
     private static final String NEW_CELL = "newcell";
 
+    private static final int PREWARM_CELLS_PER_PULSE = 4;
+
     private static final double GOLDEN_RATIO_MULTIPLIER = 0.618033987;
 
     /**
@@ -273,15 +279,16 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     double estimatedSize = -1d;
 
     /**
-     * A list containing the cached version of the calculated size (height for
-     * vertical, width for horizontal) for a (fictive or real) cell for
-     * each element of the backing data.
-     * This list is used to calculate the estimatedSize.
-     * The list is not expected to be complete, but it is always up to date.
-     * When the size of the items in the backing list changes, this list is
+     * A cache containing the calculated size (height for vertical, width for
+     * horizontal) for a (fictive or real) cell for each element of the backing
+     * data.
+     * This cache is used to calculate the estimatedSize, and to map between
+     * offsets and indices in logarithmic time.
+     * The cache is not expected to be complete, but it is always up to date.
+     * When the size of the items in the backing list changes, this cache is
      * cleared.
      */
-    private ArrayList<Double> itemSizeCache = new ArrayList<>();
+    private final ItemSizeCache itemSizeCache = new ItemSizeCache();
 
     // used for panning the virtual flow
     private double lastX;
@@ -1342,6 +1349,11 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         lastPosition = getPosition();
         recalculateEstimatedSize();
         cleanPile();
+
+        if (!prewarmed && CellPool.PREWARM_COUNT > 0 && getScene() != null) {
+            prewarmed = true;
+            prewarmCells(CellPool.PREWARM_COUNT);
+        }
     }
 
     /** {@inheritDoc} */
@@ -2802,6 +2814,56 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         pile.addLast(cell);
     }
 
+    /**
+     * Removes all cells from the flow, except the accumCell and the private
+     * cells, and hands them to the consumer, for example to pool them.
+     */
+    void releaseCells(Consumer<T> consumer) {
+        addAllToPile();
+        for (int i = 0, max = pile.size(); i < max; i++) {
+            T cell = pile.get(i);
+            sheetChildren.remove(cell);
+            cell.updateIndex(-1);
+            consumer.accept(cell);
+        }
+        pile.clear();
+    }
+
+    private boolean prewarmed;
+    private Runnable prewarmPulse;
+
+    /**
+     * Creates cells, with their skin and CSS, until the flow has the given
+     * number of cells, spread over pulses so that the first scroll does not
+     * have to build them. The new cells wait on the pile.
+     */
+    void prewarmCells(int count) {
+        final Scene scene = getScene();
+        if (scene == null || prewarmPulse != null) {
+            return;
+        }
+        prewarmPulse = () -> {
+            for (int i = 0; i < PREWARM_CELLS_PER_PULSE; i++) {
+                Callback<VirtualFlow<T>, T> factory = getCellFactory();
+                if (factory == null || getScene() != scene
+                        || cells.size() + pile.size() >= count) {
+                    scene.removePostLayoutPulseListener(prewarmPulse);
+                    prewarmPulse = null;
+                    return;
+                }
+                T cell = factory.call(this);
+                cell.setVisible(false);
+                cell.updateIndex(-1);
+                sheetChildren.add(cell);
+                cell.applyCss();
+                addToPile(cell);
+            }
+            Platform.requestNextPulse();
+        };
+        scene.addPostLayoutPulseListener(prewarmPulse);
+        Platform.requestNextPulse();
+    }
+
     private void cleanPile() {
         boolean wasFocusOwner = false;
 
@@ -2901,13 +2963,14 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
             return maxOff - absoluteOffset;
         }
 
-        for (int i = 0; i < localCellCount; i++) {
+        if (localCellCount > 0) {
+            int i = itemSizeCache.getIndexAt(absoluteOffset, estSize, localCellCount);
             double h = getCellSize(i);
             if (h < 0) h = estSize;
+            bound = itemSizeCache.getOffset(i, estSize);
             if (bound + h > absoluteOffset) {
                 return absoluteOffset - bound;
             }
-            bound += h;
         }
         return 0d;
     }
@@ -2920,13 +2983,8 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         if (cellCount <= 0) {
             setPosition(0.0f);
         } else {
-            double targetOffset = 0;
             double estSize = estimatedSize/cellCount;
-            for (int i = 0; i < index; i++) {
-                double cz = getCellSize(i);
-                if (cz < 0) cz = estSize;
-                targetOffset = targetOffset+ cz;
-            }
+            double targetOffset = itemSizeCache.getOffset(index, estSize);
             this.absoluteOffset = (estimatedSize < viewportLength)  ? 0  : targetOffset;
             adjustPosition();
         }
@@ -2981,15 +3039,9 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
     private double computeBaseOffset(int index) {
-        double baseOffset = 0d;
         int currentCellCount = getCellCount();
         double estSize = estimatedSize / currentCellCount;
-        for (int i = 0; i < index; i++) {
-            double nextSize = getCellSize(i);
-            if (nextSize < 0) nextSize = estSize;
-            baseOffset += nextSize;
-        }
-        return baseOffset;
+        return itemSizeCache.getOffset(index, estSize);
     }
 
     /**
@@ -3001,17 +3053,8 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
     }
 
     private int computeCurrentIndex(int currentCellCount) {
-        double total = 0;
         double estSize = estimatedSize / currentCellCount;
-        for (int i = 0; i < currentCellCount; i++) {
-            double nextSize = getCellSize(i);
-            if (nextSize < 0) nextSize = estSize;
-            total = total + nextSize;
-            if (total > absoluteOffset) {
-                return i;
-            }
-        }
-        return currentCellCount == 0 ? 0 : currentCellCount - 1;
+        return itemSizeCache.getIndexAt(absoluteOffset, estSize, currentCellCount);
     }
 
     /**
@@ -3043,20 +3086,15 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
 
     private double getOrCreateCellSize (int idx, boolean create) {
         if (idx < 0) return -1;
-        // is the current cache long enough to contain idx?
-        if (itemSizeCache.size() > idx) {
-            // is there a non-null value stored in the cache?
-            if (itemSizeCache.get(idx) != null) {
-                return itemSizeCache.get(idx);
-            }
+        // is there a measured size stored in the cache?
+        if (itemSizeCache.isMeasured(idx)) {
+            return itemSizeCache.get(idx);
         }
         if (!create) return -1;
         boolean doRelease = false;
 
         // Make sure we have enough space in the cache to store this index
-        while (idx >= itemSizeCache.size()) {
-            itemSizeCache.add(itemSizeCache.size(), null);
-        }
+        itemSizeCache.ensureSize(idx + 1);
 
         double answer = 1d;
         if (getFixedCellSize() > 0) {
@@ -3097,10 +3135,11 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
         int cellIndex = cell.getIndex();
 
         if (itemSizeCache.size() > cellIndex) {
-            Double oldSize = itemSizeCache.get(cellIndex);
+            boolean wasMeasured = itemSizeCache.isMeasured(cellIndex);
+            double oldSize = itemSizeCache.get(cellIndex);
             double newSize = getCellLength(cell);
             itemSizeCache.set(cellIndex, newSize);
-            if ((oldSize != null) && !oldSize.equals(newSize)) {
+            if (wasMeasured && Double.compare(oldSize, newSize) != 0) {
                 int currentIndex = computeCurrentIndex();
                 double oldOffset = computeViewportOffset(getPosition());
                 if ((cellIndex == currentIndex) && (oldOffset != 0)) {
@@ -3145,28 +3184,13 @@ public class VirtualFlow<T extends IndexedCell> extends Region {
                 getOrCreateCellSize(itemSizeCache.size());
                 added++;
             }
-            cacheCount = itemSizeCache.size();
-            int cnt = 0;
-            double tot = 0d;
-            for (int i = 0; (i < itemCount && i < cacheCount); i++) {
-                Double il = itemSizeCache.get(i);
-                if (il != null) {
-                    tot = tot + il;
-                    cnt++;
-                }
-            }
+            int cnt = itemSizeCache.getMeasuredCount(itemCount);
+            double tot = itemSizeCache.getMeasuredSize(itemCount);
             this.estimatedSize = cnt == 0 ? 1d : tot * itemCount / cnt;
             double estSize = estimatedSize / itemCount;
 
             if (keepRatio) {
-                double newOffset = 0;
-                for (int i = 0; i < oldIndex; i++) {
-                    double h = getCellSize(i);
-                    if (h < 0) {
-                        h = estSize;
-                    }
-                    newOffset += h;
-                }
+                double newOffset = itemSizeCache.getOffset(oldIndex, estSize);
                 this.absoluteOffset = newOffset + oldOffset;
                 adjustPosition();
             }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -64,4 +64,15 @@ public class TableColumnHeaderShim {
     public static void resizeColumnToFitContent(TableColumnHeader header, int nbRows) {
         header.resizeColumnToFitContent(nbRows);
     }
+
+    public static void resizeColumnToFitContentInBackground(TableColumnHeader header, int nbRows) {
+        header.resizeColumnToFitContentInBackground(nbRows);
+        if (header.pendingMeasure != null) {
+            header.pendingMeasure.join();
+        }
+    }
+
+    public static boolean isMeasurePending(TableColumnHeader header) {
+        return header.pendingMeasure != null;
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.scene.control;
+
+import com.sun.javafx.scene.control.CellPool;
+import java.lang.ref.WeakReference;
+import javafx.scene.Group;
+import javafx.scene.control.IndexedCell;
+import javafx.scene.control.ListCell;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+import static test.com.sun.javafx.scene.control.infrastructure.ControlSkinFactory.attemptGC;
+
+public class CellPoolTest {
+    private CellPool pool;
+    private final Object key = new Object();
+
+    @Before
+    public void setup() {
+        pool = new CellPool(2);
+    }
+
+    @Test
+    public void testAcquireReturnsReleasedCell() {
+        ListCell<String> cell = new ListCell<>();
+        assertTrue(pool.release(key, cell));
+        assertEquals(1, pool.size());
+        assertSame(cell, pool.acquire(key));
+        assertEquals(0, pool.size());
+        assertNull(pool.acquire(key));
+        assertEquals(1, pool.getHitCount());
+        assertEquals(1, pool.getMissCount());
+    }
+
+    @Test
+    public void testCellsArePooledByKey() {
+        ListCell<String> cell = new ListCell<>();
+        pool.release(key, cell);
+        assertNull(pool.acquire(new Object()));
+        assertSame(cell, pool.acquire(key));
+    }
+
+    @Test
+    public void testPoolIsBounded() {
+        Object otherKey = new Object();
+        ListCell<String> cell = new ListCell<>();
+        ListCell<String> otherCell = new ListCell<>();
+        assertTrue(pool.release(key, cell));
+        assertTrue(pool.release(otherKey, otherCell));
+        // the cell of the key used least recently is dropped
+        assertTrue(pool.release(otherKey, new ListCell<String>()));
+        assertEquals(2, pool.size());
+        assertNull(pool.acquire(key));
+        assertNotNull(pool.acquire(otherKey));
+        assertNotNull(pool.acquire(otherKey));
+
+        assertTrue(pool.release(key, cell));
+        assertTrue(pool.release(otherKey, otherCell));
+        pool.clear();
+        assertEquals(0, pool.size());
+        assertNull(pool.acquire(key));
+    }
+
+    @Test
+    public void testCellWithParentIsNotPooled() {
+        IndexedCell<String> cell = new ListCell<>();
+        new Group(cell);
+        assertFalse(pool.release(key, cell));
+        assertFalse(pool.release(null, new ListCell<String>()));
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void testFactoryKey() {
+        Object factory = new Object();
+        Object otherFactory = new Object();
+        ListCell<String> cell = new ListCell<>();
+        pool.release(CellPool.getFactoryKey(factory, ListCell.class), cell);
+        assertNull(pool.acquire(CellPool.getFactoryKey(otherFactory, ListCell.class)));
+        assertNull(pool.acquire(CellPool.getFactoryKey(factory, IndexedCell.class)));
+        assertSame(cell, pool.acquire(CellPool.getFactoryKey(factory, ListCell.class)));
+    }
+
+    @Test
+    public void testFactoryKeyDoesNotRetainFactory() {
+        Object factory = new Object();
+        WeakReference<Object> ref = new WeakReference<>(factory);
+        pool.release(CellPool.getFactoryKey(factory, ListCell.class), new ListCell<String>());
+        factory = null;
+        attemptGC(ref);
+        assertNull("factory must be gc'ed", ref.get());
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void testDisabledPool() {
+        CellPool disabled = new CellPool(0);
+        assertFalse(disabled.release(key, new ListCell<String>()));
+        assertNull(disabled.acquire(key));
+        assertEquals(0, disabled.getMissCount());
+    }
+}
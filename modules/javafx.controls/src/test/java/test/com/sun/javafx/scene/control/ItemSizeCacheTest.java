@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.scene.control;
+
+import com.sun.javafx.scene.control.ItemSizeCache;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ItemSizeCacheTest {
+    private static final int COUNT = 300;
+
+    private ItemSizeCache cache;
+    private double[] sizes;
+
+    @Before
+    public void setup() {
+        cache = new ItemSizeCache();
+        sizes = new double[COUNT];
+        Arrays.fill(sizes, -1);
+    }
+
+    private void set(int index, double size) {
+        cache.set(index, size);
+        sizes[index] = size;
+    }
+
+    // the linear scans the cache replaces
+    private double linearOffset(int index, double estimate) {
+        double offset = 0;
+        for (int i = 0; i < index; i++) {
+            offset += (i < COUNT && sizes[i] >= 0) ? sizes[i] : estimate;
+        }
+        return offset;
+    }
+
+    private int linearIndexAt(double offset, double estimate, int itemCount) {
+        double total = 0;
+        for (int i = 0; i < itemCount; i++) {
+            total += (i < COUNT && sizes[i] >= 0) ? sizes[i] : estimate;
+            if (total > offset) {
+                return i;
+            }
+        }
+        return itemCount == 0 ? 0 : itemCount - 1;
+    }
+
+    @Test
+    public void emptyCache() {
+        assertEquals(0, cache.size());
+        assertEquals(-1, cache.get(0), 0);
+        assertFalse(cache.isMeasured(0));
+        assertEquals(0, cache.getOffset(0, 10), 0);
+        assertEquals(50, cache.getOffset(5, 10), 0);
+        assertEquals(2, cache.getIndexAt(25, 10, 5));
+        assertEquals(4, cache.getIndexAt(1000, 10, 5));
+        assertEquals(0, cache.getIndexAt(25, 10, 0));
+    }
+
+    @Test
+    public void ensureSizeDoesNotMeasure() {
+        cache.ensureSize(100);
+        assertEquals(100, cache.size());
+        assertEquals(0, cache.getMeasuredCount(100));
+        assertEquals(-1, cache.get(50), 0);
+        assertEquals(1000, cache.getOffset(100, 10), 0);
+    }
+
+    @Test
+    public void setReplacesMeasuredSize() {
+        set(3, 20);
+        set(3, 30);
+        assertEquals(4, cache.size());
+        assertEquals(1, cache.getMeasuredCount(4));
+        assertEquals(30, cache.getMeasuredSize(4), 0);
+        assertEquals(30, cache.get(3), 0);
+        assertEquals(0, cache.getMeasuredCount(3));
+    }
+
+    @Test
+    public void offsetsAndIndicesMatchLinearScan() {
+        Random random = new Random(42);
+        for (int n = 0; n < 200; n++) {
+            set(random.nextInt(COUNT), random.nextInt(40));
+        }
+        for (double estimate : new double[] { 0, 1, 17 }) {
+            for (int index = 0; index <= COUNT + 20; index++) {
+                assertEquals(linearOffset(index, estimate), cache.getOffset(index, estimate), 0);
+            }
+            double end = linearOffset(COUNT + 20, estimate);
+            for (double offset = -1; offset < end + 20; offset += 3) {
+                assertEquals(linearIndexAt(offset, estimate, COUNT + 20),
+                        cache.getIndexAt(offset, estimate, COUNT + 20));
+                assertEquals(linearIndexAt(offset, estimate, 150),
+                        cache.getIndexAt(offset, estimate, 150));
+            }
+        }
+    }
+
+    @Test
+    public void clearForgetsSizes() {
+        set(10, 20);
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertFalse(cache.isMeasured(10));
+        assertEquals(0, cache.getMeasuredSize(20), 0);
+    }
+}
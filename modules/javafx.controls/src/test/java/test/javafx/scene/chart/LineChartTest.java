@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,8 @@
 
 package test.javafx.scene.chart;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.geometry.Point2D;
 import javafx.scene.Node;
@@ -34,16 +36,20 @@ import javafx.scene.chart.NumberAxis;
 import javafx.scene.chart.XYChart;
 import javafx.scene.chart.XYChartShim;
 import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
 import javafx.scene.shape.Path;
 import javafx.scene.shape.PathElement;
 import org.junit.Ignore;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class LineChartTest extends XYChartTestBase {
 
@@ -679,6 +685,260 @@ public class LineChartTest extends XYChartTestBase {
         assertArrayEquals(convertSeriesDataToPoint2D(expectedSeries).toArray(), findDataPointsFromPathLine(lineChart).toArray());
     }
 
+    private XYChart.Series<Number, Number> createDenseSeries(int count) {
+        final ObservableList<XYChart.Data<Number, Number>> data = FXCollections.observableArrayList();
+        for (int i = 0; i < count; i++) {
+            data.add(new XYChart.Data<>(90d * i / count, (i % 2 == 0) ? 5d : 25d));
+        }
+        return new XYChart.Series<>(data);
+    }
+
+    @Test
+    public void testMinMaxDownsamplingReducesPath() {
+        startApp();
+        lineChart.setCreateSymbols(false);
+        lineChart.setAnimated(false);
+        lineChart.setDownsamplingPolicy(LineChart.DownsamplingPolicy.MIN_MAX);
+        final XYChart.Series<Number, Number> series = createDenseSeries(20000);
+        lineChart.getData().add(series);
+        pulse();
+
+        final List<Point2D> points = findDataPointsFromPathLine(lineChart);
+        final double width = lineChart.getXAxis().getWidth();
+        assertTrue(points.size() < series.getData().size());
+        assertTrue(points.size() <= 4 * (Math.ceil(width) + 1));
+        assertEquals(5d, points.stream().mapToDouble(Point2D::getY).min().getAsDouble(), 0.5);
+        assertEquals(25d, points.stream().mapToDouble(Point2D::getY).max().getAsDouble(), 0.5);
+        assertEquals(0d, points.get(0).getX(), 1e-9);
+    }
+
+    @Test
+    public void testLTTBDownsamplingReducesPath() {
+        startApp();
+        lineChart.setCreateSymbols(false);
+        lineChart.setAnimated(false);
+        lineChart.setDownsamplingPolicy(LineChart.DownsamplingPolicy.LTTB);
+        final XYChart.Series<Number, Number> series = createDenseSeries(20000);
+        lineChart.getData().add(series);
+        pulse();
+
+        final List<Point2D> points = findDataPointsFromPathLine(lineChart);
+        final double width = lineChart.getXAxis().getWidth();
+        assertTrue(points.size() <= 2 * Math.ceil(width) + 1);
+        assertEquals(0d, points.get(0).getX(), 1e-9);
+        assertEquals(90d * 19999 / 20000, points.get(points.size() - 1).getX(), 0.5);
+    }
+
+    @Test
+    public void testDownsamplingKeepsSparseSeries() {
+        startApp();
+        lineChart.setDownsamplingPolicy(LineChart.DownsamplingPolicy.MIN_MAX);
+        lineChart.getData().add(series1);
+        pulse();
+        assertArrayEquals(convertSeriesDataToPoint2D(series1).toArray(),
+                          findDataPointsFromPathLine(lineChart).toArray());
+        // the first point is drawn once, by the MoveTo
+        final List<PathElement> elements = ((Path) series1.getNode()).getElements();
+        assertEquals(series1.getData().size(), elements.size());
+        assertTrue(elements.get(0) instanceof MoveTo);
+    }
+
+    @Test
+    public void testDownsamplingAppendedData() {
+        startApp();
+        lineChart.setCreateSymbols(false);
+        lineChart.setAnimated(false);
+        lineChart.setDownsamplingPolicy(LineChart.DownsamplingPolicy.MIN_MAX);
+        final XYChart.Series<Number, Number> series = createDenseSeries(20000);
+        lineChart.getData().add(series);
+        pulse();
+
+        series.getData().add(new XYChart.Data<>(89.999d, 30d));
+        pulse();
+        List<Point2D> points = findDataPointsFromPathLine(lineChart);
+        assertEquals(30d, points.get(points.size() - 1).getY(), 0.5);
+
+        series.getData().add(0, new XYChart.Data<>(0d, 0d));
+        pulse();
+        points = findDataPointsFromPathLine(lineChart);
+        assertEquals(0d, points.stream().mapToDouble(Point2D::getY).min().getAsDouble(), 0.5);
+    }
+
+    @Test
+    public void testDownsamplingCullsPointsOutsidePlot() {
+        startApp();
+        lineChart.setCreateSymbols(false);
+        lineChart.setAnimated(false);
+        lineChart.setDownsamplingPolicy(LineChart.DownsamplingPolicy.MIN_MAX);
+        final XYChart.Series<Number, Number> series = new XYChart.Series<>();
+        for (int i = -1000; i < 2000; i++) {
+            series.getData().add(new XYChart.Data<>((double) i, 10d));
+        }
+        lineChart.getData().add(series);
+        pulse();
+
+        final List<Point2D> points = findDataPointsFromPathLine(lineChart);
+        assertEquals(-1d, points.get(0).getX(), 1e-9);
+        assertEquals(91d, points.get(points.size() - 1).getX(), 1e-9);
+    }
+
+    @Test
+    public void testStreamingAppendEvictsOldestItems() {
+        startApp();
+        lineChart.setAnimated(false);
+        series1.setCapacity(5);
+        lineChart.getData().add(series1);
+        pulse();
+        final Node evictedSymbol0 = series1.getData().get(0).getNode();
+        final Node evictedSymbol1 = series1.getData().get(1).getNode();
+
+        final int[] changes = new int[1];
+        series1.getData().addListener((ListChangeListener<XYChart.Data<Number, Number>>) c -> changes[0]++);
+        series1.append(new XYChart.Data<>(85d, 5d), new XYChart.Data<>(90d, 8d));
+        pulse();
+
+        assertEquals(1, changes[0]);
+        assertEquals(5, series1.getData().size());
+        assertEquals(30d, series1.getData().get(0).getXValue().doubleValue(), 1e-9);
+        assertPointsEqual(convertSeriesDataToPoint2D(series1), findDataPointsFromPathLine(lineChart));
+        // the symbols of the evicted items are reused for the appended ones
+        assertSame(evictedSymbol0, series1.getData().get(4).getNode());
+        assertSame(evictedSymbol1, series1.getData().get(3).getNode());
+        assertEquals(5, countSymbols(lineChart, "chart-line-symbol"));
+        assertEquals(6, XYChartShim.getPlotChildren(lineChart).size());
+    }
+
+    @Test
+    public void testStreamingAtCapacityKeepsPlotChildren() {
+        startApp();
+        lineChart.setAnimated(false);
+        series1.setCapacity(5);
+        lineChart.getData().add(series1);
+        pulse();
+
+        // the symbols of the evicted items are hidden, not removed, and shown
+        // again for the appended items
+        final int[] changes = new int[1];
+        XYChartShim.getPlotChildren(lineChart).addListener((ListChangeListener<Node>) c -> changes[0]++);
+        for (int i = 0; i < 10; i++) {
+            series1.append(new XYChart.Data<>(85d + i, 5d));
+            pulse();
+        }
+        assertEquals(0, changes[0]);
+        assertEquals(5, countSymbols(lineChart, "chart-line-symbol"));
+    }
+
+    @Test
+    public void testSetDataEvictsBeyondCapacity() {
+        startApp();
+        lineChart.setAnimated(false);
+        series1.setCapacity(3);
+        lineChart.getData().add(series1);
+        pulse();
+
+        final ObservableList<XYChart.Data<Number, Number>> data = FXCollections.observableArrayList();
+        for (int i = 0; i < 10; i++) {
+            data.add(new XYChart.Data<>(10d * i, 5d));
+        }
+        series1.setData(data);
+        pulse();
+        assertEquals(3, series1.getData().size());
+        assertEquals(70d, series1.getData().get(0).getXValue().doubleValue(), 1e-9);
+        assertPointsEqual(convertSeriesDataToPoint2D(series1), findDataPointsFromPathLine(lineChart));
+        assertEquals(3, countSymbols(lineChart, "chart-line-symbol"));
+    }
+
+    @Test
+    public void testStreamingAppendMoreThanCapacity() {
+        startApp();
+        lineChart.setAnimated(false);
+        series1.setCapacity(2);
+        assertEquals(2, series1.getData().size());
+        lineChart.getData().add(series1);
+        pulse();
+
+        series1.append(new XYChart.Data<>(60d, 1d), new XYChart.Data<>(70d, 2d), new XYChart.Data<>(75d, 3d));
+        pulse();
+        assertEquals(2, series1.getData().size());
+        assertEquals(70d, series1.getData().get(0).getXValue().doubleValue(), 1e-9);
+        assertPointsEqual(convertSeriesDataToPoint2D(series1), findDataPointsFromPathLine(lineChart));
+    }
+
+    @Test
+    public void testLoweringCapacityHidesEvictedSymbols() {
+        startApp();
+        lineChart.setAnimated(false);
+        lineChart.getData().add(series1);
+        pulse();
+
+        series1.setCapacity(3);
+        pulse();
+        assertEquals(3, series1.getData().size());
+        assertEquals(3, XYChartShim.getPlotChildren(lineChart).stream()
+                .filter(n -> n.isVisible() && n.getStyleClass().contains("chart-line-symbol"))
+                .count());
+        assertPointsEqual(convertSeriesDataToPoint2D(series1), findDataPointsFromPathLine(lineChart));
+
+        lineChart.getData().remove(series1);
+        pulse();
+        assertEquals(0, XYChartShim.getPlotChildren(lineChart).size());
+    }
+
+    @Test
+    public void testEvictedSymbolsAreBoundedByCapacity() {
+        startApp();
+        lineChart.setAnimated(false);
+        lineChart.getData().add(series1);
+        pulse();
+
+        // four symbols are evicted, only one is kept for reuse
+        series1.setCapacity(1);
+        pulse();
+        assertEquals(1, series1.getData().size());
+        assertEquals(2, countSymbols(lineChart, "chart-line-symbol"));
+        assertEquals(3, XYChartShim.getPlotChildren(lineChart).size());
+
+        // the newly evicted symbol is reused, the one kept before is removed
+        final Node evictedSymbol = series1.getData().get(0).getNode();
+        series1.append(new XYChart.Data<>(85d, 5d));
+        pulse();
+        assertSame(evictedSymbol, series1.getData().get(0).getNode());
+        assertEquals(1, countSymbols(lineChart, "chart-line-symbol"));
+        assertEquals(2, XYChartShim.getPlotChildren(lineChart).size());
+    }
+
+    @Test
+    public void testStreamingWithDownsampling() {
+        startApp();
+        lineChart.setCreateSymbols(false);
+        lineChart.setAnimated(false);
+        lineChart.setDownsamplingPolicy(LineChart.DownsamplingPolicy.MIN_MAX);
+        final XYChart.Series<Number, Number> series = createDenseSeries(20000);
+        series.setCapacity(20000);
+        lineChart.getData().add(series);
+        pulse();
+
+        for (int i = 0; i < 100; i++) {
+            series.append(new XYChart.Data<>(89.99d + i * 1e-5, (i % 3) * 10d));
+            pulse();
+        }
+        final List<Point2D> incremental = findDataPointsFromPathLine(lineChart);
+
+        // a different policy discards the cached result
+        lineChart.setDownsamplingPolicy(LineChart.DownsamplingPolicy.LTTB);
+        pulse();
+        lineChart.setDownsamplingPolicy(LineChart.DownsamplingPolicy.MIN_MAX);
+        pulse();
+        assertArrayEquals(findDataPointsFromPathLine(lineChart).toArray(), incremental.toArray());
+    }
+
+    private void assertPointsEqual(List<Point2D> expected, List<Point2D> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(0, expected.get(i).distance(actual.get(i)), 1e-9);
+        }
+    }
+
     private List<Point2D> convertSeriesDataToPoint2D(XYChart.Series<Number, Number> series) {
         return series.getData().stream()
                 .map(data -> new Point2D(data.getXValue().doubleValue(), data.getYValue().doubleValue()))
@@ -692,14 +952,29 @@ public class LineChartTest extends XYChartTestBase {
         Path fillPath = (Path) lineChart.getData().get(0).getNode();
         ObservableList<PathElement> fillElements = fillPath.getElements();
 
-        List<Point2D> data = fillElements.stream()
-                .filter(pathElement -> pathElement instanceof LineTo)
-                .map(pathElement -> (LineTo) pathElement)
-                .map(lineTo -> new Point2D(
-                        xAxis.getValueForDisplay(lineTo.getX()).doubleValue(),
-                        yAxis.getValueForDisplay(lineTo.getY()).doubleValue())
-                )
-                .collect(Collectors.toList());
-        return data.subList(0, data.size());
+        // the first point is either only in the MoveTo, or repeated by the
+        // first LineTo
+        List<Point2D> data = new ArrayList<>();
+        MoveTo moveTo = null;
+        for (PathElement pathElement : fillElements) {
+            double x, y;
+            if (pathElement instanceof MoveTo) {
+                moveTo = (MoveTo) pathElement;
+                x = moveTo.getX();
+                y = moveTo.getY();
+            } else if (pathElement instanceof LineTo) {
+                LineTo lineTo = (LineTo) pathElement;
+                x = lineTo.getX();
+                y = lineTo.getY();
+                if (data.size() == 1 && moveTo != null && moveTo.getX() == x && moveTo.getY() == y) {
+                    continue;
+                }
+            } else {
+                continue;
+            }
+            data.add(new Point2D(xAxis.getValueForDisplay(x).doubleValue(),
+                                 yAxis.getValueForDisplay(y).doubleValue()));
+        }
+        return data;
     }
 }
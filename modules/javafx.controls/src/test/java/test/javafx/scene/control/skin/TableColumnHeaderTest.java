@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2018, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,12 +29,15 @@ import com.sun.javafx.tk.Toolkit;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.event.Event;
+import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
 import javafx.scene.control.TableView;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.control.skin.TableColumnHeader;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import org.junit.Before;
 import org.junit.After;
 import org.junit.Test;
@@ -252,4 +255,81 @@ public class TableColumnHeaderTest {
         assertEquals("Width must be equal to initial value",
                 width, column.getWidth(), 0.001);
     }
+
+    /**
+     * Resizing a column of many rows with the default cell factory measures
+     * the text of the cells in parallel, which must give the same width as
+     * laying out each cell.
+     */
+    @Test
+    public void test_resizeColumnToFitContentManyRows() {
+        for (int i = 0; i < 2000; i++) {
+            tableView.getItems().add(new Person("Name " + i, i));
+        }
+        tableView.getItems().get(1500).setFirstName("This is a big text inside that column");
+        TableColumn<Person, String> column = (TableColumn<Person, String>) tableView.getColumns().get(0);
+        double width = column.getWidth();
+
+        TableColumnHeaderShim.resizeColumnToFitContentInBackground(firstColumnHeader, -1);
+        double parallelWidth = column.getWidth();
+        assertTrue("Column width must be greater", width < parallelWidth);
+
+        column.setCellFactory(tc -> new TableCell<Person, String>() {
+            @Override
+            protected void updateItem(String item, boolean empty) {
+                super.updateItem(item, empty);
+                setText(item);
+            }
+        });
+        TableColumnHeaderShim.resizeColumnToFitContent(firstColumnHeader, -1);
+        assertEquals("Width must be the same as when laying out each cell",
+                parallelWidth, column.getWidth(), 0.001);
+    }
+
+    /**
+     * The protected resizeColumnToFitContent must resize the column before it
+     * returns, whatever the number of rows.
+     */
+    @Test
+    public void test_resizeColumnToFitContentManyRowsIsSynchronous() {
+        for (int i = 0; i < 2000; i++) {
+            tableView.getItems().add(new Person("Name " + i, i));
+        }
+        tableView.getItems().get(1500).setFirstName("This is a big text inside that column");
+        TableColumn<Person, String> column = (TableColumn<Person, String>) tableView.getColumns().get(0);
+        double width = column.getWidth();
+
+        TableColumnHeaderShim.resizeColumnToFitContent(firstColumnHeader, -1);
+        assertFalse("No resize must be left pending", TableColumnHeaderShim.isMeasurePending(firstColumnHeader));
+        assertTrue("Column width must be greater", width < column.getWidth());
+    }
+
+    /**
+     * Cells of odd rows styled differently from the other ones must be sized
+     * as if each cell was laid out.
+     */
+    @Test
+    public void test_resizeColumnToFitContentManyRowsStyledByRow() {
+        for (int i = 0; i < 2000; i++) {
+            tableView.getItems().add(new Person("Name " + i, i));
+        }
+        tableView.getItems().get(1501).setFirstName("This is a big text inside that column");
+        tableView.getStylesheets().add("data:text/css;base64," + Base64.getEncoder().encodeToString(
+                ".table-cell:odd { -fx-padding: 0 50 0 50; }".getBytes(StandardCharsets.UTF_8)));
+        TableColumn<Person, String> column = (TableColumn<Person, String>) tableView.getColumns().get(0);
+
+        TableColumnHeaderShim.resizeColumnToFitContentInBackground(firstColumnHeader, -1);
+        double width = column.getWidth();
+
+        column.setCellFactory(tc -> new TableCell<Person, String>() {
+            @Override
+            protected void updateItem(String item, boolean empty) {
+                super.updateItem(item, empty);
+                setText(item);
+            }
+        });
+        TableColumnHeaderShim.resizeColumnToFitContent(firstColumnHeader, -1);
+        assertEquals("Width must be the same as when laying out each cell",
+                width, column.getWidth(), 0.001);
+    }
 }
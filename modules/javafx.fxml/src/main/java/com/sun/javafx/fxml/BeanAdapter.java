@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,6 +25,9 @@
 
 package com.sun.javafx.fxml;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -34,6 +37,7 @@ import java.lang.reflect.TypeVariable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import java.lang.reflect.*;
 import java.security.AccessController;
@@ -54,22 +58,132 @@ import com.sun.javafx.reflect.ReflectUtil;
 public class BeanAdapter extends AbstractMap<String, Object> {
     private final Object bean;
 
+    /**
+     * A method and the method handle it is invoked with. The handle is
+     * created on first use, for methods the public lookup can access; other
+     * methods are invoked reflectively with {@link ModuleHelper}.
+     */
+    private static final class MethodInvoker {
+        private static final MethodType INVOKER_TYPE =
+            MethodType.methodType(Object.class, Object.class, Object[].class);
+        private static final Object[] NO_ARGS = {};
+
+        private final Method method;
+        private final Class<?>[] parameterTypes;
+
+        private volatile MethodHandle handle;
+        private volatile boolean resolved;
+
+        private MethodInvoker(Method method) {
+            this.method = method;
+            this.parameterTypes = (method == null) ? null : method.getParameterTypes();
+        }
+
+        private Object invoke(Object target, Object... args)
+                throws InvocationTargetException, IllegalAccessException {
+            if (!resolved) {
+                handle = createHandle(method);
+                resolved = true;
+            }
+
+            MethodHandle methodHandle = handle;
+            if (methodHandle == null) {
+                return ModuleHelper.invoke(method, target, args);
+            }
+
+            if (args == null) {
+                args = NO_ARGS;
+            }
+            checkArguments(target, args);
+
+            try {
+                return (Object) methodHandle.invokeExact(target, args);
+            } catch (Throwable exception) {
+                throw new InvocationTargetException(exception);
+            }
+        }
+
+        // Throws the exceptions Method.invoke() throws for invalid arguments,
+        // which the method handle would otherwise report as thrown by the
+        // method itself
+        private void checkArguments(Object target, Object[] args) {
+            if (!Modifier.isStatic(method.getModifiers()) && !method.getDeclaringClass().isInstance(target)) {
+                if (target == null) {
+                    throw new NullPointerException();
+                }
+                throw new IllegalArgumentException("object is not an instance of declaring class");
+            }
+            if (args.length != parameterTypes.length) {
+                throw new IllegalArgumentException("wrong number of arguments");
+            }
+            for (int i = 0; i < args.length; i++) {
+                Class<?> parameterType = parameterTypes[i];
+                Object arg = args[i];
+                if (arg == null ? parameterType.isPrimitive() : !wrap(parameterType).isInstance(arg)) {
+                    throw new IllegalArgumentException("argument type mismatch");
+                }
+            }
+        }
+
+        private static MethodHandle createHandle(Method method) {
+            Class<?> declaringClass = method.getDeclaringClass();
+            if (!Modifier.isPublic(method.getModifiers())
+                    || !Modifier.isPublic(declaringClass.getModifiers())
+                    || !declaringClass.getModule().isExported(declaringClass.getPackageName())) {
+                return null;
+            }
+
+            MethodHandle methodHandle;
+            try {
+                methodHandle = MethodHandles.publicLookup().unreflect(method).asFixedArity();
+            } catch (IllegalAccessException exception) {
+                return null;
+            }
+
+            if (Modifier.isStatic(method.getModifiers())) {
+                methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+            }
+
+            return methodHandle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+        }
+
+        private static Class<?> wrap(Class<?> type) {
+            return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+        }
+    }
+
+    // the cached result of a static method lookup that found no method
+    private static final MethodInvoker NO_METHOD = new MethodInvoker(null);
+
+    /**
+     * The accessors of a Bean property, as resolved for a given class.
+     */
+    private static final class PropertyAccessors {
+        private final MethodInvoker getter;
+        private final MethodInvoker setter;
+
+        private PropertyAccessors(MethodInvoker getter, MethodInvoker setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
     private static class MethodCache {
-        private final Map<String, List<Method>> methods;
+        private final Map<String, List<MethodInvoker>> methods;
         private final MethodCache nextClassCache;
+        private final Map<String, PropertyAccessors> properties = new ConcurrentHashMap<>();
 
-        private MethodCache(Map<String, List<Method>> methods, MethodCache nextClassCache) {
+        private MethodCache(Map<String, List<MethodInvoker>> methods, MethodCache nextClassCache) {
             this.methods = methods;
             this.nextClassCache = nextClassCache;
         }
 
-        private Method getMethod(String name, Class<?>... parameterTypes) {
-            List<Method> namedMethods = methods.get(name);
+        private MethodInvoker getMethod(String name, Class<?>... parameterTypes) {
+            List<MethodInvoker> namedMethods = methods.get(name);
             if (namedMethods != null) {
                 for (int i = 0; i < namedMethods.size(); i++) {
-                    Method namedMethod = namedMethods.get(i);
-                    if (namedMethod.getName().equals(name)
-                            && Arrays.equals(namedMethod.getParameterTypes(), parameterTypes)) {
+                    MethodInvoker namedMethod = namedMethods.get(i);
+                    if (Arrays.equals(namedMethod.parameterTypes, parameterTypes)) {
                         return namedMethod;
                     }
                 }
@@ -78,10 +192,72 @@ public class BeanAdapter extends AbstractMap<String, Object> {
             return nextClassCache != null ? nextClassCache.getMethod(name, parameterTypes) : null;
         }
 
+        private PropertyAccessors getProperty(String key) {
+            PropertyAccessors property = properties.get(key);
+            if (property == null) {
+                MethodInvoker getter = getMethod(getMethodName(GET_PREFIX, key));
+                if (getter == null) {
+                    getter = getMethod(getMethodName(IS_PREFIX, key));
+                }
+
+                MethodInvoker setter = (getter == null) ? null
+                    : getMethod(getMethodName(SET_PREFIX, key), getter.method.getReturnType());
+
+                property = new PropertyAccessors(getter, setter);
+                PropertyAccessors previous = properties.putIfAbsent(key, property);
+                if (previous != null) {
+                    property = previous;
+                }
+            }
+
+            return property;
+        }
     }
 
-    private static final HashMap<Class<?>, MethodCache> globalMethodCache =
-        new HashMap<>();
+    /**
+     * The key of a static method lookup: the static property accessors and
+     * the {@code valueOf} methods used by {@link #coerce(Object, Class)}.
+     */
+    private static final class MethodKey {
+        private final Class<?> sourceType;
+        private final String name;
+        private final Class<?> targetType;
+        private final Class<?> valueType;
+
+        private MethodKey(Class<?> sourceType, String name, Class<?> targetType, Class<?> valueType) {
+            this.sourceType = sourceType;
+            this.name = name;
+            this.targetType = targetType;
+            this.valueType = valueType;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof MethodKey)) {
+                return false;
+            }
+
+            MethodKey key = (MethodKey)object;
+            return sourceType == key.sourceType
+                && name.equals(key.name)
+                && targetType == key.targetType
+                && valueType == key.valueType;
+        }
+
+        @Override
+        public int hashCode() {
+            int hashCode = System.identityHashCode(sourceType);
+            hashCode = 31 * hashCode + name.hashCode();
+            hashCode = 31 * hashCode + System.identityHashCode(targetType);
+            return 31 * hashCode + System.identityHashCode(valueType);
+        }
+    }
+
+    private static final Map<Class<?>, MethodCache> globalMethodCache =
+        new ConcurrentHashMap<>();
+
+    private static final Map<MethodKey, MethodInvoker> staticMethodCache =
+        new ConcurrentHashMap<>();
 
     private final MethodCache localCache;
 
@@ -108,47 +284,49 @@ public class BeanAdapter extends AbstractMap<String, Object> {
         if (type == Object.class) {
             return null;
         }
-        MethodCache classMethodCache;
-        synchronized (globalMethodCache) {
-            if ((classMethodCache = globalMethodCache.get(type)) != null) {
-                return classMethodCache;
-            }
-            Map<String, List<Method>> classMethods = new HashMap<>();
-
-            ReflectUtil.checkPackageAccess(type);
-            if (Modifier.isPublic(type.getModifiers())) {
-                // only interested in public methods in public classes in
-                // non-restricted packages
-                @SuppressWarnings("removal")
-                final Method[] declaredMethods =
-                        AccessController.doPrivileged(
-                                new PrivilegedAction<Method[]>() {
-                                    @Override
-                                    public Method[] run() {
-                                        return type.getDeclaredMethods();
-                                    }
-                                });
-                for (int i = 0; i < declaredMethods.length; i++) {
-                    Method method = declaredMethods[i];
-                    int modifiers = method.getModifiers();
-
-                    if (Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers)) {
-                        String name = method.getName();
-                        List<Method> namedMethods = classMethods.get(name);
-
-                        if (namedMethods == null) {
-                            namedMethods = new ArrayList<>();
-                            classMethods.put(name, namedMethods);
-                        }
+        MethodCache classMethodCache = globalMethodCache.get(type);
+        if (classMethodCache != null) {
+            return classMethodCache;
+        }
 
-                        namedMethods.add(method);
+        Map<String, List<MethodInvoker>> classMethods = new HashMap<>();
+
+        ReflectUtil.checkPackageAccess(type);
+        if (Modifier.isPublic(type.getModifiers())) {
+            // only interested in public methods in public classes in
+            // non-restricted packages
+            @SuppressWarnings("removal")
+            final Method[] declaredMethods =
+                    AccessController.doPrivileged(
+                            new PrivilegedAction<Method[]>() {
+                                @Override
+                                public Method[] run() {
+                                    return type.getDeclaredMethods();
+                                }
+                            });
+            for (int i = 0; i < declaredMethods.length; i++) {
+                Method method = declaredMethods[i];
+                int modifiers = method.getModifiers();
+
+                if (Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers)) {
+                    String name = method.getName();
+                    List<MethodInvoker> namedMethods = classMethods.get(name);
+
+                    if (namedMethods == null) {
+                        namedMethods = new ArrayList<>();
+                        classMethods.put(name, namedMethods);
                     }
+
+                    namedMethods.add(new MethodInvoker(method));
                 }
             }
-            MethodCache cache = new MethodCache(classMethods, getClassMethodCache(type.getSuperclass()));
-            globalMethodCache.put(type, cache);
-            return cache;
         }
+
+        // The cache of a class is immutable once created, so a cache created
+        // concurrently by another thread can be used instead of this one
+        MethodCache cache = new MethodCache(classMethods, getClassMethodCache(type.getSuperclass()));
+        classMethodCache = globalMethodCache.putIfAbsent(type, cache);
+        return (classMethodCache != null) ? classMethodCache : cache;
     }
 
     /**
@@ -161,24 +339,18 @@ public class BeanAdapter extends AbstractMap<String, Object> {
         return bean;
     }
 
-    private Method getGetterMethod(String key) {
-        Method getterMethod = localCache.getMethod(getMethodName(GET_PREFIX, key));
-
-        if (getterMethod == null) {
-            getterMethod = localCache.getMethod(getMethodName(IS_PREFIX, key));
-        }
-
-        return getterMethod;
+    private MethodInvoker getGetterMethod(String key) {
+        return localCache.getProperty(key).getter;
     }
 
-    private Method getSetterMethod(String key) {
-        Class<?> type = getType(key);
+    private MethodInvoker getSetterMethod(String key) {
+        PropertyAccessors property = localCache.getProperty(key);
 
-        if (type == null) {
+        if (property.getter == null) {
             throw new UnsupportedOperationException("Cannot determine type for property.");
         }
 
-        return localCache.getMethod(getMethodName(SET_PREFIX, key), type);
+        return property.setter;
     }
 
     private static String getMethodName(String prefix, String key) {
@@ -205,12 +377,12 @@ public class BeanAdapter extends AbstractMap<String, Object> {
     }
 
     private Object get(String key) {
-        Method getterMethod = key.endsWith(PROPERTY_SUFFIX) ? localCache.getMethod(key) : getGetterMethod(key);
+        MethodInvoker getterMethod = key.endsWith(PROPERTY_SUFFIX) ? localCache.getMethod(key) : getGetterMethod(key);
 
         Object value;
         if (getterMethod != null) {
             try {
-                value = ModuleHelper.invoke(getterMethod, bean, (Object[]) null);
+                value = getterMethod.invoke(bean, (Object[]) null);
             } catch (IllegalAccessException exception) {
                 throw new RuntimeException(exception);
             } catch (InvocationTargetException exception) {
@@ -248,7 +420,7 @@ public class BeanAdapter extends AbstractMap<String, Object> {
             throw new NullPointerException();
         }
 
-        Method setterMethod = getSetterMethod(key);
+        MethodInvoker setterMethod = getSetterMethod(key);
 
         if (setterMethod == null) {
             throw new PropertyNotFoundException("Property \"" + key + "\" does not exist"
@@ -256,7 +428,7 @@ public class BeanAdapter extends AbstractMap<String, Object> {
         }
 
         try {
-            ModuleHelper.invoke(setterMethod, bean, new Object[] { coerce(value, getType(key)) });
+            setterMethod.invoke(bean, coerce(value, setterMethod.parameterTypes[0]));
         } catch (IllegalAccessException exception) {
             throw new RuntimeException(exception);
         } catch (InvocationTargetException exception) {
@@ -335,9 +507,9 @@ public class BeanAdapter extends AbstractMap<String, Object> {
             throw new NullPointerException();
         }
 
-        Method getterMethod = getGetterMethod(key);
+        MethodInvoker getterMethod = getGetterMethod(key);
 
-        return (getterMethod == null) ? null : getterMethod.getReturnType();
+        return (getterMethod == null) ? null : getterMethod.method.getReturnType();
     }
 
     /**
@@ -351,9 +523,9 @@ public class BeanAdapter extends AbstractMap<String, Object> {
             throw new NullPointerException();
         }
 
-        Method getterMethod = getGetterMethod(key);
+        MethodInvoker getterMethod = getGetterMethod(key);
 
-        return (getterMethod == null) ? null : getterMethod.getGenericReturnType();
+        return (getterMethod == null) ? null : getterMethod.method.getGenericReturnType();
     }
 
     @Override
@@ -476,22 +648,8 @@ public class BeanAdapter extends AbstractMap<String, Object> {
                 throw new IllegalArgumentException(exception);
             }
         } else {
-            Class<?> valueType = value.getClass();
-            Method valueOfMethod = null;
-
-            while (valueOfMethod == null
-                && valueType != null) {
-                try {
-                    ReflectUtil.checkPackageAccess(type);
-                    valueOfMethod = type.getDeclaredMethod(VALUE_OF_METHOD_NAME, valueType);
-                } catch (NoSuchMethodException exception) {
-                    // No-op
-                }
-
-                if (valueOfMethod == null) {
-                    valueType = valueType.getSuperclass();
-                }
-            }
+            ReflectUtil.checkPackageAccess(type);
+            MethodInvoker valueOfMethod = getValueOfMethod(type, value.getClass());
 
             if (valueOfMethod == null) {
                 throw new IllegalArgumentException("Unable to coerce " + value + " to " + type + ".");
@@ -504,7 +662,7 @@ public class BeanAdapter extends AbstractMap<String, Object> {
             }
 
             try {
-                coercedValue = ModuleHelper.invoke(valueOfMethod, null, new Object[] { value });
+                coercedValue = valueOfMethod.invoke(null, value);
             } catch (IllegalAccessException exception) {
                 throw new RuntimeException(exception);
             } catch (InvocationTargetException exception) {
@@ -538,11 +696,11 @@ public class BeanAdapter extends AbstractMap<String, Object> {
         T value = null;
 
         Class<?> targetType = target.getClass();
-        Method getterMethod = getStaticGetterMethod(sourceType, key, targetType);
+        MethodInvoker getterMethod = getStaticGetter(sourceType, key, targetType);
 
         if (getterMethod != null) {
             try {
-                value = (T) ModuleHelper.invoke(getterMethod, null, new Object[] { target } );
+                value = (T) getterMethod.invoke(null, target);
             } catch (InvocationTargetException exception) {
                 throw new RuntimeException(exception);
             } catch (IllegalAccessException exception) {
@@ -578,9 +736,9 @@ public class BeanAdapter extends AbstractMap<String, Object> {
     public static void put(Object target, Class<?> sourceType, String key, Object value) {
         Class<?> targetType = target.getClass();
 
-        Method setterMethod = null;
+        MethodInvoker setterMethod = null;
         if (value != null) {
-            setterMethod = getStaticSetterMethod(sourceType, key, value.getClass(), targetType);
+            setterMethod = getStaticSetter(sourceType, key, value.getClass(), targetType);
         }
 
         if (setterMethod == null) {
@@ -588,7 +746,7 @@ public class BeanAdapter extends AbstractMap<String, Object> {
             Class<?> propertyType = getType(sourceType, key, targetType);
 
             if (propertyType != null) {
-                setterMethod = getStaticSetterMethod(sourceType, key, propertyType, targetType);
+                setterMethod = getStaticSetter(sourceType, key, propertyType, targetType);
                 value = coerce(value, propertyType);
             }
         }
@@ -600,7 +758,7 @@ public class BeanAdapter extends AbstractMap<String, Object> {
 
         // Invoke the setter
         try {
-            ModuleHelper.invoke(setterMethod, null, new Object[] { target, value });
+            setterMethod.invoke(null, target, value);
         } catch (InvocationTargetException exception) {
             throw new RuntimeException(exception);
         } catch (IllegalAccessException exception) {
@@ -624,7 +782,7 @@ public class BeanAdapter extends AbstractMap<String, Object> {
      * <tt>true</tt> if the property exists; <tt>false</tt>, otherwise.
      */
     public static boolean isDefined(Class<?> sourceType, String key, Class<?> targetType) {
-        return (getStaticGetterMethod(sourceType, key, targetType) != null);
+        return (getStaticGetter(sourceType, key, targetType) != null);
     }
 
     /**
@@ -640,8 +798,8 @@ public class BeanAdapter extends AbstractMap<String, Object> {
      * The type of the object to which the property applies.
      */
     public static Class<?> getType(Class<?> sourceType, String key, Class<?> targetType) {
-        Method getterMethod = getStaticGetterMethod(sourceType, key, targetType);
-        return (getterMethod == null) ? null : getterMethod.getReturnType();
+        MethodInvoker getterMethod = getStaticGetter(sourceType, key, targetType);
+        return (getterMethod == null) ? null : getterMethod.method.getReturnType();
     }
 
     /**
@@ -657,8 +815,8 @@ public class BeanAdapter extends AbstractMap<String, Object> {
      * The type of the object to which the property applies.
      */
     public static Type getGenericType(Class<?> sourceType, String key, Class<?> targetType) {
-        Method getterMethod = getStaticGetterMethod(sourceType, key, targetType);
-        return (getterMethod == null) ? null : getterMethod.getGenericReturnType();
+        MethodInvoker getterMethod = getStaticGetter(sourceType, key, targetType);
+        return (getterMethod == null) ? null : getterMethod.method.getGenericReturnType();
     }
 
     /**
@@ -836,6 +994,74 @@ public class BeanAdapter extends AbstractMap<String, Object> {
         return value;
     }
 
+    private static MethodInvoker getStaticGetter(Class<?> sourceType, String key, Class<?> targetType) {
+        if (sourceType == null || key == null) {
+            throw new NullPointerException();
+        }
+
+        MethodKey methodKey = new MethodKey(sourceType, GET_PREFIX + key, targetType, null);
+        MethodInvoker method = staticMethodCache.get(methodKey);
+        if (method == null) {
+            Method getterMethod = getStaticGetterMethod(sourceType, key, targetType);
+            method = (getterMethod == null) ? NO_METHOD : new MethodInvoker(getterMethod);
+            MethodInvoker previous = staticMethodCache.putIfAbsent(methodKey, method);
+            if (previous != null) {
+                method = previous;
+            }
+        }
+
+        return (method == NO_METHOD) ? null : method;
+    }
+
+    private static MethodInvoker getStaticSetter(Class<?> sourceType, String key,
+        Class<?> valueType, Class<?> targetType) {
+        if (sourceType == null || key == null || valueType == null) {
+            throw new NullPointerException();
+        }
+
+        MethodKey methodKey = new MethodKey(sourceType, SET_PREFIX + key, targetType, valueType);
+        MethodInvoker method = staticMethodCache.get(methodKey);
+        if (method == null) {
+            Method setterMethod = getStaticSetterMethod(sourceType, key, valueType, targetType);
+            method = (setterMethod == null) ? NO_METHOD : new MethodInvoker(setterMethod);
+            MethodInvoker previous = staticMethodCache.putIfAbsent(methodKey, method);
+            if (previous != null) {
+                method = previous;
+            }
+        }
+
+        return (method == NO_METHOD) ? null : method;
+    }
+
+    private static MethodInvoker getValueOfMethod(Class<?> type, Class<?> valueType) {
+        MethodKey methodKey = new MethodKey(type, VALUE_OF_METHOD_NAME, null, valueType);
+        MethodInvoker method = staticMethodCache.get(methodKey);
+        if (method == null) {
+            Method valueOfMethod = null;
+
+            while (valueOfMethod == null
+                && valueType != null) {
+                try {
+                    valueOfMethod = type.getDeclaredMethod(VALUE_OF_METHOD_NAME, valueType);
+                } catch (NoSuchMethodException exception) {
+                    // No-op
+                }
+
+                if (valueOfMethod == null) {
+                    valueType = valueType.getSuperclass();
+                }
+            }
+
+            method = (valueOfMethod == null) ? NO_METHOD : new MethodInvoker(valueOfMethod);
+            MethodInvoker previous = staticMethodCache.putIfAbsent(methodKey, method);
+            if (previous != null) {
+                method = previous;
+            }
+        }
+
+        return (method == NO_METHOD) ? null : method;
+    }
+
     private static Method getStaticGetterMethod(Class<?> sourceType, String key,
         Class<?> targetType) {
         if (sourceType == null) {
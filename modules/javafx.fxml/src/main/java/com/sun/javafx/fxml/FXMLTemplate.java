@@ -0,0 +1,662 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.fxml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * The parsed form of an FXML document: the XML events {@code FXMLLoader}
+ * processes, recorded once and replayed by each load of the document.
+ * Templates are immutable, so a template can be replayed by several loaders
+ * at the same time, on any thread.
+ */
+public final class FXMLTemplate {
+
+    /**
+     * The namespace declarations in scope at an element.
+     */
+    private static final class NamespaceScope implements NamespaceContext {
+        private final NamespaceScope parent;
+        private final Map<String, String> namespaces;
+
+        private NamespaceScope(NamespaceScope parent, Map<String, String> namespaces) {
+            this.parent = parent;
+            this.namespaces = namespaces;
+        }
+
+        @Override
+        public String getNamespaceURI(String prefix) {
+            if (prefix == null) {
+                throw new IllegalArgumentException();
+            }
+
+            if (prefix.equals(XMLConstants.XML_NS_PREFIX)) {
+                return XMLConstants.XML_NS_URI;
+            } else if (prefix.equals(XMLConstants.XMLNS_ATTRIBUTE)) {
+                return XMLConstants.XMLNS_ATTRIBUTE_NS_URI;
+            }
+
+            for (NamespaceScope scope = this; scope != null; scope = scope.parent) {
+                String namespaceURI = scope.namespaces.get(prefix);
+                if (namespaceURI != null) {
+                    return namespaceURI.isEmpty() ? null : namespaceURI;
+                }
+            }
+
+            return null;
+        }
+
+        @Override
+        public String getPrefix(String namespaceURI) {
+            Iterator<String> prefixes = getPrefixes(namespaceURI);
+            return prefixes.hasNext() ? prefixes.next() : null;
+        }
+
+        @Override
+        public Iterator<String> getPrefixes(String namespaceURI) {
+            if (namespaceURI == null) {
+                throw new IllegalArgumentException();
+            }
+
+            List<String> prefixes = new ArrayList<>();
+            for (NamespaceScope scope = this; scope != null; scope = scope.parent) {
+                for (Map.Entry<String, String> namespace : scope.namespaces.entrySet()) {
+                    String prefix = namespace.getKey();
+                    if (namespace.getValue().equals(namespaceURI) && !prefixes.contains(prefix)
+                            && namespaceURI.equals(getNamespaceURI(prefix))) {
+                        prefixes.add(prefix);
+                    }
+                }
+            }
+
+            return Collections.unmodifiableList(prefixes).iterator();
+        }
+    }
+
+    private static final NamespaceScope EMPTY_SCOPE = new NamespaceScope(null, Map.of());
+
+    /**
+     * A recorded XML event.
+     */
+    private static final class Event {
+        private final int type;
+        private final int lineNumber;
+        private final NamespaceScope scope;
+        private final boolean declaresNamespaces;
+
+        // the prefix and local name of an element, or the target of a
+        // processing instruction
+        private final String prefix;
+        private final String localName;
+
+        // the text of characters and comments, or the data of a processing
+        // instruction
+        private final String text;
+        private final boolean whiteSpace;
+
+        // the prefix, local name and value of each attribute
+        private final String[] attributes;
+
+        private Event(int type, int lineNumber, NamespaceScope scope, boolean declaresNamespaces,
+                String prefix, String localName, String text, boolean whiteSpace, String[] attributes) {
+            this.type = type;
+            this.lineNumber = lineNumber;
+            this.scope = scope;
+            this.declaresNamespaces = declaresNamespaces;
+            this.prefix = prefix;
+            this.localName = localName;
+            this.text = text;
+            this.whiteSpace = whiteSpace;
+            this.attributes = attributes;
+        }
+    }
+
+    private static final String[] NO_ATTRIBUTES = {};
+
+    private static final Map<String, FXMLTemplate> templates = new ConcurrentHashMap<>();
+
+    private final Event[] events;
+
+    private FXMLTemplate(Event[] events) {
+        this.events = events;
+    }
+
+    /**
+     * Returns the template of the document at the given location, parsing
+     * the document if it is not in the template cache yet.
+     *
+     * @param location the location of the document
+     * @param charset the character set of the document
+     * @return the template of the document
+     * @throws IOException if the document cannot be read
+     * @throws XMLStreamException if the document is not well-formed
+     */
+    public static FXMLTemplate getTemplate(URL location, Charset charset) throws IOException, XMLStreamException {
+        String key = charset.name() + " " + location.toExternalForm();
+
+        FXMLTemplate template = templates.get(key);
+        if (template == null) {
+            try (InputStream inputStream = location.openStream()) {
+                template = read(inputStream, charset);
+            }
+
+            // A template parsed concurrently by another thread is identical
+            // to this one
+            FXMLTemplate previous = templates.putIfAbsent(key, template);
+            if (previous != null) {
+                template = previous;
+            }
+        }
+
+        return template;
+    }
+
+    /**
+     * Removes all templates from the template cache.
+     */
+    public static void clearTemplates() {
+        templates.clear();
+    }
+
+    private static FXMLTemplate read(InputStream inputStream, Charset charset) throws XMLStreamException {
+        XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+        xmlInputFactory.setProperty("javax.xml.stream.isCoalescing", true);
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(new InputStreamReader(inputStream, charset));
+
+        List<Event> events = new ArrayList<>();
+        List<NamespaceScope> scopes = new ArrayList<>();
+        NamespaceScope scope = EMPTY_SCOPE;
+
+        try {
+            while (reader.hasNext()) {
+                int type = reader.next();
+                int lineNumber = reader.getLocation().getLineNumber();
+
+                switch (type) {
+                    case XMLStreamConstants.PROCESSING_INSTRUCTION: {
+                        events.add(new Event(type, lineNumber, scope, false, null, reader.getPITarget(),
+                            reader.getPIData(), false, NO_ATTRIBUTES));
+                        break;
+                    }
+
+                    case XMLStreamConstants.COMMENT: {
+                        events.add(new Event(type, lineNumber, scope, false, null, null, reader.getText(), false,
+                            NO_ATTRIBUTES));
+                        break;
+                    }
+
+                    case XMLStreamConstants.START_ELEMENT: {
+                        int namespaceCount = reader.getNamespaceCount();
+                        scopes.add(scope);
+                        if (namespaceCount > 0) {
+                            Map<String, String> namespaces = new HashMap<>();
+                            for (int i = 0; i < namespaceCount; i++) {
+                                String prefix = reader.getNamespacePrefix(i);
+                                String namespaceURI = reader.getNamespaceURI(i);
+                                namespaces.put(prefix == null ? XMLConstants.DEFAULT_NS_PREFIX : prefix,
+                                    namespaceURI == null ? "" : namespaceURI);
+                            }
+                            scope = new NamespaceScope(scope, namespaces);
+                        }
+
+                        int attributeCount = reader.getAttributeCount();
+                        String[] attributes = (attributeCount == 0) ? NO_ATTRIBUTES : new String[attributeCount * 3];
+                        for (int i = 0; i < attributeCount; i++) {
+                            attributes[i * 3] = normalizePrefix(reader.getAttributePrefix(i));
+                            attributes[i * 3 + 1] = reader.getAttributeLocalName(i);
+                            attributes[i * 3 + 2] = reader.getAttributeValue(i);
+                        }
+
+                        events.add(new Event(type, lineNumber, scope, namespaceCount > 0,
+                            normalizePrefix(reader.getPrefix()), reader.getLocalName(), null, false, attributes));
+                        break;
+                    }
+
+                    case XMLStreamConstants.END_ELEMENT: {
+                        NamespaceScope parentScope = scopes.remove(scopes.size() - 1);
+                        events.add(new Event(type, lineNumber, scope, parentScope != scope,
+                            normalizePrefix(reader.getPrefix()), reader.getLocalName(), null, false, NO_ATTRIBUTES));
+                        scope = parentScope;
+                        break;
+                    }
+
+                    case XMLStreamConstants.CHARACTERS: {
+                        events.add(new Event(type, lineNumber, scope, false, null, null, reader.getText(),
+                            reader.isWhiteSpace(), NO_ATTRIBUTES));
+                        break;
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+
+        return new FXMLTemplate(events.toArray(new Event[0]));
+    }
+
+    // Some stream readers incorrectly report an empty string as the prefix
+    // for the default namespace; correct this as needed
+    private static String normalizePrefix(String prefix) {
+        return (prefix != null && prefix.length() == 0) ? null : prefix;
+    }
+
+    /**
+     * Creates a stream reader that replays the events of the document.
+     *
+     * @return a new stream reader
+     */
+    public XMLStreamReader createStreamReader() {
+        return new TemplateStreamReader(events);
+    }
+
+    /**
+     * Replays recorded events. Only the events FXMLLoader processes are
+     * recorded: processing instructions, comments, elements and characters.
+     */
+    private static final class TemplateStreamReader implements XMLStreamReader, Location {
+        private final Event[] events;
+        private int index = -1;
+
+        private TemplateStreamReader(Event[] events) {
+            this.events = events;
+        }
+
+        private Event current() {
+            if (index < 0 || index >= events.length) {
+                throw new IllegalStateException();
+            }
+            return events[index];
+        }
+
+        private Event currentElement() {
+            Event event = current();
+            if (event.type != START_ELEMENT && event.type != END_ELEMENT) {
+                throw new IllegalStateException();
+            }
+            return event;
+        }
+
+        private Event currentStartElement() {
+            Event event = current();
+            if (event.type != START_ELEMENT) {
+                throw new IllegalStateException();
+            }
+            return event;
+        }
+
+        @Override
+        public Object getProperty(String name) {
+            if (name == null) {
+                throw new IllegalArgumentException();
+            }
+            return null;
+        }
+
+        @Override
+        public int next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return events[++index].type;
+        }
+
+        @Override
+        public void require(int type, String namespaceURI, String localName) throws XMLStreamException {
+            if (type != getEventType()
+                    || (namespaceURI != null && !namespaceURI.equals(getNamespaceURI()))
+                    || (localName != null && !localName.equals(getLocalName()))) {
+                throw new XMLStreamException("Required event not found.", this);
+            }
+        }
+
+        @Override
+        public String getElementText() throws XMLStreamException {
+            if (getEventType() != START_ELEMENT) {
+                throw new XMLStreamException("Not at a start element.", this);
+            }
+
+            StringBuilder text = new StringBuilder();
+            while (next() != END_ELEMENT) {
+                int type = getEventType();
+                if (type == CHARACTERS) {
+                    text.append(getText());
+                } else if (type == START_ELEMENT) {
+                    throw new XMLStreamException("Element text contains an element.", this);
+                }
+            }
+            return text.toString();
+        }
+
+        @Override
+        public int nextTag() throws XMLStreamException {
+            int type = next();
+            while ((type == CHARACTERS && isWhiteSpace())
+                    || type == COMMENT || type == PROCESSING_INSTRUCTION) {
+                type = next();
+            }
+            if (type != START_ELEMENT && type != END_ELEMENT) {
+                throw new XMLStreamException("Expected a tag.", this);
+            }
+            return type;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index + 1 < events.length;
+        }
+
+        @Override
+        public void close() {
+            // No-op
+        }
+
+        @Override
+        public String getNamespaceURI(String prefix) {
+            return getNamespaceContext().getNamespaceURI(prefix);
+        }
+
+        @Override
+        public boolean isStartElement() {
+            return getEventType() == START_ELEMENT;
+        }
+
+        @Override
+        public boolean isEndElement() {
+            return getEventType() == END_ELEMENT;
+        }
+
+        @Override
+        public boolean isCharacters() {
+            return getEventType() == CHARACTERS;
+        }
+
+        @Override
+        public boolean isWhiteSpace() {
+            Event event = current();
+            return event.type == CHARACTERS && event.whiteSpace;
+        }
+
+        @Override
+        public String getAttributeValue(String namespaceURI, String localName) {
+            Event event = currentStartElement();
+            for (int i = 0, n = getAttributeCount(); i < n; i++) {
+                if (event.attributes[i * 3 + 1].equals(localName)
+                        && (namespaceURI == null || namespaceURI.equals(getAttributeNamespace(i)))) {
+                    return event.attributes[i * 3 + 2];
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public int getAttributeCount() {
+            return currentStartElement().attributes.length / 3;
+        }
+
+        @Override
+        public QName getAttributeName(int index) {
+            String prefix = getAttributePrefix(index);
+            String namespaceURI = getAttributeNamespace(index);
+            return new QName(namespaceURI == null ? XMLConstants.NULL_NS_URI : namespaceURI,
+                getAttributeLocalName(index), prefix == null ? XMLConstants.DEFAULT_NS_PREFIX : prefix);
+        }
+
+        @Override
+        public String getAttributeNamespace(int index) {
+            String prefix = getAttributePrefix(index);
+            return (prefix == null) ? null : current().scope.getNamespaceURI(prefix);
+        }
+
+        @Override
+        public String getAttributeLocalName(int index) {
+            return currentStartElement().attributes[index * 3 + 1];
+        }
+
+        @Override
+        public String getAttributePrefix(int index) {
+            return currentStartElement().attributes[index * 3];
+        }
+
+        @Override
+        public String getAttributeType(int index) {
+            getAttributeLocalName(index);
+            return "CDATA";
+        }
+
+        @Override
+        public String getAttributeValue(int index) {
+            return currentStartElement().attributes[index * 3 + 2];
+        }
+
+        @Override
+        public boolean isAttributeSpecified(int index) {
+            getAttributeLocalName(index);
+            return true;
+        }
+
+        @Override
+        public int getNamespaceCount() {
+            Event event = currentElement();
+            return event.declaresNamespaces ? event.scope.namespaces.size() : 0;
+        }
+
+        @Override
+        public String getNamespacePrefix(int index) {
+            String prefix = getNamespaceEntry(index).getKey();
+            return prefix.isEmpty() ? null : prefix;
+        }
+
+        @Override
+        public String getNamespaceURI(int index) {
+            return getNamespaceEntry(index).getValue();
+        }
+
+        private Map.Entry<String, String> getNamespaceEntry(int index) {
+            if (index < 0 || index >= getNamespaceCount()) {
+                throw new IndexOutOfBoundsException();
+            }
+            Iterator<Map.Entry<String, String>> entries = current().scope.namespaces.entrySet().iterator();
+            for (int i = 0; i < index; i++) {
+                entries.next();
+            }
+            return entries.next();
+        }
+
+        @Override
+        public NamespaceContext getNamespaceContext() {
+            return (index < 0) ? EMPTY_SCOPE : current().scope;
+        }
+
+        @Override
+        public int getEventType() {
+            return (index < 0) ? START_DOCUMENT : current().type;
+        }
+
+        @Override
+        public String getText() {
+            Event event = current();
+            if (event.type != CHARACTERS && event.type != COMMENT) {
+                throw new IllegalStateException();
+            }
+            return event.text;
+        }
+
+        @Override
+        public char[] getTextCharacters() {
+            return getText().toCharArray();
+        }
+
+        @Override
+        public int getTextCharacters(int sourceStart, char[] target, int targetStart, int length) {
+            String text = getText();
+            int count = Math.min(length, text.length() - sourceStart);
+            text.getChars(sourceStart, sourceStart + count, target, targetStart);
+            return count;
+        }
+
+        @Override
+        public int getTextStart() {
+            getText();
+            return 0;
+        }
+
+        @Override
+        public int getTextLength() {
+            return getText().length();
+        }
+
+        @Override
+        public String getEncoding() {
+            return null;
+        }
+
+        @Override
+        public boolean hasText() {
+            int type = getEventType();
+            return type == CHARACTERS || type == COMMENT;
+        }
+
+        @Override
+        public Location getLocation() {
+            return this;
+        }
+
+        @Override
+        public QName getName() {
+            Event event = currentElement();
+            String namespaceURI = getNamespaceURI();
+            return new QName(namespaceURI == null ? XMLConstants.NULL_NS_URI : namespaceURI, event.localName,
+                event.prefix == null ? XMLConstants.DEFAULT_NS_PREFIX : event.prefix);
+        }
+
+        @Override
+        public String getLocalName() {
+            return currentElement().localName;
+        }
+
+        @Override
+        public boolean hasName() {
+            int type = getEventType();
+            return type == START_ELEMENT || type == END_ELEMENT;
+        }
+
+        @Override
+        public String getNamespaceURI() {
+            Event event = currentElement();
+            return event.scope.getNamespaceURI(event.prefix == null ? XMLConstants.DEFAULT_NS_PREFIX : event.prefix);
+        }
+
+        @Override
+        public String getPrefix() {
+            return currentElement().prefix;
+        }
+
+        @Override
+        public String getVersion() {
+            return null;
+        }
+
+        @Override
+        public boolean isStandalone() {
+            return false;
+        }
+
+        @Override
+        public boolean standaloneSet() {
+            return false;
+        }
+
+        @Override
+        public String getCharacterEncodingScheme() {
+            return null;
+        }
+
+        @Override
+        public String getPITarget() {
+            Event event = current();
+            if (event.type != PROCESSING_INSTRUCTION) {
+                throw new IllegalStateException();
+            }
+            return event.localName;
+        }
+
+        @Override
+        public String getPIData() {
+            Event event = current();
+            if (event.type != PROCESSING_INSTRUCTION) {
+                throw new IllegalStateException();
+            }
+            return event.text;
+        }
+
+        // Location
+
+        @Override
+        public int getLineNumber() {
+            return (index < 0) ? 1 : events[Math.min(index, events.length - 1)].lineNumber;
+        }
+
+        @Override
+        public int getColumnNumber() {
+            return -1;
+        }
+
+        @Override
+        public int getCharacterOffset() {
+            return -1;
+        }
+
+        @Override
+        public String getPublicId() {
+            return null;
+        }
+
+        @Override
+        public String getSystemId() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.fxml.compiler;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import javafx.event.Event;
+import javafx.fxml.FXML;
+import com.sun.javafx.fxml.BeanAdapter;
+
+/**
+ * Looks up the methods and fields {@code BeanAdapter} and
+ * {@code FXMLLoader} use at load time, so that the compiler can call them
+ * directly.
+ */
+final class BeanModel {
+
+    private BeanModel() {}
+
+    /**
+     * Returns the public instance method with the given signature that
+     * {@code BeanAdapter} finds for the type: methods are only looked up in
+     * public classes, starting with the type itself.
+     */
+    static Method getMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            if (!Modifier.isPublic(c.getModifiers())) {
+                continue;
+            }
+            for (Method method : c.getDeclaredMethods()) {
+                int modifiers = method.getModifiers();
+                if (Modifier.isPublic(modifiers) && !Modifier.isStatic(modifiers)
+                        && method.getName().equals(name)
+                        && Arrays.equals(method.getParameterTypes(), parameterTypes)) {
+                    return method;
+                }
+            }
+        }
+        return null;
+    }
+
+    static Method getGetter(Class<?> type, String key) {
+        Method getter = getMethod(type, getMethodName(BeanAdapter.GET_PREFIX, key));
+        if (getter == null) {
+            getter = getMethod(type, getMethodName(BeanAdapter.IS_PREFIX, key));
+        }
+        return getter;
+    }
+
+    static Method getSetter(Class<?> type, String key) {
+        Method getter = getGetter(type, key);
+        return (getter == null) ? null
+                : getMethod(type, getMethodName(BeanAdapter.SET_PREFIX, key), getter.getReturnType());
+    }
+
+    static Method getPropertyModel(Class<?> type, String key) {
+        return getMethod(type, key + BeanAdapter.PROPERTY_SUFFIX);
+    }
+
+    /**
+     * Returns the static getter {@code BeanAdapter} finds for a static
+     * property of an object of the given type.
+     */
+    static Method getStaticGetter(Class<?> sourceType, String key, Class<?> targetType) {
+        String suffix = Character.toUpperCase(key.charAt(0)) + key.substring(1);
+        for (Class<?> c = targetType; c != null; c = c.getSuperclass()) {
+            Method method = getPublicMethod(sourceType, BeanAdapter.GET_PREFIX + suffix, c);
+            if (method == null) {
+                method = getPublicMethod(sourceType, BeanAdapter.IS_PREFIX + suffix, c);
+            }
+            for (Class<?> i : c.getInterfaces()) {
+                if (method != null) {
+                    break;
+                }
+                method = getPublicMethod(sourceType, BeanAdapter.GET_PREFIX + suffix, i);
+                if (method == null) {
+                    method = getPublicMethod(sourceType, BeanAdapter.IS_PREFIX + suffix, i);
+                }
+            }
+            if (method != null) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the static setter {@code BeanAdapter} finds for a static
+     * property of an object of the given type and a value of the given type.
+     */
+    static Method getStaticSetter(Class<?> sourceType, String key, Class<?> valueType, Class<?> targetType) {
+        String name = BeanAdapter.SET_PREFIX + Character.toUpperCase(key.charAt(0)) + key.substring(1);
+        for (Class<?> c = targetType; c != null; c = c.getSuperclass()) {
+            Method method = getPublicMethod(sourceType, name, c, valueType);
+            for (Class<?> i : c.getInterfaces()) {
+                if (method != null) {
+                    break;
+                }
+                method = getPublicMethod(sourceType, name, i, valueType);
+            }
+            if (method != null) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static Method getPublicMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            return type.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException exception) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the raw item type of a list type, or {@code Object} if it
+     * cannot be determined.
+     */
+    static Class<?> getListItemType(Type listType) {
+        Type itemType = BeanAdapter.getGenericListItemType(listType);
+        if (itemType instanceof ParameterizedType) {
+            itemType = ((ParameterizedType) itemType).getRawType();
+        }
+        return (itemType instanceof Class<?>) ? (Class<?>) itemType : Object.class;
+    }
+
+    private static String getMethodName(String prefix, String key) {
+        return prefix + Character.toUpperCase(key.charAt(0)) + key.substring(1);
+    }
+
+    /**
+     * Returns the controller fields {@code FXMLLoader} injects, by name.
+     */
+    static Map<String, List<Field>> getControllerFields(Class<?> type) {
+        Map<String, List<Field>> fields = new HashMap<>();
+        for (Class<?> c : getControllerHierarchy(type)) {
+            boolean publicType = Modifier.isPublic(c.getModifiers());
+            for (Field field : c.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if ((modifiers & (Modifier.STATIC | Modifier.FINAL)) != 0) {
+                    continue;
+                }
+                if ((!publicType || !Modifier.isPublic(modifiers)) && field.getAnnotation(FXML.class) == null) {
+                    continue;
+                }
+                fields.computeIfAbsent(field.getName(), k -> new ArrayList<>(1)).add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Returns the controller methods {@code FXMLLoader} calls, by name:
+     * the first map has the methods that take an event, the second one the
+     * methods without parameters.
+     */
+    static List<Map<String, Method>> getControllerMethods(Class<?> type) {
+        Map<String, Method> eventMethods = new HashMap<>();
+        Map<String, Method> parameterlessMethods = new HashMap<>();
+        for (Class<?> c : getControllerHierarchy(type)) {
+            boolean publicType = Modifier.isPublic(c.getModifiers());
+            for (Method method : c.getDeclaredMethods()) {
+                int modifiers = method.getModifiers();
+                if ((modifiers & (Modifier.STATIC | Modifier.NATIVE)) != 0) {
+                    continue;
+                }
+                if ((!publicType || !Modifier.isPublic(modifiers)) && method.getAnnotation(FXML.class) == null) {
+                    continue;
+                }
+                Class<?>[] parameterTypes = method.getParameterTypes();
+                if (parameterTypes.length == 0) {
+                    parameterlessMethods.put(method.getName(), method);
+                } else if (parameterTypes.length == 1 && Event.class.isAssignableFrom(parameterTypes[0])) {
+                    eventMethods.put(method.getName(), method);
+                }
+            }
+        }
+        return List.of(eventMethods, parameterlessMethods);
+    }
+
+    // the controller class and its superclasses, superclasses first
+    private static List<Class<?>> getControllerHierarchy(Class<?> type) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+            hierarchy.add(0, c);
+        }
+        return hierarchy;
+    }
+
+    /**
+     * Returns the name of the enum constant {@code BeanAdapter} coerces the
+     * text to.
+     */
+    static String getEnumConstantName(String text) {
+        if (text.isEmpty() || !Character.isLowerCase(text.charAt(0))) {
+            return text;
+        }
+
+        StringBuilder allCapsBuilder = new StringBuilder();
+        for (int i = 0, n = text.length(); i < n; i++) {
+            char c = text.charAt(i);
+            if (Character.isUpperCase(c)) {
+                allCapsBuilder.append('_');
+            }
+            allCapsBuilder.append(Character.toUpperCase(c));
+        }
+        return allCapsBuilder.toString();
+    }
+}
@@ -0,0 +1,1775 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.fxml.compiler;
+
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javafx.beans.DefaultProperty;
+import javafx.beans.NamedArg;
+import javafx.beans.property.Property;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import javafx.collections.ObservableSet;
+import javafx.fxml.FXMLLoader;
+import javafx.fxml.Initializable;
+import javafx.fxml.LoadException;
+import javafx.scene.Scene;
+import javafx.scene.image.Image;
+import javafx.scene.shape.TriangleMesh;
+import javafx.scene.text.Font;
+import com.sun.javafx.beans.IDProperty;
+import com.sun.javafx.fxml.builder.JavaFXSceneBuilder;
+import com.sun.javafx.fxml.compiler.FXMLDocument.Attribute;
+import com.sun.javafx.fxml.compiler.FXMLDocument.Element;
+import com.sun.javafx.fxml.expression.Expression;
+
+/**
+ * Generates the source of the factory class of an FXML document.
+ *
+ * The generated code performs the steps {@code FXMLLoader} performs for each
+ * element, in the same order, but resolves types, properties, constants and
+ * controller members when the document is compiled. Only values that depend
+ * on the namespace, the resources or the location of the document are
+ * resolved at load time, with the helper methods of
+ * {@link javafx.fxml.FXMLFactory}.
+ */
+final class CodeGenerator {
+
+    // elements whose code is generated into one method; larger subtrees are
+    // split across methods to stay clear of the size limit of a method
+    private static final int MAX_ELEMENTS_PER_METHOD = 48;
+
+    private static final Pattern EXTRANEOUS_WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern PROPERTY_PATH = Pattern.compile(
+            "\\s*([\\p{javaJavaIdentifierStart}][\\p{javaJavaIdentifierPart}]*)"
+            + "\\.([\\p{javaJavaIdentifierStart}][\\p{javaJavaIdentifierPart}]*)\\s*");
+    private static final Pattern IDENTIFIER = Pattern.compile(
+            "[\\p{javaJavaIdentifierStart}][\\p{javaJavaIdentifierPart}]*");
+
+    private static final String WEBVIEW_NAME = "javafx.scene.web.WebView";
+
+    private static final String BUILD_METHOD_NAME = "build";
+    private static final String FIELD_PREFIX = "fx_";
+    private static final String CONTROLLER_FIELD = FIELD_PREFIX + "controller";
+    private static final String DIRECT_FIELD = FIELD_PREFIX + "direct";
+
+    private enum Kind {
+        // an object whose properties are set with its accessor methods
+        TYPED,
+        // a map whose entries are its properties
+        MAP,
+        // a builder created by JavaFXBuilderFactory
+        BUILDER
+    }
+
+    /**
+     * A value in the generated code: an expression and its static type. The
+     * value of a literal attribute is kept as text so that it can be coerced
+     * when the document is compiled.
+     */
+    private static final class Value {
+        final String code;
+        final Class<?> type;
+        final String text;
+
+        Value(String code, Class<?> type) {
+            this(code, type, null);
+        }
+
+        private Value(String code, Class<?> type, String text) {
+            this.code = code;
+            this.type = type;
+            this.text = text;
+        }
+
+        static Value literal(String text) {
+            return new Value(quote(text), String.class, text);
+        }
+
+        boolean isNull() {
+            return type == null;
+        }
+    }
+
+    private static final Value NULL = new Value("null", null);
+
+    /**
+     * The object the attributes and child elements of an element apply to.
+     */
+    private final class Target {
+        final Kind kind;
+        final String variable;
+        final Class<?> type;
+
+        // the item type of a read-only list property element
+        Class<?> listItemType;
+        boolean propertyElement;
+
+        // the builder of a BUILDER target, and its static property elements,
+        // which are applied once the value is built
+        Class<?> builderType;
+        final List<Object[]> staticPropertyElements = new ArrayList<>();
+
+        Target(Kind kind, String variable, Class<?> type) {
+            this.kind = kind;
+            this.variable = variable;
+            this.type = type;
+        }
+    }
+
+    /**
+     * The attributes of an element, sorted the way FXMLLoader sorts them.
+     */
+    private static final class Attributes {
+        String fxId;
+        final Map<String, String> special = new HashMap<>();
+        final List<Attribute> instanceProperties = new ArrayList<>();
+        final List<Attribute> eventHandlers = new ArrayList<>();
+        final List<Object[]> staticProperties = new ArrayList<>();
+    }
+
+    /**
+     * The body of a generated method.
+     */
+    private static final class Code {
+        final StringBuilder text = new StringBuilder();
+        String indent = "        ";
+
+        void line(String line) {
+            text.append(indent).append(line).append('\n');
+        }
+
+        void open(String line) {
+            line(line + " {");
+            indent += "    ";
+        }
+
+        void close() {
+            indent = indent.substring(4);
+            line("}");
+        }
+
+        void orElse() {
+            indent = indent.substring(4);
+            line("} else {");
+            indent += "    ";
+        }
+    }
+
+    private final FXMLCompiler compiler;
+    private final FXMLDocument document;
+    private final String packageName;
+    private final String className;
+    private final ClassLoader classLoader;
+
+    private final List<String> packages = new ArrayList<>();
+    private final Map<String, Class<?>> classes = new HashMap<>();
+
+    private final StringBuilder fields = new StringBuilder();
+    private final StringBuilder methods = new StringBuilder();
+    private final Set<String> fieldNames = new HashSet<>();
+    private int nextVariable;
+    private int nextMethod;
+
+    // the fields that hold the objects with an fx:id, by fx:id
+    private final Map<String, Value> ids = new HashMap<>();
+
+    // true if the document has an fx:controller attribute
+    private boolean hasController;
+
+    // the controller class, if its members can be accessed directly
+    private Class<?> controllerType;
+    private Map<String, List<Field>> controllerFields;
+    private Map<String, Method> eventMethods;
+    private Map<String, Method> parameterlessMethods;
+
+    private Element current;
+
+    CodeGenerator(FXMLCompiler compiler, FXMLDocument document, String packageName, String className) {
+        this.compiler = compiler;
+        this.document = document;
+        this.packageName = packageName;
+        this.className = className;
+        this.classLoader = compiler.getClassLoader();
+    }
+
+    /**
+     * Returns the source of the factory class.
+     */
+    String generate() throws IOException {
+        processImports();
+
+        Element root = document.root;
+        current = root;
+        if (document.fxNamespaceURI != null) {
+            String fxVersion = document.fxNamespaceURI.substring(document.fxNamespaceURI.lastIndexOf('/') + 1);
+            if (compareVersions(FXMLLoader.FX_NAMESPACE_VERSION, fxVersion) < 0) {
+                throw error("Loading FXML document of version " + fxVersion
+                        + " by JavaFX runtime supporting version " + FXMLLoader.FX_NAMESPACE_VERSION);
+            }
+        }
+
+        Code code = new Code();
+        if (!root.isFX(FXMLLoader.ROOT_TAG)) {
+            code.line("checkRootNotSet();");
+        }
+        Value value = processValueElement(root, code, true);
+        code.line("return " + value.code + ";");
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+              .append(" * Creates the object graph of ").append(getDocumentName()).append(".\n")
+              .append(" * Generated by the FXML compiler; do not edit.\n")
+              .append(" */\n")
+              .append("public final class ").append(className).append(" extends javafx.fxml.FXMLFactory {\n");
+        if (fields.length() > 0) {
+            source.append('\n').append(fields);
+        }
+        source.append('\n')
+              .append("    public ").append(className).append("() {\n")
+              .append("        super(").append(className).append(".class.getResource(")
+              .append(quote(getDocumentName())).append("));\n")
+              .append("    }\n\n")
+              .append("    @Override\n")
+              .append("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+              .append("    protected Object ").append(BUILD_METHOD_NAME).append("() throws Exception {\n")
+              .append(code.text)
+              .append("    }\n");
+        source.append(methods);
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private String getDocumentName() {
+        String path = document.location.getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    // -- types
+
+    private void processImports() throws LoadException {
+        for (String target : document.imports) {
+            if (target.endsWith(".*")) {
+                packages.add(target.substring(0, target.length() - 2));
+            } else {
+                try {
+                    loadType(target, true);
+                } catch (ClassNotFoundException exception) {
+                    throw error("Cannot import " + target + ": class not found.");
+                }
+            }
+        }
+    }
+
+    private Class<?> getType(String name) {
+        Class<?> type = null;
+        if (Character.isLowerCase(name.charAt(0))) {
+            try {
+                type = loadType(name, false);
+            } catch (ClassNotFoundException exception) {
+                // No-op
+            }
+        } else {
+            type = classes.get(name);
+            if (type == null) {
+                for (String packageName : packages) {
+                    try {
+                        type = loadTypeForPackage(packageName, name);
+                    } catch (ClassNotFoundException exception) {
+                        // No-op
+                    }
+                    if (type != null) {
+                        classes.put(name, type);
+                        break;
+                    }
+                }
+            }
+        }
+        return type;
+    }
+
+    private Class<?> loadType(String name, boolean cache) throws ClassNotFoundException {
+        int i = name.indexOf('.');
+        int n = name.length();
+        while (i != -1 && i < n && Character.isLowerCase(name.charAt(i + 1))) {
+            i = name.indexOf('.', i + 1);
+        }
+        if (i == -1 || i == n) {
+            throw new ClassNotFoundException();
+        }
+
+        String className = name.substring(i + 1);
+        Class<?> type = loadTypeForPackage(name.substring(0, i), className);
+        if (cache) {
+            classes.put(className, type);
+        }
+        return type;
+    }
+
+    private Class<?> loadTypeForPackage(String packageName, String className) throws ClassNotFoundException {
+        try {
+            return Class.forName(packageName + "." + className.replace('.', '$'), false, classLoader);
+        } catch (LinkageError error) {
+            throw new ClassNotFoundException(packageName + "." + className, error);
+        }
+    }
+
+    /**
+     * Returns the static type of the root of a document, as far as it can be
+     * determined without creating the root.
+     */
+    static Class<?> getRootType(FXMLCompiler compiler, FXMLDocument document) throws IOException {
+        CodeGenerator generator = new CodeGenerator(compiler, document, "", "");
+        generator.processImports();
+        Element root = document.root;
+        generator.current = root;
+
+        Class<?> type;
+        if (root.isFX(FXMLLoader.ROOT_TAG)) {
+            String name = getAttribute(root, null, FXMLLoader.ROOT_TYPE_ATTRIBUTE);
+            type = (name == null) ? null : generator.getType(name);
+        } else if (root.prefix == null) {
+            type = generator.getType(root.localName);
+            String constant = getAttribute(root, FXMLLoader.FX_NAMESPACE_PREFIX, FXMLLoader.FX_CONSTANT_ATTRIBUTE);
+            String factory = getAttribute(root, FXMLLoader.FX_NAMESPACE_PREFIX, FXMLLoader.FX_FACTORY_ATTRIBUTE);
+            if (type != null && constant != null) {
+                type = generator.getConstantField(type, constant).getType();
+            } else if (type != null && factory != null) {
+                type = generator.getFactoryMethod(type, factory).getReturnType();
+            }
+        } else {
+            type = null;
+        }
+        return (type == null) ? Object.class : box(type);
+    }
+
+    private static String getAttribute(Element element, String prefix, String localName) {
+        for (Attribute attribute : element.attributes) {
+            if (localName.equals(attribute.localName)
+                    && (prefix == null ? attribute.prefix == null : prefix.equals(attribute.prefix))) {
+                return attribute.value;
+            }
+        }
+        return null;
+    }
+
+    // -- elements
+
+    private Value processValueElement(Element element, Code code, boolean isRoot) throws IOException {
+        current = element;
+
+        if (element.prefix == null) {
+            int i = element.localName.lastIndexOf('.');
+            if (Character.isLowerCase(element.localName.charAt(i + 1))) {
+                throw error("Invalid root element.");
+            }
+
+            Class<?> type = getType(element.localName);
+            if (type == null) {
+                throw error(element.localName + " is not a valid type.");
+            }
+            return processInstanceDeclaration(element, type, code, isRoot);
+        }
+
+        if (!element.prefix.equals(FXMLLoader.FX_NAMESPACE_PREFIX)) {
+            throw error("Unexpected namespace prefix: " + element.prefix + ".");
+        }
+
+        switch (element.localName) {
+            case FXMLLoader.INCLUDE_TAG:
+                return processInclude(element, code, isRoot);
+            case FXMLLoader.REFERENCE_TAG:
+                return processReference(element, code, isRoot);
+            case FXMLLoader.ROOT_TAG:
+                if (!isRoot) {
+                    throw error(FXMLLoader.FX_NAMESPACE_PREFIX + ":" + FXMLLoader.ROOT_TAG
+                            + " is only supported as the root element by the FXML compiler.");
+                }
+                return processRoot(element, code);
+            case FXMLLoader.COPY_TAG:
+                throw error(FXMLLoader.FX_NAMESPACE_PREFIX + ":" + FXMLLoader.COPY_TAG
+                        + " is not supported by the FXML compiler.");
+            case FXMLLoader.SCRIPT_TAG:
+                throw error("Scripts are not supported by the FXML compiler.");
+            case FXMLLoader.DEFINE_TAG:
+                throw error("Invalid root element.");
+            default:
+                throw error(element.prefix + ":" + element.localName + " is not a valid element.");
+        }
+    }
+
+    private Value processInstanceDeclaration(Element element, Class<?> type, Code code, boolean isRoot)
+            throws IOException {
+        Attributes attributes = processAttributes(element, code, isRoot, true,
+                FXMLLoader.FX_VALUE_ATTRIBUTE, FXMLLoader.FX_CONSTANT_ATTRIBUTE, FXMLLoader.FX_FACTORY_ATTRIBUTE);
+        String fxValue = attributes.special.get(FXMLLoader.FX_VALUE_ATTRIBUTE);
+        String constant = attributes.special.get(FXMLLoader.FX_CONSTANT_ATTRIBUTE);
+        String factory = attributes.special.get(FXMLLoader.FX_FACTORY_ATTRIBUTE);
+
+        Value value;
+        if (fxValue != null) {
+            value = declare(type, coerce(Value.literal(fxValue), type), code);
+        } else if (constant != null) {
+            Field field = getConstantField(type, constant);
+            value = declare(field.getType(), typeName(type) + "." + constant, code);
+        } else if (factory != null) {
+            Method method = getFactoryMethod(type, factory);
+            value = declare(method.getReturnType(), typeName(type) + "." + factory + "()", code);
+        } else if (hasBuilder(type)) {
+            return processBuilder(element, type, attributes, code);
+        } else {
+            checkAccessible(type);
+            Constructor<?> constructor = null;
+            try {
+                constructor = type.getConstructor();
+            } catch (NoSuchMethodException exception) {
+                // No-op
+            }
+            if (constructor == null || Modifier.isAbstract(type.getModifiers())) {
+                throw error(type.getName() + " does not have a public default constructor.");
+            }
+            value = declare(type, "new " + typeName(type) + "()", code);
+        }
+
+        Target target = createTarget(value);
+        processValue(target, attributes.fxId, code);
+        processChildren(target, element, code);
+        processInstancePropertyAttributes(target, attributes.instanceProperties, code);
+        processEventHandlerAttributes(target, attributes.eventHandlers, code);
+        processStaticPropertyAttributes(target, attributes.staticProperties, code);
+        return value;
+    }
+
+    private Value processBuilder(Element element, Class<?> type, Attributes attributes, Code code)
+            throws IOException {
+        checkAccessible(type);
+
+        String builder = newVariable();
+        code.line("javafx.util.Builder " + builder + " = newBuilder(" + typeName(type) + ".class);");
+        Target builderTarget = new Target(Kind.BUILDER, builder, type);
+        builderTarget.builderType = (type == Scene.class) ? JavaFXSceneBuilder.class : null;
+
+        for (Attribute attribute : attributes.instanceProperties) {
+            processBuilderPropertyAttribute(builderTarget, attribute, code);
+        }
+        processChildren(builderTarget, element, code);
+
+        Value value = declare(type, "(" + typeName(type) + ") " + builder + ".build()", code);
+        Target target = createTarget(value);
+        processValue(target, attributes.fxId, code);
+        processEventHandlerAttributes(target, attributes.eventHandlers, code);
+        processStaticPropertyAttributes(target, attributes.staticProperties, code);
+        for (Object[] property : builderTarget.staticPropertyElements) {
+            putStaticProperty(target, (Class<?>) property[0], (String) property[1], (Value) property[2], code);
+        }
+        return value;
+    }
+
+    private Value processInclude(Element element, Code code, boolean isRoot) throws IOException {
+        Attributes attributes = processAttributes(element, code, isRoot, false,
+                FXMLLoader.INCLUDE_SOURCE_ATTRIBUTE, FXMLLoader.INCLUDE_RESOURCES_ATTRIBUTE,
+                FXMLLoader.INCLUDE_CHARSET_ATTRIBUTE);
+        String source = attributes.special.get(FXMLLoader.INCLUDE_SOURCE_ATTRIBUTE);
+        if (source == null) {
+            throw error(FXMLLoader.INCLUDE_SOURCE_ATTRIBUTE + " is required.");
+        }
+        String resources = attributes.special.get(FXMLLoader.INCLUDE_RESOURCES_ATTRIBUTE);
+        String charset = attributes.special.get(FXMLLoader.INCLUDE_CHARSET_ATTRIBUTE);
+
+        URL location;
+        try {
+            location = compiler.resolveInclude(document.location, source);
+        } catch (IOException exception) {
+            throw error(exception.getMessage());
+        }
+        if (location == null) {
+            throw error("Cannot resolve path: " + source);
+        }
+
+        String resourcesCode = (resources == null) ? "getResources()"
+                : "getIncludeResources(" + quote(resources) + ")";
+        String idCode = (attributes.fxId == null) ? "null" : quote(attributes.fxId);
+        String factoryClass = compiler.getFactoryClassName(location);
+        Class<?> type = compiler.getRootType(location);
+        checkAccessible(type);
+
+        String include;
+        if (factoryClass != null) {
+            include = "include(new " + factoryClass + "(), " + resourcesCode + ", " + idCode + ")";
+        } else {
+            include = "include(" + quote(source) + ", " + resourcesCode + ", "
+                    + (charset == null ? "null" : quote(charset)) + ", " + idCode + ")";
+        }
+
+        Value value = declare(type, "(" + typeName(type) + ") " + include, code);
+        if (attributes.fxId != null) {
+            ids.remove(attributes.fxId + FXMLLoader.CONTROLLER_SUFFIX);
+        }
+
+        Target target = createTarget(value);
+        processValue(target, attributes.fxId, code);
+        processChildren(target, element, code);
+        processInstancePropertyAttributes(target, attributes.instanceProperties, code);
+        processEventHandlerAttributes(target, attributes.eventHandlers, code);
+        processStaticPropertyAttributes(target, attributes.staticProperties, code);
+        return value;
+    }
+
+    private Value processReference(Element element, Code code, boolean isRoot) throws IOException {
+        Attributes attributes = processAttributes(element, code, isRoot, false,
+                FXMLLoader.REFERENCE_SOURCE_ATTRIBUTE);
+        String source = attributes.special.get(FXMLLoader.REFERENCE_SOURCE_ATTRIBUTE);
+        if (source == null) {
+            throw error(FXMLLoader.REFERENCE_SOURCE_ATTRIBUTE + " is required.");
+        }
+
+        Value value = ids.get(source);
+        if (value == null) {
+            Expression.valueOf(source);
+            value = declare(Object.class, "getReference(" + quote(source) + ")", code);
+        }
+
+        Target target = createTarget(value);
+        processValue(target, attributes.fxId, code);
+        processChildren(target, element, code);
+        processInstancePropertyAttributes(target, attributes.instanceProperties, code);
+        processEventHandlerAttributes(target, attributes.eventHandlers, code);
+        processStaticPropertyAttributes(target, attributes.staticProperties, code);
+        return value;
+    }
+
+    private Value processRoot(Element element, Code code) throws IOException {
+        Attributes attributes = processAttributes(element, code, true, false, FXMLLoader.ROOT_TYPE_ATTRIBUTE);
+        String typeName = attributes.special.get(FXMLLoader.ROOT_TYPE_ATTRIBUTE);
+        if (typeName == null) {
+            throw error(FXMLLoader.ROOT_TYPE_ATTRIBUTE + " is required.");
+        }
+
+        Class<?> type = getType(typeName);
+        if (type == null) {
+            throw error(typeName + " is not a valid type.");
+        }
+        checkAccessible(type);
+
+        Value value = declare(type, "getRoot(" + typeName(type) + ".class)", code);
+        Target target = createTarget(value);
+        processValue(target, attributes.fxId, code);
+        processChildren(target, element, code);
+        processInstancePropertyAttributes(target, attributes.instanceProperties, code);
+        processEventHandlerAttributes(target, attributes.eventHandlers, code);
+        processStaticPropertyAttributes(target, attributes.staticProperties, code);
+        return value;
+    }
+
+    private void processDefine(Element element, Code code) throws IOException {
+        if (!element.attributes.isEmpty()) {
+            throw error("Element does not support attributes.");
+        }
+        for (Object child : element.children) {
+            if (child instanceof String) {
+                throw error("Unexpected characters in input stream.");
+            }
+
+            Element childElement = (Element) child;
+            if (isPropertyElement(childElement)) {
+                current = childElement;
+                throw error("Parent element does not support property elements.");
+            }
+            processValueElement(childElement, code, false);
+            current = element;
+        }
+    }
+
+    private Attributes processAttributes(Element element, Code code, boolean isRoot, boolean fxSpecial,
+            String... specialNames) throws IOException {
+        Attributes attributes = new Attributes();
+        for (Attribute attribute : element.attributes) {
+            String prefix = attribute.prefix;
+            String localName = attribute.localName;
+            String value = attribute.value;
+
+            if (prefix != null && prefix.equals(FXMLLoader.FX_NAMESPACE_PREFIX)) {
+                if (fxSpecial && List.of(specialNames).contains(localName)) {
+                    attributes.special.put(localName, value);
+                } else if (localName.equals(FXMLLoader.FX_ID_ATTRIBUTE)) {
+                    if (value.equals(FXMLLoader.NULL_KEYWORD)) {
+                        throw error("Invalid identifier.");
+                    }
+                    for (int i = 0, n = value.length(); i < n; i++) {
+                        if (!Character.isJavaIdentifierPart(value.charAt(i))) {
+                            throw error("Invalid identifier.");
+                        }
+                    }
+                    attributes.fxId = value;
+                } else if (localName.equals(FXMLLoader.FX_CONTROLLER_ATTRIBUTE)) {
+                    if (!isRoot) {
+                        throw error(FXMLLoader.FX_NAMESPACE_PREFIX + ":" + FXMLLoader.FX_CONTROLLER_ATTRIBUTE
+                                + " can only be applied to root element.");
+                    }
+                    if (hasController) {
+                        throw error("Controller value already specified.");
+                    }
+                    processController(value, code);
+                } else {
+                    throw error("Invalid attribute.");
+                }
+            } else if (prefix == null && !fxSpecial && List.of(specialNames).contains(localName)) {
+                attributes.special.put(localName, value);
+            } else if (prefix == null) {
+                if (localName.startsWith(FXMLLoader.EVENT_HANDLER_PREFIX)) {
+                    attributes.eventHandlers.add(attribute);
+                } else {
+                    int i = localName.lastIndexOf('.');
+                    if (i == -1) {
+                        attributes.instanceProperties.add(attribute);
+                    } else {
+                        Class<?> sourceType = getType(localName.substring(0, i));
+                        if (sourceType == null) {
+                            throw error(localName + " is not a valid attribute.");
+                        }
+                        attributes.staticProperties.add(
+                                new Object[] { sourceType, localName.substring(i + 1), value });
+                    }
+                }
+            } else {
+                throw error(prefix + ":" + localName + " is not a valid attribute.");
+            }
+        }
+        return attributes;
+    }
+
+    private void processController(String name, Code code) throws IOException {
+        hasController = true;
+
+        Class<?> type = null;
+        try {
+            type = Class.forName(name, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError exception) {
+            // the controller is only accessed reflectively
+        }
+
+        String controller = newVariable();
+        code.line("Object " + controller + " = createController(" + quote(name) + ");");
+        if (type != null && isAccessible(type)) {
+            controllerType = type;
+            controllerFields = BeanModel.getControllerFields(type);
+            List<Map<String, Method>> controllerMethods = BeanModel.getControllerMethods(type);
+            eventMethods = controllerMethods.get(0);
+            parameterlessMethods = controllerMethods.get(1);
+
+            addField(typeName(type), CONTROLLER_FIELD);
+            addField("boolean", DIRECT_FIELD);
+            code.line(DIRECT_FIELD + " = " + controller + " != null && " + controller + ".getClass() == "
+                    + typeName(type) + ".class;");
+            code.open("if (" + DIRECT_FIELD + ")");
+            code.line(CONTROLLER_FIELD + " = (" + typeName(type) + ") " + controller + ";");
+            code.close();
+            generateInitializeController();
+        }
+    }
+
+    /**
+     * Generates the value processing FXMLLoader does once an element's value
+     * has been created: the value is added to the namespace, gets its id and
+     * is injected into the controller.
+     */
+    private void processValue(Target target, String fxId, Code code) throws IOException {
+        if (fxId == null) {
+            return;
+        }
+
+        String field = FIELD_PREFIX + fxId;
+        for (int i = 2; fieldNames.contains(field); i++) {
+            field = FIELD_PREFIX + fxId + "_" + i;
+        }
+        addField(typeName(target.type), field);
+        code.line(field + " = " + target.variable + ";");
+        ids.put(fxId, new Value(field, target.type));
+        code.line("getNamespace().put(" + quote(fxId) + ", " + target.variable + ");");
+
+        IDProperty idProperty = target.type.getAnnotation(IDProperty.class);
+        if (idProperty != null) {
+            if (target.kind == Kind.MAP) {
+                code.open("if (" + target.variable + ".get(" + quote(idProperty.value()) + ") == null)");
+                code.line(target.variable + ".put(" + quote(idProperty.value()) + ", " + quote(fxId) + ");");
+                code.close();
+            } else {
+                Method getter = BeanModel.getGetter(target.type, idProperty.value());
+                if (getter == null) {
+                    throw error("Property \"" + idProperty.value() + "\" does not exist or is read-only.");
+                }
+                code.open("if (" + target.variable + "." + getter.getName() + "() == null)");
+                setProperty(target, idProperty.value(), Value.literal(fxId), code);
+                code.close();
+            }
+        }
+
+        injectField(fxId, new Value(target.variable, target.type), code);
+    }
+
+    private void processChildren(Target target, Element element, Code code) throws IOException {
+        List<Object> children = element.children;
+        int size = 0;
+        for (Object child : children) {
+            if (child instanceof Element) {
+                size += ((Element) child).size();
+            }
+        }
+
+        if (size <= MAX_ELEMENTS_PER_METHOD || target.kind == Kind.BUILDER) {
+            for (Object child : children) {
+                processChild(target, element, child, code);
+            }
+            return;
+        }
+
+        // split the children into methods that take the target as argument
+        int start = 0;
+        while (start < children.size()) {
+            int end = start;
+            int chunkSize = 0;
+            while (end < children.size()) {
+                Object child = children.get(end);
+                int childSize = (child instanceof Element) ? ((Element) child).size() : 1;
+                if (end > start && chunkSize + childSize > MAX_ELEMENTS_PER_METHOD) {
+                    break;
+                }
+                chunkSize += childSize;
+                end++;
+            }
+
+            String methodName = BUILD_METHOD_NAME + (nextMethod++);
+            Code methodCode = new Code();
+            for (Object child : children.subList(start, end)) {
+                processChild(target, element, child, methodCode);
+            }
+            code.line(methodName + "(" + target.variable + ");");
+            methods.append('\n')
+                   .append("    @SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                   .append("    private void ").append(methodName).append("(").append(typeName(target.type))
+                   .append(' ').append(target.variable).append(") throws Exception {\n")
+                   .append(methodCode.text)
+                   .append("    }\n");
+            start = end;
+        }
+    }
+
+    private void processChild(Target target, Element element, Object child, Code code) throws IOException {
+        if (child instanceof String) {
+            current = element;
+            processCharacters(target, (String) child, code);
+            return;
+        }
+
+        Element childElement = (Element) child;
+        if (isPropertyElement(childElement)) {
+            processPropertyElement(target, childElement, code);
+        } else if (childElement.isFX(FXMLLoader.DEFINE_TAG)) {
+            current = childElement;
+            processDefine(childElement, code);
+        } else {
+            Value value = processValueElement(childElement, code, false);
+            current = element;
+            addValue(target, value, code);
+        }
+        current = element;
+    }
+
+    private static boolean isPropertyElement(Element element) {
+        if (element.prefix != null) {
+            return false;
+        }
+        int i = element.localName.lastIndexOf('.');
+        return Character.isLowerCase(element.localName.charAt(i + 1));
+    }
+
+    /**
+     * Adds a child value to the target, or sets it as the target's default
+     * property.
+     */
+    private void addValue(Target target, Value value, Code code) throws IOException {
+        switch (target.kind) {
+            case BUILDER: {
+                String defaultProperty = getDefaultPropertyName(target.builderType);
+                if (defaultProperty == null) {
+                    throw error("Element does not define a default property.");
+                }
+                code.line("setBuilderProperty(" + target.variable + ", " + quote(defaultProperty) + ", "
+                        + value.code + ");");
+                return;
+            }
+
+            case MAP:
+                if (List.class.isAssignableFrom(target.type)) {
+                    break;
+                }
+                throw error("Element does not define a default property.");
+
+            default:
+                break;
+        }
+
+        if (List.class.isAssignableFrom(target.type)) {
+            String item = (target.listItemType != null) ? coerce(value, target.listItemType) : value.code;
+            code.line(target.variable + ".add(" + item + ");");
+            return;
+        }
+
+        if (target.propertyElement) {
+            throw error("Invalid property.");
+        }
+
+        String defaultProperty = getDefaultPropertyName(target.type);
+        if (defaultProperty == null) {
+            throw error("Element does not define a default property.");
+        }
+
+        Method getter = BeanModel.getGetter(target.type, defaultProperty);
+        if (getter != null && List.class.isAssignableFrom(getter.getReturnType())) {
+            String item = Map.class.isAssignableFrom(target.type) ? value.code
+                    : coerce(value, BeanModel.getListItemType(getter.getGenericReturnType()));
+            code.line(target.variable + "." + getter.getName() + "().add(" + item + ");");
+        } else {
+            setProperty(target, defaultProperty, value, code);
+        }
+    }
+
+    private void processCharacters(Target target, String text, Code code) throws IOException {
+        text = EXTRANEOUS_WHITESPACE.matcher(text).replaceAll(" ");
+
+        if (target.propertyElement) {
+            if (List.class.isAssignableFrom(target.type)) {
+                addValue(target, Value.literal(text.trim()), code);
+                return;
+            }
+            throw error("Unexpected characters in input stream.");
+        }
+
+        Class<?> type = (target.kind == Kind.BUILDER) ? target.builderType : target.type;
+        String defaultProperty = getDefaultPropertyName(type);
+        if (defaultProperty == null) {
+            throw error(target.type.getName() + " does not have a default property.");
+        }
+
+        if (target.kind == Kind.BUILDER) {
+            code.line("setBuilderProperty(" + target.variable + ", " + quote(defaultProperty) + ", "
+                    + quote(text.trim()) + ");");
+            return;
+        }
+        if (target.kind == Kind.MAP) {
+            throw error("Text content of untyped objects is not supported by the FXML compiler.");
+        }
+
+        Method getter = BeanModel.getGetter(type, defaultProperty);
+        if (getter == null) {
+            throw error("Cannot determine type for property.");
+        }
+        if (BeanModel.getSetter(type, defaultProperty) == null
+                && List.class.isAssignableFrom(getter.getReturnType())) {
+            String item = coerce(Value.literal(text), BeanModel.getListItemType(getter.getGenericReturnType()));
+            code.line(target.variable + "." + getter.getName() + "().add(" + item + ");");
+        } else {
+            setProperty(target, defaultProperty, Value.literal(text.trim()), code);
+        }
+    }
+
+    private void processPropertyElement(Target parent, Element element, Code code) throws IOException {
+        Element parentElement = current;
+        current = element;
+
+        String localName = element.localName;
+        int i = localName.lastIndexOf('.');
+        String name = localName.substring(i + 1);
+
+        if (i != -1) {
+            // a static property
+            Class<?> sourceType = getType(localName.substring(0, i));
+            if (sourceType == null) {
+                throw error(localName + " is not a valid property.");
+            }
+            if (!element.attributes.isEmpty()) {
+                throw error("Attributes are not supported for writable property elements.");
+            }
+
+            for (Value value : processWritablePropertyChildren(element, code)) {
+                if (parent.kind == Kind.BUILDER) {
+                    parent.staticPropertyElements.add(new Object[] { sourceType, name, value });
+                } else {
+                    putStaticProperty(parent, sourceType, name, value, code);
+                }
+            }
+            current = parentElement;
+            return;
+        }
+
+        if (name.startsWith(FXMLLoader.EVENT_HANDLER_PREFIX)) {
+            throw error("\"" + name + "\" is not a valid element name.");
+        }
+
+        if (parent.kind == Kind.BUILDER) {
+            if (!element.attributes.isEmpty()) {
+                throw error("Attributes of builder property elements are not supported by the FXML compiler.");
+            }
+            for (Object child : element.children) {
+                Value value;
+                if (child instanceof String) {
+                    value = Value.literal(EXTRANEOUS_WHITESPACE.matcher((String) child).replaceAll(" ").trim());
+                } else if (isPropertyElement((Element) child)) {
+                    current = (Element) child;
+                    throw error("Property elements of builder properties are not supported by the FXML compiler.");
+                } else if (((Element) child).isFX(FXMLLoader.DEFINE_TAG)) {
+                    processDefine((Element) child, code);
+                    continue;
+                } else {
+                    value = processValueElement((Element) child, code, false);
+                }
+                current = element;
+                code.line("addBuilderProperty(" + parent.variable + ", " + quote(name) + ", " + value.code + ");");
+            }
+            current = parentElement;
+            return;
+        }
+
+        if (parent.kind == Kind.MAP) {
+            throw error("Property elements of untyped objects are not supported by the FXML compiler.");
+        }
+
+        Method getter = BeanModel.getGetter(parent.type, name);
+        if (getter == null) {
+            throw error("Cannot determine type for property.");
+        }
+
+        if (BeanModel.getSetter(parent.type, name) == null) {
+            // a read-only property, whose value the children are added to
+            Class<?> type = getter.getReturnType();
+            Value value = declare(type, parent.variable + "." + getter.getName() + "()", code);
+            Target target = new Target(Map.class.isAssignableFrom(type) ? Kind.MAP : Kind.TYPED,
+                    value.code, value.type);
+            target.propertyElement = true;
+            if (List.class.isAssignableFrom(type)) {
+                target.listItemType = BeanModel.getListItemType(getter.getGenericReturnType());
+            }
+
+            Attributes attributes = processAttributes(element, code, false, false);
+            if (attributes.fxId != null) {
+                throw error("Invalid attribute.");
+            }
+            processChildren(target, element, code);
+            processInstancePropertyAttributes(target, attributes.instanceProperties, code);
+            processEventHandlerAttributes(target, attributes.eventHandlers, code);
+        } else {
+            if (!element.attributes.isEmpty()) {
+                throw error("Attributes are not supported for writable property elements.");
+            }
+            for (Value value : processWritablePropertyChildren(element, code)) {
+                setProperty(parent, name, value, code);
+            }
+        }
+        current = parentElement;
+    }
+
+    private List<Value> processWritablePropertyChildren(Element element, Code code) throws IOException {
+        List<Value> values = new ArrayList<>();
+        for (Object child : element.children) {
+            if (child instanceof String) {
+                values.add(Value.literal(EXTRANEOUS_WHITESPACE.matcher((String) child).replaceAll(" ").trim()));
+            } else if (isPropertyElement((Element) child)) {
+                current = (Element) child;
+                throw error("Parent element does not support property elements.");
+            } else if (((Element) child).isFX(FXMLLoader.DEFINE_TAG)) {
+                processDefine((Element) child, code);
+            } else {
+                values.add(processValueElement((Element) child, code, false));
+            }
+            current = element;
+        }
+        return values;
+    }
+
+    // -- attributes
+
+    private void processInstancePropertyAttributes(Target target, List<Attribute> attributes, Code code)
+            throws IOException {
+        for (Attribute attribute : attributes) {
+            String value = attribute.value;
+            if (value.startsWith(FXMLLoader.BINDING_EXPRESSION_PREFIX)
+                    && value.endsWith(FXMLLoader.BINDING_EXPRESSION_SUFFIX)) {
+                if (target.kind != Kind.TYPED) {
+                    throw error("Cannot bind to untyped object.");
+                }
+                processBinding(target, attribute.localName,
+                        value.substring(FXMLLoader.BINDING_EXPRESSION_PREFIX.length(), value.length() - 1),
+                        code);
+            } else if (value.startsWith(FXMLLoader.BI_DIRECTIONAL_BINDING_PREFIX)) {
+                throw error("This feature is not currently enabled.");
+            } else if (target.kind == Kind.MAP) {
+                code.line(target.variable + ".put(" + quote(attribute.localName) + ", "
+                        + resolvePrefixedValue(value).code + ");");
+            } else {
+                processPropertyAttribute(target, attribute.localName, value, code);
+            }
+        }
+    }
+
+    private void processPropertyAttribute(Target target, String name, String value, Code code)
+            throws IOException {
+        Method getter = BeanModel.getGetter(target.type, name);
+        if (getter == null) {
+            throw error("Property \"" + name + "\" does not exist or is read-only.");
+        }
+
+        Class<?> type = getter.getReturnType();
+        if (List.class.isAssignableFrom(type) && BeanModel.getSetter(target.type, name) == null) {
+            if (value.length() > 0) {
+                Class<?> itemType = BeanModel.getListItemType(getter.getGenericReturnType());
+                Value list = declare(type, target.variable + "." + getter.getName() + "()", code);
+                for (String item : value.split(FXMLLoader.ARRAY_COMPONENT_DELIMITER)) {
+                    code.line(list.code + ".add(" + coerce(resolvePrefixedValue(item.trim()), itemType) + ");");
+                }
+            }
+        } else if (type.isArray()) {
+            Class<?> componentType = type.getComponentType();
+            checkAccessible(componentType);
+            StringBuilder array = new StringBuilder("new ").append(typeName(componentType)).append("[] {");
+            if (value.length() > 0) {
+                String[] items = value.split(FXMLLoader.ARRAY_COMPONENT_DELIMITER);
+                for (int i = 0; i < items.length; i++) {
+                    array.append(i == 0 ? " " : ", ").append(coerce(resolvePrefixedValue(items[i].trim()),
+                            componentType));
+                }
+                array.append(' ');
+            }
+            array.append('}');
+            setProperty(target, name, new Value(array.toString(), type), code);
+        } else {
+            setProperty(target, name, resolvePrefixedValue(value), code);
+        }
+    }
+
+    private void processBuilderPropertyAttribute(Target target, Attribute attribute, Code code)
+            throws IOException {
+        String name = attribute.localName;
+        String value = attribute.value;
+        if (value.startsWith(FXMLLoader.BINDING_EXPRESSION_PREFIX)
+                && value.endsWith(FXMLLoader.BINDING_EXPRESSION_SUFFIX)) {
+            throw error("Cannot bind to builder property.");
+        }
+        if (value.startsWith(FXMLLoader.BI_DIRECTIONAL_BINDING_PREFIX)) {
+            throw error("This feature is not currently enabled.");
+        }
+
+        if (target.builderType != null) {
+            Method getter = BeanModel.getGetter(target.builderType, name);
+            if (getter == null) {
+                throw error("Property \"" + name + "\" does not exist or is read-only.");
+            }
+            Class<?> type = getter.getReturnType();
+            if (List.class.isAssignableFrom(type) && BeanModel.getSetter(target.builderType, name) == null) {
+                if (value.length() > 0) {
+                    for (String item : value.split(FXMLLoader.ARRAY_COMPONENT_DELIMITER)) {
+                        code.line("addBuilderProperty(" + target.variable + ", " + quote(name) + ", "
+                                + resolvePrefixedValue(item.trim()).code + ");");
+                    }
+                }
+                return;
+            }
+            if (type.isArray()) {
+                throw error("Array properties of builders are not supported by the FXML compiler.");
+            }
+        }
+        code.line("setBuilderProperty(" + target.variable + ", " + quote(name) + ", "
+                + resolvePrefixedValue(value).code + ");");
+    }
+
+    private void processStaticPropertyAttributes(Target target, List<Object[]> attributes, Code code)
+            throws IOException {
+        for (Object[] attribute : attributes) {
+            String value = (String) attribute[2];
+            if (value.startsWith(FXMLLoader.BINDING_EXPRESSION_PREFIX)
+                    && value.endsWith(FXMLLoader.BINDING_EXPRESSION_SUFFIX)) {
+                throw error("Cannot bind to static property.");
+            }
+            if (value.startsWith(FXMLLoader.BI_DIRECTIONAL_BINDING_PREFIX)) {
+                throw error("This feature is not currently enabled.");
+            }
+            putStaticProperty(target, (Class<?>) attribute[0], (String) attribute[1],
+                    resolvePrefixedValue(value), code);
+        }
+    }
+
+    private void processBinding(Target target, String name, String expression, Code code) throws IOException {
+        try {
+            Expression.valueOf(expression);
+        } catch (RuntimeException exception) {
+            throw error("Invalid expression \"" + expression + "\": " + exception.getMessage());
+        }
+
+        Method propertyModel = BeanModel.getPropertyModel(target.type, name);
+        if (propertyModel == null || !ObservableValue.class.isAssignableFrom(propertyModel.getReturnType())) {
+            // FXMLLoader silently ignores the binding
+            return;
+        }
+        Method getter = BeanModel.getGetter(target.type, name);
+        if (getter == null) {
+            throw error("Cannot determine type for property.");
+        }
+        Class<?> type = getter.getReturnType();
+        String model = target.variable + "." + propertyModel.getName() + "()";
+
+        // bind directly to a property of an object with an fx:id
+        Matcher matcher = PROPERTY_PATH.matcher(expression);
+        if (matcher.matches() && Property.class.isAssignableFrom(propertyModel.getReturnType())) {
+            Value source = ids.get(matcher.group(1));
+            if (source != null && !source.type.isPrimitive()) {
+                Method sourceModel = BeanModel.getPropertyModel(source.type, matcher.group(2));
+                Method sourceGetter = BeanModel.getGetter(source.type, matcher.group(2));
+                if (sourceModel != null && sourceGetter != null
+                        && ObservableValue.class.isAssignableFrom(sourceModel.getReturnType())
+                        && box(type).isAssignableFrom(box(sourceGetter.getReturnType()))) {
+                    code.line(model + ".bind(" + source.code + "." + sourceModel.getName() + "());");
+                    return;
+                }
+            }
+        }
+
+        code.line("bind(" + model + ", " + typeName(type) + ".class, " + quote(expression) + ");");
+    }
+
+    private void processEventHandlerAttributes(Target target, List<Attribute> attributes, Code code)
+            throws IOException {
+        for (Attribute attribute : attributes) {
+            String name = attribute.localName;
+            String value = attribute.value;
+
+            boolean collectionHandler = name.equals(FXMLLoader.EVENT_HANDLER_PREFIX
+                    + FXMLLoader.CHANGE_EVENT_HANDLER_SUFFIX)
+                    && (ObservableList.class.isAssignableFrom(target.type)
+                        || ObservableMap.class.isAssignableFrom(target.type)
+                        || ObservableSet.class.isAssignableFrom(target.type));
+            if (collectionHandler || name.endsWith(FXMLLoader.CHANGE_EVENT_HANDLER_SUFFIX)) {
+                throw error("Change listener attributes are not supported by the FXML compiler.");
+            }
+            if (target.kind != Kind.TYPED) {
+                throw error("Property \"" + name + "\" does not exist or is read-only.");
+            }
+
+            String handler = null;
+            if (value.startsWith(FXMLLoader.CONTROLLER_METHOD_PREFIX)) {
+                String methodName = value.substring(FXMLLoader.CONTROLLER_METHOD_PREFIX.length());
+                if (methodName.isEmpty()) {
+                    throw error("Missing controller method.");
+                }
+                if (!methodName.startsWith(FXMLLoader.CONTROLLER_METHOD_PREFIX)) {
+                    handler = getControllerMethodHandler(name, methodName);
+                }
+            } else if (value.startsWith(FXMLLoader.EXPRESSION_PREFIX)) {
+                String keyPath = value.substring(FXMLLoader.EXPRESSION_PREFIX.length());
+                if (keyPath.isEmpty()) {
+                    throw error("Missing expression reference.");
+                }
+                handler = "getEventHandler(" + quote(keyPath) + ")";
+            }
+            if (handler == null) {
+                throw error("Error resolving " + name + "='" + value
+                        + "', either the event handler is not in the Namespace or there is an error in the script.");
+            }
+
+            setProperty(target, name, new Value(handler, javafx.event.EventHandler.class), code);
+        }
+    }
+
+    private String getControllerMethodHandler(String attributeName, String methodName) {
+        String reflective = "getControllerMethodHandler(" + quote(attributeName) + ", " + quote(methodName) + ")";
+        if (controllerType == null) {
+            return reflective;
+        }
+
+        Method method = eventMethods.get(methodName);
+        if (method == null) {
+            method = parameterlessMethods.get(methodName);
+        }
+        if (method == null || !isAccessible(method) || throwsCheckedExceptions(method)) {
+            return reflective;
+        }
+
+        String call;
+        if (method.getParameterCount() == 0) {
+            call = CONTROLLER_FIELD + "." + methodName + "()";
+        } else {
+            Class<?> eventType = method.getParameterTypes()[0];
+            if (!isAccessible(eventType)) {
+                return reflective;
+            }
+            call = CONTROLLER_FIELD + "." + methodName + "((" + typeName(eventType) + ") event)";
+        }
+        return "(javafx.event.EventHandler) (" + DIRECT_FIELD
+                + " ? (javafx.event.EventHandler<javafx.event.Event>) event -> " + call + " : " + reflective + ")";
+    }
+
+    // -- properties
+
+    /**
+     * Generates a call of the setter of a property, as
+     * {@code BeanAdapter.put} does.
+     */
+    private void setProperty(Target target, String name, Value value, Code code) throws IOException {
+        if (target.kind == Kind.MAP) {
+            code.line(target.variable + ".put(" + quote(name) + ", " + value.code + ");");
+            return;
+        }
+
+        Method setter = BeanModel.getSetter(target.type, name);
+        if (setter == null) {
+            if (BeanModel.getGetter(target.type, name) == null) {
+                throw error("Property \"" + name + "\" does not exist or is read-only.");
+            }
+            throw error("Property \"" + name + "\" does not exist or is read-only.");
+        }
+        checkAccessible(setter.getDeclaringClass(), target.type);
+
+        code.line(target.variable + "." + setter.getName() + "(" + coerce(value, setter.getParameterTypes()[0]) + ");");
+    }
+
+    /**
+     * Generates a call of the static setter of a property, as
+     * {@code BeanAdapter.put(Object, Class, String, Object)} does.
+     */
+    private void putStaticProperty(Target target, Class<?> sourceType, String name, Value value, Code code)
+            throws IOException {
+        checkAccessible(sourceType);
+        Class<?> targetType = box(target.type);
+
+        Method setter = null;
+        String argument = null;
+        if (!value.isNull()) {
+            setter = BeanModel.getStaticSetter(sourceType, name, value.type, targetType);
+            argument = value.code;
+        }
+        if (setter == null) {
+            Method getter = BeanModel.getStaticGetter(sourceType, name, targetType);
+            if (getter != null) {
+                Class<?> propertyType = getter.getReturnType();
+                setter = BeanModel.getStaticSetter(sourceType, name, propertyType, targetType);
+                argument = coerce(value, propertyType);
+            }
+        }
+        if (setter == null || !Modifier.isStatic(setter.getModifiers())) {
+            throw error("Static property \"" + name + "\" does not exist or is read-only.");
+        }
+
+        code.line(typeName(sourceType) + "." + setter.getName() + "(" + target.variable + ", " + argument + ");");
+    }
+
+    /**
+     * Resolves an attribute value the way FXMLLoader does: escaped values,
+     * relative paths, resource keys and expressions.
+     */
+    private Value resolvePrefixedValue(String value) throws IOException {
+        if (value.startsWith(FXMLLoader.ESCAPE_PREFIX)) {
+            value = value.substring(FXMLLoader.ESCAPE_PREFIX.length());
+            if (value.length() == 0
+                    || !(value.startsWith(FXMLLoader.ESCAPE_PREFIX)
+                        || value.startsWith(FXMLLoader.RELATIVE_PATH_PREFIX)
+                        || value.startsWith(FXMLLoader.RESOURCE_KEY_PREFIX)
+                        || value.startsWith(FXMLLoader.EXPRESSION_PREFIX)
+                        || value.startsWith(FXMLLoader.BI_DIRECTIONAL_BINDING_PREFIX))) {
+                throw error("Invalid escape sequence.");
+            }
+            return Value.literal(value);
+        } else if (value.startsWith(FXMLLoader.RELATIVE_PATH_PREFIX)) {
+            value = value.substring(FXMLLoader.RELATIVE_PATH_PREFIX.length());
+            if (value.length() == 0) {
+                throw error("Missing relative path.");
+            }
+            if (value.startsWith(FXMLLoader.RELATIVE_PATH_PREFIX)) {
+                return Value.literal(value);
+            }
+            return new Value("resolveRelativePath(" + quote(value) + ")", String.class);
+        } else if (value.startsWith(FXMLLoader.RESOURCE_KEY_PREFIX)) {
+            value = value.substring(FXMLLoader.RESOURCE_KEY_PREFIX.length());
+            if (value.length() == 0) {
+                throw error("Missing resource key.");
+            }
+            if (value.startsWith(FXMLLoader.RESOURCE_KEY_PREFIX)) {
+                return Value.literal(value);
+            }
+            return new Value("getResourceString(" + quote(value) + ")", String.class);
+        } else if (value.startsWith(FXMLLoader.EXPRESSION_PREFIX)) {
+            value = value.substring(FXMLLoader.EXPRESSION_PREFIX.length());
+            if (value.length() == 0) {
+                throw error("Missing expression.");
+            }
+            if (value.startsWith(FXMLLoader.EXPRESSION_PREFIX)) {
+                return Value.literal(value);
+            }
+            if (value.equals(FXMLLoader.NULL_KEYWORD)) {
+                return NULL;
+            }
+            Value field = IDENTIFIER.matcher(value).matches() ? ids.get(value) : null;
+            if (field != null) {
+                return field;
+            }
+            return new Value("getNamespaceValue(" + quote(value) + ")", Object.class);
+        }
+        return Value.literal(value);
+    }
+
+    // -- coercion
+
+    /**
+     * Returns an expression that converts the value to the given type, as
+     * {@code BeanAdapter.coerce} does. Literals are converted when the
+     * document is compiled.
+     */
+    private String coerce(Value value, Class<?> type) throws IOException {
+        if (value.isNull()) {
+            return type.isPrimitive() ? "(" + typeName(box(type)) + ") null" : "null";
+        }
+        if (value.text != null) {
+            return coerceLiteral(value.text, type);
+        }
+        if (type.isPrimitive() ? box(value.type) == box(type)
+                : box(type).isAssignableFrom(box(value.type))) {
+            return value.code;
+        }
+        return "((" + typeName(box(type)) + ") coerce(" + value.code + ", " + typeName(type) + ".class))";
+    }
+
+    private String coerceLiteral(String text, Class<?> type) throws IOException {
+        if (type.isAssignableFrom(String.class)) {
+            return quote(text);
+        }
+
+        try {
+            if (type == Boolean.class || type == Boolean.TYPE) {
+                return Boolean.toString(Boolean.valueOf(text));
+            } else if (type == Character.class || type == Character.TYPE) {
+                if (text.isEmpty()) {
+                    throw error("Unable to coerce \"\" to " + type + ".");
+                }
+                return "'" + escape(text.charAt(0), '\'') + "'";
+            } else if (type == Byte.class || type == Byte.TYPE) {
+                return "(byte) " + Byte.valueOf(text);
+            } else if (type == Short.class || type == Short.TYPE) {
+                return "(short) " + Short.valueOf(text);
+            } else if (type == Integer.class || type == Integer.TYPE) {
+                return Integer.toString(Integer.valueOf(text));
+            } else if (type == Long.class || type == Long.TYPE) {
+                return Long.valueOf(text) + "L";
+            } else if (type == Float.class || type == Float.TYPE) {
+                return floatLiteral(Float.valueOf(text));
+            } else if (type == Double.class || type == Double.TYPE) {
+                return doubleLiteral(Double.valueOf(text));
+            } else if (type == Number.class) {
+                return text.contains(".") ? "Double.valueOf(" + doubleLiteral(Double.valueOf(text)) + ")"
+                        : "Long.valueOf(" + Long.valueOf(text) + "L)";
+            } else if (type == BigInteger.class) {
+                new BigInteger(text);
+                return "new java.math.BigInteger(" + quote(text) + ")";
+            } else if (type == BigDecimal.class) {
+                new BigDecimal(text);
+                return "new java.math.BigDecimal(" + quote(text) + ")";
+            }
+        } catch (NumberFormatException exception) {
+            throw error("Unable to coerce \"" + text + "\" to " + type + ": " + exception.getMessage());
+        }
+
+        if (type == Class.class || !isAccessible(type)) {
+            return "((" + typeName(isAccessible(type) ? type : Object.class) + ") coerce(" + quote(text) + ", "
+                    + (isAccessible(type) ? typeName(type) + ".class" : "Class.forName(" + quote(type.getName())
+                    + ")") + "))";
+        }
+
+        if (type.isEnum()) {
+            String constant = BeanModel.getEnumConstantName(text);
+            // look at the fields rather than getEnumConstants(), which would initialize the enum class
+            for (Field field : type.getDeclaredFields()) {
+                if (field.isEnumConstant() && field.getName().equals(constant)) {
+                    return typeName(type) + "." + constant;
+                }
+            }
+            throw error("No enum constant " + type.getCanonicalName() + "." + constant + ".");
+        }
+
+        for (Class<?> valueType = String.class; valueType != null; valueType = valueType.getSuperclass()) {
+            Method valueOf;
+            try {
+                valueOf = type.getDeclaredMethod("valueOf", valueType);
+            } catch (NoSuchMethodException exception) {
+                continue;
+            }
+            if (!Modifier.isStatic(valueOf.getModifiers()) || !isAccessible(valueOf)) {
+                return "((" + typeName(type) + ") coerce(" + quote(text) + ", " + typeName(type) + ".class))";
+            }
+            String argument = (valueType == String.class) ? quote(text) : "(" + typeName(valueType) + ") "
+                    + quote(text);
+            String call = typeName(type) + ".valueOf(" + argument + ")";
+            return type.isAssignableFrom(valueOf.getReturnType()) ? call
+                    : "((" + typeName(type) + ") " + call + ")";
+        }
+
+        throw error("Unable to coerce " + text + " to " + type + ".");
+    }
+
+    private static String doubleLiteral(double value) {
+        if (Double.isNaN(value)) {
+            return "Double.NaN";
+        } else if (Double.isInfinite(value)) {
+            return value > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+        }
+        return Double.toString(value);
+    }
+
+    private static String floatLiteral(float value) {
+        if (Float.isNaN(value)) {
+            return "Float.NaN";
+        } else if (Float.isInfinite(value)) {
+            return value > 0 ? "Float.POSITIVE_INFINITY" : "Float.NEGATIVE_INFINITY";
+        }
+        return Float.toString(value) + "f";
+    }
+
+    // -- controller
+
+    /**
+     * Generates the injection of a value into the controller fields with
+     * the given name.
+     */
+    private void injectField(String name, Value value, Code code) {
+        String reflective = "injectField(" + quote(name) + ", " + value.code + ");";
+        if (controllerType == null) {
+            code.line(reflective);
+            return;
+        }
+
+        List<Field> fields = controllerFields.get(name);
+        if (fields == null) {
+            code.open("if (!" + DIRECT_FIELD + ")");
+            code.line(reflective);
+            code.close();
+            return;
+        }
+
+        for (Field field : fields) {
+            Class<?> fieldType = field.getType();
+            boolean assignable = fieldType.isPrimitive() ? box(value.type) == box(fieldType)
+                    : box(fieldType).isAssignableFrom(box(value.type));
+            if (!assignable || !isAccessible(field)) {
+                code.line(reflective);
+                return;
+            }
+        }
+
+        code.open("if (" + DIRECT_FIELD + ")");
+        for (Field field : fields) {
+            code.line(controllerMember(field) + " = " + value.code + ";");
+        }
+        code.orElse();
+        code.line(reflective);
+        code.close();
+    }
+
+    private String controllerMember(Member member) {
+        Class<?> declaringClass = member.getDeclaringClass();
+        String controller = (declaringClass == controllerType) ? CONTROLLER_FIELD
+                : "((" + typeName(declaringClass) + ") " + CONTROLLER_FIELD + ")";
+        return controller + "." + member.getName();
+    }
+
+    /**
+     * Generates the controller initialization FXMLLoader does after the
+     * object graph has been created, if it can be done with direct calls.
+     */
+    private void generateInitializeController() {
+        Code code = new Code();
+        if (Initializable.class.isAssignableFrom(controllerType)) {
+            code.line(CONTROLLER_FIELD + ".initialize(getLocation(), getResources());");
+        } else {
+            String[][] injections = {
+                { FXMLLoader.LOCATION_KEY, "getLocation()", URL.class.getName() },
+                { FXMLLoader.RESOURCES_KEY, "getResources()", java.util.ResourceBundle.class.getName() }
+            };
+            for (String[] injection : injections) {
+                List<Field> fields = controllerFields.get(injection[0]);
+                if (fields == null) {
+                    continue;
+                }
+                for (Field field : fields) {
+                    if (!isAccessible(field) || !field.getType().getName().equals(injection[2])) {
+                        return;
+                    }
+                    code.line(controllerMember(field) + " = " + injection[1] + ";");
+                }
+            }
+
+            Method initialize = parameterlessMethods.get(FXMLLoader.INITIALIZE_METHOD_NAME);
+            if (initialize != null) {
+                if (!isAccessible(initialize)) {
+                    return;
+                }
+                code.line(CONTROLLER_FIELD + "." + FXMLLoader.INITIALIZE_METHOD_NAME + "();");
+            }
+        }
+
+        methods.append('\n')
+               .append("    @Override\n")
+               .append("    protected void initializeController() throws Exception {\n")
+               .append("        if (!").append(DIRECT_FIELD).append(") {\n")
+               .append("            super.initializeController();\n")
+               .append("            return;\n")
+               .append("        }\n")
+               .append(code.text)
+               .append("    }\n");
+    }
+
+    private static boolean throwsCheckedExceptions(Method method) {
+        for (Class<?> exceptionType : method.getExceptionTypes()) {
+            if (!RuntimeException.class.isAssignableFrom(exceptionType)
+                    && !Error.class.isAssignableFrom(exceptionType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // -- helpers
+
+    private Target createTarget(Value value) {
+        Kind kind = Map.class.isAssignableFrom(value.type) ? Kind.MAP : Kind.TYPED;
+        return new Target(kind, value.code, value.type);
+    }
+
+    private Value declare(Class<?> type, String expression, Code code) throws IOException {
+        checkAccessible(type);
+        String variable = newVariable();
+        code.line(typeName(type) + " " + variable + " = " + expression + ";");
+        return new Value(variable, type);
+    }
+
+    private String newVariable() {
+        return "v" + (nextVariable++);
+    }
+
+    private void addField(String type, String name) {
+        fieldNames.add(name);
+        fields.append("    private ").append(type).append(' ').append(name).append(";\n");
+    }
+
+    private Field getConstantField(Class<?> type, String name) throws LoadException {
+        Field field;
+        try {
+            field = type.getField(name);
+        } catch (NoSuchFieldException exception) {
+            throw error(type.getName() + " does not define the constant " + name + ".");
+        }
+        int modifiers = field.getModifiers();
+        if (!Modifier.isStatic(modifiers) || !Modifier.isFinal(modifiers)) {
+            throw error("Field is not a constant.");
+        }
+        return field;
+    }
+
+    private Method getFactoryMethod(Class<?> type, String name) throws LoadException {
+        Method method;
+        try {
+            method = type.getMethod(name);
+        } catch (NoSuchMethodException exception) {
+            throw error(type.getName() + " does not define the factory method " + name + "().");
+        }
+        if (!Modifier.isStatic(method.getModifiers())) {
+            throw error(type.getName() + "." + name + "() is not static.");
+        }
+        return method;
+    }
+
+    /**
+     * Returns true if JavaFXBuilderFactory creates a builder for the type.
+     */
+    private static boolean hasBuilder(Class<?> type) {
+        if (type == Scene.class || type == Font.class || type == Image.class || type == URL.class
+                || type == TriangleMesh.class || type.getName().equals(WEBVIEW_NAME)) {
+            return true;
+        }
+        for (Constructor<?> constructor : type.getConstructors()) {
+            for (java.lang.annotation.Annotation[] annotations : constructor.getParameterAnnotations()) {
+                for (java.lang.annotation.Annotation annotation : annotations) {
+                    if (annotation instanceof NamedArg) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String getDefaultPropertyName(Class<?> type) {
+        if (type == null) {
+            return null;
+        }
+        DefaultProperty defaultProperty = type.getAnnotation(DefaultProperty.class);
+        return (defaultProperty == null) ? null : defaultProperty.value();
+    }
+
+    private boolean isAccessible(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        if (type.getCanonicalName() == null) {
+            return false;
+        }
+        Module module = type.getModule();
+        if (module.isNamed() && !module.isExported(type.getPackageName())) {
+            return false;
+        }
+        for (Class<?> c = type; c != null; c = c.getDeclaringClass()) {
+            int modifiers = c.getModifiers();
+            if (Modifier.isPrivate(modifiers)
+                    || (!Modifier.isPublic(modifiers) && !c.getPackageName().equals(packageName))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isAccessible(Member member) {
+        int modifiers = member.getModifiers();
+        Class<?> declaringClass = member.getDeclaringClass();
+        if (Modifier.isPrivate(modifiers)
+                || (!Modifier.isPublic(modifiers) && !declaringClass.getPackageName().equals(packageName))) {
+            return false;
+        }
+        return isAccessible(declaringClass);
+    }
+
+    private void checkAccessible(Class<?> type) throws LoadException {
+        if (!isAccessible(type)) {
+            throw error(type.getName() + " is not accessible to the generated code.");
+        }
+    }
+
+    private void checkAccessible(Class<?> declaringClass, Class<?> type) throws LoadException {
+        if (!isAccessible(declaringClass) && !isAccessible(type)) {
+            throw error(declaringClass.getName() + " is not accessible to the generated code.");
+        }
+    }
+
+    private static String typeName(Class<?> type) {
+        if (type.isArray()) {
+            return typeName(type.getComponentType()) + "[]";
+        }
+        return type.isPrimitive() ? type.getName() : type.getCanonicalName();
+    }
+
+    private static Class<?> box(Class<?> type) {
+        if (type == null || !type.isPrimitive()) {
+            return (type == null) ? Object.class : type;
+        }
+        if (type == Boolean.TYPE) {
+            return Boolean.class;
+        } else if (type == Character.TYPE) {
+            return Character.class;
+        } else if (type == Byte.TYPE) {
+            return Byte.class;
+        } else if (type == Short.TYPE) {
+            return Short.class;
+        } else if (type == Integer.TYPE) {
+            return Integer.class;
+        } else if (type == Long.TYPE) {
+            return Long.class;
+        } else if (type == Float.TYPE) {
+            return Float.class;
+        } else if (type == Double.TYPE) {
+            return Double.class;
+        }
+        return Void.class;
+    }
+
+    static String quote(String text) {
+        StringBuilder quoted = new StringBuilder(text.length() + 2).append('"');
+        for (int i = 0, n = text.length(); i < n; i++) {
+            quoted.append(escape(text.charAt(i), '"'));
+        }
+        return quoted.append('"').toString();
+    }
+
+    private static String escape(char c, char quote) {
+        switch (c) {
+            case '\\': return "\\\\";
+            case '\n': return "\\n";
+            case '\r': return "\\r";
+            case '\t': return "\\t";
+            case '\b': return "\\b";
+            case '\f': return "\\f";
+            default:
+                if (c == quote) {
+                    return "\\" + c;
+                }
+                if (c < 0x20 || c > 0x7e) {
+                    return String.format("\\u%04x", (int) c);
+                }
+                return String.valueOf(c);
+        }
+    }
+
+    private static int compareVersions(String version1, String version2) {
+        String[] numbers1 = version1.split("\\.");
+        String[] numbers2 = version2.split("\\.");
+        for (int i = 0; i < Math.min(numbers1.length, numbers2.length); i++) {
+            int difference = Integer.parseInt(numbers1[i]) - Integer.parseInt(numbers2[i]);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return numbers1.length - numbers2.length;
+    }
+
+    private LoadException error(String message) {
+        return new LoadException(document.location.getPath() + ":"
+                + (current == null ? 0 : current.lineNumber) + ": " + message);
+    }
+}
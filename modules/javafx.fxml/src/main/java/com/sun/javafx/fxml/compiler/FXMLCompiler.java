@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.fxml.compiler;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javafx.fxml.LoadException;
+
+/**
+ * Compiles FXML documents into subclasses of {@link javafx.fxml.FXMLFactory}.
+ * <p>
+ * The factory class of a document has the name of the document with the
+ * suffix {@code FXML}, in the package of the document's resource path; the
+ * factory of {@code com/example/MainView.fxml} is
+ * {@code com.example.MainViewFXML}. Includes of documents compiled
+ * together are compiled into calls of the factories of the included
+ * documents; other includes are loaded with an {@code FXMLLoader}.
+ * <p>
+ * The classes referenced by the documents are loaded, but not initialized,
+ * with the class loader given to the compiler.
+ */
+public final class FXMLCompiler {
+
+    private static final String CLASS_NAME_SUFFIX = "FXML";
+    private static final String FXML_EXTENSION = ".fxml";
+
+    /**
+     * A document compiled into a factory class.
+     */
+    private static final class Unit {
+        final String resourceName;
+        final URL location;
+        final String packageName;
+        final String simpleName;
+        FXMLDocument document;
+
+        Unit(String resourceName, URL location, String packageName, String simpleName) {
+            this.resourceName = resourceName;
+            this.location = location;
+            this.packageName = packageName;
+            this.simpleName = simpleName;
+        }
+
+        String getClassName() {
+            return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        }
+    }
+
+    private final ClassLoader classLoader;
+    private Charset charset = StandardCharsets.UTF_8;
+
+    private final Map<String, Unit> units = new LinkedHashMap<>();
+    private final Map<String, Unit> unitsByResourceName = new HashMap<>();
+    private final Map<String, Class<?>> rootTypes = new HashMap<>();
+    private final Map<String, Set<String>> includes = new HashMap<>();
+
+    /**
+     * Creates a compiler that loads the classes referenced by the documents
+     * with the given class loader.
+     */
+    public FXMLCompiler(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    /**
+     * Sets the character set of the documents; the default is UTF-8.
+     */
+    public void setCharset(Charset charset) {
+        if (charset == null) {
+            throw new NullPointerException("charset is null.");
+        }
+        this.charset = charset;
+    }
+
+    /**
+     * Adds a document to compile.
+     *
+     * @param resourceName the resource name of the document, for instance
+     * {@code com/example/MainView.fxml}
+     * @param location the location the document is read from
+     * @return the name of the factory class of the document
+     */
+    public String addDocument(String resourceName, URL location) {
+        if (resourceName.startsWith("/")) {
+            resourceName = resourceName.substring(1);
+        }
+        if (!resourceName.endsWith(FXML_EXTENSION)) {
+            throw new IllegalArgumentException(resourceName + " is not an FXML document.");
+        }
+
+        int i = resourceName.lastIndexOf('/');
+        String packageName = (i == -1) ? "" : resourceName.substring(0, i).replace('/', '.');
+        for (String segment : packageName.split("\\.")) {
+            if (!packageName.isEmpty() && !isIdentifier(segment)) {
+                throw new IllegalArgumentException(resourceName + " is not in a valid package.");
+            }
+        }
+
+        String baseName = resourceName.substring(i + 1, resourceName.length() - FXML_EXTENSION.length());
+        StringBuilder simpleName = new StringBuilder();
+        for (int j = 0, n = baseName.length(); j < n; j++) {
+            char c = baseName.charAt(j);
+            simpleName.append((j == 0 ? Character.isJavaIdentifierStart(c) : Character.isJavaIdentifierPart(c))
+                    ? c : '_');
+        }
+        simpleName.append(CLASS_NAME_SUFFIX);
+
+        Unit unit = new Unit(resourceName, location, packageName, simpleName.toString());
+        units.put(getKey(location), unit);
+        unitsByResourceName.put(resourceName, unit);
+        return unit.getClassName();
+    }
+
+    /**
+     * Compiles the documents.
+     *
+     * @return the source of the factory classes, by class name
+     * @throws LoadException if a document is invalid or uses features the
+     * compiler does not support
+     * @throws IOException if a document cannot be read
+     */
+    public Map<String, String> compile() throws IOException {
+        Map<String, String> sources = new LinkedHashMap<>();
+        for (Unit unit : units.values()) {
+            CodeGenerator generator = new CodeGenerator(this, getDocument(unit), unit.packageName,
+                    unit.simpleName);
+            sources.put(unit.getClassName(), generator.generate());
+        }
+
+        for (String location : includes.keySet()) {
+            checkCycles(location, new ArrayList<>());
+        }
+        return sources;
+    }
+
+    private void checkCycles(String location, List<String> path) throws LoadException {
+        if (path.contains(location)) {
+            throw new LoadException("Recursive include: " + String.join(" -> ", path) + " -> " + location);
+        }
+        path.add(location);
+        for (String included : includes.getOrDefault(location, Set.of())) {
+            checkCycles(included, path);
+        }
+        path.remove(path.size() - 1);
+    }
+
+    private FXMLDocument getDocument(Unit unit) throws IOException {
+        if (unit.document == null) {
+            unit.document = FXMLDocument.read(unit.location, charset);
+        }
+        return unit.document;
+    }
+
+    /**
+     * Resolves the source of an include the way FXMLLoader does.
+     */
+    URL resolveInclude(URL location, String source) throws IOException {
+        URL url;
+        if (source.startsWith("/")) {
+            Unit unit = unitsByResourceName.get(source.substring(1));
+            url = (unit != null) ? unit.location : classLoader.getResource(source.substring(1));
+        } else {
+            url = new URL(location, source);
+        }
+
+        if (url != null && units.containsKey(getKey(url))) {
+            includes.computeIfAbsent(getKey(location), k -> new HashSet<>()).add(getKey(url));
+        }
+        return url;
+    }
+
+    /**
+     * Returns the name of the factory class of an included document, or
+     * null if the document is not compiled.
+     */
+    String getFactoryClassName(URL location) {
+        Unit unit = units.get(getKey(location));
+        return (unit == null) ? null : unit.getClassName();
+    }
+
+    /**
+     * Returns the static type of the root of an included document.
+     */
+    Class<?> getRootType(URL location) throws IOException {
+        String key = getKey(location);
+        Class<?> type = rootTypes.get(key);
+        if (type == null) {
+            Unit unit = units.get(key);
+            FXMLDocument document = (unit != null) ? getDocument(unit) : FXMLDocument.read(location, charset);
+            type = CodeGenerator.getRootType(this, document);
+            rootTypes.put(key, type);
+        }
+        return type;
+    }
+
+    private static String getKey(URL location) {
+        try {
+            return location.toURI().normalize().toString();
+        } catch (URISyntaxException exception) {
+            return location.toExternalForm();
+        }
+    }
+
+    private static boolean isIdentifier(String name) {
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 1, n = name.length(); i < n; i++) {
+            if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compiles FXML documents into Java source files.
+     * <pre>
+     * FXMLCompiler -d &lt;output directory&gt; [-sourceroot &lt;directory&gt;]
+     *              [-encoding &lt;charset&gt;] &lt;document&gt;...
+     * </pre>
+     * The resource names of the documents are their paths relative to the
+     * source root, which is the current directory by default. The classes
+     * referenced by the documents are loaded with the context class loader.
+     */
+    public static void main(String[] args) throws IOException {
+        Path outputDirectory = null;
+        Path sourceRoot = Path.of("");
+        Charset charset = StandardCharsets.UTF_8;
+        List<Path> documents = new ArrayList<>();
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if ((arg.equals("-d") || arg.equals("-sourceroot") || arg.equals("-encoding")) && i + 1 == args.length) {
+                usage("Missing value of " + arg + ".");
+            }
+            switch (arg) {
+                case "-d":
+                    outputDirectory = Path.of(args[++i]);
+                    break;
+                case "-sourceroot":
+                    sourceRoot = Path.of(args[++i]);
+                    break;
+                case "-encoding":
+                    charset = Charset.forName(args[++i]);
+                    break;
+                default:
+                    if (arg.startsWith("-")) {
+                        usage("Unknown option " + arg + ".");
+                    }
+                    documents.add(Path.of(arg));
+                    break;
+            }
+        }
+        if (outputDirectory == null || documents.isEmpty()) {
+            usage(null);
+        }
+
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        FXMLCompiler compiler = new FXMLCompiler(classLoader != null ? classLoader
+                : FXMLCompiler.class.getClassLoader());
+        compiler.setCharset(charset);
+
+        Path root = sourceRoot.toAbsolutePath().normalize();
+        for (Path document : documents) {
+            Path path = document.isAbsolute() ? document.normalize() : root.resolve(document).normalize();
+            if (!path.startsWith(root)) {
+                path = document.toAbsolutePath().normalize();
+            }
+            if (!path.startsWith(root)) {
+                usage(document + " is not in the source root " + sourceRoot + ".");
+            }
+            String resourceName = root.relativize(path).toString().replace(File.separatorChar, '/');
+            compiler.addDocument(resourceName, path.toUri().toURL());
+        }
+
+        for (Map.Entry<String, String> source : compiler.compile().entrySet()) {
+            Path file = outputDirectory.resolve(source.getKey().replace('.', File.separatorChar) + ".java");
+            Files.createDirectories(file.getParent());
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                writer.write(source.getValue());
+            }
+        }
+    }
+
+    private static void usage(String message) {
+        if (message != null) {
+            System.err.println(message);
+        }
+        System.err.println("Usage: FXMLCompiler -d <output directory> [-sourceroot <directory>]"
+                + " [-encoding <charset>] <document>...");
+        System.exit(2);
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.fxml.compiler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import javafx.fxml.FXMLLoader;
+import javafx.fxml.LoadException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * The element tree of an FXML document, as read by the FXML compiler.
+ */
+final class FXMLDocument {
+
+    /**
+     * An attribute of an element.
+     */
+    static final class Attribute {
+        final String prefix;
+        final String localName;
+        final String value;
+
+        Attribute(String prefix, String localName, String value) {
+            this.prefix = prefix;
+            this.localName = localName;
+            this.value = value;
+        }
+    }
+
+    /**
+     * An element. The children of an element are elements and the text
+     * between them, in document order.
+     */
+    static final class Element {
+        final String prefix;
+        final String localName;
+        final int lineNumber;
+        final List<Attribute> attributes = new ArrayList<>();
+        final List<Object> children = new ArrayList<>();
+
+        Element(String prefix, String localName, int lineNumber) {
+            this.prefix = prefix;
+            this.localName = localName;
+            this.lineNumber = lineNumber;
+        }
+
+        boolean isFX(String name) {
+            return FXMLLoader.FX_NAMESPACE_PREFIX.equals(prefix) && localName.equals(name);
+        }
+
+        /**
+         * Returns the number of elements in the subtree of this element.
+         */
+        int size() {
+            int size = 1;
+            for (Object child : children) {
+                if (child instanceof Element) {
+                    size += ((Element) child).size();
+                }
+            }
+            return size;
+        }
+    }
+
+    final URL location;
+    final List<String> imports = new ArrayList<>();
+    String fxNamespaceURI;
+    Element root;
+
+    private FXMLDocument(URL location) {
+        this.location = location;
+    }
+
+    /**
+     * Reads a document.
+     */
+    static FXMLDocument read(URL location, Charset charset) throws IOException {
+        FXMLDocument document = new FXMLDocument(location);
+
+        try (InputStream inputStream = location.openStream()) {
+            XMLInputFactory xmlInputFactory = XMLInputFactory.newFactory();
+            xmlInputFactory.setProperty("javax.xml.stream.isCoalescing", true);
+
+            XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(
+                    new InputStreamReader(inputStream, charset));
+
+            List<Element> stack = new ArrayList<>();
+            while (reader.hasNext()) {
+                int event = reader.next();
+
+                switch (event) {
+                    case XMLStreamConstants.PROCESSING_INSTRUCTION: {
+                        String target = reader.getPITarget().trim();
+                        if (target.equals(FXMLLoader.IMPORT_PROCESSING_INSTRUCTION)) {
+                            document.imports.add(reader.getPIData().trim());
+                        } else if (target.equals(FXMLLoader.LANGUAGE_PROCESSING_INSTRUCTION)) {
+                            throw new LoadException(location + ":" + reader.getLocation().getLineNumber()
+                                    + ": Scripts are not supported by the FXML compiler.");
+                        }
+                        break;
+                    }
+
+                    case XMLStreamConstants.START_ELEMENT: {
+                        Element element = new Element(prefix(reader.getPrefix()), reader.getLocalName(),
+                                reader.getLocation().getLineNumber());
+                        for (int i = 0, n = reader.getAttributeCount(); i < n; i++) {
+                            element.attributes.add(new Attribute(prefix(reader.getAttributePrefix(i)),
+                                    reader.getAttributeLocalName(i), reader.getAttributeValue(i)));
+                        }
+
+                        if (stack.isEmpty()) {
+                            if (document.root != null) {
+                                throw new LoadException(location + ": Root value already specified.");
+                            }
+                            document.root = element;
+                            document.fxNamespaceURI = reader.getNamespaceContext()
+                                    .getNamespaceURI(FXMLLoader.FX_NAMESPACE_PREFIX);
+                        } else {
+                            stack.get(stack.size() - 1).children.add(element);
+                        }
+                        stack.add(element);
+                        break;
+                    }
+
+                    case XMLStreamConstants.END_ELEMENT: {
+                        stack.remove(stack.size() - 1);
+                        break;
+                    }
+
+                    case XMLStreamConstants.CHARACTERS: {
+                        if (!reader.isWhiteSpace() && !stack.isEmpty()) {
+                            stack.get(stack.size() - 1).children.add(reader.getText());
+                        }
+                        break;
+                    }
+                }
+            }
+        } catch (XMLStreamException exception) {
+            throw new LoadException(location + ": " + exception.getMessage(), exception);
+        }
+
+        if (document.root == null) {
+            throw new LoadException(location + ": The document is empty.");
+        }
+
+        return document;
+    }
+
+    private static String prefix(String prefix) {
+        return (prefix == null || prefix.isEmpty()) ? null : prefix;
+    }
+}
@@ -0,0 +1,670 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package javafx.fxml;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import javafx.beans.property.Property;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableMap;
+import javafx.event.Event;
+import javafx.event.EventHandler;
+import javafx.util.Builder;
+import javafx.util.Callback;
+import com.sun.javafx.fxml.BeanAdapter;
+import com.sun.javafx.fxml.MethodHelper;
+import com.sun.javafx.fxml.expression.Expression;
+import com.sun.javafx.fxml.expression.ExpressionValue;
+import com.sun.javafx.fxml.expression.KeyPath;
+import com.sun.javafx.reflect.ReflectUtil;
+
+/**
+ * Base class of the factories generated by the FXML compiler.
+ * <p>
+ * The FXML compiler turns an FXML document into a subclass of
+ * {@code FXMLFactory} that creates the object graph described by the
+ * document with direct constructor, setter and method calls, so that loading
+ * the document at run time needs neither an XML parser nor reflective
+ * property access. A generated factory is used the same way as an
+ * {@link FXMLLoader}:
+ * <pre>{@code
+ * MainViewFXML factory = new MainViewFXML();
+ * factory.setResources(ResourceBundle.getBundle("com.example.messages"));
+ * Parent root = factory.load();
+ * MainController controller = factory.getController();
+ * }</pre>
+ * The object graph, the namespace and the controller of a generated factory
+ * are the same as those {@code FXMLLoader} produces for the source document
+ * with the default {@link JavaFXBuilderFactory}.
+ * <p>
+ * The compiler is run at build time, for instance from a Gradle
+ * {@code JavaExec} task, with the classes referenced by the documents on its
+ * class path:
+ * <pre>{@code
+ * java --module-path <javafx-sdk>/lib --add-modules javafx.fxml,javafx.controls \
+ *      -cp <application classes> \
+ *      --module javafx.fxml/com.sun.javafx.fxml.compiler.FXMLCompiler \
+ *      -d build/generated/fxml -sourceroot src/main/resources \
+ *      src/main/resources/com/example/MainView.fxml ...
+ * }</pre>
+ * The generated source files have to be compiled together with the
+ * application. Documents that use features the compiler does not support,
+ * such as scripts, are rejected when they are compiled and can still be
+ * loaded with {@code FXMLLoader}.
+ * <p>
+ * The protected methods of this class are used by the generated code and
+ * are not meant to be called by applications.
+ *
+ * @since 17.0.21
+ */
+public abstract class FXMLFactory {
+
+    private final URL location;
+    private ResourceBundle resources;
+
+    private Object root;
+    private Object controller;
+    private Callback<Class<?>, Object> controllerFactory;
+
+    private final ObservableMap<String, Object> namespace = FXCollections.observableHashMap();
+
+    private final FXMLLoader.ControllerAccessor controllerAccessor = new FXMLLoader.ControllerAccessor();
+
+    /**
+     * Creates a factory.
+     *
+     * @param location the location of the source document, used to resolve
+     * relative paths; may be null
+     */
+    protected FXMLFactory(URL location) {
+        this.location = location;
+    }
+
+    /**
+     * Returns the location of the source document.
+     * @return the location of the source document, or null if it is not known
+     */
+    public final URL getLocation() {
+        return location;
+    }
+
+    /**
+     * Returns the resources used to resolve resource key attribute values.
+     * @return the resources
+     */
+    public final ResourceBundle getResources() {
+        return resources;
+    }
+
+    /**
+     * Sets the resources used to resolve resource key attribute values.
+     * @param resources the resources
+     */
+    public final void setResources(ResourceBundle resources) {
+        this.resources = resources;
+    }
+
+    /**
+     * Returns the root of the object graph.
+     * @param <T> the type of the root object
+     * @return the root of the object graph
+     */
+    @SuppressWarnings("unchecked")
+    public final <T> T getRoot() {
+        return (T) root;
+    }
+
+    /**
+     * Sets the root of the object graph. The root must be set before
+     * {@link #load} is called if the source document uses {@code fx:root}.
+     * @param root the root of the object graph
+     */
+    public final void setRoot(Object root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the controller associated with the root object.
+     * @param <T> the type of the controller
+     * @return the controller
+     */
+    @SuppressWarnings("unchecked")
+    public final <T> T getController() {
+        return (T) controller;
+    }
+
+    /**
+     * Sets the controller associated with the root object.
+     * @param controller the controller
+     */
+    public final void setController(Object controller) {
+        this.controller = controller;
+
+        if (controller == null) {
+            namespace.remove(FXMLLoader.CONTROLLER_KEYWORD);
+        } else {
+            namespace.put(FXMLLoader.CONTROLLER_KEYWORD, controller);
+        }
+
+        controllerAccessor.setController(controller);
+    }
+
+    /**
+     * Returns the controller factory.
+     * @return the controller factory
+     */
+    public final Callback<Class<?>, Object> getControllerFactory() {
+        return controllerFactory;
+    }
+
+    /**
+     * Sets the controller factory used to create the controller named by
+     * the {@code fx:controller} attribute of the source document.
+     * @param controllerFactory the controller factory
+     */
+    public final void setControllerFactory(Callback<Class<?>, Object> controllerFactory) {
+        this.controllerFactory = controllerFactory;
+    }
+
+    /**
+     * Returns the namespace, which contains the objects that have an
+     * {@code fx:id}.
+     * @return the namespace
+     */
+    public final ObservableMap<String, Object> getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * Creates the object graph and initializes the controller.
+     *
+     * @param <T> the type of the root object
+     * @return the root of the object graph
+     * @throws IOException if an error occurs while creating the object graph
+     */
+    @SuppressWarnings("unchecked")
+    public final <T> T load() throws IOException {
+        namespace.put(FXMLLoader.LOCATION_KEY, location);
+        namespace.put(FXMLLoader.RESOURCES_KEY, resources);
+
+        controllerAccessor.setCallerClass(getClass());
+        try {
+            root = build();
+
+            if (controller != null) {
+                initializeController();
+            }
+        } catch (final LoadException exception) {
+            throw exception;
+        } catch (final Exception exception) {
+            throw new LoadException(exception);
+        } finally {
+            controllerAccessor.setCallerClass(null);
+            controllerAccessor.reset();
+        }
+
+        return (T) root;
+    }
+
+    /**
+     * Creates the object graph.
+     *
+     * @return the root of the object graph
+     * @throws Exception if an error occurs while creating the object graph
+     */
+    protected abstract Object build() throws Exception;
+
+    /**
+     * Initializes the controller after the object graph has been created,
+     * the same way {@code FXMLLoader} does. Generated factories override
+     * this method if the type of the controller is known when the document
+     * is compiled.
+     *
+     * @throws Exception if the controller cannot be initialized
+     */
+    protected void initializeController() throws Exception {
+        if (controller instanceof Initializable) {
+            ((Initializable) controller).initialize(location, resources);
+        } else {
+            injectField(FXMLLoader.LOCATION_KEY, location);
+            injectField(FXMLLoader.RESOURCES_KEY, resources);
+
+            Method initializeMethod = controllerAccessor
+                    .getControllerMethods()
+                    .get(FXMLLoader.SupportedType.PARAMETERLESS)
+                    .get(FXMLLoader.INITIALIZE_METHOD_NAME);
+
+            if (initializeMethod != null) {
+                try {
+                    MethodHelper.invoke(initializeMethod, controller, new Object[] {});
+                } catch (IllegalAccessException | InvocationTargetException exception) {
+                    throw new LoadException(exception);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the controller named by the {@code fx:controller} attribute.
+     *
+     * @param className the name of the controller class
+     * @return the controller
+     * @throws LoadException if a controller has already been set, or if the
+     * controller cannot be created
+     */
+    protected final Object createController(String className) throws LoadException {
+        if (controller != null) {
+            throw new LoadException("Controller value already specified.");
+        }
+
+        Class<?> type;
+        try {
+            type = FXMLLoader.getDefaultClassLoader().loadClass(className);
+        } catch (ClassNotFoundException exception) {
+            throw new LoadException(exception);
+        }
+
+        try {
+            if (controllerFactory == null) {
+                ReflectUtil.checkPackageAccess(type);
+                setController(type.getDeclaredConstructor().newInstance());
+            } else {
+                setController(controllerFactory.call(type));
+            }
+        } catch (Exception e) {
+            throw new LoadException(e);
+        }
+
+        return controller;
+    }
+
+    /**
+     * Verifies that no root has been set before the object graph of a
+     * document without {@code fx:root} is created.
+     *
+     * @throws LoadException if a root has been set
+     */
+    protected final void checkRootNotSet() throws LoadException {
+        if (root != null) {
+            throw new LoadException("Root value already specified.");
+        }
+    }
+
+    /**
+     * Returns the root set by the application, for documents that use
+     * {@code fx:root}.
+     *
+     * @param <T> the type of the root
+     * @param type the type named by the {@code fx:root} element
+     * @return the root
+     * @throws LoadException if no root has been set, or if the root is not
+     * an instance of {@code type}
+     */
+    @SuppressWarnings("unchecked")
+    protected final <T> T getRoot(Class<T> type) throws LoadException {
+        if (root == null) {
+            throw new LoadException("Root hasn't been set. Use method setRoot() before load.");
+        }
+
+        if (!type.isAssignableFrom(root.getClass())) {
+            throw new LoadException("Root is not an instance of " + type.getName() + ".");
+        }
+
+        return (T) root;
+    }
+
+    /**
+     * Sets the controller fields with the given name, as
+     * {@code FXMLLoader} does for objects with an {@code fx:id}.
+     *
+     * @param fieldName the name of the fields
+     * @param value the value of the fields
+     * @throws LoadException if a field cannot be set
+     */
+    protected final void injectField(String fieldName, Object value) throws LoadException {
+        if (controller != null && fieldName != null) {
+            List<Field> fields = controllerAccessor.getControllerFields().get(fieldName);
+            if (fields != null) {
+                try {
+                    for (Field f : fields) {
+                        f.set(controller, value);
+                    }
+                } catch (IllegalAccessException exception) {
+                    throw new LoadException(exception);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns an event handler that calls a method of the controller.
+     *
+     * @param <T> the event type
+     * @param attributeName the name of the event handler attribute
+     * @param methodName the name of the controller method
+     * @return the event handler
+     * @throws LoadException if no controller has been set, or if the
+     * controller does not have a suitable method
+     */
+    protected final <T extends Event> EventHandler<T> getControllerMethodHandler(String attributeName,
+            String methodName) throws LoadException {
+        if (controller == null) {
+            throw new LoadException("No controller specified.");
+        }
+
+        Map<FXMLLoader.SupportedType, Map<String, Method>> methods = controllerAccessor.getControllerMethods();
+        FXMLLoader.SupportedType type = FXMLLoader.SupportedType.EVENT;
+        Method method = methods.get(type).get(methodName);
+        if (method == null) {
+            type = FXMLLoader.SupportedType.PARAMETERLESS;
+            method = methods.get(type).get(methodName);
+        }
+
+        if (method == null) {
+            throw new LoadException("Error resolving " + attributeName + "='"
+                    + FXMLLoader.CONTROLLER_METHOD_PREFIX + methodName
+                    + "', either the event handler is not in the Namespace or there is an error in the script.");
+        }
+
+        return new FXMLLoader.ControllerMethodEventHandler<>(
+                new FXMLLoader.MethodHandler(controller, method, type));
+    }
+
+    /**
+     * Returns the event handler an expression refers to, as
+     * {@code FXMLLoader} does for event handler attributes that start with
+     * {@code $}.
+     *
+     * @param <T> the event type
+     * @param keyPath the key path of the event handler
+     * @return the event handler
+     * @throws LoadException if the expression does not refer to an event
+     * handler
+     */
+    @SuppressWarnings("unchecked")
+    protected final <T extends Event> EventHandler<T> getEventHandler(String keyPath) throws LoadException {
+        Object value = getNamespaceValue(keyPath);
+        if (value == null) {
+            throw new LoadException("Unable to resolve expression : $" + keyPath);
+        }
+        if (!(value instanceof EventHandler)) {
+            throw new LoadException("Error resolving \"$" + keyPath + "\" expression."
+                    + "Does not point to a " + EventHandler.class.getName());
+        }
+
+        return (EventHandler<T>) value;
+    }
+
+    /**
+     * Returns the value of a key path in the namespace, as {@code FXMLLoader}
+     * does for attribute values that start with {@code $}.
+     *
+     * @param keyPath the key path
+     * @return the value
+     */
+    protected final Object getNamespaceValue(String keyPath) {
+        return Expression.get(namespace, KeyPath.parse(keyPath));
+    }
+
+    /**
+     * Returns the value referenced by an {@code fx:reference} element.
+     *
+     * @param source the key path of the value
+     * @return the value
+     * @throws LoadException if the value does not exist
+     */
+    protected final Object getReference(String source) throws LoadException {
+        KeyPath path = KeyPath.parse(source);
+        if (!Expression.isDefined(namespace, path)) {
+            throw new LoadException("Value \"" + source + "\" does not exist.");
+        }
+
+        return Expression.get(namespace, path);
+    }
+
+    /**
+     * Binds a property to an expression that is evaluated against the
+     * namespace, as {@code FXMLLoader} does for {@code ${expression}}
+     * attribute values that the compiler could not turn into a direct
+     * binding. Nothing is bound if the property model is not a
+     * {@link Property}.
+     *
+     * @param propertyModel the property model to bind
+     * @param type the type of the property value
+     * @param expression the expression
+     */
+    @SuppressWarnings("unchecked")
+    protected final void bind(ObservableValue<?> propertyModel, Class<?> type, String expression) {
+        if (propertyModel instanceof Property<?>) {
+            ((Property<Object>) propertyModel).bind(
+                    new ExpressionValue(namespace, Expression.valueOf(expression), type));
+        }
+    }
+
+    /**
+     * Resolves a path relative to the location of the source document, as
+     * {@code FXMLLoader} does for attribute values that start with {@code @}.
+     *
+     * @param path the path
+     * @return the URL of the path
+     * @throws LoadException if the path cannot be resolved
+     */
+    protected final String resolveRelativePath(String path) throws LoadException {
+        if (path.charAt(0) == '/') {
+            final URL res = FXMLLoader.getDefaultClassLoader().getResource(path.substring(1));
+            if (res == null) {
+                throw new LoadException("Invalid resource: " + path + " not found on the classpath");
+            }
+            return res.toString();
+        }
+
+        try {
+            return new URL(location, path).toString();
+        } catch (MalformedURLException exception) {
+            throw new LoadException(exception);
+        }
+    }
+
+    /**
+     * Returns a string from the resources, as {@code FXMLLoader} does for
+     * attribute values that start with {@code %}.
+     *
+     * @param key the resource key
+     * @return the resource string
+     * @throws LoadException if no resources have been set or the key is not
+     * defined
+     */
+    protected final String getResourceString(String key) throws LoadException {
+        if (resources == null) {
+            throw new LoadException("No resources specified.");
+        }
+        if (!resources.containsKey(key)) {
+            throw new LoadException("Resource \"" + key + "\" not found.");
+        }
+
+        return resources.getString(key);
+    }
+
+    /**
+     * Returns the resources named by the {@code resources} attribute of an
+     * {@code fx:include} element.
+     *
+     * @param baseName the base name of the resource bundle
+     * @return the resources
+     */
+    protected final ResourceBundle getIncludeResources(String baseName) {
+        return ResourceBundle.getBundle(baseName, Locale.getDefault(),
+                resources.getClass().getClassLoader());
+    }
+
+    /**
+     * Loads an included document that was not compiled together with the
+     * including document with an {@code FXMLLoader}.
+     *
+     * @param source the {@code source} attribute of the {@code fx:include}
+     * element
+     * @param resources the resources of the included document
+     * @param charset the name of the character set of the included document
+     * @param id the {@code fx:id} of the {@code fx:include} element, or null
+     * @return the root of the included document
+     * @throws IOException if the included document cannot be loaded
+     */
+    protected final Object include(String source, ResourceBundle resources, String charset, String id)
+            throws IOException {
+        URL includeLocation;
+        if (source.charAt(0) == '/') {
+            includeLocation = FXMLLoader.getDefaultClassLoader().getResource(source.substring(1));
+            if (includeLocation == null) {
+                throw new LoadException("Cannot resolve path: " + source);
+            }
+        } else {
+            if (location == null) {
+                throw new LoadException("Base location is undefined.");
+            }
+
+            includeLocation = new URL(location, source);
+        }
+
+        FXMLLoader loader = new FXMLLoader(includeLocation, resources, null, controllerFactory,
+                charset != null ? Charset.forName(charset) : Charset.forName(FXMLLoader.DEFAULT_CHARSET_NAME));
+        Object value = loader.load();
+        includeController(id, loader.getController());
+        return value;
+    }
+
+    /**
+     * Loads an included document that was compiled together with the
+     * including document.
+     *
+     * @param factory the factory of the included document
+     * @param resources the resources of the included document
+     * @param id the {@code fx:id} of the {@code fx:include} element, or null
+     * @return the root of the included document
+     * @throws IOException if the included document cannot be loaded
+     */
+    protected final Object include(FXMLFactory factory, ResourceBundle resources, String id)
+            throws IOException {
+        factory.setResources(resources);
+        factory.setControllerFactory(controllerFactory);
+        Object value = factory.load();
+        includeController(id, factory.getController());
+        return value;
+    }
+
+    private void includeController(String id, Object includedController) throws LoadException {
+        if (id != null) {
+            String name = id + FXMLLoader.CONTROLLER_SUFFIX;
+            namespace.put(name, includedController);
+            injectField(name, includedController);
+        }
+    }
+
+    /**
+     * Returns the builder {@link JavaFXBuilderFactory} provides for a type.
+     *
+     * @param type the type
+     * @return the builder
+     */
+    protected static Builder<?> newBuilder(Class<?> type) {
+        return new JavaFXBuilderFactory(FXMLLoader.getDefaultClassLoader()).getBuilder(type);
+    }
+
+    /**
+     * Sets a property of a builder.
+     *
+     * @param builder the builder
+     * @param name the name of the property
+     * @param value the value of the property
+     */
+    protected static void setBuilderProperty(Builder<?> builder, String name, Object value) {
+        getBuilderProperties(builder).put(name, value);
+    }
+
+    /**
+     * Applies a value that is declared in a property element of a builder.
+     * The value is added to the property if it is a read-only list, and set
+     * as the property value otherwise.
+     *
+     * @param builder the builder
+     * @param name the name of the property
+     * @param value the value
+     * @throws LoadException if the property is read-only and not defined
+     */
+    @SuppressWarnings("unchecked")
+    protected static void addBuilderProperty(Builder<?> builder, String name, Object value) throws LoadException {
+        Map<String, Object> properties = getBuilderProperties(builder);
+        boolean typed = properties instanceof BeanAdapter;
+        boolean readOnly = typed ? ((BeanAdapter) properties).isReadOnly(name) : properties.containsKey(name);
+
+        if (!readOnly) {
+            properties.put(name, value);
+            return;
+        }
+
+        Object list = properties.get(name);
+        if (list == null) {
+            throw new LoadException("Invalid property.");
+        }
+
+        if (list instanceof List<?>) {
+            if (typed) {
+                value = BeanAdapter.coerce(value,
+                        BeanAdapter.getListItemType(((BeanAdapter) properties).getGenericType(name)));
+            }
+            ((List<Object>) list).add(value);
+        } else {
+            properties.put(name, value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> getBuilderProperties(Builder<?> builder) {
+        return (builder instanceof Map<?, ?>) ? (Map<String, Object>) builder : new BeanAdapter(builder);
+    }
+
+    /**
+     * Converts a value to the given type, as {@code FXMLLoader} does when it
+     * sets a property.
+     *
+     * @param <T> the type to convert to
+     * @param value the value
+     * @param type the type to convert to
+     * @return the converted value
+     */
+    protected static <T> T coerce(Object value, Class<? extends T> type) {
+        return BeanAdapter.coerce(value, type);
+    }
+}
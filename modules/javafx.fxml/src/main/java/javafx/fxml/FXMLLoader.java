@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -78,6 +78,7 @@ import javax.xml.stream.util.StreamReaderDelegate;
 
 import com.sun.javafx.beans.IDProperty;
 import com.sun.javafx.fxml.BeanAdapter;
+import com.sun.javafx.fxml.FXMLTemplate;
 import com.sun.javafx.fxml.ParseTraceElement;
 import com.sun.javafx.fxml.PropertyNotFoundException;
 import com.sun.javafx.fxml.expression.Expression;
@@ -1149,6 +1150,7 @@ public class FXMLLoader {
             }
             fxmlLoader.setClassLoader(cl);
             fxmlLoader.setStaticLoad(staticLoad);
+            fxmlLoader.setTemplateCacheEnabled(templateCacheEnabled);
 
             Object value = fxmlLoader.loadImpl(callerClass);
 
@@ -1712,7 +1714,7 @@ public class FXMLLoader {
     }
 
     // Event handler that delegates to a method defined by the controller object
-    private static class ControllerMethodEventHandler<T extends Event> implements EventHandler<T> {
+    static class ControllerMethodEventHandler<T extends Event> implements EventHandler<T> {
         private final MethodHandler handler;
 
         public ControllerMethodEventHandler(MethodHandler handler) {
@@ -1835,12 +1837,12 @@ public class FXMLLoader {
         }
     }
 
-    private static class MethodHandler {
+    static class MethodHandler {
         private final Object controller;
         private final Method method;
         private final SupportedType type;
 
-        private MethodHandler(Object controller, Method method, SupportedType type) {
+        MethodHandler(Object controller, Method method, SupportedType type) {
             this.method = method;
             this.controller = controller;
             this.type = type;
@@ -1877,6 +1879,7 @@ public class FXMLLoader {
 
     private ClassLoader classLoader = null;
     private boolean staticLoad = false;
+    private boolean templateCacheEnabled = false;
     private LoadListener loadListener = null;
 
     private FXMLLoader parentLoader;
@@ -2483,6 +2486,53 @@ public class FXMLLoader {
         this.staticLoad = staticLoad;
     }
 
+    /**
+     * Indicates whether this loader caches the parsed form of the documents
+     * it loads from its location.
+     *
+     * @return {@code true} if the template cache is enabled
+     *
+     * @see #setTemplateCacheEnabled(boolean)
+     * @since 17.0.21
+     */
+    public boolean isTemplateCacheEnabled() {
+        return templateCacheEnabled;
+    }
+
+    /**
+     * Enables or disables the template cache for this loader. When the cache
+     * is enabled, {@link #load()} parses the document at the loader's
+     * location only the first time the document is loaded by any loader;
+     * subsequent loads create a new object hierarchy from the parsed form of
+     * the document. The flag also applies to the documents included by the
+     * document. Documents loaded from an input stream are never cached.
+     * <p>
+     * A cached document is not read again if it changes; call
+     * {@link #clearTemplateCache()} to discard the cached documents.
+     * <p>
+     * Loaders that use the template cache may load documents concurrently on
+     * different threads. As for any scene graph created on a background
+     * thread, the loaded object hierarchy must be attached to a live scene on
+     * the JavaFX Application Thread.
+     *
+     * @param templateCacheEnabled {@code true} to enable the template cache
+     *
+     * @since 17.0.21
+     */
+    public void setTemplateCacheEnabled(boolean templateCacheEnabled) {
+        this.templateCacheEnabled = templateCacheEnabled;
+    }
+
+    /**
+     * Discards the parsed documents in the template cache.
+     *
+     * @see #setTemplateCacheEnabled(boolean)
+     * @since 17.0.21
+     */
+    public static void clearTemplateCache() {
+        FXMLTemplate.clearTemplates();
+    }
+
     /**
      * Returns this loader's load listener.
      *
@@ -2548,6 +2598,17 @@ public class FXMLLoader {
             throw new IllegalStateException("Location is not set.");
         }
 
+        if (templateCacheEnabled) {
+            FXMLTemplate template;
+            try {
+                template = FXMLTemplate.getTemplate(location, charset);
+            } catch (XMLStreamException exception) {
+                throw constructLoadException(exception);
+            }
+
+            return loadImpl(null, template, callerClass);
+        }
+
         InputStream inputStream = null;
         T value;
         try {
@@ -2569,6 +2630,12 @@ public class FXMLLoader {
             throw new NullPointerException("inputStream is null.");
         }
 
+        return loadImpl(inputStream, null, callerClass);
+    }
+
+    @SuppressWarnings({ "dep-ann", "unchecked" })
+    private <T> T loadImpl(InputStream inputStream, FXMLTemplate template,
+                           Class<?> callerClass) throws IOException {
         this.callerClass = callerClass;
         controllerAccessor.setCallerClass(callerClass);
         try {
@@ -2582,40 +2649,44 @@ public class FXMLLoader {
             scriptEngine = null;
 
             // Create the parser
-            try {
-                XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
-                xmlInputFactory.setProperty("javax.xml.stream.isCoalescing", true);
-
-                // Some stream readers incorrectly report an empty string as the prefix
-                // for the default namespace; correct this as needed
-                InputStreamReader inputStreamReader = new InputStreamReader(inputStream, charset);
-                xmlStreamReader = new StreamReaderDelegate(xmlInputFactory.createXMLStreamReader(inputStreamReader)) {
-                    @Override
-                    public String getPrefix() {
-                        String prefix = super.getPrefix();
-
-                        if (prefix != null
-                            && prefix.length() == 0) {
-                            prefix = null;
-                        }
+            if (template != null) {
+                xmlStreamReader = template.createStreamReader();
+            } else {
+                try {
+                    XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+                    xmlInputFactory.setProperty("javax.xml.stream.isCoalescing", true);
 
-                        return prefix;
-                    }
+                    // Some stream readers incorrectly report an empty string as the prefix
+                    // for the default namespace; correct this as needed
+                    InputStreamReader inputStreamReader = new InputStreamReader(inputStream, charset);
+                    xmlStreamReader = new StreamReaderDelegate(xmlInputFactory.createXMLStreamReader(inputStreamReader)) {
+                        @Override
+                        public String getPrefix() {
+                            String prefix = super.getPrefix();
 
-                    @Override
-                    public String getAttributePrefix(int index) {
-                        String attributePrefix = super.getAttributePrefix(index);
+                            if (prefix != null
+                                && prefix.length() == 0) {
+                                prefix = null;
+                            }
 
-                        if (attributePrefix != null
-                            && attributePrefix.length() == 0) {
-                            attributePrefix = null;
+                            return prefix;
                         }
 
-                        return attributePrefix;
-                    }
-                };
-            } catch (XMLStreamException exception) {
-                throw constructLoadException(exception);
+                        @Override
+                        public String getAttributePrefix(int index) {
+                            String attributePrefix = super.getAttributePrefix(index);
+
+                            if (attributePrefix != null
+                                && attributePrefix.length() == 0) {
+                                attributePrefix = null;
+                            }
+
+                            return attributePrefix;
+                        }
+                    };
+                } catch (XMLStreamException exception) {
+                    throw constructLoadException(exception);
+                }
             }
 
             // Push this loader onto the stack
@@ -3054,7 +3125,7 @@ public class FXMLLoader {
         return getClassLoader().loadClass(packageName + "." + className.replace('.', '$'));
     }
 
-    private static enum SupportedType {
+    static enum SupportedType {
         PARAMETERLESS {
 
             @Override
@@ -3457,7 +3528,7 @@ public class FXMLLoader {
     private final ControllerAccessor controllerAccessor =
             new ControllerAccessor();
 
-    private static final class ControllerAccessor {
+    static final class ControllerAccessor {
         private static final int PUBLIC = 1;
         private static final int PROTECTED = 2;
         private static final int PACKAGE = 4;
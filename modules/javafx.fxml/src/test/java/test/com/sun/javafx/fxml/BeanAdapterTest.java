@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package test.com.sun.javafx.fxml;
+
+import com.sun.javafx.fxml.BeanAdapter;
+import com.sun.javafx.fxml.PropertyNotFoundException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.geometry.Pos;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class BeanAdapterTest {
+
+    public static class Bean {
+        private int count;
+        private boolean enabled;
+        private Pos alignment;
+        private final StringProperty name = new SimpleStringProperty(this, "name");
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            if (count < 0) {
+                throw new IllegalStateException("negative count");
+            }
+            this.count = count;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Pos getAlignment() {
+            return alignment;
+        }
+
+        public void setAlignment(Pos alignment) {
+            this.alignment = alignment;
+        }
+
+        public String getName() {
+            return name.get();
+        }
+
+        public void setName(String name) {
+            this.name.set(name);
+        }
+
+        public StringProperty nameProperty() {
+            return name;
+        }
+
+        public String getReadOnly() {
+            return "readOnly";
+        }
+    }
+
+    public static class SubBean extends Bean {
+    }
+
+    @Test
+    public void testGetAndPut() {
+        Bean bean = new Bean();
+        BeanAdapter adapter = new BeanAdapter(bean);
+
+        adapter.put("count", "42");
+        adapter.put("enabled", "true");
+        adapter.put("alignment", "bottomRight");
+        adapter.put("name", "bean");
+
+        assertEquals(42, bean.getCount());
+        assertTrue(bean.isEnabled());
+        assertEquals(Pos.BOTTOM_RIGHT, bean.getAlignment());
+        assertEquals("bean", bean.getName());
+
+        assertEquals(42, adapter.get("count"));
+        assertEquals(true, adapter.get("enabled"));
+        assertSame(bean.nameProperty(), adapter.getPropertyModel("name"));
+        assertEquals(int.class, adapter.getType("count"));
+        assertNull(adapter.get("undefined"));
+    }
+
+    @Test
+    public void testInheritedProperties() {
+        SubBean bean = new SubBean();
+        BeanAdapter adapter = new BeanAdapter(bean);
+
+        adapter.put("count", 7);
+        assertEquals(7, adapter.get("count"));
+        assertTrue(adapter.containsKey("name"));
+        assertFalse(adapter.containsKey("undefined"));
+    }
+
+    @Test
+    public void testReadOnlyProperty() {
+        BeanAdapter adapter = new BeanAdapter(new Bean());
+
+        assertTrue(adapter.isReadOnly("readOnly"));
+        assertFalse(adapter.isReadOnly("name"));
+        assertEquals("readOnly", adapter.get("readOnly"));
+        try {
+            adapter.put("readOnly", "value");
+            fail("Expected PropertyNotFoundException");
+        } catch (PropertyNotFoundException exception) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testSetterExceptionIsWrapped() {
+        BeanAdapter adapter = new BeanAdapter(new Bean());
+
+        try {
+            adapter.put("count", -1);
+            fail("Expected RuntimeException");
+        } catch (RuntimeException exception) {
+            assertTrue(exception.getCause() instanceof InvocationTargetException);
+            assertTrue(exception.getCause().getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void testNullToPrimitiveIsRejected() {
+        BeanAdapter adapter = new BeanAdapter(new Bean());
+
+        try {
+            adapter.put("count", null);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testStaticProperties() {
+        Pane pane = new Pane();
+
+        BeanAdapter.put(pane, GridPane.class, "rowIndex", "3");
+        BeanAdapter.put(pane, GridPane.class, "columnIndex", 2);
+
+        assertEquals(Integer.valueOf(3), GridPane.getRowIndex(pane));
+        assertEquals(Integer.valueOf(2), BeanAdapter.get(pane, GridPane.class, "columnIndex"));
+        assertEquals(Integer.class, BeanAdapter.getType(GridPane.class, "rowIndex", Pane.class));
+        assertTrue(BeanAdapter.isDefined(GridPane.class, "rowIndex", Pane.class));
+        assertFalse(BeanAdapter.isDefined(GridPane.class, "undefined", Pane.class));
+
+        BeanAdapter.put(pane, GridPane.class, "rowIndex", null);
+        assertNull(GridPane.getRowIndex(pane));
+
+        try {
+            BeanAdapter.put(pane, GridPane.class, "undefined", "1");
+            fail("Expected PropertyNotFoundException");
+        } catch (PropertyNotFoundException exception) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCoerce() {
+        assertEquals(Integer.valueOf(5), BeanAdapter.coerce("5", Integer.class));
+        assertEquals(Double.valueOf(1.5), BeanAdapter.coerce("1.5", double.class));
+        assertEquals(Pos.TOP_LEFT, BeanAdapter.coerce("topLeft", Pos.class));
+        assertEquals(Pos.TOP_LEFT, BeanAdapter.coerce("TOP_LEFT", Pos.class));
+        assertEquals(Color.RED, BeanAdapter.coerce("red", Paint.class));
+        assertEquals(Color.BLUE, BeanAdapter.coerce("blue", Paint.class));
+        try {
+            BeanAdapter.coerce(new Object(), Pos.class);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException exception) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                final int count = i;
+                tasks.add(() -> {
+                    for (int j = 0; j < 100; j++) {
+                        Bean bean = (j % 2 == 0) ? new Bean() : new SubBean();
+                        BeanAdapter adapter = new BeanAdapter(bean);
+                        adapter.put("count", Integer.toString(count));
+                        adapter.put("alignment", "center");
+                        assertEquals(count, adapter.get("count"));
+                        assertEquals(Pos.CENTER, bean.getAlignment());
+
+                        Pane pane = new Pane();
+                        BeanAdapter.put(pane, GridPane.class, "rowIndex", count);
+                        assertEquals(Integer.valueOf(count), GridPane.getRowIndex(pane));
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
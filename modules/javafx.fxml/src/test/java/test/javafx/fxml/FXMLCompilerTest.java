@@ -0,0 +1,436 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package test.javafx.fxml;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ResourceBundle;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.fxml.FXMLFactory;
+import javafx.fxml.FXMLLoader;
+import javafx.fxml.LoadException;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+import javafx.scene.control.TextField;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import com.sun.javafx.fxml.compiler.FXMLCompiler;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FXMLCompilerTest {
+
+    public static class Controller {
+        @FXML public Label label;
+        @FXML private Button button;
+        public TextField field;
+        @FXML public HBox box;
+        @FXML public StackPane included;
+        @FXML public IncludeController includedController;
+        @FXML public URL location;
+        @FXML public ResourceBundle resources;
+        public String greeting;
+
+        int actions;
+        int parameterlessActions;
+        boolean initialized;
+
+        public Button getButton() {
+            return button;
+        }
+
+        @FXML
+        public void handleAction(ActionEvent event) {
+            actions++;
+        }
+
+        @FXML
+        private void handleParameterless() {
+            parameterlessActions++;
+        }
+
+        @FXML
+        public void initialize() {
+            initialized = true;
+        }
+    }
+
+    public static class SubController extends Controller {
+    }
+
+    public static class IncludeController {
+        @FXML public Label message;
+    }
+
+    public static class ModeHolder {
+        private Mode mode;
+
+        public Mode getMode() {
+            return mode;
+        }
+
+        public void setMode(Mode mode) {
+            this.mode = mode;
+        }
+    }
+
+    public enum Mode {
+        FIRST, SECOND;
+
+        static {
+            modeInitialized = true;
+        }
+    }
+
+    private static boolean modeInitialized;
+
+    private static final String PACKAGE_PATH = "test/javafx/fxml/";
+    private static final Map<String, Class<?>> compiledClasses = new HashMap<>();
+
+    private static Map<String, String> compile(Map<String, URL> documents) throws IOException {
+        FXMLCompiler compiler = new FXMLCompiler(FXMLCompilerTest.class.getClassLoader());
+        for (Map.Entry<String, URL> document : documents.entrySet()) {
+            compiler.addDocument(PACKAGE_PATH + document.getKey(), document.getValue());
+        }
+        return compiler.compile();
+    }
+
+    private static URL write(String name, String fxml) throws IOException {
+        Path file = Files.createTempFile(name, ".fxml");
+        file.toFile().deleteOnExit();
+        Files.writeString(file, fxml, StandardCharsets.UTF_8);
+        return file.toUri().toURL();
+    }
+
+    /**
+     * Compiles generated sources and defines the classes in this package.
+     */
+    private static synchronized Class<?> define(Map<String, String> sources, String className) throws Exception {
+        Class<?> type = compiledClasses.get(className);
+        if (type != null) {
+            return type;
+        }
+
+        JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+        assertNotNull("No system Java compiler", javac);
+
+        List<JavaFileObject> units = new ArrayList<>();
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            units.add(new SimpleJavaFileObject(URI.create("string:///" + source.getKey().replace('.', '/')
+                    + JavaFileObject.Kind.SOURCE.extension), JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return source.getValue();
+                }
+            });
+        }
+
+        Map<String, ByteArrayOutputStream> classFiles = new HashMap<>();
+        StandardJavaFileManager standardFileManager = javac.getStandardFileManager(null, null, null);
+        JavaFileManager fileManager = new ForwardingJavaFileManager<>(standardFileManager) {
+            @Override
+            public JavaFileObject getJavaFileForOutput(Location location, String name, JavaFileObject.Kind kind,
+                    FileObject sibling) {
+                return new SimpleJavaFileObject(URI.create("bytes:///" + name.replace('.', '/')
+                        + kind.extension), kind) {
+                    @Override
+                    public OutputStream openOutputStream() {
+                        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                        classFiles.put(name, bytes);
+                        return bytes;
+                    }
+                };
+            }
+        };
+
+        List<String> options = new ArrayList<>(List.of("-classpath", System.getProperty("java.class.path")));
+        String modulePath = System.getProperty("jdk.module.path");
+        if (modulePath != null) {
+            options.addAll(List.of("--module-path", modulePath,
+                    "--add-modules", "javafx.base,javafx.graphics,javafx.controls,javafx.fxml"));
+        }
+
+        StringBuilder diagnostics = new StringBuilder();
+        boolean success = javac.getTask(null, fileManager,
+                diagnostic -> diagnostics.append(diagnostic).append('\n'), options, null, units).call();
+        assertTrue(diagnostics.toString(), success);
+
+        // a factory can only be defined once the factories it includes are
+        while (!classFiles.isEmpty()) {
+            for (String name : List.copyOf(classFiles.keySet())) {
+                boolean includesPending = classFiles.keySet().stream()
+                        .anyMatch(other -> sources.get(name).contains("new " + other + "("));
+                if (!includesPending) {
+                    byte[] bytes = classFiles.remove(name).toByteArray();
+                    compiledClasses.put(name, MethodHandles.lookup().defineClass(bytes));
+                }
+            }
+        }
+        return compiledClasses.get(className);
+    }
+
+    private static Map<String, String> compileSample() throws IOException {
+        return compile(Map.of(
+                "fxml_compiler.fxml", FXMLCompilerTest.class.getResource("fxml_compiler.fxml"),
+                "fxml_compiler_include.fxml", FXMLCompilerTest.class.getResource("fxml_compiler_include.fxml")));
+    }
+
+    private static FXMLFactory newSampleFactory() throws Exception {
+        String className = "test.javafx.fxml.fxml_compilerFXML";
+        return (FXMLFactory) define(compileSample(), className).getConstructor().newInstance();
+    }
+
+    private static void verifySample(VBox root, Controller controller, Map<String, Object> namespace) {
+        assertEquals(4.5, root.getSpacing(), 0);
+        assertEquals(Pos.CENTER_LEFT, root.getAlignment());
+        assertEquals(new Insets(1, 2, 3, 4), root.getPadding());
+        assertEquals(List.of("root", "main"), root.getStyleClass());
+        assertEquals(7, root.getChildren().size());
+
+        Label label = (Label) root.getChildren().get(0);
+        assertEquals("Hello", label.getText());
+        assertTrue(label.isWrapText());
+        assertEquals(Priority.ALWAYS, VBox.getVgrow(label));
+        assertEquals("label", label.getId());
+
+        Button button = (Button) root.getChildren().get(1);
+        assertEquals("Press", button.getText());
+        label.setPrefWidth(42);
+        assertEquals(42, button.getPrefWidth(), 0);
+
+        TextField field = (TextField) root.getChildren().get(2);
+        assertEquals("$escaped", field.getText());
+
+        HBox box = (HBox) root.getChildren().get(3);
+        assertTrue(box.getStyleClass().containsAll(List.of("first", "second")));
+        assertEquals(1, box.getChildren().size());
+        assertEquals("inner", ((Label) box.getChildren().get(0)).getText());
+        assertEquals("Hello", box.getUserData());
+
+        Rectangle rectangle = (Rectangle) root.getChildren().get(4);
+        assertEquals(10, rectangle.getWidth(), 0);
+        assertEquals(20, rectangle.getHeight(), 0);
+        assertEquals(Color.RED, rectangle.getFill());
+
+        ListView<?> list = (ListView<?>) root.getChildren().get(5);
+        assertEquals(List.of("a", "b"), list.getItems());
+
+        StackPane included = (StackPane) root.getChildren().get(6);
+        assertEquals(Integer.valueOf(2), GridPane.getColumnIndex(included));
+        assertEquals("Included", ((Label) included.getChildren().get(0)).getText());
+
+        assertSame(label, namespace.get("label"));
+        assertSame(button, namespace.get("button"));
+        assertEquals("Hello", namespace.get("greeting"));
+        assertSame(included, namespace.get("included"));
+        assertSame(controller, namespace.get("controller"));
+        assertSame(controller.includedController, namespace.get("includedController"));
+
+        assertSame(label, controller.label);
+        assertSame(button, controller.getButton());
+        assertSame(field, controller.field);
+        assertSame(box, controller.box);
+        assertSame(included, controller.included);
+        assertSame(included.getChildren().get(0), controller.includedController.message);
+        assertEquals("Hello", controller.greeting);
+        assertNotNull(controller.location);
+        assertNotNull(controller.resources);
+        assertTrue(controller.initialized);
+
+        button.fireEvent(new ActionEvent());
+        assertEquals(1, controller.actions);
+        field.fireEvent(new ActionEvent());
+        assertEquals(1, controller.parameterlessActions);
+    }
+
+    private static ResourceBundle getSampleResources() {
+        return ResourceBundle.getBundle("test/javafx/fxml/fxml_compiler");
+    }
+
+    @Test
+    public void testLoaderProducesSample() throws IOException {
+        FXMLLoader fxmlLoader = new FXMLLoader(FXMLCompilerTest.class.getResource("fxml_compiler.fxml"),
+                getSampleResources());
+        VBox root = fxmlLoader.load();
+        verifySample(root, fxmlLoader.getController(), fxmlLoader.getNamespace());
+    }
+
+    @Test
+    public void testFactoryProducesSameGraphAsLoader() throws Exception {
+        FXMLFactory factory = newSampleFactory();
+        factory.setResources(getSampleResources());
+        VBox root = factory.load();
+        assertSame(root, factory.getRoot());
+        assertEquals(FXMLCompilerTest.class.getResource("fxml_compiler.fxml"), factory.getLocation());
+        verifySample(root, factory.getController(), factory.getNamespace());
+    }
+
+    @Test
+    public void testFactoryFallsBackToReflectionForControllerSubclass() throws Exception {
+        FXMLFactory factory = newSampleFactory();
+        factory.setResources(getSampleResources());
+        factory.setControllerFactory(type -> (type == Controller.class) ? new SubController()
+                : new IncludeController());
+        VBox root = factory.load();
+        assertTrue(factory.getController() instanceof SubController);
+        verifySample(root, factory.getController(), factory.getNamespace());
+    }
+
+    @Test
+    public void testGeneratedCodeAccessesControllerDirectly() throws Exception {
+        String source = compileSample().get("test.javafx.fxml.fxml_compilerFXML");
+        assertTrue(source, source.contains("new javafx.scene.control.Label()"));
+        assertTrue(source, source.contains("fx_controller.label = "));
+        assertTrue(source, source.contains(".setText(fx_greeting)"));
+        assertTrue(source, source.contains("fx_controller.handleAction((javafx.event.ActionEvent) event)"));
+        assertTrue(source, source.contains(".prefWidthProperty().bind(fx_label.prefWidthProperty())"));
+        assertTrue(source, source.contains("include(new test.javafx.fxml.fxml_compiler_includeFXML()"));
+        assertFalse(source, source.contains("FXMLLoader"));
+    }
+
+    @Test
+    public void testLoadTwice() throws Exception {
+        FXMLFactory factory = newSampleFactory();
+        factory.setResources(getSampleResources());
+        factory.load();
+        try {
+            factory.load();
+            fail("Expected LoadException");
+        } catch (LoadException exception) {
+            assertTrue(exception.getMessage().contains("Root value already specified."));
+        }
+    }
+
+    @Test
+    public void testLargeDocumentIsSplitIntoMethods() throws Exception {
+        StringBuilder fxml = new StringBuilder("<?import javafx.scene.control.Label?>\n"
+                + "<?import javafx.scene.layout.VBox?>\n"
+                + "<VBox xmlns:fx=\"http://javafx.com/fxml/1\">\n");
+        for (int i = 0; i < 200; i++) {
+            fxml.append("<Label text=\"").append(i).append("\"/>\n");
+        }
+        fxml.append("</VBox>\n");
+
+        Map<String, String> sources = compile(Map.of("fxml_compiler_large.fxml",
+                write("fxml_compiler_large", fxml.toString())));
+        String className = "test.javafx.fxml.fxml_compiler_largeFXML";
+        assertTrue(sources.get(className).contains("private void build0("));
+
+        FXMLFactory factory = (FXMLFactory) define(sources, className).getConstructor().newInstance();
+        VBox root = factory.load();
+        assertEquals(200, root.getChildren().size());
+        for (int i = 0; i < 200; i++) {
+            assertEquals(Integer.toString(i), ((Label) root.getChildren().get(i)).getText());
+        }
+    }
+
+    @Test
+    public void testEnumIsNotInitializedByCompiler() throws Exception {
+        Map<String, String> sources = compile(Map.of("fxml_compiler_enum.fxml",
+                write("fxml_compiler_enum", "<?import test.javafx.fxml.*?>\n"
+                        + "<FXMLCompilerTest.ModeHolder xmlns:fx=\"http://javafx.com/fxml/1\" mode=\"second\"/>\n")));
+        assertFalse(modeInitialized);
+
+        String className = "test.javafx.fxml.fxml_compiler_enumFXML";
+        FXMLFactory factory = (FXMLFactory) define(sources, className).getConstructor().newInstance();
+        ModeHolder root = factory.load();
+        assertEquals(Mode.SECOND, root.getMode());
+    }
+
+    private static void assertUnsupported(String fxml, String message) throws IOException {
+        try {
+            compile(Map.of("fxml_compiler_unsupported.fxml", write("fxml_compiler_unsupported", fxml)));
+            fail("Expected LoadException");
+        } catch (LoadException exception) {
+            assertTrue(exception.getMessage(), exception.getMessage().contains(message));
+        }
+    }
+
+    @Test
+    public void testScriptsAreNotSupported() throws IOException {
+        assertUnsupported("<?language javascript?>\n"
+                + "<?import javafx.scene.layout.VBox?>\n"
+                + "<VBox xmlns:fx=\"http://javafx.com/fxml/1\"/>\n",
+                "Scripts are not supported");
+    }
+
+    @Test
+    public void testCopyIsNotSupported() throws IOException {
+        assertUnsupported("<?import javafx.scene.layout.VBox?>\n"
+                + "<VBox xmlns:fx=\"http://javafx.com/fxml/1\">\n"
+                + "<VBox fx:id=\"a\"/>\n"
+                + "<fx:copy source=\"a\"/>\n"
+                + "</VBox>\n",
+                "fx:copy is not supported");
+    }
+
+    @Test
+    public void testChangeListenersAreNotSupported() throws IOException {
+        assertUnsupported("<?import javafx.scene.layout.VBox?>\n"
+                + "<VBox xmlns:fx=\"http://javafx.com/fxml/1\" onSpacingChange=\"#spacingChanged\"/>\n",
+                "Change listener attributes are not supported");
+    }
+
+    @Test
+    public void testUnknownPropertyIsReportedWithLine() throws IOException {
+        assertUnsupported("<?import javafx.scene.layout.VBox?>\n"
+                + "<VBox xmlns:fx=\"http://javafx.com/fxml/1\">\n"
+                + "<VBox unknown=\"1\"/>\n"
+                + "</VBox>\n",
+                ":3: Property \"unknown\" does not exist or is read-only.");
+    }
+}
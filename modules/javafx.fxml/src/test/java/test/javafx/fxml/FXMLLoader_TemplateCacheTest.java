@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.javafx.fxml;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ResourceBundle;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javafx.event.ActionEvent;
+import javafx.fxml.FXML;
+import javafx.fxml.FXMLLoader;
+import javafx.fxml.LoadException;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FXMLLoader_TemplateCacheTest {
+
+    public static class Controller {
+        @FXML Label label;
+        @FXML Button button;
+        @FXML Label included;
+        @FXML IncludeController includedController;
+        int actionCount;
+
+        @FXML
+        void handleAction(ActionEvent event) {
+            actionCount++;
+        }
+    }
+
+    public static class IncludeController {
+        @FXML Label message;
+    }
+
+    @After
+    public void tearDown() {
+        FXMLLoader.clearTemplateCache();
+    }
+
+    private static FXMLLoader createLoader(String name, boolean templateCacheEnabled) {
+        FXMLLoader fxmlLoader = new FXMLLoader(FXMLLoader_TemplateCacheTest.class.getResource(name),
+            ResourceBundle.getBundle("test/javafx/fxml/fxml_template"));
+        fxmlLoader.setTemplateCacheEnabled(templateCacheEnabled);
+        return fxmlLoader;
+    }
+
+    private static void assertLoaded(FXMLLoader fxmlLoader, VBox root) {
+        Controller controller = fxmlLoader.getController();
+        assertEquals(4, root.getSpacing(), 0);
+        assertEquals(List.of("root", "main"), root.getStyleClass());
+        assertEquals(3, root.getChildren().size());
+        assertSame(controller.label, root.getChildren().get(0));
+        assertEquals("Hello", controller.label.getText());
+        assertSame(controller.button, root.getChildren().get(1));
+        assertEquals("Press", controller.button.getText());
+        assertSame(controller.included, root.getChildren().get(2));
+        assertEquals("Included", controller.included.getText());
+        assertSame(controller.included, controller.includedController.message);
+
+        controller.button.fire();
+        assertEquals(1, controller.actionCount);
+    }
+
+    @Test
+    public void testTemplateCacheDisabledByDefault() {
+        assertFalse(new FXMLLoader().isTemplateCacheEnabled());
+    }
+
+    @Test
+    public void testRepeatedLoadsCreateDistinctHierarchies() throws IOException {
+        FXMLLoader uncachedLoader = createLoader("fxml_template.fxml", false);
+        VBox uncached = uncachedLoader.load();
+        assertLoaded(uncachedLoader, uncached);
+
+        VBox previous = uncached;
+        for (int i = 0; i < 3; i++) {
+            FXMLLoader fxmlLoader = createLoader("fxml_template.fxml", true);
+            VBox root = fxmlLoader.load();
+            assertLoaded(fxmlLoader, root);
+            assertNotSame(previous, root);
+            assertNotSame(previous.getChildren().get(0), root.getChildren().get(0));
+            previous = root;
+        }
+    }
+
+    @Test
+    public void testLoadAfterClearTemplateCache() throws IOException {
+        FXMLLoader fxmlLoader = createLoader("fxml_template.fxml", true);
+        assertLoaded(fxmlLoader, fxmlLoader.load());
+
+        FXMLLoader.clearTemplateCache();
+
+        fxmlLoader = createLoader("fxml_template.fxml", true);
+        assertLoaded(fxmlLoader, fxmlLoader.load());
+    }
+
+    @Test
+    public void testErrorReportsLineNumber() throws IOException {
+        for (int i = 0; i < 2; i++) {
+            try {
+                createLoader("fxml_template_error.fxml", true).load();
+                fail("Expected LoadException");
+            } catch (LoadException exception) {
+                assertTrue(exception.getMessage(), exception.getMessage().contains("fxml_template_error.fxml:32"));
+            }
+        }
+    }
+
+    @Test
+    public void testMissingDocument() throws IOException {
+        FXMLLoader fxmlLoader = new FXMLLoader(new URL(
+            FXMLLoader_TemplateCacheTest.class.getResource("fxml_template.fxml"), "missing.fxml"));
+        fxmlLoader.setTemplateCacheEnabled(true);
+        try {
+            fxmlLoader.load();
+            fail("Expected IOException");
+        } catch (IOException exception) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testConcurrentLoads() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<FXMLLoader>> tasks = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                tasks.add(() -> {
+                    FXMLLoader fxmlLoader = createLoader("fxml_template.fxml", true);
+                    fxmlLoader.load();
+                    return fxmlLoader;
+                });
+            }
+
+            for (Future<FXMLLoader> future : executor.invokeAll(tasks)) {
+                FXMLLoader fxmlLoader = future.get();
+                assertLoaded(fxmlLoader, fxmlLoader.getRoot());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
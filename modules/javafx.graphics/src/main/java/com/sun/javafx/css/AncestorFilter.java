@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.css;
+
+import javafx.css.CompoundSelector;
+import javafx.css.Selector;
+import javafx.css.SimpleSelector;
+import javafx.css.StyleClass;
+import javafx.css.Styleable;
+
+import java.util.List;
+
+/**
+ * A bloom filter of the type selectors, ids and style classes of the
+ * ancestors of a Styleable.
+ *
+ * Every simple selector left of the rightmost one in a compound selector has
+ * to match an ancestor of the Styleable, so the type selector, id and style
+ * classes named by these simple selectors must all be in the filter of the
+ * ancestors. If one of them is not, the compound selector cannot apply and
+ * the walk up the scene graph done by {@link Selector#applies} is skipped.
+ * A filter may report false positives, never false negatives.
+ */
+public final class AncestorFilter {
+
+    private static final int WORDS = 4;
+    private static final int BITS = WORDS * Long.SIZE;
+
+    // salts that keep a type selector, an id and a style class with the same
+    // name apart
+    private static final int TYPE = 1;
+    private static final int ID = 2;
+    private static final int STYLE_CLASS = 3;
+
+    private AncestorFilter() {}
+
+    /**
+     * Returns the bits an ancestor filter must have for the selector to
+     * apply, or null if the selector puts no constraint on the ancestors.
+     */
+    public static long[] getRequiredBits(Selector selector) {
+        if (!(selector instanceof CompoundSelector)) {
+            return null;
+        }
+        final List<SimpleSelector> selectors = ((CompoundSelector) selector).getSelectors();
+        long[] bits = null;
+        // the rightmost selector has to match the styleable itself
+        for (int n = 0, nMax = selectors.size() - 1; n < nMax; n++) {
+            final SimpleSelector simple = selectors.get(n);
+            final String name = simple.getName();
+            if (name != null && !name.isEmpty() && !"*".equals(name)) {
+                bits = add(bits, name, TYPE);
+            }
+            final String id = simple.getId();
+            if (id != null && !id.isEmpty()) {
+                bits = add(bits, id, ID);
+            }
+            for (StyleClass styleClass : simple.getStyleClassSet()) {
+                bits = add(bits, styleClass.getStyleClassName(), STYLE_CLASS);
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Returns the ancestor filter of the styleable.
+     */
+    public static long[] of(Styleable styleable) {
+        final long[] bits = new long[WORDS];
+        for (Styleable parent = styleable.getStyleableParent(); parent != null;
+                parent = parent.getStyleableParent()) {
+            final String type = parent.getTypeSelector();
+            if (type != null && !type.isEmpty()) {
+                add(bits, type, TYPE);
+            }
+            final String id = parent.getId();
+            if (id != null && !id.isEmpty()) {
+                add(bits, id, ID);
+            }
+            final List<String> styleClasses = parent.getStyleClass();
+            for (int n = 0, nMax = styleClasses.size(); n < nMax; n++) {
+                final String styleClass = styleClasses.get(n);
+                if (styleClass != null && !styleClass.isEmpty()) {
+                    add(bits, styleClass, STYLE_CLASS);
+                }
+            }
+        }
+        return bits;
+    }
+
+    /**
+     * Returns false if a selector with the given required bits cannot apply
+     * to a styleable with the given ancestor filter.
+     */
+    public static boolean mayMatch(long[] filter, long[] requiredBits) {
+        if (requiredBits == null) {
+            return true;
+        }
+        for (int n = 0; n < WORDS; n++) {
+            if ((filter[n] & requiredBits[n]) != requiredBits[n]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long[] add(long[] bits, String name, int salt) {
+        if (bits == null) {
+            bits = new long[WORDS];
+        }
+        // two bits per name, taken from a scrambled hash
+        final int hash = (name.hashCode() * 31 + salt) * 0x9E3779B9;
+        final int bit1 = (hash >>> 16) % BITS;
+        final int bit2 = (hash & 0xFFFF) % BITS;
+        bits[bit1 / Long.SIZE] |= 1L << bit1;
+        bits[bit2 / Long.SIZE] |= 1L << bit2;
+        return bits;
+    }
+}
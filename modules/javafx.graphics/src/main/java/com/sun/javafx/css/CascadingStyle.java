@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2008, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2008, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -51,6 +51,14 @@ public class CascadingStyle implements Comparable<CascadingStyle> {
     /** State variables, like &quot;hover&quot; or &quot;pressed&quot; */
     private final Set<PseudoClass> pseudoClasses;
 
+    /**
+     * Returns the pseudo-classes the selector requires of the node or of
+     * its ancestors.
+     */
+    public Set<PseudoClass> getPseudoClasses() {
+        return pseudoClasses;
+    }
+
     /* specificity of the selector that matched */
     private final int specificity;
 
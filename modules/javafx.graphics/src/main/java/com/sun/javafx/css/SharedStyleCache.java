@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.css;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javafx.css.Selector;
+
+/**
+ * A process-wide index of the StyleCache instances of all scenes.
+ * <p>
+ * The ids of a StyleMap are unique per scene, so scenes that use the same
+ * stylesheets cannot share cached values by the StyleMap ids alone. The
+ * selectors of a StyleMap, however, come from the stylesheets StyleManager
+ * shares among all scenes. A StyleMap made of the same selector instances
+ * for the same class of node holds the same styles in every scene, so it is
+ * given the same shared id. The class is part of the shared id since the
+ * styleable properties of a class determine how the styles are converted.
+ * A StyleCache.Key of shared ids then identifies the same cascaded values in
+ * every scene, which lets scenes with identical UIs share one StyleCache.
+ * <p>
+ * A StyleMap that holds an inline style gets a shared id of its own, since
+ * the selector of an inline style is parsed per scene.
+ * <p>
+ * Scenes hold their StyleCache instances strongly; the index only holds
+ * them weakly, so a StyleCache is evicted once no scene uses it. The index
+ * and the table of shared ids are bounded in size. They are cleared when a
+ * stylesheet is no longer used, to release its selectors, and when the
+ * user agent stylesheets change.
+ */
+public final class SharedStyleCache {
+
+    private static final int MAX_SHARED_IDS = 8192;
+    private static final int MAX_STYLE_CACHES = 8192;
+
+    private static final Object lock = new Object();
+
+    // The shared ids of node classes and lists of selectors, compared by identity
+    private static final Map<SelectorList, Integer> sharedIds =
+            new LinkedHashMap<SelectorList, Integer>(64, 0.75f, true) {
+                @Override protected boolean removeEldestEntry(Map.Entry<SelectorList, Integer> eldest) {
+                    return size() > MAX_SHARED_IDS;
+                }
+            };
+
+    private static final Map<StyleCache.Key, StyleCacheReference> styleCaches =
+            new LinkedHashMap<StyleCache.Key, StyleCacheReference>(64, 0.75f, true) {
+                @Override protected boolean removeEldestEntry(Map.Entry<StyleCache.Key, StyleCacheReference> eldest) {
+                    if (size() > MAX_STYLE_CACHES) {
+                        evictionCount++;
+                        return true;
+                    }
+                    return false;
+                }
+            };
+
+    private static final ReferenceQueue<StyleCache> queue = new ReferenceQueue<>();
+
+    // Shared ids are never reused, so a StyleCache.Key made before the table
+    // was cleared cannot match a StyleMap made afterwards.
+    private static int nextSharedId = 0;
+
+    private static long hitCount;
+    private static long missCount;
+    private static long evictionCount;
+
+    private SharedStyleCache() {
+    }
+
+    /**
+     * Returns the shared id of the StyleMap made of the given selectors for
+     * nodes of the given class.
+     */
+    public static int getSharedId(Class<?> nodeClass, List<Selector> selectors) {
+        synchronized (lock) {
+            SelectorList key = new SelectorList(nodeClass, selectors);
+            Integer sharedId = sharedIds.get(key);
+            if (sharedId == null) {
+                if (nextSharedId == Integer.MAX_VALUE) {
+                    // start over rather than reuse the ids of indexed keys
+                    nextSharedId = 0;
+                    sharedIds.clear();
+                    styleCaches.clear();
+                }
+                sharedId = nextSharedId++;
+                sharedIds.put(key, sharedId);
+            }
+            return sharedId;
+        }
+    }
+
+    /**
+     * Returns the StyleCache for the given key of shared ids, which is shared
+     * with any other scene that uses the same key.
+     */
+    public static StyleCache getStyleCache(StyleCache.Key key) {
+        synchronized (lock) {
+            expungeStaleEntries();
+
+            StyleCacheReference ref = styleCaches.get(key);
+            StyleCache styleCache = ref != null ? ref.get() : null;
+            if (styleCache != null) {
+                hitCount++;
+                return styleCache;
+            }
+
+            missCount++;
+            styleCache = new StyleCache();
+            StyleCache.Key copy = new StyleCache.Key(key);
+            styleCaches.put(copy, new StyleCacheReference(copy, styleCache, queue));
+            return styleCache;
+        }
+    }
+
+    /**
+     * Clears the table of shared ids and the index of StyleCache instances.
+     * Scenes keep the StyleCache instances they use until their own caches
+     * are cleared.
+     */
+    public static void clear() {
+        synchronized (lock) {
+            sharedIds.clear();
+            styleCaches.clear();
+            while (queue.poll() != null) {
+                // no-op
+            }
+        }
+    }
+
+    private static void expungeStaleEntries() {
+        StyleCacheReference ref;
+        while ((ref = (StyleCacheReference)queue.poll()) != null) {
+            if (styleCaches.get(ref.key) == ref) {
+                styleCaches.remove(ref.key);
+                evictionCount++;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of requests for a StyleCache that found a StyleCache
+     * created for another node or scene.
+     */
+    public static long getHitCount() {
+        synchronized (lock) {
+            return hitCount;
+        }
+    }
+
+    /**
+     * Returns the number of requests for a StyleCache that created a new
+     * StyleCache.
+     */
+    public static long getMissCount() {
+        synchronized (lock) {
+            return missCount;
+        }
+    }
+
+    /**
+     * Returns the number of StyleCache instances evicted from the index,
+     * either because no scene used them any longer or because the index was
+     * full.
+     */
+    public static long getEvictionCount() {
+        synchronized (lock) {
+            return evictionCount;
+        }
+    }
+
+    /**
+     * Returns the number of StyleCache instances in the index.
+     */
+    public static int getStyleCacheCount() {
+        synchronized (lock) {
+            expungeStaleEntries();
+            return styleCaches.size();
+        }
+    }
+
+    /**
+     * Returns the number of calculated values held by the StyleCache
+     * instances in the index, which is a measure of the memory they use.
+     */
+    public static int getCalculatedValueCount() {
+        synchronized (lock) {
+            expungeStaleEntries();
+            int count = 0;
+            // A StyleCache may be indexed under more than one key
+            Set<StyleCache> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (StyleCacheReference ref : styleCaches.values()) {
+                StyleCache styleCache = ref.get();
+                if (styleCache != null && counted.add(styleCache)) {
+                    count += styleCache.getCalculatedValueCount();
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Resets the hit, miss and eviction counts.
+     */
+    public static void resetStatistics() {
+        synchronized (lock) {
+            hitCount = missCount = evictionCount = 0;
+        }
+    }
+
+    private static final class StyleCacheReference extends WeakReference<StyleCache> {
+        private final StyleCache.Key key;
+
+        private StyleCacheReference(StyleCache.Key key, StyleCache styleCache, ReferenceQueue<StyleCache> queue) {
+            super(styleCache, queue);
+            this.key = key;
+        }
+    }
+
+    /*
+     * A node class and a list of selectors that are compared by identity.
+     */
+    private static final class SelectorList {
+        private final Class<?> nodeClass;
+        private final Selector[] selectors;
+        private final int hash;
+
+        private SelectorList(Class<?> nodeClass, List<Selector> selectors) {
+            this.nodeClass = nodeClass;
+            this.selectors = selectors.toArray(new Selector[0]);
+            int h = System.identityHashCode(nodeClass);
+            for (Selector selector : this.selectors) {
+                h = 31 * h + System.identityHashCode(selector);
+            }
+            this.hash = h;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) return true;
+            if (!(obj instanceof SelectorList)) return false;
+
+            final SelectorList other = (SelectorList)obj;
+            if (hash != other.hash || nodeClass != other.nodeClass
+                    || selectors.length != other.selectors.length) return false;
+
+            for (int n = 0; n < selectors.length; n++) {
+                if (selectors[n] != other.selectors[n]) return false;
+            }
+            return true;
+        }
+    }
+}
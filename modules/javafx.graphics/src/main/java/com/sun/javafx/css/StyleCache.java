@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,8 +25,8 @@
 package com.sun.javafx.css;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A cache to store values from lookup.
@@ -75,7 +75,8 @@ import java.util.Map;
  * Since all StyleHelpers are relevant to a Scene, valueCache is
  * created by StyleManager.StylesheetContainer and is passed in.
  * Note that all StyleHelper instances within a given Scene all
- * share the same valueCache!
+ * share the same valueCache! Scenes that use the same stylesheets
+ * also share the valueCache for the same key, see SharedStyleCache.
  */
 public final class StyleCache {
 
@@ -92,6 +93,7 @@ public final class StyleCache {
     public StyleCacheEntry getStyleCacheEntry(StyleCacheEntry.Key key) {
 
         StyleCacheEntry entry = null;
+        final Map<StyleCacheEntry.Key,StyleCacheEntry> entries = this.entries;
         if (entries != null) {
             entry = entries.get(key);
         }
@@ -99,12 +101,32 @@ public final class StyleCache {
     }
 
     public void addStyleCacheEntry(StyleCacheEntry.Key key, StyleCacheEntry entry) {
+        Map<StyleCacheEntry.Key,StyleCacheEntry> entries = this.entries;
         if (entries == null) {
-            entries = new HashMap<>(5);
+            synchronized (this) {
+                entries = this.entries;
+                if (entries == null) {
+                    this.entries = entries = new ConcurrentHashMap<>(5);
+                }
+            }
         }
         entries.put(key, entry);
     }
 
+    /**
+     * Returns the number of calculated values in this cache.
+     */
+    public int getCalculatedValueCount() {
+        int count = 0;
+        final Map<StyleCacheEntry.Key,StyleCacheEntry> entries = this.entries;
+        if (entries != null) {
+            for (StyleCacheEntry entry : entries.values()) {
+                count += entry.size();
+            }
+        }
+        return count;
+    }
+
     public static final class Key {
 
         public Key(int[] styleMapIds, int count) {
@@ -179,6 +201,8 @@ public final class StyleCache {
         private int hash = Integer.MIN_VALUE;
     }
 
-    private Map<StyleCacheEntry.Key,StyleCacheEntry> entries;
+    // A StyleCache may be shared by scenes on different threads, see
+    // SharedStyleCache
+    private volatile Map<StyleCacheEntry.Key,StyleCacheEntry> entries;
 
 }
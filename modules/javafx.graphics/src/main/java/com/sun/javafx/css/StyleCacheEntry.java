@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,9 +28,9 @@ import javafx.css.PseudoClass;
 import javafx.scene.text.Font;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  *
@@ -43,6 +43,7 @@ public final class StyleCacheEntry {
     public CalculatedValue get(String property) {
 
         CalculatedValue cv = null;
+        final Map<String,CalculatedValue> calculatedValues = this.calculatedValues;
         if (calculatedValues != null && ! calculatedValues.isEmpty()) {
             cv = calculatedValues.get(property);
         }
@@ -51,13 +52,27 @@ public final class StyleCacheEntry {
 
     public void put(String property, CalculatedValue calculatedValue) {
 
+        Map<String,CalculatedValue> calculatedValues = this.calculatedValues;
         if (calculatedValues == null) {
-            this.calculatedValues = new HashMap<>(5);
+            synchronized (this) {
+                calculatedValues = this.calculatedValues;
+                if (calculatedValues == null) {
+                    this.calculatedValues = calculatedValues = new ConcurrentHashMap<>(5);
+                }
+            }
         }
 
         calculatedValues.put(property, calculatedValue);
     }
 
+    /**
+     * Returns the number of calculated values in this entry.
+     */
+    public int size() {
+        final Map<String,CalculatedValue> calculatedValues = this.calculatedValues;
+        return calculatedValues != null ? calculatedValues.size() : 0;
+    }
+
     public final static class Key {
 
         private final Set<PseudoClass>[] pseudoClassStates;
@@ -160,6 +175,8 @@ public final class StyleCacheEntry {
     }
 
 //    private final Reference<StyleCacheEntry> sharedCacheRef;
-    private Map<String,CalculatedValue> calculatedValues;
+    // A StyleCacheEntry may be shared by scenes on different threads, see
+    // SharedStyleCache
+    private volatile Map<String,CalculatedValue> calculatedValues;
 //    private CalculatedValue  font; // for use in converting font relative sizes
 }
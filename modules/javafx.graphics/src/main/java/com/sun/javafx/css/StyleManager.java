@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -224,7 +224,9 @@ final public class StyleManager {
 
         StyleCache sharedCache = styleCache.get(key);
         if (sharedCache == null) {
-            sharedCache = new StyleCache();
+            // The key is made of shared StyleMap ids, so another scene that
+            // uses the same stylesheets may have cached the values already.
+            sharedCache = SharedStyleCache.getStyleCache(key);
             styleCache.put(new StyleCache.Key(key), sharedCache);
         }
 
@@ -496,7 +498,9 @@ final public class StyleManager {
     public void stylesheetsChanged(Scene scene, Change<String> c) {
 
         synchronized (styleLock) {
-            // Clear the cache so the cache will be rebuilt.
+            // Clear the cache so the cache will be rebuilt. The shared style
+            // cache is not cleared since a stylesheet that is loaded again
+            // has new selectors, which get new shared StyleMap ids.
             Set<Entry<Parent,CacheContainer>> entrySet = cacheContainerMap.entrySet();
             for(Entry<Parent,CacheContainer> entry : entrySet) {
                 Parent parent = entry.getKey();
@@ -693,6 +697,9 @@ final public class StyleManager {
 
             stylesheetContainerMap.remove(fname);
 
+            // release the selectors of the stylesheet
+            SharedStyleCache.clear();
+
             if (stylesheetContainer.selectorPartitioning != null) {
                 stylesheetContainer.selectorPartitioning.reset();
             }
@@ -1564,6 +1571,7 @@ final public class StyleManager {
                 container.clearCache();
             }
 
+            SharedStyleCache.clear();
             StyleConverter.clearCache();
 
             for (Parent root : cacheContainerMap.keySet()) {
@@ -1684,16 +1692,28 @@ final public class StyleManager {
      * Finds matching styles for this Node.
      */
     public StyleMap findMatchingStyles(Node node, SubScene subScene, Set<PseudoClass>[] triggerStates) {
+        return findStyleMatcher(node, subScene).match(node, triggerStates);
+    }
+
+    /**
+     * Finds the selectors that might apply to this Node, which is the first
+     * half of {@link #findMatchingStyles}. This gathers stylesheets and
+     * updates the caches of the StyleManager, so it has to be called on the
+     * thread that applies CSS. The returned matcher only reads the Node and
+     * its ancestors and may be used on any thread, as long as the scene graph
+     * is not modified concurrently.
+     */
+    public StyleMatcher findStyleMatcher(Node node, SubScene subScene) {
 
         final Scene scene = node.getScene();
         if (scene == null) {
-            return StyleMap.EMPTY_MAP;
+            return StyleMatcher.EMPTY;
         }
 
         CacheContainer cacheContainer = getCacheContainer(node, subScene);
         if (cacheContainer == null) {
             assert false : node.toString();
-            return StyleMap.EMPTY_MAP;
+            return StyleMatcher.EMPTY;
         }
 
         synchronized (styleLock) {
@@ -1755,7 +1775,7 @@ final public class StyleManager {
                     && hasSubSceneUserAgentStylesheet == false
                     && hasRegionUserAgentStylesheet == false
                     && platformUserAgentStylesheetContainers.isEmpty()) {
-                return StyleMap.EMPTY_MAP;
+                return StyleMatcher.EMPTY;
             }
 
             final String cname = node.getTypeSelector();
@@ -1905,12 +1925,96 @@ final public class StyleManager {
                 key = null;
             }
 
+            return new StyleMatcher(cacheContainer, cache, hasInlineStyles);
+        }
+    }
+
+    /**
+     * Creates the StyleMap of a Node from the selectors that might apply to
+     * it. See {@link #findStyleMatcher}.
+     */
+    public static final class StyleMatcher {
+
+        private static final StyleMatcher EMPTY = new StyleMatcher(null, null, false);
+
+        private final CacheContainer cacheContainer;
+        private final Cache cache;
+        private final boolean hasInlineStyles;
+
+        private StyleMatcher(CacheContainer cacheContainer, Cache cache, boolean hasInlineStyles) {
+            this.cacheContainer = cacheContainer;
+            this.cache = cache;
+            this.hasInlineStyles = hasInlineStyles;
+        }
+
+        /**
+         * Returns the StyleMap for the Node this matcher was found for.
+         */
+        public StyleMap match(Node node, Set<PseudoClass>[] triggerStates) {
+            if (cache == null) {
+                return StyleMap.EMPTY_MAP;
+            }
             //
             // Create a style helper for this node from the styles that match.
             //
-            StyleMap smap = cache.getStyleMap(cacheContainer, node, triggerStates, hasInlineStyles);
+            return cache.getStyleMap(cacheContainer, node, triggerStates, hasInlineStyles);
+        }
+
+        /**
+         * Finds the selectors that apply to the Node this matcher was found
+         * for, which {@link #getStyleMaps} turns into a StyleMap. Unlike
+         * {@link #match}, this does not take the style lock.
+         *
+         * @return the selectors that apply, or null if none does
+         */
+        public SelectorMatch matchSelectors(Node node, Set<PseudoClass>[] triggerStates) {
+            if (cache == null) {
+                return null;
+            }
+            return cache.matchSelectors(cacheContainer, node, triggerStates, hasInlineStyles);
+        }
+
+        /**
+         * Returns the StyleMaps of the selectors found by
+         * {@link #matchSelectors}, taking the style lock once for all of
+         * them. This has to be called on the thread that applies CSS.
+         */
+        public static StyleMap[] getStyleMaps(SelectorMatch[] matches) {
+            final StyleMap[] styleMaps = new StyleMap[matches.length];
+            synchronized (styleLock) {
+                for (int i = 0; i < matches.length; i++) {
+                    final SelectorMatch match = matches[i];
+                    styleMaps[i] = match == null
+                            ? StyleMap.EMPTY_MAP : match.cache.getStyleMap(match);
+                }
+            }
+            return styleMaps;
+        }
+    }
 
-            return smap;
+    /**
+     * The selectors that apply to a Node, found by
+     * {@link StyleMatcher#matchSelectors}.
+     */
+    public static final class SelectorMatch {
+
+        private final CacheContainer cacheContainer;
+        private final Cache cache;
+        private final Class<?> nodeClass;
+        private final Cache.Key keyObj;
+        private final long[] key;
+        private final String inlineStyle;
+        private final boolean hasInlineStyle;
+
+        private SelectorMatch(CacheContainer cacheContainer, Cache cache, Class<?> nodeClass,
+                              Cache.Key keyObj, long[] key, String inlineStyle, boolean hasInlineStyle) {
+            this.cacheContainer = cacheContainer;
+            this.cache = cache;
+            this.nodeClass = nodeClass;
+            this.keyObj = keyObj;
+            this.key = key;
+            this.inlineStyle = inlineStyle;
+            this.hasInlineStyle = hasInlineStyle;
         }
     }
 
@@ -2189,15 +2293,46 @@ final public class StyleManager {
         private final List<Selector> selectors;
         private final Map<Key, Integer> cache;
 
+        // For each selector, the bits the AncestorFilter of a node must have
+        // for the selector to apply, or null if the selector only looks at
+        // the node itself.
+        private final long[][] requiredAncestorBits;
+        private final boolean hasRequiredAncestorBits;
+
         Cache(List<Selector> selectors) {
             this.selectors = selectors;
             this.cache = new HashMap<Key, Integer>();
+
+            final int nSelectors = selectors != null ? selectors.size() : 0;
+            this.requiredAncestorBits = new long[nSelectors][];
+            boolean hasBits = false;
+            for (int n = 0; n < nSelectors; n++) {
+                requiredAncestorBits[n] = AncestorFilter.getRequiredBits(selectors.get(n));
+                hasBits |= requiredAncestorBits[n] != null;
+            }
+            this.hasRequiredAncestorBits = hasBits;
         }
 
         private StyleMap getStyleMap(CacheContainer cacheContainer, Node node, Set<PseudoClass>[] triggerStates, boolean hasInlineStyle) {
+            final SelectorMatch match = matchSelectors(cacheContainer, node, triggerStates, hasInlineStyle);
+            if (match == null) {
+                return StyleMap.EMPTY_MAP;
+            }
+            synchronized (styleLock) {
+                return getStyleMap(match);
+            }
+        }
+
+        /*
+         * Finds the selectors that apply to the node, or returns null if
+         * none does. This only reads the node and its ancestors, so it does
+         * not need the style lock.
+         */
+        private SelectorMatch matchSelectors(CacheContainer cacheContainer, Node node,
+                                             Set<PseudoClass>[] triggerStates, boolean hasInlineStyle) {
 
             if ((selectors == null || selectors.isEmpty()) && !hasInlineStyle) {
-                return StyleMap.EMPTY_MAP;
+                return null;
             }
 
             final int selectorDataSize = selectors.size();
@@ -2216,8 +2351,20 @@ final public class StyleManager {
             long key[] = new long[selectorDataSize/Long.SIZE + 1];
             boolean nothingMatched = true;
 
+            //
+            // Selectors with combinators are first checked against a bloom
+            // filter of the ancestors of the node, which rejects most of the
+            // selectors that don't apply without walking up the scene graph.
+            //
+            final long[] ancestorFilter = hasRequiredAncestorBits ? AncestorFilter.of(node) : null;
+
             for (int s = 0; s < selectorDataSize; s++) {
 
+                if (ancestorFilter != null
+                        && !AncestorFilter.mayMatch(ancestorFilter, requiredAncestorBits[s])) {
+                    continue;
+                }
+
                 final Selector sel = selectors.get(s);
 
                 //
@@ -2248,11 +2395,26 @@ final public class StyleManager {
 
             // nothing matched!
             if (nothingMatched && hasInlineStyle == false) {
-                return StyleMap.EMPTY_MAP;
+                return null;
             }
 
             final String inlineStyle = node.getStyle();
-            final Key keyObj = new Key(key, inlineStyle);
+            return new SelectorMatch(cacheContainer, this, node.getClass(),
+                                     new Key(key, inlineStyle), key, inlineStyle, hasInlineStyle);
+        }
+
+        /*
+         * Returns the StyleMap of the selectors that matched, creating it if
+         * no node matched the same selectors before. The caller holds the
+         * style lock.
+         */
+        private StyleMap getStyleMap(SelectorMatch match) {
+            final CacheContainer cacheContainer = match.cacheContainer;
+            final Class<?> nodeClass = match.nodeClass;
+            final Key keyObj = match.keyObj;
+            final long[] key = match.key;
+            final String inlineStyle = match.inlineStyle;
+            final boolean hasInlineStyle = match.hasInlineStyle;
 
             if (cache.containsKey(keyObj)) {
                 Integer styleMapId = cache.get(keyObj);
@@ -2289,7 +2451,7 @@ final public class StyleManager {
             int id = cacheContainer.nextSmapId();
             cache.put(keyObj, Integer.valueOf(id));
 
-            final StyleMap styleMap = new StyleMap(id, selectors);
+            final StyleMap styleMap = new StyleMap(id, SharedStyleCache.getSharedId(nodeClass, selectors), selectors);
             cacheContainer.addStyleMap(styleMap);
             return styleMap;
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,9 +31,12 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javafx.css.Declaration;
 import javafx.css.Match;
+import javafx.css.ParsedValue;
+import javafx.css.PseudoClass;
 import javafx.css.Rule;
 import javafx.css.Selector;
 
@@ -48,7 +51,13 @@ public final class StyleMap {
 
     /** Only StyleManager creates StyleMap */
     public StyleMap(int id, List<Selector> selectors) {
+        this(id, id, selectors);
+    }
+
+    /** Only StyleManager creates StyleMap */
+    public StyleMap(int id, int sharedId, List<Selector> selectors) {
         this.id = id;
+        this.sharedId = sharedId;
         this.selectors = selectors;
     }
 
@@ -56,6 +65,14 @@ public final class StyleMap {
         return id;
     }
 
+    /**
+     * Returns the id shared by the StyleMaps of all scenes that are made of
+     * the same selectors, see SharedStyleCache.
+     */
+    public int getSharedId() {
+        return sharedId;
+    }
+
     public boolean isEmpty() {
         if (selectors != null) return selectors.isEmpty();
         else if (cascadingStyles != null) return cascadingStyles.isEmpty();
@@ -153,6 +170,69 @@ public final class StyleMap {
         return cascadingStyles;
     }
 
+    /**
+     * Returns true if the value of the given property might be different
+     * after the pseudo-classes in changedStates have been added or removed.
+     * A property depends on the pseudo-classes of all of the selectors that
+     * have a style for it, including the pseudo-classes that a compound
+     * selector requires of the ancestors. Values that contain lookups or
+     * that are "inherit" are resolved against other nodes and so are always
+     * considered to depend on the current state.
+     */
+    public boolean isStateDependent(String property, Set<PseudoClass> changedStates) {
+
+        if (pseudoClassDependencies == null) {
+            pseudoClassDependencies = createPseudoClassDependencies();
+        }
+
+        final Set<PseudoClass> dependencies = pseudoClassDependencies.get(property);
+        if (dependencies == null) return false;
+        if (dependencies == ANY_STATE) return true;
+
+        for (PseudoClass pseudoClass : changedStates) {
+            if (dependencies.contains(pseudoClass)) return true;
+        }
+        return false;
+    }
+
+    private Map<String, Set<PseudoClass>> createPseudoClassDependencies() {
+
+        final Map<String, List<CascadingStyle>> styleMap = getCascadingStyles();
+        if (styleMap.isEmpty()) return Collections.emptyMap();
+
+        final Map<String, Set<PseudoClass>> dependencies = new HashMap<>(styleMap.size());
+        for (Map.Entry<String, List<CascadingStyle>> entry : styleMap.entrySet()) {
+
+            Set<PseudoClass> pseudoClasses = null;
+
+            final List<CascadingStyle> styles = entry.getValue();
+            for (int n=0, nMax=styles.size(); n<nMax; n++) {
+
+                final CascadingStyle style = styles.get(n);
+                final ParsedValue parsedValue = style.getParsedValue();
+                if (parsedValue != null
+                        && (parsedValue.isContainsLookups() || "inherit".equals(parsedValue.getValue()))) {
+                    pseudoClasses = ANY_STATE;
+                    break;
+                }
+
+                final Set<PseudoClass> stylePseudoClasses = style.getPseudoClasses();
+                if (stylePseudoClasses != null && !stylePseudoClasses.isEmpty()) {
+                    if (pseudoClasses == null) pseudoClasses = new PseudoClassState();
+                    pseudoClasses.addAll(stylePseudoClasses);
+                }
+            }
+
+            if (pseudoClasses != null) {
+                dependencies.put(entry.getKey(), pseudoClasses);
+            }
+        }
+        return dependencies;
+    }
+
+    // marks a property whose value has to be looked up in any state
+    private static final Set<PseudoClass> ANY_STATE = new PseudoClassState();
+
     private static final Comparator<CascadingStyle> cascadingStyleComparator =
             (o1, o2) -> {
 
@@ -175,6 +255,8 @@ public final class StyleMap {
             };
 
     private final int id; // unique per container
+    private final int sharedId; // unique per set of selectors
     private List<Selector> selectors;
     private Map<String, List<CascadingStyle>> cascadingStyles;
+    private Map<String, Set<PseudoClass>> pseudoClassDependencies;
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.font;
+
+import java.util.Arrays;
+
+/**
+ * A map from glyph codes to values that does not box the glyph codes. It is
+ * an open addressing hash table with linear probing, null values are not
+ * allowed. This class is not thread safe.
+ */
+public final class GlyphMap<V> {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int[] keys;
+    private Object[] values;
+    private int size;
+
+    public GlyphMap() {
+        keys = new int[INITIAL_CAPACITY];
+        values = new Object[INITIAL_CAPACITY];
+    }
+
+    private static int hash(int glyphCode) {
+        int h = glyphCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Returns the value of the glyph, or null if the map has none.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int glyphCode) {
+        int mask = keys.length - 1;
+        int i = hash(glyphCode) & mask;
+        Object value;
+        while ((value = values[i]) != null) {
+            if (keys[i] == glyphCode) {
+                return (V)value;
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    public void put(int glyphCode, V value) {
+        if (value == null) {
+            throw new NullPointerException();
+        }
+        int mask = keys.length - 1;
+        int i = hash(glyphCode) & mask;
+        while (values[i] != null) {
+            if (keys[i] == glyphCode) {
+                values[i] = value;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = glyphCode;
+        values[i] = value;
+        /* Keep the table at most half full */
+        if (++size > keys.length >> 1) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new int[capacity];
+        values = new Object[capacity];
+        int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldValues[j] != null) {
+                int i = hash(oldKeys[j]) & mask;
+                while (values[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -35,6 +35,7 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import com.sun.javafx.geom.Path2D;
 import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.font.FontFileReader.Buffer;
@@ -353,7 +354,7 @@ public abstract class PrismFontFile implements FontResource, FontConstants {
         return strike;
     }
 
-    HashMap<Integer, int[]> bbCache = null;
+    private GlyphMap<int[]> bbCache = null;
     static final int[] EMPTY_BOUNDS = new int[4];
 
     protected abstract int[] createGlyphBoundingBox(int gc);
@@ -367,14 +368,19 @@ public abstract class PrismFontFile implements FontResource, FontConstants {
             retArr[0] = retArr[1] = retArr[2] = retArr[3] = 0;
             return retArr;
         }
-        if (bbCache == null) {
-            bbCache = new HashMap<Integer, int[]>();
+        int[] bb;
+        synchronized (glyphCacheLock) {
+            if (bbCache == null) {
+                bbCache = new GlyphMap<>();
+            }
+            bb = bbCache.get(gc);
         }
-        int[] bb = bbCache.get(gc);
         if (bb == null) {
             bb = createGlyphBoundingBox(gc);
             if (bb == null) bb = EMPTY_BOUNDS;
-            bbCache.put(gc, bb);
+            synchronized (glyphCacheLock) {
+                bbCache.put(gc, bb);
+            }
         }
         float scale = size / getUnitsPerEm();
         retArr[0] = bb[0] * scale;
@@ -384,6 +390,60 @@ public abstract class PrismFontFile implements FontResource, FontConstants {
         return retArr;
     }
 
+    /* The glyph outlines at a size of one em, that is in font units, shared
+     * by all the strikes of the font. Outlines are not hinted, so they scale
+     * linearly with the size.
+     */
+    private GlyphMap<Path2D> outlineCache = null;
+    private final Object glyphCacheLock = new Object();
+
+    /* Guards the glyph caches of the font and of its strikes, which are
+     * used by the render thread, the FX thread and text measuring threads.
+     */
+    Object getGlyphCacheLock() {
+        return glyphCacheLock;
+    }
+
+    /**
+     * Creates the outline of the glyph at the given size.
+     */
+    protected abstract Path2D createGlyphOutline(int gc, float size);
+
+    /**
+     * Returns the outline of the glyph in font units, or null if the font
+     * has none. The returned path must not be modified.
+     */
+    Path2D getUnscaledGlyphOutline(int gc) {
+        Path2D outline;
+        synchronized (glyphCacheLock) {
+            if (outlineCache == null) {
+                outlineCache = new GlyphMap<>();
+            }
+            outline = outlineCache.get(gc);
+        }
+        if (outline == null) {
+            outline = createGlyphOutline(gc, getUnitsPerEm());
+            if (outline != null) {
+                synchronized (glyphCacheLock) {
+                    outlineCache.put(gc, outline);
+                }
+            }
+        }
+        return outline;
+    }
+
+    /**
+     * Returns a new path with the outline of the glyph at the given size,
+     * scaled from the outline shared by all the strikes of the font.
+     */
+    public Path2D getGlyphOutline(int gc, float size) {
+        if (size == 0) return new Path2D();
+        Path2D outline = getUnscaledGlyphOutline(gc);
+        if (outline == null) return null;
+        float scale = size / getUnitsPerEm();
+        return new Path2D(outline, BaseTransform.getScaleInstance(scale, scale));
+    }
+
     int getNumGlyphs() {
         if (numGlyphs == -1) {
             Buffer buffer = readTable(maxpTag);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,9 +25,6 @@
 
 package com.sun.javafx.font;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import com.sun.javafx.geom.Path2D;
 import com.sun.javafx.geom.Point2D;
 import com.sun.javafx.geom.Shape;
@@ -38,7 +35,7 @@ import com.sun.javafx.scene.text.GlyphList;
 public abstract class PrismFontStrike<T extends PrismFontFile> implements FontStrike {
     private DisposerRecord disposer;
     private T fontResource;
-    private Map<Integer,Glyph> glyphMap = new HashMap<Integer,Glyph>();
+    private GlyphMap<Glyph> glyphMap = new GlyphMap<>();
     private PrismMetrics metrics;
     protected boolean drawShapes = false;
     private float size;
@@ -166,10 +163,21 @@ public abstract class PrismFontStrike<T extends PrismFontFile> implements FontSt
     protected abstract Glyph createGlyph(int glyphCode);
 
     public Glyph getGlyph(int glyphCode) {
-        Glyph glyph = glyphMap.get(glyphCode);
+        final Object lock = fontResource.getGlyphCacheLock();
+        Glyph glyph;
+        synchronized (lock) {
+            glyph = glyphMap.get(glyphCode);
+        }
         if (glyph == null) {
             glyph = createGlyph(glyphCode);
-            glyphMap.put(glyphCode, glyph);
+            synchronized (lock) {
+                Glyph cached = glyphMap.get(glyphCode);
+                if (cached != null) {
+                    // another thread created the glyph first
+                    return cached;
+                }
+                glyphMap.put(glyphCode, glyph);
+            }
         }
         return glyph;
     }
@@ -190,14 +198,22 @@ public abstract class PrismFontStrike<T extends PrismFontFile> implements FontSt
         if (transform == null) {
             transform = BaseTransform.IDENTITY_TRANSFORM;
         }
+        if (size == 0) {
+            return;
+        }
+        /* Append the outlines shared by all the strikes of the font, scaled
+         * to the size of this strike, rather than scaled copies of them.
+         */
+        float scale = size / fontResource.getUnitsPerEm();
         Affine2D t = new Affine2D();
         for (int i = 0; i < gl.getGlyphCount(); i++) {
             int glyphCode = gl.getGlyphCode(i);
             if (glyphCode != CharToGlyphMapper.INVISIBLE_GLYPH_ID) {
-                Shape gp = createGlyphOutline(glyphCode);
+                Shape gp = fontResource.getUnscaledGlyphOutline(glyphCode);
                 if (gp != null) {
                     t.setTransform(transform);
                     t.translate(gl.getPosX(i), gl.getPosY(i));
+                    t.scale(scale, scale);
                     p.append(gp.getPathIterator(t), false);
                 }
             }
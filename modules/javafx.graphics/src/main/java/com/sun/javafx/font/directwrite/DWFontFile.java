@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2017, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -111,7 +111,8 @@ class DWFontFile extends PrismFontFile {
         return fontFace;
     }
 
-    Path2D getGlyphOutline(int gc, float size) {
+    @Override
+    protected Path2D createGlyphOutline(int gc, float size) {
         if (fontFace == null) return null;
         if (size == 0) return new Path2D();
         return fontFace.GetGlyphRunOutline(size, (short)gc, false);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -109,7 +109,8 @@ class FTFontFile extends PrismFontFile {
         return bbox;
     }
 
-    synchronized Path2D createGlyphOutline(int gc, float size) {
+    @Override
+    protected synchronized Path2D createGlyphOutline(int gc, float size) {
         int size26dot6 = (int)(size * 64);
         OSFreetype.FT_Set_Char_Size(face, 0, size26dot6, 72, 72);
         int flags = OSFreetype.FT_LOAD_NO_HINTING | OSFreetype.FT_LOAD_NO_BITMAP | OSFreetype.FT_LOAD_IGNORE_TRANSFORM;
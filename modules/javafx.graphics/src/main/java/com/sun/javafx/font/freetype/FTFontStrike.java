@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2013, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2013, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -75,7 +75,7 @@ class FTFontStrike extends PrismFontStrike<FTFontFile> {
     @Override
     protected Path2D createGlyphOutline(int glyphCode) {
         FTFontFile fontResource = getFontResource();
-        return fontResource.createGlyphOutline(glyphCode, getSize());
+        return fontResource.getGlyphOutline(glyphCode, getSize());
     }
 
     void initGlyph(FTGlyph glyph) {
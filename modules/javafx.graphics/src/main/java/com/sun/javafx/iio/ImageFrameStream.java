@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.iio;
+
+import java.io.IOException;
+
+/**
+ * The frames of an image, which may be decoded only when they are requested.
+ * Streams of animated images with many frames keep the compressed image data
+ * and decode a frame from it each time it is requested: requesting the frames
+ * in order is cheap, requesting an earlier frame restarts decoding from the
+ * first frame.
+ */
+public interface ImageFrameStream {
+    /**
+     * Gets the number of frames of the image.
+     *
+     * @return the number of frames.
+     */
+    int getFrameCount();
+
+    /**
+     * Gets the time to show the frame at a given index, in milliseconds.
+     *
+     * @param index the zero-relative index of the frame.
+     * @return the delay time of the frame.
+     */
+    int getFrameDelay(int index);
+
+    /**
+     * Gets the number of times the animation should be played, zero meaning
+     * forever.
+     *
+     * @return the loop count.
+     */
+    int getLoopCount();
+
+    /**
+     * Returns {@code true} if the frames are decoded when they are requested
+     * rather than when the stream is created.
+     *
+     * @return whether the frames are decoded on demand.
+     */
+    boolean isDecodedOnDemand();
+
+    /**
+     * Gets the frame at a given index, decoding it if needed. The returned
+     * frame is not retained by the stream.
+     *
+     * @param index the zero-relative index of the frame.
+     * @return the frame at the specified index.
+     * @throws IOException if the frame can not be decoded.
+     */
+    ImageFrame getFrame(int index) throws IOException;
+
+    /**
+     * Returns a stream of the same frames which keeps its own decoding state,
+     * so that the frames of both streams can be requested in any order
+     * without one restarting the decoding of the other.
+     *
+     * @return a new stream of the frames of the image.
+     * @throws UnsupportedOperationException if the frames are not decoded on
+     * demand.
+     */
+    ImageFrameStream copy();
+}
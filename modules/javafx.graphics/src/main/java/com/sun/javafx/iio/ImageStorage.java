@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2009, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2009, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,6 +29,7 @@ import com.sun.javafx.PlatformUtil;
 import com.sun.javafx.iio.ImageFormatDescription.Signature;
 import com.sun.javafx.iio.bmp.BMPImageLoaderFactory;
 import com.sun.javafx.iio.common.ImageTools;
+import com.sun.javafx.iio.gif.GIFImageLoader2;
 import com.sun.javafx.iio.gif.GIFImageLoaderFactory;
 import com.sun.javafx.iio.ios.IosImageLoaderFactory;
 import com.sun.javafx.iio.jpeg.JPEGImageLoaderFactory;
@@ -257,8 +258,28 @@ public class ImageStorage {
     public static ImageFrame[] loadAll(InputStream input, ImageLoadListener listener,
             double width, double height, boolean preserveAspectRatio,
             float pixelScale, boolean smooth) throws ImageStorageException {
+        return load(input, listener, pixelScale, (loader, scale) ->
+                loadAll(loader, width, height, preserveAspectRatio, scale, smooth));
+    }
+
+    /**
+     * Load the frames of the image present in the specified stream. Animated
+     * GIF images are read into memory and their frames are only decoded when
+     * they are requested, the frames of other images are all decoded here.
+     * For more details refer to
+     * {@link #loadAll(InputStream, ImageLoadListener, double, double, boolean, float, boolean)}.
+     */
+    public static ImageFrameStream loadStream(InputStream input, ImageLoadListener listener,
+            double width, double height, boolean preserveAspectRatio,
+            float pixelScale, boolean smooth) throws ImageStorageException {
+        return load(input, listener, pixelScale, (loader, scale) ->
+                loadStream(loader, width, height, preserveAspectRatio, scale, smooth));
+    }
+
+    private static <T> T load(InputStream input, ImageLoadListener listener,
+            float pixelScale, FrameReader<T> reader) throws ImageStorageException {
         ImageLoader loader = null;
-        ImageFrame[] images = null;
+        T images = null;
 
         try {
             if (isIOS) {
@@ -269,7 +290,7 @@ public class ImageStorage {
                 loader = getLoaderBySignature(input, listener);
             }
             if (loader != null) {
-                images = loadAll(loader, width, height, preserveAspectRatio, pixelScale, smooth);
+                images = reader.read(loader, pixelScale);
             } else {
                 throw new ImageStorageException("No loader for image data");
             }
@@ -292,12 +313,30 @@ public class ImageStorage {
     public static ImageFrame[] loadAll(String input, ImageLoadListener listener,
             double width, double height, boolean preserveAspectRatio,
             float devPixelScale, boolean smooth) throws ImageStorageException {
+        return load(input, listener, devPixelScale, (loader, scale) ->
+                loadAll(loader, width, height, preserveAspectRatio, scale, smooth));
+    }
+
+    /**
+     * Load the frames of the image present in the specified input. For more
+     * details refer to
+     * {@link #loadStream(InputStream, ImageLoadListener, double, double, boolean, float, boolean)}.
+     */
+    public static ImageFrameStream loadStream(String input, ImageLoadListener listener,
+            double width, double height, boolean preserveAspectRatio,
+            float devPixelScale, boolean smooth) throws ImageStorageException {
+        return load(input, listener, devPixelScale, (loader, scale) ->
+                loadStream(loader, width, height, preserveAspectRatio, scale, smooth));
+    }
+
+    private static <T> T load(String input, ImageLoadListener listener,
+            float devPixelScale, FrameReader<T> reader) throws ImageStorageException {
 
         if (input == null || input.isEmpty()) {
             throw new ImageStorageException("URL can't be null or empty");
         }
 
-        ImageFrame[] images = null;
+        T images = null;
         InputStream theStream = null;
         ImageLoader loader = null;
 
@@ -342,7 +381,7 @@ public class ImageStorage {
             }
 
             if (loader != null) {
-                images = loadAll(loader, width, height, preserveAspectRatio, imgPixelScale, smooth);
+                images = reader.read(loader, imgPixelScale);
             } else {
                 throw new ImageStorageException("No loader for image data");
             }
@@ -411,6 +450,79 @@ public class ImageStorage {
         return images;
     }
 
+    private static ImageFrameStream loadStream(ImageLoader loader,
+            double width, double height, boolean preserveAspectRatio,
+            float pixelScale, boolean smooth) throws ImageStorageException {
+        if (loader instanceof GIFImageLoader2) {
+            int imgw = (int) Math.round(width * pixelScale);
+            int imgh = (int) Math.round(height * pixelScale);
+            try {
+                return ((GIFImageLoader2) loader).openFrameStream(imgw, imgh,
+                        preserveAspectRatio, smooth, pixelScale);
+            } catch (IOException e) {
+                throw new ImageStorageException(e.getMessage(), e);
+            }
+        }
+        ImageFrame[] images = loadAll(loader, width, height, preserveAspectRatio, pixelScale, smooth);
+        return images != null ? new LoadedFrames(images) : null;
+    }
+
+    private interface FrameReader<T> {
+        T read(ImageLoader loader, float pixelScale) throws ImageStorageException;
+    }
+
+    /*
+     * The frames of an image which are all decoded when the image is loaded.
+     */
+    private static final class LoadedFrames implements ImageFrameStream {
+        private final ImageFrame[] frames;
+
+        LoadedFrames(ImageFrame[] frames) {
+            this.frames = frames;
+        }
+
+        @Override
+        public int getFrameCount() {
+            return frames.length;
+        }
+
+        @Override
+        public int getFrameDelay(int index) {
+            ImageMetadata metadata = frames[index].getMetadata();
+            if (metadata != null && metadata.delayTime != null) {
+                return metadata.delayTime;
+            }
+            return 0;
+        }
+
+        @Override
+        public int getLoopCount() {
+            int loopCount = 0;
+            for (ImageFrame frame : frames) {
+                ImageMetadata metadata = frame.getMetadata();
+                if (metadata != null && metadata.loopCount != null) {
+                    loopCount = metadata.loopCount;
+                }
+            }
+            return loopCount;
+        }
+
+        @Override
+        public boolean isDecodedOnDemand() {
+            return false;
+        }
+
+        @Override
+        public ImageFrame getFrame(int index) {
+            return frames[index];
+        }
+
+        @Override
+        public ImageFrameStream copy() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
 //    private static ImageLoader getLoaderByExtension(String input, ImageLoadListener listener) {
 //        ImageLoader loader = null;
 //
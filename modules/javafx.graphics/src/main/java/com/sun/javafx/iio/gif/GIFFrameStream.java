@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.iio.gif;
+
+import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.ImageFrameStream;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+
+/*
+ * Frames of a GIF image decoded on demand from the compressed image data.
+ * Decoding a frame needs the canvas left by the previous frames, so the
+ * frames are decoded in order by a single loader which keeps that state,
+ * and a new loader starts over from the first frame when an earlier frame
+ * is requested.
+ */
+final class GIFFrameStream implements ImageFrameStream {
+
+    private final GIFImageLoader2 header;
+    private final byte body[];
+    private final int width, height;
+    private final boolean preserveAspectRatio, smooth;
+    private final float pixelScale;
+    private final int delayTimes[];
+    private final int loopCount;
+
+    private GIFImageLoader2 decoder;
+    private int nextIndex;
+
+    GIFFrameStream(GIFImageLoader2 header, byte body[], int width, int height,
+            boolean preserveAspectRatio, boolean smooth, float pixelScale) throws IOException {
+        this.header = header;
+        this.body = body;
+        this.width = width;
+        this.height = height;
+        this.preserveAspectRatio = preserveAspectRatio;
+        this.smooth = smooth;
+        this.pixelScale = pixelScale;
+
+        // read the frame delays without decoding the frames
+        GIFImageLoader2 scanner = new GIFImageLoader2(header, new ByteArrayInputStream(body));
+        int delays[] = new int[16];
+        int count = 0;
+        while (true) {
+            int imageControlCode;
+            try {
+                imageControlCode = scanner.skipImageFrame();
+            } catch (IOException e) {
+                // allow partially loaded animated images
+                if (count > 0) {
+                    break;
+                }
+                throw e;
+            }
+            if (imageControlCode < 0) {
+                break;
+            }
+            if (count == delays.length) {
+                delays = Arrays.copyOf(delays, count * 2);
+            }
+            delays[count++] = GIFImageLoader2.toMillis(imageControlCode & 0xFFFF);
+        }
+        if (count == 0) {
+            throw new IOException("No GIF image frames");
+        }
+        delayTimes = Arrays.copyOf(delays, count);
+        loopCount = scanner.loopCount;
+    }
+
+    private GIFFrameStream(GIFFrameStream other) {
+        this.header = other.header;
+        this.body = other.body;
+        this.width = other.width;
+        this.height = other.height;
+        this.preserveAspectRatio = other.preserveAspectRatio;
+        this.smooth = other.smooth;
+        this.pixelScale = other.pixelScale;
+        this.delayTimes = other.delayTimes;
+        this.loopCount = other.loopCount;
+    }
+
+    @Override
+    public int getFrameCount() {
+        return delayTimes.length;
+    }
+
+    @Override
+    public int getFrameDelay(int index) {
+        return delayTimes[index];
+    }
+
+    @Override
+    public int getLoopCount() {
+        return loopCount;
+    }
+
+    @Override
+    public boolean isDecodedOnDemand() {
+        return true;
+    }
+
+    @Override
+    public synchronized ImageFrame getFrame(int index) throws IOException {
+        if (index < 0 || index >= delayTimes.length) {
+            throw new IndexOutOfBoundsException("Frame index: " + index);
+        }
+        if (decoder == null || index < nextIndex) {
+            decoder = new GIFImageLoader2(header, new ByteArrayInputStream(body));
+            nextIndex = 0;
+        }
+        ImageFrame frame = null;
+        try {
+            while (nextIndex <= index) {
+                frame = decoder.load(nextIndex++, width, height, preserveAspectRatio, smooth);
+                if (frame == null) {
+                    throw new EOFException();
+                }
+            }
+        } catch (IOException e) {
+            // the state of the decoder is unknown, start over next time
+            decoder = null;
+            throw e;
+        }
+        frame.setPixelScale(pixelScale);
+        return frame;
+    }
+
+    @Override
+    public ImageFrameStream copy() {
+        // the compressed data is shared, the decoder is not
+        return new GIFFrameStream(this);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,7 @@
 package com.sun.javafx.iio.gif;
 
 import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.ImageFrameStream;
 import com.sun.javafx.iio.ImageMetadata;
 import com.sun.javafx.iio.ImageStorage;
 import com.sun.javafx.iio.common.ImageLoaderImpl;
@@ -59,6 +60,18 @@ public class GIFImageLoader2 extends ImageLoaderImpl {
         readGlobalHeader();
     }
 
+    // creates a loader for the image frames in body which shares the global
+    // header already read by the given loader
+    GIFImageLoader2(GIFImageLoader2 header, InputStream body) {
+        super(GIFDescriptor.getInstance());
+        this.stream = body;
+        screenW = header.screenW;
+        screenH = header.screenH;
+        bgColor = header.bgColor;
+        globalPalette = header.globalPalette;
+        loopCount = header.loopCount;
+    }
+
     // read GIF file header
     private void readGlobalHeader() throws IOException {
         byte signature[] = readBytes(new byte[6]);
@@ -74,7 +87,6 @@ public class GIFImageLoader2 extends ImageLoaderImpl {
         if ((cInfo & 0x80) != 0) {
             globalPalette = readPalete(2 << (cInfo & 7), -1);
         }
-        image = new byte[screenW * screenH * 4];
     }
 
     // read palette data from the stream
@@ -227,6 +239,10 @@ public class GIFImageLoader2 extends ImageLoaderImpl {
 
         ImageMetadata metadata = updateMetadata(width, height, imageControlCode & 0xFFFF);
 
+        if (image == null) {
+            image = new byte[screenW * screenH * 4];
+        }
+
         int disposalCode = (imageControlCode >>> 26) & 7;
         byte pImage[] = new byte[w * h];
         decodeImage(pImage, w, h, isInterlaced ? computeInterlaceReIndex(h) : null);
@@ -243,6 +259,41 @@ public class GIFImageLoader2 extends ImageLoaderImpl {
                 width, height, width * 4, null, metadata);
     }
 
+    // skips the next image frame without decoding it
+    // returns -1 if no more frames or the Image Control extension information
+    int skipImageFrame() throws IOException {
+        int imageControlCode = waitForImageFrame();
+
+        if (imageControlCode < 0) {
+            return -1;
+        }
+
+        int left = readShort(), top = readShort(), w = readShort(), h = readShort();
+
+        if (left + w > screenW || top + h > screenH) {
+            throw new IOException("Wrong GIF image frame size");
+        }
+
+        int imgCtrl = readByte();
+        if ((imgCtrl & 0x80) != 0) {
+            skipBytes(3 * (2 << (imgCtrl & 7)));
+        }
+        readByte(); // LZW code size
+        consumeAnExtension(); // image data sub-blocks
+        return imageControlCode;
+    }
+
+    /**
+     * Reads the rest of the stream and returns a stream of the image frames
+     * which decodes them from the compressed data when they are requested.
+     * Only the frames, their delay times and the loop count are read here.
+     */
+    public ImageFrameStream openFrameStream(int width, int height, boolean preserveAspectRatio,
+            boolean smooth, float pixelScale) throws IOException {
+        byte body[] = stream.readAllBytes();
+        return new GIFFrameStream(this, body, width, height, preserveAspectRatio, smooth, pixelScale);
+    }
+
     // IO helpers
     private int readByte() throws IOException {
         int ch = stream.read();
@@ -329,11 +380,16 @@ public class GIFImageLoader2 extends ImageLoaderImpl {
     // fill metadata
     private ImageMetadata updateMetadata(int w, int h, int delayTime) {
         ImageMetadata metaData = new ImageMetadata(null, true, null, null, null,
-                delayTime != 0 ? delayTime*10 : 1000/DEFAULT_FPS, loopCount, w, h, null, null, null);
+                toMillis(delayTime), loopCount, w, h, null, null, null);
         updateImageMetadata(metaData);
         return metaData;
     }
 
+    // converts a frame delay in 1/100 of a second to milliseconds
+    static int toMillis(int delayTime) {
+        return delayTime != 0 ? delayTime*10 : 1000/DEFAULT_FPS;
+    }
+
     class LZWDecoder {
         private final int initCodeSize, clearCode, eofCode;
         private int codeSize, codeMask, tableIndex, oldCode;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -62,6 +62,8 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
     static final int PNG_FILTER_UP = 2;
     static final int PNG_FILTER_AVERAGE = 3;
     static final int PNG_FILTER_PAETH = 4;
+    // size of the buffer that the compressed IDAT data is read into
+    private static final int INFLATER_BUFFER_SIZE = 8192;
     // data stream
     private final DataInputStream stream;
     private int width, height, bitDepth, colorType;
@@ -535,7 +537,19 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         return start[mip] + pos * increment[mip];
     }
 
-    private void loadMip(byte image[], InputStream data, int mip) throws IOException {
+    private static void readFully(InputStream data, byte b[]) throws IOException {
+        for (int off = 0, n; off != b.length; off += n) {
+            n = data.read(b, off, b.length - off);
+            if (n < 0) {
+                throw new EOFException();
+            }
+        }
+    }
+
+    // if scaler is not null, the image is a single row that is handed to the
+    // scaler once it has been decoded
+    private void loadMip(byte image[], InputStream data, int mip,
+            PushbroomScaler scaler) throws IOException {
 
         int mipWidth = mipSize(width, mip, starting_x, increment_x);
         int mipHeight = mipSize(height, mip, starting_y, increment_y);
@@ -548,19 +562,21 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         // to support tRNS
         int resultBpp = bpp(), srcBpp = numBandsPerColorType[colorType] * bytesPerColor();
 
+        byte paletteLine[] = (scaler != null && colorType == PNG_COLOR_PALETTE)
+                ? new byte[width * paletteBpp()] : null;
+
         for (int y = 0; y != mipHeight; ++y) {
             int filterByte = data.read();
             if (filterByte == -1) {
                 throw new EOFException();
             }
 
-            if (data.read(scanLine0) != scanLineSize) {
-                throw new EOFException();
-            }
+            readFully(data, scanLine0);
 
             doFilter(scanLine0, scanLine1, filterByte, srcBpp);
 
-            int pos = (mipPos(y, mip, starting_y, increment_y) * width + starting_x[mip]) * resultBpp;
+            int pos = scaler != null ? 0
+                    : (mipPos(y, mip, starting_y, increment_y) * width + starting_x[mip]) * resultBpp;
             int step = increment_x[mip];
 
             if (bitDepth == 16) {
@@ -571,6 +587,13 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
                 copy(scanLine0, image, pos, step, resultBpp);
             }
 
+            if (paletteLine != null) {
+                expandPalette(image, paletteLine, width);
+                scaler.putSourceScanline(paletteLine, 0);
+            } else if (scaler != null) {
+                scaler.putSourceScanline(image, 0);
+            }
+
             byte scanLineSwp[] = scanLine0;
             scanLine0 = scanLine1;
             scanLine1 = scanLineSwp;
@@ -581,22 +604,15 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
         if (isInterlaced) {
             for (int mip = 0; mip != 7; ++mip) {
                 if (width > starting_x[mip] && height > starting_y[mip]) {
-                    loadMip(image, data, mip);
+                    loadMip(image, data, mip, null);
                 }
             }
         } else {
-            loadMip(image, data, 7);
+            loadMip(image, data, 7, null);
         }
     }
 
-    private ImageFrame decodePalette(byte srcImage[], ImageMetadata metadata) throws IOException {
-        int bpp = tRNS_present ? 4 : 3;
-        if (width >= (Integer.MAX_VALUE / height / bpp)) {
-            throw new IOException("Bad PNG image size!");
-        }
-        byte newImage[] = new byte[width * height * bpp];
-        int l = width * height;
-
+    private void expandPalette(byte srcImage[], byte newImage[], int l) {
         if (tRNS_present) {
             for (int i = 0, j = 0; i != l; j += 4, i++) {
                 int index = 0xFF & srcImage[i];
@@ -613,15 +629,30 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
                 newImage[j + 2] = palette[2][index];
             }
         }
+    }
 
-        ImageStorage.ImageType type = tRNS_present
-                ? ImageStorage.ImageType.RGBA
-                : ImageStorage.ImageType.RGB;
+    private ImageFrame decodePalette(byte srcImage[], ImageMetadata metadata) throws IOException {
+        int bpp = paletteBpp();
+        if (width >= (Integer.MAX_VALUE / height / bpp)) {
+            throw new IOException("Bad PNG image size!");
+        }
+        byte newImage[] = new byte[width * height * bpp];
+        expandPalette(srcImage, newImage, width * height);
 
-        return new ImageFrame(type, ByteBuffer.wrap(newImage), width, height,
+        return new ImageFrame(getPaletteType(), ByteBuffer.wrap(newImage), width, height,
                 width * bpp, null, metadata);
     }
 
+    private int paletteBpp() {
+        return tRNS_present ? 4 : 3;
+    }
+
+    private ImageStorage.ImageType getPaletteType() {
+        return tRNS_present
+                ? ImageStorage.ImageType.RGBA
+                : ImageStorage.ImageType.RGB;
+    }
+
     // we won`t decode palette on fly, we will do it later
     // it is possible that we might want original paletteized image
     // ImageFrame does not support 16 bit color depth,
@@ -662,11 +693,31 @@ public final class PNGImageLoader2 extends ImageLoaderImpl {
                 null, null, null, null, null, rWidth, rHeight, null, null, null);
         updateImageMetadata(metaData);
 
-        ByteBuffer bb = ByteBuffer.allocate(bpp * width * height);
-
         PNGIDATChunkInputStream iDat = new PNGIDATChunkInputStream(stream, dataSize);
         Inflater inf = new Inflater();
-        InputStream data = new BufferedInputStream(new InflaterInputStream(iDat, inf));
+        // the rows are inflated straight into the scan lines, so there is no
+        // need for a BufferedInputStream in between
+        InputStream data = new InflaterInputStream(iDat, inf, INFLATER_BUFFER_SIZE);
+
+        if (!isInterlaced && (width != rWidth || height != rHeight)) {
+            // Scale the rows as they are decoded, so that the image is never
+            // held at full size. The rows of an interlaced image come in an
+            // order the scaler can't take, so those are scaled afterwards.
+            ImageStorage.ImageType type = colorType == PNG_COLOR_PALETTE
+                    ? getPaletteType() : getType();
+            int numBands = ImageStorage.getNumBands(type);
+            PushbroomScaler scaler = ScalerFactory.createScaler(
+                    width, height, numBands, rWidth, rHeight, smooth);
+            try {
+                loadMip(new byte[bpp * width], data, 7, scaler);
+            } finally {
+                inf.end();
+            }
+            return new ImageFrame(type, scaler.getDestination(), rWidth, rHeight,
+                    rWidth * numBands, null, metaData);
+        }
+
+        ByteBuffer bb = ByteBuffer.allocate(bpp * width * height);
 
         try {
             load(bb.array(), data);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -68,13 +68,14 @@ public class PixelUtils {
         int a = nonpre >>> 24;
         if (a == 0xff) return nonpre;
         if (a == 0x00) return 0;
-        int r = (nonpre >> 16) & 0xff;
-        int g = (nonpre >>  8) & 0xff;
-        int b = (nonpre      ) & 0xff;
-        r = (r * a + 0x7f) / 0xff;
-        g = (g * a + 0x7f) / 0xff;
-        b = (b * a + 0x7f) / 0xff;
-        return (a << 24) | (r << 16) | (g << 8) | b;
+        // (c * a + 0x7f) / 0xff computed as (t + (t >> 8)) >> 8 with
+        // t = c * a + 0x80, which is exact for t < 0x10000, so that red and
+        // blue can share a single multiply in two 16 bit lanes
+        int rb = (nonpre & 0xff00ff) * a + 0x800080;
+        int g  = ((nonpre >> 8) & 0xff) * a + 0x80;
+        rb = ((rb + ((rb >> 8) & 0xff00ff)) >> 8) & 0xff00ff;
+        g  = (g + (g >> 8)) >> 8;
+        return (a << 24) | rb | (g << 8);
     }
 
     public static int PretoNonPre(int pre) {
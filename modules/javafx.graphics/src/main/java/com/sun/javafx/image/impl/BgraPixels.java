@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.image.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Reads and writes 4 byte BGRA pixels as ARGB ints, which is their little
+ * endian interpretation, so that converters move whole pixels with a single
+ * load and store instead of assembling them from bytes.
+ */
+final class BgraPixels {
+    private static final VarHandle ARGB =
+        MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private BgraPixels() {}
+
+    static int getArgb(byte arr[], int offset) {
+        return (int) ARGB.get(arr, offset);
+    }
+
+    static void setArgb(byte arr[], int offset, int argb) {
+        ARGB.set(arr, offset, argb);
+    }
+
+    /**
+     * Returns a view of the buffer whose getInt and putInt methods read and
+     * write BGRA pixels as ARGB ints.
+     */
+    static ByteBuffer argbView(ByteBuffer buf) {
+        return buf.order() == ByteOrder.LITTLE_ENDIAN
+               ? buf
+               : buf.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -144,23 +144,10 @@ public class ByteBgra {
             dstscanbytes -= w * 4;
             while (--h >= 0) {
                 for (int x = 0; x < w; x++) {
-                    byte b = srcarr[srcoff++];
-                    byte g = srcarr[srcoff++];
-                    byte r = srcarr[srcoff++];
-                    int  a = srcarr[srcoff++] & 0xff;
-                    if (a < 0xff) {
-                        if (a == 0) {
-                            b = g = r = 0;
-                        } else {
-                            b = (byte) (((b & 0xff) * a + 0x7f) / 0xff);
-                            g = (byte) (((g & 0xff) * a + 0x7f) / 0xff);
-                            r = (byte) (((r & 0xff) * a + 0x7f) / 0xff);
-                        }
-                    }
-                    dstarr[dstoff++] = b;
-                    dstarr[dstoff++] = g;
-                    dstarr[dstoff++] = r;
-                    dstarr[dstoff++] = (byte) a;
+                    int pixel = BgraPixels.getArgb(srcarr, srcoff);
+                    BgraPixels.setArgb(dstarr, dstoff, PixelUtils.NonPretoPre(pixel));
+                    srcoff += 4;
+                    dstoff += 4;
                 }
                 srcoff += srcscanbytes;
                 dstoff += dstscanbytes;
@@ -174,26 +161,12 @@ public class ByteBgra {
         {
             srcscanbytes -= w * 4;
             dstscanbytes -= w * 4;
+            srcbuf = BgraPixels.argbView(srcbuf);
+            dstbuf = BgraPixels.argbView(dstbuf);
             while (--h >= 0) {
                 for (int x = 0; x < w; x++) {
-                    byte b = srcbuf.get(srcoff    );
-                    byte g = srcbuf.get(srcoff + 1);
-                    byte r = srcbuf.get(srcoff + 2);
-                    int  a = srcbuf.get(srcoff + 3) & 0xff;
+                    dstbuf.putInt(dstoff, PixelUtils.NonPretoPre(srcbuf.getInt(srcoff)));
                     srcoff += 4;
-                    if (a < 0xff) {
-                        if (a == 0) {
-                            b = g = r = 0;
-                        } else {
-                            b = (byte) (((b & 0xff) * a + 0x7f) / 0xff);
-                            g = (byte) (((g & 0xff) * a + 0x7f) / 0xff);
-                            r = (byte) (((r & 0xff) * a + 0x7f) / 0xff);
-                        }
-                    }
-                    dstbuf.put(dstoff    , b);
-                    dstbuf.put(dstoff + 1, g);
-                    dstbuf.put(dstoff + 2, r);
-                    dstbuf.put(dstoff + 3, (byte) a);
                     dstoff += 4;
                 }
                 srcoff += srcscanbytes;
@@ -220,11 +193,8 @@ public class ByteBgra {
             dstscanints -= w;
             while (--h >= 0) {
                 for (int x = 0; x < w; x++) {
-                    dstarr[dstoff++] =
-                        ((srcarr[srcoff++] & 0xff)      ) |
-                        ((srcarr[srcoff++] & 0xff) <<  8) |
-                        ((srcarr[srcoff++] & 0xff) << 16) |
-                        ((srcarr[srcoff++]       ) << 24);
+                    dstarr[dstoff++] = BgraPixels.getArgb(srcarr, srcoff);
+                    srcoff += 4;
                 }
                 srcoff += srcscanbytes;
                 dstoff += dstscanints;
@@ -237,13 +207,10 @@ public class ByteBgra {
                        int w, int h)
         {
             srcscanbytes -= w * 4;
+            srcbuf = BgraPixels.argbView(srcbuf);
             while (--h >= 0) {
                 for (int x = 0; x < w; x++) {
-                    dstbuf.put(dstoff + x,
-                               ((srcbuf.get(srcoff    ) & 0xff)      ) |
-                               ((srcbuf.get(srcoff + 1) & 0xff) <<  8) |
-                               ((srcbuf.get(srcoff + 2) & 0xff) << 16) |
-                               ((srcbuf.get(srcoff + 3)       ) << 24));
+                    dstbuf.put(dstoff + x, srcbuf.getInt(srcoff));
                     srcoff += 4;
                 }
                 srcoff += srcscanbytes;
@@ -269,21 +236,9 @@ public class ByteBgra {
             dstscanints  -= w;
             while (--h >= 0) {
                 for (int x = 0; x < w; x++) {
-                    int b = srcarr[srcoff++] & 0xff;
-                    int g = srcarr[srcoff++] & 0xff;
-                    int r = srcarr[srcoff++] & 0xff;
-                    int a = srcarr[srcoff++] & 0xff;
-                    if (a < 0xff) {
-                        if (a == 0) {
-                            b = g = r = 0;
-                        } else {
-                            b = (b * a + 0x7f) / 0xff;
-                            g = (g * a + 0x7f) / 0xff;
-                            r = (r * a + 0x7f) / 0xff;
-                        }
-                    }
                     dstarr[dstoff++] =
-                        (a << 24) | (r << 16) | (g << 8) | b;
+                        PixelUtils.NonPretoPre(BgraPixels.getArgb(srcarr, srcoff));
+                    srcoff += 4;
                 }
                 dstoff += dstscanints;
                 srcoff += srcscanbytes;
@@ -296,23 +251,11 @@ public class ByteBgra {
                        int w, int h)
         {
             srcscanbytes -= w * 4;
+            srcbuf = BgraPixels.argbView(srcbuf);
             while (--h >= 0) {
                 for (int x = 0; x < w; x++) {
-                    int b = srcbuf.get(srcoff    ) & 0xff;
-                    int g = srcbuf.get(srcoff + 1) & 0xff;
-                    int r = srcbuf.get(srcoff + 2) & 0xff;
-                    int a = srcbuf.get(srcoff + 3) & 0xff;
+                    dstbuf.put(dstoff + x, PixelUtils.NonPretoPre(srcbuf.getInt(srcoff)));
                     srcoff += 4;
-                    if (a < 0xff) {
-                        if (a == 0) {
-                            b = g = r = 0;
-                        } else {
-                            b = (b * a + 0x7f) / 0xff;
-                            g = (g * a + 0x7f) / 0xff;
-                            r = (r * a + 0x7f) / 0xff;
-                        }
-                    }
-                    dstbuf.put(dstoff + x, (a << 24) | (r << 16) | (g << 8) | b);
                 }
                 dstoff += dstscanints;
                 srcoff += srcscanbytes;
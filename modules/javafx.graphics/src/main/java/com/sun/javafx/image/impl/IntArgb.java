@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -136,19 +136,7 @@ public class IntArgb {
             dstscanints -= w;
             while (--h >= 0) {
                 for (int x = 0; x < w; x++) {
-                    int pixel = srcarr[srcoff++];
-                    int a = pixel >>> 24;
-                    if (a < 0xff) {
-                        if (a == 0) {
-                            pixel = 0;
-                        } else {
-                            int r = (((pixel >> 16) & 0xff) * a + 0x7f) / 0xff;
-                            int g = (((pixel >>  8) & 0xff) * a + 0x7f) / 0xff;
-                            int b = (((pixel      ) & 0xff) * a + 0x7f) / 0xff;
-                            pixel = (a << 24) | (r << 16) | (g << 8) | b;
-                        }
-                    }
-                    dstarr[dstoff++] = pixel;
+                    dstarr[dstoff++] = PixelUtils.NonPretoPre(srcarr[srcoff++]);
                 }
                 srcoff += srcscanints;
                 dstoff += dstscanints;
@@ -162,19 +150,7 @@ public class IntArgb {
         {
             while (--h >= 0) {
                 for (int x = 0; x < w; x++) {
-                    int pixel = srcbuf.get(srcoff + x);
-                    int a = pixel >>> 24;
-                    if (a < 0xff) {
-                        if (a == 0) {
-                            pixel = 0;
-                        } else {
-                            int r = (((pixel >> 16) & 0xff) * a + 0x7f) / 0xff;
-                            int g = (((pixel >>  8) & 0xff) * a + 0x7f) / 0xff;
-                            int b = (((pixel      ) & 0xff) * a + 0x7f) / 0xff;
-                            pixel = (a << 24) | (r << 16) | (g << 8) | b;
-                        }
-                    }
-                    dstbuf.put(dstoff + x, pixel);
+                    dstbuf.put(dstoff + x, PixelUtils.NonPretoPre(srcbuf.get(srcoff + x)));
                 }
                 srcoff += srcscanints;
                 dstoff += dstscanints;
@@ -199,24 +175,8 @@ public class IntArgb {
             dstscanbytes -= w * 4;
             while (--h >= 0) {
                 for (int x = 0; x < w; x++) {
-                    int pixel = srcarr[srcoff++];
-                    int a = pixel >>> 24;
-                    int r = pixel >>  16;
-                    int g = pixel >>   8;
-                    int b = pixel       ;
-                    if (a < 0xff) {
-                        if (a == 0) {
-                            b = g = r = 0;
-                        } else {
-                            b = ((b & 0xff) * a + 0x7f) / 0xff;
-                            g = ((g & 0xff) * a + 0x7f) / 0xff;
-                            r = ((r & 0xff) * a + 0x7f) / 0xff;
-                        }
-                    }
-                    dstarr[dstoff++] = (byte) b;
-                    dstarr[dstoff++] = (byte) g;
-                    dstarr[dstoff++] = (byte) r;
-                    dstarr[dstoff++] = (byte) a;
+                    BgraPixels.setArgb(dstarr, dstoff, PixelUtils.NonPretoPre(srcarr[srcoff++]));
+                    dstoff += 4;
                 }
                 srcoff += srcscanints;
                 dstoff += dstscanbytes;
@@ -229,26 +189,10 @@ public class IntArgb {
                        int w, int h)
         {
             dstscanbytes -= w * 4;
+            dstbuf = BgraPixels.argbView(dstbuf);
             while (--h >= 0) {
                 for (int x = 0; x < w; x++) {
-                    int pixel = srcbuf.get(srcoff + x);
-                    int a = pixel >>> 24;
-                    int r = pixel >>  16;
-                    int g = pixel >>   8;
-                    int b = pixel       ;
-                    if (a < 0xff) {
-                        if (a == 0) {
-                            b = g = r = 0;
-                        } else {
-                            b = ((b & 0xff) * a + 0x7f) / 0xff;
-                            g = ((g & 0xff) * a + 0x7f) / 0xff;
-                            r = ((r & 0xff) * a + 0x7f) / 0xff;
-                        }
-                    }
-                    dstbuf.put(dstoff    , (byte) b);
-                    dstbuf.put(dstoff + 1, (byte) g);
-                    dstbuf.put(dstoff + 2, (byte) r);
-                    dstbuf.put(dstoff + 3, (byte) a);
+                    dstbuf.putInt(dstoff, PixelUtils.NonPretoPre(srcbuf.get(srcoff + x)));
                     dstoff += 4;
                 }
                 srcoff += srcscanints;
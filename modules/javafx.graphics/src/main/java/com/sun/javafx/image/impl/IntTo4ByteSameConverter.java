@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -45,11 +45,8 @@ class IntTo4ByteSameConverter extends BaseIntToByteConverter {
         dstscanbytes -= w * 4;
         while (--h >= 0) {
             for (int x = 0; x < w; x++) {
-                int pixel = srcarr[srcoff++];
-                dstarr[dstoff++] = (byte) (pixel      );
-                dstarr[dstoff++] = (byte) (pixel >>  8);
-                dstarr[dstoff++] = (byte) (pixel >> 16);
-                dstarr[dstoff++] = (byte) (pixel >> 24);
+                BgraPixels.setArgb(dstarr, dstoff, srcarr[srcoff++]);
+                dstoff += 4;
             }
             srcoff += srcscanints;
             dstoff += dstscanbytes;
@@ -62,13 +59,10 @@ class IntTo4ByteSameConverter extends BaseIntToByteConverter {
                    int w, int h)
     {
         dstscanbytes -= w * 4;
+        dstbuf = BgraPixels.argbView(dstbuf);
         while (--h >= 0) {
             for (int x = 0; x < w; x++) {
-                int pixel = srcbuf.get(srcoff + x);
-                dstbuf.put(dstoff    , (byte) (pixel      ));
-                dstbuf.put(dstoff + 1, (byte) (pixel >>  8));
-                dstbuf.put(dstoff + 2, (byte) (pixel >> 16));
-                dstbuf.put(dstoff + 3, (byte) (pixel >> 24));
+                dstbuf.putInt(dstoff, srcbuf.get(srcoff + x));
                 dstoff += 4;
             }
             srcoff += srcscanints;
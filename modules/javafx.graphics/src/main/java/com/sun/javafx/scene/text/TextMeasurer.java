@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.scene.text;
+
+import com.sun.javafx.geom.BaseBounds;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures text on any thread. Each thread lays out text with its own
+ * {@link TextLayout}, so that batches of strings can be shaped and measured
+ * in parallel on worker threads while the FX thread does other work.
+ *
+ * <p>The fonts passed to this class are native fonts, as returned by
+ * {@code FontHelper.getNativeFont()}, which must be obtained on the FX
+ * thread.</p>
+ */
+public final class TextMeasurer {
+
+    /**
+     * The size of a text layout: its logical bounds and the index of the
+     * first character of each of its lines.
+     */
+    public static final class Metrics {
+        private final double width;
+        private final double height;
+        private final int[] lineStarts;
+
+        Metrics(double width, double height, int[] lineStarts) {
+            this.width = width;
+            this.height = height;
+            this.lineStarts = lineStarts;
+        }
+
+        public double getWidth() {
+            return width;
+        }
+
+        public double getHeight() {
+            return height;
+        }
+
+        public int getLineCount() {
+            return lineStarts.length;
+        }
+
+        /**
+         * Returns the index in the text of the first character of the line.
+         */
+        public int getLineStart(int line) {
+            return lineStarts[line];
+        }
+    }
+
+    /* The smallest number of strings measured by one task */
+    private static final int MIN_BATCH_SIZE = 64;
+
+    private final ThreadLocal<TextLayout> layouts;
+    private final Executor executor;
+    private final int parallelism;
+
+    /**
+     * Creates a measurer running its batches on a pool of daemon threads,
+     * one per processor.
+     */
+    public TextMeasurer(TextLayoutFactory factory) {
+        this(factory, createExecutor(), Runtime.getRuntime().availableProcessors());
+    }
+
+    public TextMeasurer(TextLayoutFactory factory, Executor executor, int parallelism) {
+        this.layouts = ThreadLocal.withInitial(factory::createLayout);
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    @SuppressWarnings("removal")
+    private static Executor createExecutor() {
+        int nThreads = Runtime.getRuntime().availableProcessors();
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(nThreads, nThreads,
+                                       1, TimeUnit.SECONDS,
+                                       new LinkedBlockingQueue<>(),
+                                       runnable -> AccessController.doPrivileged(
+                                               (PrivilegedAction<Thread>) () -> {
+                                                   Thread thread = new Thread(runnable,
+                                                           "JavaFX Text Measurement Thread");
+                                                   thread.setDaemon(true);
+                                                   return thread;
+                                               }));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private TextLayout getLayout(String text, Object font, double wrappingWidth,
+                                 double lineSpacing, int boundsType) {
+        TextLayout layout = layouts.get();
+        layout.setContent(text != null ? text : "", font);
+        layout.setWrapWidth((float)wrappingWidth);
+        layout.setLineSpacing((float)lineSpacing);
+        layout.setBoundsType(boundsType);
+        return layout;
+    }
+
+    /**
+     * Measures the text on the calling thread.
+     *
+     * @param boundsType 0 or {@link TextLayout#BOUNDS_CENTER}
+     */
+    public Metrics measure(String text, Object font, double wrappingWidth,
+                           double lineSpacing, int boundsType) {
+        TextLayout layout = getLayout(text, font, wrappingWidth, lineSpacing, boundsType);
+        TextLine[] lines = layout.getLines();
+        int[] lineStarts = new int[lines.length];
+        for (int i = 0; i < lines.length; i++) {
+            lineStarts[i] = lines[i].getStart();
+        }
+        BaseBounds bounds = layout.getBounds();
+        return new Metrics(bounds.getWidth(), bounds.getHeight(), lineStarts);
+    }
+
+    /**
+     * Measures the width of the unwrapped text on the calling thread.
+     */
+    public double computeWidth(String text, Object font) {
+        return getLayout(text, font, 0, 0, 0).getBounds().getWidth();
+    }
+
+    /**
+     * Measures the texts in parallel on the worker threads.
+     */
+    public CompletableFuture<Metrics[]> measureAll(List<String> texts, Object font,
+                                                   double wrappingWidth, double lineSpacing,
+                                                   int boundsType) {
+        Metrics[] metrics = new Metrics[texts.size()];
+        return runBatches(texts.size(), (start, end) -> {
+            for (int i = start; i < end; i++) {
+                metrics[i] = measure(texts.get(i), font, wrappingWidth, lineSpacing, boundsType);
+            }
+            return 0.0;
+        }).thenApply(max -> metrics);
+    }
+
+    /**
+     * Computes in parallel on the worker threads the width of the widest of
+     * the unwrapped texts, 0 if there are none.
+     */
+    public CompletableFuture<Double> computeMaxWidth(List<String> texts, Object font) {
+        return runBatches(texts.size(), (start, end) -> {
+            double max = 0;
+            for (int i = start; i < end; i++) {
+                max = Math.max(max, computeWidth(texts.get(i), font));
+            }
+            return max;
+        });
+    }
+
+    private interface Batch {
+        double run(int start, int end);
+    }
+
+    /* Splits the range in a few batches per thread and returns the largest
+     * value they return.
+     */
+    private CompletableFuture<Double> runBatches(int count, Batch batch) {
+        int batchSize = Math.max(MIN_BATCH_SIZE, (count + parallelism * 4 - 1) / (parallelism * 4));
+        List<CompletableFuture<Double>> futures = new ArrayList<>();
+        for (int start = 0; start < count; start += batchSize) {
+            final int from = start;
+            final int to = Math.min(count, start + batchSize);
+            futures.add(CompletableFuture.supplyAsync(() -> batch.run(from, to), executor));
+        }
+        CompletableFuture<Double> result = CompletableFuture.completedFuture(0.0);
+        for (CompletableFuture<Double> future : futures) {
+            result = result.thenCombine(future, Math::max);
+        }
+        return result;
+    }
+}
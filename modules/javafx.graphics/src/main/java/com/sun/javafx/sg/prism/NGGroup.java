@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -28,6 +28,8 @@ package com.sun.javafx.sg.prism;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import com.sun.javafx.geom.BoxBounds;
 import com.sun.javafx.geom.DirtyRegionContainer;
 import com.sun.javafx.geom.RectBounds;
 import com.sun.javafx.geom.Rectangle;
@@ -35,6 +37,7 @@ import com.sun.javafx.geom.transform.BaseTransform;
 import com.sun.javafx.geom.transform.GeneralTransform3D;
 import com.sun.javafx.scene.NodeHelper;
 import com.sun.prism.Graphics;
+import com.sun.prism.impl.PrismSettings;
 import com.sun.scenario.effect.Blend;
 import com.sun.scenario.effect.Blend.Mode;
 import com.sun.scenario.effect.FilterContext;
@@ -443,14 +446,16 @@ public class NGGroup extends NGNode {
     }
 
     @Override
-    protected void markCullRegions(
+    void markCullRegions(
             DirtyRegionContainer drc,
             int cullingRegionsBitsOfParent,
             BaseTransform tx,
-            GeneralTransform3D pvTx) {
+            GeneralTransform3D pvTx,
+            BoxBounds tmpBounds,
+            RectBounds tmpRectBounds) {
 
         //set culling bits for this group first.
-        super.markCullRegions(drc, cullingRegionsBitsOfParent, tx, pvTx);
+        super.markCullRegions(drc, cullingRegionsBitsOfParent, tx, pvTx, tmpBounds, tmpRectBounds);
 
         //cullingRegionsBits == 0 group is outside all dirty regions
         // we can cull all children otherwise check children.
@@ -473,21 +478,97 @@ public class NGGroup extends NGNode {
             double mzt = tx.getMzt();
             BaseTransform chTx = tx.deriveWithConcatenation(getTransform());
 
-            NGNode child;
             List<NGNode> orderedChildren = getOrderedChildren();
-            for (int chldIdx = 0; chldIdx < orderedChildren.size(); chldIdx++) {
-                child = orderedChildren.get(chldIdx);
-                child.markCullRegions(
-                        drc,
-                        cullingBits,
-                        chTx,
-                        pvTx);
+            if (isParallelCulling() &&
+                orderedChildren.size() >= 2 * CULLING_CHUNK_SIZE)
+            {
+                new CullingTask(orderedChildren, 0, orderedChildren.size(),
+                                drc, cullingBits, chTx, pvTx).invoke();
+            } else {
+                NGNode child;
+                for (int chldIdx = 0; chldIdx < orderedChildren.size(); chldIdx++) {
+                    child = orderedChildren.get(chldIdx);
+                    child.markCullRegions(
+                            drc,
+                            cullingBits,
+                            chTx,
+                            pvTx,
+                            tmpBounds,
+                            tmpRectBounds);
+                }
             }
             // restore previous transform state
             tx.restoreTransform(mxx, mxy, mxz, mxt, myx, myy, myz, myt, mzx, mzy, mzz, mzt);
         }
     }
 
+    /**
+     * The number of sibling subtrees that a {@code CullingTask} marks on a
+     * single thread. Groups with fewer than twice as many children are
+     * always marked serially.
+     */
+    private static final int CULLING_CHUNK_SIZE = 64;
+
+    /**
+     * Returns whether the children of this group, if there are enough of
+     * them, are marked with {@code CullingTask}s. Overridden by tests to
+     * exercise both paths.
+     */
+    boolean isParallelCulling() {
+        return PrismSettings.parallelCullingEnabled;
+    }
+
+    /**
+     * Marks the culling bits of a range of children, splitting the range
+     * across the fork-join pool. Sibling subtrees are disjoint, so each
+     * leaf task only needs its own copies of the transforms and its own
+     * scratch bounds.
+     */
+    @SuppressWarnings("serial")
+    private static final class CullingTask extends RecursiveAction {
+        private final List<NGNode> children;
+        private final int from;
+        private final int to;
+        private final DirtyRegionContainer drc;
+        private final int cullingBitsOfParent;
+        private final BaseTransform tx;
+        private final GeneralTransform3D pvTx;
+
+        CullingTask(List<NGNode> children, int from, int to,
+                    DirtyRegionContainer drc, int cullingBitsOfParent,
+                    BaseTransform tx, GeneralTransform3D pvTx) {
+            this.children = children;
+            this.from = from;
+            this.to = to;
+            this.drc = drc;
+            this.cullingBitsOfParent = cullingBitsOfParent;
+            this.tx = tx;
+            this.pvTx = pvTx;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CULLING_CHUNK_SIZE) {
+                final int mid = (from + to) >>> 1;
+                invokeAll(new CullingTask(children, from, mid, drc, cullingBitsOfParent, tx, pvTx),
+                          new CullingTask(children, mid, to, drc, cullingBitsOfParent, tx, pvTx));
+                return;
+            }
+            // Children restore the transform they are given, but they do
+            // modify it while marking, and GeneralTransform3D keeps scratch
+            // state of its own, so neither may be shared between tasks.
+            final BaseTransform chTx = tx.copy();
+            final GeneralTransform3D chPvTx = pvTx.copy();
+            final BoxBounds tmpBounds = new BoxBounds();
+            final RectBounds tmpRectBounds = new RectBounds();
+            for (int i = from; i < to; i++) {
+                children.get(i).markCullRegions(drc, cullingBitsOfParent,
+                                                chTx, chPvTx,
+                                                tmpBounds, tmpRectBounds);
+            }
+        }
+    }
+
     @Override
     public void drawDirtyOpts(final BaseTransform tx, final GeneralTransform3D pvTx,
                               Rectangle clipBounds, int[] countBuffer, int dirtyRegionIndex) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2016, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -1363,6 +1363,22 @@ public abstract class NGNode {
             int cullingRegionsBitsOfParent,
             BaseTransform tx,
             GeneralTransform3D pvTx) {
+        markCullRegions(drc, cullingRegionsBitsOfParent, tx, pvTx, TEMP_BOUNDS, TEMP_RECT_BOUNDS);
+    }
+
+    /**
+     * Same as {@link #markCullRegions(DirtyRegionContainer, int, BaseTransform, GeneralTransform3D)},
+     * but computes the transformed bounds into the given scratch objects
+     * rather than the shared static ones, so that disjoint subtrees can be
+     * marked concurrently.
+     */
+    void markCullRegions(
+            DirtyRegionContainer drc,
+            int cullingRegionsBitsOfParent,
+            BaseTransform tx,
+            GeneralTransform3D pvTx,
+            BoxBounds tmpBounds,
+            RectBounds tmpRectBounds) {
 
         // Spent a long time tracking down how cullingRegionsBitsOfParent works. Note that it is
         // not just the parent's bits, but also -1 in the case of the "root", where the root is
@@ -1370,16 +1386,16 @@ public abstract class NGNode {
         // render-to-texture for effects!
 
         if (tx.isIdentity()) {
-            TEMP_BOUNDS.deriveWithNewBounds(transformedBounds);
+            tmpBounds.deriveWithNewBounds(transformedBounds);
         } else {
-            tx.transform(transformedBounds, TEMP_BOUNDS);
+            tx.transform(transformedBounds, tmpBounds);
         }
 
         if (!pvTx.isIdentity()) {
-            pvTx.transform(TEMP_BOUNDS, TEMP_BOUNDS);
+            pvTx.transform(tmpBounds, tmpBounds);
         }
 
-        TEMP_BOUNDS.flattenInto(TEMP_RECT_BOUNDS);
+        tmpBounds.flattenInto(tmpRectBounds);
 
         cullingBits = 0;
         RectBounds region;
@@ -1396,9 +1412,9 @@ public abstract class NGNode {
             // care about marking child nodes which are within a parent which
             // is wholly contained within the dirty region.
             if ((cullingRegionsBitsOfParent == -1 || (cullingRegionsBitsOfParent & mask) != 0) &&
-                    region.intersects(TEMP_RECT_BOUNDS)) {
+                    region.intersects(tmpRectBounds)) {
                 int b = DIRTY_REGION_INTERSECTS_NODE_BOUNDS;
-                if (region.contains(TEMP_RECT_BOUNDS)) {
+                if (region.contains(tmpRectBounds)) {
                     b = DIRTY_REGION_CONTAINS_NODE_BOUNDS;
                 }
                 cullingBits = cullingBits | (b << (2 * i));
@@ -1413,7 +1429,7 @@ public abstract class NGNode {
         }
 
 //        System.out.printf("%s bits: %s bounds: %s\n",
-//            this, Integer.toBinaryString(cullingBits), TEMP_RECT_BOUNDS);
+//            this, Integer.toBinaryString(cullingBits), tmpRectBounds);
     }
 
     /**
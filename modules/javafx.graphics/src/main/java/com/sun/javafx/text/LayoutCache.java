@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2013, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,17 +25,20 @@
 
 package com.sun.javafx.text;
 
-import com.sun.javafx.font.PGFont;
-
 class LayoutCache {
     int[] glyphs;
     float[] advances;
     boolean valid;
     int analysis;
-    char[] text;
-    PGFont font;
     TextRun[] runs;
     int runCount;
     TextLine[] lines;
     float layoutWidth, layoutHeight;
+
+    /* Estimated number of bytes retained by the cache entry, including
+     * the text of its key.
+     */
+    int getWeight() {
+        return 128 + glyphs.length * 10 + runCount * 96 + lines.length * 64;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -50,7 +50,6 @@ import java.text.Bidi;
 import java.text.BreakIterator;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Hashtable;
 
 public class PrismTextLayout implements TextLayout {
     private static final BaseTransform IDENTITY = BaseTransform.IDENTITY_TRANSFORM;
@@ -59,17 +58,19 @@ public class PrismTextLayout implements TextLayout {
     private static final int X_MAX_INDEX = 2;
     private static final int Y_MAX_INDEX = 3;
 
-    private static final Hashtable<Integer, LayoutCache> stringCache = new Hashtable<>();
-    private static final Object  CACHE_SIZE_LOCK = new Object();
-    private static int cacheSize = 0;
-    private static final int MAX_STRING_SIZE = 256;
+    /* prism.cacheLayoutSize is the number of characters of text to cache,
+     * the cache bound is the estimated memory used by that much text.
+     */
+    private static final int CACHE_BYTES_PER_CHAR = 16;
     private static final int MAX_CACHE_SIZE = PrismFontFactory.cacheLayoutSize;
+    private static final TextLayoutCache<CacheKey, LayoutCache> stringCache =
+            new TextLayoutCache<>((long)MAX_CACHE_SIZE * CACHE_BYTES_PER_CHAR);
 
     private char[] text;
     private TextSpan[] spans;   /* Rich text  (null for single font text) */
     private PGFont font;        /* Single font text (null for rich text) */
     private FontStrike strike;  /* cached strike of font (identity) */
-    private Integer cacheKey;
+    private int cacheTextHash;  /* hash of the text, 0 if not cacheable */
     private TextLine[] lines;
     private TextRun[] runs;
     private int runCount;
@@ -127,7 +128,7 @@ public class PrismTextLayout implements TextLayout {
         this.font = null;
         this.strike = null;
         this.text = null;   /* Initialized in getText() */
-        this.cacheKey = null;
+        this.cacheTextHash = 0;
         return true;
     }
 
@@ -137,11 +138,9 @@ public class PrismTextLayout implements TextLayout {
         this.font = (PGFont)font;
         this.strike = ((PGFont)font).getStrike(IDENTITY);
         this.text = text.toCharArray();
-        if (MAX_CACHE_SIZE > 0) {
-            int length = text.length();
-            if (0 < length && length <= MAX_STRING_SIZE) {
-                cacheKey = text.hashCode() * strike.hashCode();
-            }
+        this.cacheTextHash = 0;
+        if (MAX_CACHE_SIZE > 0 && text.length() > 0) {
+            cacheTextHash = text.hashCode() | 1;
         }
         return true;
     }
@@ -681,50 +680,62 @@ public class PrismTextLayout implements TextLayout {
         return index;
     }
 
-    private boolean copyCache() {
-        int align = flags & ALIGN_MASK;
-        int boundsType = flags & BOUNDS_MASK;
-        /* Caching for boundsType == Center, bias towards  Modena */
-        return wrapWidth != 0 || align != ALIGN_LEFT || boundsType == 0 || isMirrored();
+    /**
+     * Returns the key of the unwrapped layout of the text for the current
+     * alignment, bounds type, direction, line spacing and tab size.
+     * The base key is the one of the left aligned layout, which has the runs
+     * that any other layout of the text can reuse.
+     */
+    private CacheKey getCacheKey(boolean base) {
+        int layoutFlags = flags & (BOUNDS_MASK | DIRECTION_MASK);
+        layoutFlags |= base ? ALIGN_LEFT : flags & ALIGN_MASK;
+        return new CacheKey(text, cacheTextHash, font, layoutFlags,
+                            spacing, tabSize);
+    }
+
+    /* Wrapped layouts are not cached whole: a text whose width is being
+     * resized would otherwise add an entry for each intermediate width.
+     */
+    private boolean isCachedWhole() {
+        return cacheTextHash != 0 && wrapWidth == 0;
     }
 
     private void initCache() {
-        if (cacheKey != null) {
+        if (cacheTextHash != 0) {
+            CacheKey key = getCacheKey(false);
+            LayoutCache cache = isCachedWhole() ? stringCache.get(key) : null;
+            if (cache != null) {
+                /* Whole layout retrieved from the cache */
+                layoutCache = cache;
+                runs = cache.runs;
+                runCount = cache.runCount;
+                flags |= cache.analysis;
+                lines = cache.lines;
+                layoutWidth = cache.layoutWidth;
+                layoutHeight = cache.layoutHeight;
+                float ascent = lines[0].getBounds().getMinY();
+                logicalBounds = logicalBounds.deriveWithNewBounds(0, ascent, 0,
+                        layoutWidth, layoutHeight + ascent, 0);
+                return;
+            }
             if (layoutCache == null) {
-                LayoutCache cache = stringCache.get(cacheKey);
-                if (cache != null && cache.font.equals(font) && Arrays.equals(cache.text, text)) {
+                CacheKey baseKey = getCacheKey(true);
+                /* An unwrapped layout with the base key was looked up above */
+                cache = isCachedWhole() && baseKey.equals(key) ? null : stringCache.get(baseKey);
+                if (cache != null) {
                     layoutCache = cache;
                     runs = cache.runs;
                     runCount = cache.runCount;
                     flags |= cache.analysis;
                 }
             }
-            if (layoutCache != null) {
-                if (copyCache()) {
-                    /* This instance has some property that requires it to
-                     * build its own lines (i.e. wrapping width). Thus, only use
-                     * the runs from the cache (and it needs to make a copy
-                     * before using it as they will be modified).
-                     * Note: the copy of the elements in the array happens in
-                     * reuseRuns().
-                     */
-                    if (layoutCache.runs == runs) {
-                        runs = new TextRun[runCount];
-                        System.arraycopy(layoutCache.runs, 0, runs, 0, runCount);
-                    }
-                } else {
-                    if (layoutCache.lines != null) {
-                        runs = layoutCache.runs;
-                        runCount = layoutCache.runCount;
-                        flags |= layoutCache.analysis;
-                        lines = layoutCache.lines;
-                        layoutWidth = layoutCache.layoutWidth;
-                        layoutHeight = layoutCache.layoutHeight;
-                        float ascent = lines[0].getBounds().getMinY();
-                        logicalBounds = logicalBounds.deriveWithNewBounds(0, ascent, 0,
-                                layoutWidth, layoutHeight + ascent, 0);
-                    }
-                }
+            if (layoutCache != null && layoutCache.runs == runs) {
+                /* The runs are shared with the cache, so this instance builds
+                 * its lines from a copy of them (the copy of the elements in
+                 * the array happens in reuseRuns()).
+                 */
+                runs = new TextRun[runCount];
+                System.arraycopy(layoutCache.runs, 0, runs, 0, runCount);
             }
         }
     }
@@ -1292,31 +1303,76 @@ public class PrismTextLayout implements TextLayout {
 
 
         if (layoutCache != null) {
-            if (cacheKey != null && !layoutCache.valid && !copyCache()) {
-                /* After layoutCache is added to the stringCache it can be
+            layoutCache.valid = true;
+            if (isCachedWhole()) {
+                /* After the entry is added to the stringCache it can be
                  * accessed by multiple threads. All the data in it must
-                 * be immutable. See copyCache() for the cases where the entire
-                 * layout is immutable.
+                 * be immutable: it gets its own copy of the runs array, which
+                 * this instance modifies in reuseRuns(), and the runs and
+                 * lines are not modified once the layout is done.
                  */
-                layoutCache.font = font;
-                layoutCache.text = text;
-                layoutCache.runs = runs;
-                layoutCache.runCount = runCount;
-                layoutCache.lines = lines;
-                layoutCache.layoutWidth = layoutWidth;
-                layoutCache.layoutHeight = layoutHeight;
-                layoutCache.analysis = flags & ANALYSIS_MASK;
-                synchronized (CACHE_SIZE_LOCK) {
-                    int charCount = chars.length;
-                    if (cacheSize + charCount > MAX_CACHE_SIZE) {
-                        stringCache.clear();
-                        cacheSize = 0;
-                    }
-                    stringCache.put(cacheKey, layoutCache);
-                    cacheSize += charCount;
+                LayoutCache entry = new LayoutCache();
+                entry.glyphs = layoutCache.glyphs;
+                entry.advances = layoutCache.advances;
+                entry.valid = true;
+                entry.runs = Arrays.copyOf(runs, runCount);
+                entry.runCount = runCount;
+                entry.lines = lines;
+                entry.layoutWidth = layoutWidth;
+                entry.layoutHeight = layoutHeight;
+                entry.analysis = flags & ANALYSIS_MASK;
+                if (stringCache.put(getCacheKey(false), entry, entry.getWeight())) {
+                    layoutCache = entry;
                 }
             }
-            layoutCache.valid = true;
+        }
+    }
+
+    /**
+     * Returns the statistics of the cache of text layouts shared by all
+     * instances, for debugging.
+     */
+    public static String getCacheStatistics() {
+        return stringCache.toString();
+    }
+
+    private static final class CacheKey {
+        private final char[] text;
+        private final PGFont font;
+        private final int layoutFlags;
+        private final float spacing;
+        private final int tabSize;
+        private final int hash;
+
+        CacheKey(char[] text, int textHash, PGFont font, int layoutFlags,
+                 float spacing, int tabSize) {
+            this.text = text;
+            this.font = font;
+            this.layoutFlags = layoutFlags;
+            this.spacing = spacing;
+            this.tabSize = tabSize;
+            int h = textHash * 31 + font.hashCode();
+            h = h * 31 + layoutFlags;
+            h = h * 31 + Float.floatToIntBits(spacing);
+            this.hash = h * 31 + tabSize;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof CacheKey)) return false;
+            CacheKey other = (CacheKey)obj;
+            return hash == other.hash &&
+                   layoutFlags == other.layoutFlags &&
+                   tabSize == other.tabSize &&
+                   Float.compare(spacing, other.spacing) == 0 &&
+                   font.equals(other.font) &&
+                   Arrays.equals(text, other.text);
         }
     }
 
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.javafx.text;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread safe cache of text layouts bounded by the estimated memory of its
+ * entries. The cache is split in segments, each one guarded by its own lock
+ * and evicting its least recently used entries, so that layouts running on
+ * different threads rarely wait for each other.
+ */
+public final class TextLayoutCache<K, V> {
+    private static final int SEGMENT_COUNT = 16;
+
+    /* An entry weighs at most this fraction of a segment, so that one large
+     * text, such as the content of a TextArea laid out again on each
+     * keystroke, cannot flush the other entries of its segment.
+     */
+    private static final int MAX_ENTRY_FRACTION = 8;
+
+    private final Segment<K, V>[] segments;
+    private final long maxSegmentWeight;
+    private final long maxEntryWeight;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * Creates a cache holding at most the given weight, usually the estimated
+     * number of bytes of the entries.
+     */
+    @SuppressWarnings("unchecked")
+    public TextLayoutCache(long maxWeight) {
+        segments = new Segment[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new Segment<>();
+        }
+        maxSegmentWeight = maxWeight / SEGMENT_COUNT;
+        maxEntryWeight = maxSegmentWeight / MAX_ENTRY_FRACTION;
+    }
+
+    private Segment<K, V> segmentFor(Object key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return segments[h & (SEGMENT_COUNT - 1)];
+    }
+
+    /**
+     * Returns the weight of the largest entry the cache accepts.
+     */
+    public long getMaxEntryWeight() {
+        return maxEntryWeight;
+    }
+
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        Entry<V> entry;
+        synchronized (segment) {
+            entry = segment.map.get(key);
+        }
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        return entry.value;
+    }
+
+    /**
+     * Adds an entry to the cache, evicting the least recently used entries of
+     * its segment when needed. Entries heavier than
+     * {@link #getMaxEntryWeight()} are not cached.
+     *
+     * @return true if the entry was added
+     */
+    public boolean put(K key, V value, int weight) {
+        if (weight > maxEntryWeight) {
+            return false;
+        }
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            Entry<V> old = segment.map.put(key, new Entry<>(value, weight));
+            if (old != null) {
+                segment.weight -= old.weight;
+            }
+            segment.weight += weight;
+            Iterator<Entry<V>> it = segment.map.values().iterator();
+            while (segment.weight > maxSegmentWeight) {
+                Entry<V> eldest = it.next();
+                it.remove();
+                segment.weight -= eldest.weight;
+                evictionCount.increment();
+            }
+        }
+        return true;
+    }
+
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.map.clear();
+                segment.weight = 0;
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.map.size();
+            }
+        }
+        return size;
+    }
+
+    public long getWeight() {
+        long weight = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                weight += segment.weight;
+            }
+        }
+        return weight;
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "TextLayoutCache[size=" + size() + ", weight=" + getWeight()
+                + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+                + ", evictions=" + getEvictionCount() + "]";
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final int weight;
+
+        Entry(V value, int weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    private static final class Segment<K, V> {
+        /* In access order, the eldest entry is the least recently used */
+        final Map<K, Entry<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+        long weight;
+    }
+}
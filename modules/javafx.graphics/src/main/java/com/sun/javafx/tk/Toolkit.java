@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2022, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -84,6 +84,7 @@ import com.sun.javafx.runtime.async.AsyncOperation;
 import com.sun.javafx.runtime.async.AsyncOperationListener;
 import com.sun.javafx.scene.SceneHelper;
 import com.sun.javafx.scene.text.TextLayoutFactory;
+import com.sun.javafx.scene.text.TextMeasurer;
 import com.sun.javafx.sg.prism.NGCamera;
 import com.sun.javafx.sg.prism.NGLightBase;
 import com.sun.javafx.sg.prism.NGNode;
@@ -581,6 +582,14 @@ public abstract class Toolkit {
                                           boolean preserveRatio,
                                           boolean smooth);
 
+    /*
+     * Returns the number of images that may be loaded in the background at
+     * the same time.
+     */
+    public int getMaxImageLoadingTasks() {
+        return 4;
+    }
+
     /*
      * The loadPlatformImage method supports the following image types:
      *   - an object returned by the renderToImage method
@@ -724,6 +733,19 @@ public abstract class Toolkit {
     public abstract FontLoader getFontLoader();
     public abstract TextLayoutFactory getTextLayoutFactory();
 
+    private TextMeasurer textMeasurer;
+
+    /**
+     * Returns the measurer that lays out text off the FX thread with the
+     * layouts of {@link #getTextLayoutFactory()}.
+     */
+    public synchronized TextMeasurer getTextMeasurer() {
+        if (textMeasurer == null) {
+            textMeasurer = new TextMeasurer(getTextLayoutFactory());
+        }
+        return textMeasurer;
+    }
+
     public abstract Object createSVGPathObject(SVGPath svgpath);
     public abstract Path2D createSVGPath2D(SVGPath svgpath);
 
@@ -0,0 +1,266 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package com.sun.javafx.tk.quantum;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import com.sun.prism.impl.PrismSettings;
+
+/**
+ * Shares decoded images between the images that are loaded from the same
+ * URL with the same requested size. Requests that arrive while an image is
+ * being decoded wait for that decode instead of starting their own. Images
+ * that decoded successfully are kept in a cache that evicts the least
+ * recently used images once their pixels take more than the maximum size.
+ * A maximum size of 0 disables both the cache and the sharing of decodes
+ * that are in progress. An image that waited for a decode which was
+ * cancelled decodes the image itself. The frames of an animated image that are decoded on
+ * demand are decoded separately for each image that shares it, see
+ * PrismImageLoader2.share().
+ */
+final class DecodedImageCache {
+
+    private static final DecodedImageCache instance =
+            new DecodedImageCache(PrismSettings.imageCacheSize);
+
+    static DecodedImageCache getInstance() {
+        return instance;
+    }
+
+    /*
+     * The decodes that are in progress.
+     */
+    private final Map<Key, FutureTask<PrismImageLoader2>> loading =
+            new ConcurrentHashMap<>();
+
+    /*
+     * The decoded images, in least recently used order.
+     */
+    private final LinkedHashMap<Key, Entry> images =
+            new LinkedHashMap<>(16, 0.75f, true);
+
+    private final long maxSize;
+    private long size;
+
+    DecodedImageCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the image for the key, either from the cache, from a decode
+     * of the same image that is in progress, or from the given loader.
+     */
+    PrismImageLoader2 load(Key key, Callable<PrismImageLoader2> loader)
+            throws IOException
+    {
+        if (maxSize <= 0) {
+            return call(loader);
+        }
+
+        while (true) {
+            PrismImageLoader2 image = get(key);
+            if (image != null) {
+                return image.share();
+            }
+
+            final FutureTask<PrismImageLoader2> task = new FutureTask<>(loader);
+            final FutureTask<PrismImageLoader2> pending = loading.putIfAbsent(key, task);
+            if (pending == null) {
+                try {
+                    task.run();
+                } finally {
+                    loading.remove(key, task);
+                }
+                image = getResult(task);
+                if (image != null && image.getException() == null) {
+                    put(key, image);
+                }
+                return image;
+            }
+
+            try {
+                image = getResult(pending);
+            } catch (InterruptedIOException e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    throw e;
+                }
+                // the image that started the decode was cancelled, which
+                // must not cancel this one: decode it again
+                continue;
+            }
+            if (image != null && image.getException() instanceof InterruptedIOException) {
+                continue;
+            }
+            return image == null ? null : image.share();
+        }
+    }
+
+    private static PrismImageLoader2 call(Callable<PrismImageLoader2> loader)
+            throws IOException
+    {
+        try {
+            return loader.call();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    private static PrismImageLoader2 getResult(FutureTask<PrismImageLoader2> task)
+            throws IOException
+    {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Image loading interrupted");
+        } catch (CancellationException e) {
+            throw new InterruptedIOException("Image loading cancelled");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new UndeclaredThrowableException(cause);
+        }
+    }
+
+    private synchronized PrismImageLoader2 get(Key key) {
+        final Entry entry = images.get(key);
+        return entry == null ? null : entry.image;
+    }
+
+    private synchronized void put(Key key, PrismImageLoader2 image) {
+        // the bytes of a streamed image change as it decodes its frames, so
+        // the size of each image is taken once, when it is cached
+        final long imageSize = image.getByteCount();
+        if (maxSize <= 0 || imageSize > maxSize) {
+            return;
+        }
+
+        final Entry old = images.put(key, new Entry(image, imageSize));
+        if (old != null) {
+            size -= old.size;
+        }
+        size += imageSize;
+
+        final Iterator<Entry> iterator = images.values().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            size -= iterator.next().size;
+            iterator.remove();
+        }
+    }
+
+    synchronized int getCount() {
+        return images.size();
+    }
+
+    synchronized long getSize() {
+        return size;
+    }
+
+    synchronized void clear() {
+        images.clear();
+        size = 0;
+    }
+
+    private static final class Entry {
+
+        private final PrismImageLoader2 image;
+        private final long size;
+
+        Entry(PrismImageLoader2 image, long size) {
+            this.image = image;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Identifies the image decoded from a URL for a requested size.
+     */
+    static final class Key {
+
+        private final String url;
+        private final double width;
+        private final double height;
+        private final boolean preserveRatio;
+        private final float pixelScale;
+        private final boolean smooth;
+        private final int hash;
+
+        Key(String url, double width, double height, boolean preserveRatio,
+            float pixelScale, boolean smooth)
+        {
+            this.url = url;
+            this.width = width;
+            this.height = height;
+            this.preserveRatio = preserveRatio;
+            this.pixelScale = pixelScale;
+            this.smooth = smooth;
+            this.hash = Objects.hash(url, width, height, preserveRatio, pixelScale, smooth);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return hash == other.hash
+                    && Double.compare(width, other.width) == 0
+                    && Double.compare(height, other.height) == 0
+                    && preserveRatio == other.preserveRatio
+                    && Float.compare(pixelScale, other.pixelScale) == 0
+                    && smooth == other.smooth
+                    && url.equals(other.url);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -29,6 +29,7 @@ import java.io.IOException;
 import java.io.InputStream;
 
 import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.ImageFrameStream;
 import com.sun.javafx.iio.ImageLoadListener;
 import com.sun.javafx.iio.ImageLoader;
 import com.sun.javafx.iio.ImageMetadata;
@@ -45,8 +46,9 @@ import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.Arrays;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -56,7 +58,19 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
 
     private static PlatformLogger imageioLogger = null;
 
+    // the number of decoded frames kept for animated images whose frames are
+    // decoded on demand
+    private static final int FRAME_WINDOW_SIZE = 3;
+
     private Image[] images;
+    // the frames of an animated image which are decoded on demand, only the
+    // frames whose indices are in the window are kept in images
+    private ImageFrameStream frameStream;
+    // the first frame of a streamed image, kept to start the streams of the
+    // images that share it
+    private Image firstFrame;
+    private int[] window;
+    private int windowPos;
     private int[] delayTimes;
     private int loopCount;
     private double width;
@@ -77,6 +91,47 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         loadAll(stream, width, height, preserveRatio, smooth);
     }
 
+    private PrismImageLoader2(Exception exception) {
+        handleException(exception);
+    }
+
+    /*
+     * Shows the frames of a streamed image with its own frame stream and
+     * window of decoded frames.
+     */
+    private PrismImageLoader2(PrismImageLoader2 other) {
+        frameStream = other.frameStream.copy();
+        delayTimes = other.delayTimes;
+        loopCount = other.loopCount;
+        width = other.width;
+        height = other.height;
+        pixelScale = other.pixelScale;
+        images = new Image[other.images.length];
+        window = new int[FRAME_WINDOW_SIZE];
+        Arrays.fill(window, -1);
+        firstFrame = other.firstFrame;
+        images[0] = firstFrame;
+        window[0] = 0;
+    }
+
+    /**
+     * Loads the image from the URL, or shares it with the other images that
+     * are loaded from the same URL at the same size, see DecodedImageCache.
+     */
+    static PrismImageLoader2 loadImage(String url, double width, double height,
+                                       boolean preserveRatio, float pixelScale,
+                                       boolean smooth)
+    {
+        final DecodedImageCache.Key key = new DecodedImageCache.Key(
+                url, width, height, preserveRatio, pixelScale, smooth);
+        try {
+            return DecodedImageCache.getInstance().load(key,
+                    () -> new PrismImageLoader2(url, width, height, preserveRatio, pixelScale, smooth));
+        } catch (IOException e) {
+            return new PrismImageLoader2(e);
+        }
+    }
+
     public double getWidth() {
         return width;
     }
@@ -92,13 +147,51 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         return images.length;
     }
 
+    /**
+     * Returns a loader that shows the frames of this image for another
+     * image. The frames of a streamed image are decoded in the order in
+     * which an image shows them, so each image needs its own stream.
+     */
+    PrismImageLoader2 share() {
+        if (frameStream == null) {
+            return this;
+        }
+        return new PrismImageLoader2(this);
+    }
+
     public PlatformImage getFrame(int index) {
         if (images == null) {
             return null;
         }
+        if (frameStream != null) {
+            return getStreamedFrame(index);
+        }
         return images[index];
     }
 
+    private synchronized Image getStreamedFrame(int index) {
+        Image image = images[index];
+        if (image == null) {
+            try {
+                image = com.sun.prism.Image.convertImageFrame(frameStream.getFrame(index));
+            } catch (IOException e) {
+                if (PrismSettings.verbose) {
+                    e.printStackTrace(System.err);
+                }
+                // keep showing the last decoded frame of a damaged image
+                return images[window[windowPos]];
+            }
+            // replace the least recently decoded frame
+            windowPos = (windowPos + 1) % window.length;
+            if (window[windowPos] >= 0) {
+                images[window[windowPos]] = null;
+            }
+            window[windowPos] = index;
+            images[index] = image;
+        }
+        return image;
+    }
+
     public int getFrameDelay(int index) {
         if (images == null) {
             return 0;
@@ -117,14 +210,29 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         return exception;
     }
 
+    /**
+     * Returns the number of bytes taken by the pixels of all frames.
+     */
+    synchronized long getByteCount() {
+        long count = 0;
+        if (images != null) {
+            for (Image image : images) {
+                if (image != null) {
+                    count += (long) image.getScanlineStride() * image.getHeight();
+                }
+            }
+        }
+        return count;
+    }
+
     private void loadAll(String url, double w, double h,
                          boolean preserveRatio, float pixelScale,
                          boolean smooth)
     {
         ImageLoadListener listener = new PrismLoadListener();
         try {
-            ImageFrame[] imgFrames =
-                ImageStorage.loadAll(url, listener, w, h, preserveRatio, pixelScale, smooth);
+            ImageFrameStream imgFrames =
+                ImageStorage.loadStream(url, listener, w, h, preserveRatio, pixelScale, smooth);
             convertAll(imgFrames);
         } catch (ImageStorageException e) {
             handleException(e);
@@ -138,8 +246,8 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
     {
         ImageLoadListener listener = new PrismLoadListener();
         try {
-            ImageFrame[] imgFrames =
-                ImageStorage.loadAll(stream, listener, w, h, preserveRatio, 1.0f, smooth);
+            ImageFrameStream imgFrames =
+                ImageStorage.loadStream(stream, listener, w, h, preserveRatio, 1.0f, smooth);
             convertAll(imgFrames);
         } catch (ImageStorageException e) {
             handleException(e);
@@ -165,27 +273,40 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
         this.exception = exception;
     }
 
-    private void convertAll(ImageFrame[] imgFrames) {
-        int numFrames = imgFrames.length;
+    private void convertAll(ImageFrameStream imgFrames) throws IOException {
+        int numFrames = imgFrames.getFrameCount();
+        int threshold = PrismSettings.animatedImageStreamingThreshold;
+        boolean streaming = imgFrames.isDecodedOnDemand()
+                && threshold > 0 && numFrames > threshold;
         images = new Image[numFrames];
         delayTimes = new int[numFrames];
         for (int i = 0; i < numFrames; i++) {
-            ImageFrame frame = imgFrames[i];
-            images[i] = com.sun.prism.Image.convertImageFrame(frame);
-            ImageMetadata metadata = frame.getMetadata();
-            if (metadata != null) {
-                Integer delay = metadata.delayTime;
-                if (delay != null) {
-                    delayTimes[i] = delay.intValue();
-                }
-                Integer loopCount = metadata.loopCount;
-                if (loopCount != null) {
-                    this.loopCount = loopCount;
-                }
-            }
-            if (i == 0) {
-                width = frame.getWidth();
-                height = frame.getHeight();
+            delayTimes[i] = imgFrames.getFrameDelay(i);
+        }
+        loopCount = imgFrames.getLoopCount();
+
+        ImageFrame frame = imgFrames.getFrame(0);
+        images[0] = com.sun.prism.Image.convertImageFrame(frame);
+        width = frame.getWidth();
+        height = frame.getHeight();
+
+        if (streaming) {
+            // the other frames are decoded when the animation shows them
+            frameStream = imgFrames;
+            firstFrame = images[0];
+            window = new int[FRAME_WINDOW_SIZE];
+            Arrays.fill(window, -1);
+            window[0] = 0;
+            return;
+        }
+        for (int i = 1; i < numFrames; i++) {
+            try {
+                images[i] = com.sun.prism.Image.convertImageFrame(imgFrames.getFrame(i));
+            } catch (IOException e) {
+                // allow partially loaded animated images
+                images = Arrays.copyOf(images, i);
+                delayTimes = Arrays.copyOf(delayTimes, i);
+                break;
             }
         }
     }
@@ -254,9 +375,17 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
             return new PrismImageLoader2(stream, width, height, preserveRatio, smooth);
         }
 
-        @SuppressWarnings("removal")
         @Override
         public PrismImageLoader2 call() throws IOException {
+            // Images loaded in the background are decoded from the stream
+            // of the URL, which never picks a high resolution variant.
+            final DecodedImageCache.Key key = new DecodedImageCache.Key(
+                    url, width, height, preserveRatio, 1.0f, smooth);
+            return DecodedImageCache.getInstance().load(key, this::load);
+        }
+
+        @SuppressWarnings("removal")
+        private PrismImageLoader2 load() throws IOException {
             try {
                 return AccessController.doPrivileged(
                         (PrivilegedExceptionAction<PrismImageLoader2>) () -> AsyncImageLoader.super.call(), acc);
@@ -300,10 +429,14 @@ class PrismImageLoader2 implements com.sun.javafx.tk.ImageLoader {
                             }
                     );
 
-            final ExecutorService bgLoadingExecutor =
-                    Executors.newCachedThreadPool(bgLoadingThreadFactory);
-            ((ThreadPoolExecutor) bgLoadingExecutor).setKeepAliveTime(
-                                                         1, TimeUnit.SECONDS);
+            // Four threads by default, see PrismSettings.
+            final int nThreads = PrismSettings.imageLoadingThreads;
+            final ThreadPoolExecutor bgLoadingExecutor =
+                    new ThreadPoolExecutor(nThreads, nThreads,
+                                           1, TimeUnit.SECONDS,
+                                           new LinkedBlockingQueue<>(),
+                                           bgLoadingThreadFactory);
+            bgLoadingExecutor.allowCoreThreadTimeOut(true);
 
             return bgLoadingExecutor;
         }
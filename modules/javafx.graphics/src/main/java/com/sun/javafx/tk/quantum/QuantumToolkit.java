@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -781,7 +781,7 @@ public final class QuantumToolkit extends Toolkit {
     }
 
     @Override public ImageLoader loadImage(String url, double width, double height, boolean preserveRatio, boolean smooth) {
-        return new PrismImageLoader2(url, width, height, preserveRatio, getMaxRenderScale(), smooth);
+        return PrismImageLoader2.loadImage(url, width, height, preserveRatio, getMaxRenderScale(), smooth);
     }
 
     @Override public ImageLoader loadImage(InputStream stream, double width, double height,
@@ -789,6 +789,10 @@ public final class QuantumToolkit extends Toolkit {
         return new PrismImageLoader2(stream, width, height, preserveRatio, smooth);
     }
 
+    @Override public int getMaxImageLoadingTasks() {
+        return PrismSettings.imageLoadingThreads;
+    }
+
     @Override public AbstractRemoteResource<? extends ImageLoader> loadImageAsync(
             AsyncOperationListener listener, String url,
             double width, double height, boolean preserveRatio, boolean smooth) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2020, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -79,6 +79,7 @@ public final class PiscesRenderer {
 
     private long nativePtr = 0L;
     private AbstractSurface surface;
+    private final PiscesRendererDisposerRecord disposerRecord;
 
     /**
      * Creates a renderer that will write into a given surface.
@@ -88,7 +89,17 @@ public final class PiscesRenderer {
     public PiscesRenderer(AbstractSurface surface) {
         this.surface = surface;
         initialize();
-        Disposer.addRecord(this, new PiscesRendererDisposerRecord(nativePtr));
+        disposerRecord = new PiscesRendererDisposerRecord(nativePtr);
+        Disposer.addRecord(this, disposerRecord);
+    }
+
+    /**
+     * Releases the native renderer right away instead of when this renderer
+     * is garbage collected. The renderer must not be used afterwards.
+     */
+    public void dispose() {
+        disposerRecord.dispose();
+        nativePtr = 0L;
     }
 
     private native void initialize();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -45,6 +45,7 @@ public final class PrismSettings {
     public static final boolean isVsyncEnabled;
     public static final boolean dirtyOptsEnabled;
     public static final boolean occlusionCullingEnabled;
+    public static final boolean parallelCullingEnabled;
     public static final boolean scrollCacheOpt;
     public static final boolean threadCheck;
     public static final boolean cacheSimpleShapes;
@@ -85,6 +86,10 @@ public final class PrismSettings {
     public static final boolean forceUploadingPainter;
     public static final boolean forceAlphaTestShader;
     public static final boolean forceNonAntialiasedShape;
+    public static final int swTileCount;
+    public static final int imageLoadingThreads;
+    public static final long imageCacheSize;
+    public static final int animatedImageStreamingThreshold;
 
     public static enum RasterizerType {
         DoubleMarlin("Double Precision Marlin Rasterizer");
@@ -131,6 +136,12 @@ public final class PrismSettings {
                                                "prism.occlusion.culling",
                                                true);
 
+        // Compute the culling bits of large groups on the fork-join pool
+        parallelCullingEnabled =
+                dirtyOptsEnabled && getBoolean(systemProperties,
+                                               "prism.parallelculling",
+                                               false);
+
         // The maximum number of dirty regions to use. The absolute max that we can
         // support at present is 15.
         dirtyRegionCount = Utils.clamp(0, getInt(systemProperties, "prism.dirtyregioncount", 6, null), 15);
@@ -354,6 +365,43 @@ public final class PrismSettings {
         // Force non anti-aliasing (not smooth) shape rendering
         forceNonAntialiasedShape = getBoolean(systemProperties, "prism.forceNonAntialiasedShape", false);
 
+        /*
+         * Number of horizontal tiles used by the SW pipeline to rasterize
+         * large primitives in parallel. A value <= 1 disables tiling,
+         * "true" uses one tile per available processor.
+         */
+        swTileCount = getInt(systemProperties, "prism.sw.tiles",
+                0, Runtime.getRuntime().availableProcessors(),
+                "Try -Dprism.sw.tiles=[true|<number>]");
+
+        /*
+         * Number of threads that load and decode images in the background.
+         * The default of 4 is the limit images have always been loaded with,
+         * "true" uses one thread per available processor.
+         */
+        imageLoadingThreads = Math.max(1, getInt(systemProperties,
+                "prism.imageLoadingThreads",
+                4, Runtime.getRuntime().availableProcessors(),
+                "Try -Dprism.imageLoadingThreads=[true|<number>]"));
+
+        /*
+         * Size of the cache of decoded images that lets images loaded from
+         * the same URL at the same size share their pixels. The cache is
+         * disabled by default since it does not notice when the content of
+         * a URL changes.
+         */
+        imageCacheSize = getLong(systemProperties, "prism.imageCacheSize", 0,
+                "Try -Dprism.imageCacheSize=<long>[kKmMgG]");
+
+        /*
+         * Animated images with more frames than this keep their compressed
+         * data and decode each frame when the animation shows it, instead of
+         * keeping all frames decoded. Zero decodes all frames up front.
+         */
+        animatedImageStreamingThreshold = Math.max(0, getInt(systemProperties,
+                "prism.animatedImageStreamingThreshold", 32,
+                "Try -Dprism.animatedImageStreamingThreshold=<number>"));
+
     }
 
     private static int parseInt(String s, int dflt, int trueDflt,
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -201,11 +201,14 @@ final class SWContext {
 
     SWContext(ResourceFactory factory) {
         this.factory = factory;
+        this.shapeRenderer = createShapeRenderer();
+    }
+
+    static ShapeRenderer createShapeRenderer() {
         switch (PrismSettings.rasterizerSpec) {
             default:
             case DoubleMarlin:
-                this.shapeRenderer = new DMarlinShapeRenderer();
-                break;
+                return new DMarlinShapeRenderer();
         }
     }
 
@@ -221,6 +224,10 @@ final class SWContext {
 
     private void disposeRBBuffer() {
         if (readBackBufferRef != null) {
+            final SWRTTexture tex = readBackBufferRef.get();
+            if (tex != null) {
+                tex.dispose();
+            }
             readBackBufferRef.clear();
             readBackBufferRef = null;
         }
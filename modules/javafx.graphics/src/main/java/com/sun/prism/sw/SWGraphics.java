@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2019, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -74,10 +74,12 @@ final class SWGraphics implements ReadbackGraphics {
     private final SWContext context;
     private final SWRTTexture target;
     private final SWPaint swPaint;
+    private final SWTiledRenderer tiledRenderer;
 
     private final BaseTransform tx = new Affine2D();
 
     private CompositeMode compositeMode = CompositeMode.SRC_OVER;
+    private int piscesCompositeRule = RendererBase.COMPOSITE_SRC_OVER;
 
     private Rectangle clip;
     private final Rectangle finalClip = new Rectangle();
@@ -113,6 +115,7 @@ final class SWGraphics implements ReadbackGraphics {
         this.context = context;
         this.pr = pr;
         this.swPaint = new SWPaint(context, pr);
+        this.tiledRenderer = target.getTiledRenderer();
 
         this.setClipRect(null);
     }
@@ -342,6 +345,7 @@ final class SWGraphics implements ReadbackGraphics {
             default:
                 throw new InternalError("Unrecognized composite mode: "+mode);
         }
+        this.piscesCompositeRule = piscesComp;
         this.pr.setCompositeRule(piscesComp);
     }
 
@@ -366,8 +370,17 @@ final class SWGraphics implements ReadbackGraphics {
         if (PrismSettings.debug) {
             System.out.println("+ PR.clear: " + color);
         }
-        this.swPaint.setColor(color, 1f);
-        pr.clearRect(0, 0, target.getPhysicalWidth(), target.getPhysicalHeight());
+        final int w = target.getPhysicalWidth();
+        final int h = target.getPhysicalHeight();
+        if (tiledRenderer == null ||
+            !tiledRenderer.render(new RectBounds(0, 0, w, h), finalClip, piscesCompositeRule, t -> {
+                t.paint.setColor(color, 1f);
+                t.pr.clearRect(0, 0, w, h);
+            }))
+        {
+            this.swPaint.setColor(color, 1f);
+            pr.clearRect(0, 0, w, h);
+        }
         getRenderTarget().setOpaque(color.isOpaque());
     }
 
@@ -454,9 +467,28 @@ final class SWGraphics implements ReadbackGraphics {
                             tex.hasAlpha());
                 }
             } else {
+                final int rx = (int)(Math.min(p1.x, p2.x) * SWUtils.TO_PISCES);
+                final int ry = (int)(Math.min(p1.y, p2.y) * SWUtils.TO_PISCES);
+                final int rw = (int)(Math.abs(p2.x - p1.x) * SWUtils.TO_PISCES);
+                final int rh = (int)(Math.abs(p2.y - p1.y) * SWUtils.TO_PISCES);
+                if (tiledRenderer != null) {
+                    final Paint p = this.paint;
+                    final BaseTransform paintTx = this.tx;
+                    final RectBounds nb = this.nodeBounds;
+                    final float compositeAlpha = swPaint.getCompositeAlpha();
+                    final RectBounds devBounds = new RectBounds(Math.min(p1.x, p2.x), Math.min(p1.y, p2.y),
+                            Math.max(p1.x, p2.x), Math.max(p1.y, p2.y));
+                    if (tiledRenderer.render(devBounds, finalClip, piscesCompositeRule, t -> {
+                            t.paint.setCompositeAlpha(compositeAlpha);
+                            t.paint.setPaintFromShape(p, paintTx, null, nb, x, y, width, height);
+                            t.pr.fillRect(rx, ry, rw, rh);
+                        }))
+                    {
+                        return;
+                    }
+                }
                 swPaint.setPaintFromShape(this.paint, this.tx, null, this.nodeBounds, x, y, width, height);
-                this.pr.fillRect((int)(Math.min(p1.x, p2.x) * SWUtils.TO_PISCES), (int)(Math.min(p1.y, p2.y) * SWUtils.TO_PISCES),
-                        (int)(Math.abs(p2.x - p1.x) * SWUtils.TO_PISCES), (int)(Math.abs(p2.y - p1.y) * SWUtils.TO_PISCES));
+                this.pr.fillRect(rx, ry, rw, rh);
             }
         } else {
             this.fillRoundRect(x, y, width, height, 0, 0);
@@ -492,10 +524,42 @@ final class SWGraphics implements ReadbackGraphics {
             }
             return;
         }
+        if (tiledRenderer != null && this.paint.getType() != Paint.Type.IMAGE_PATTERN &&
+            paintShapeTiled(shape, st, tr))
+        {
+            return;
+        }
         swPaint.setPaintFromShape(this.paint, this.tx, shape, this.nodeBounds, 0,0,0,0);
         this.paintShapePaintAlreadySet(shape, st, tr);
     }
 
+    private boolean paintShapeTiled(Shape shape, BasicStroke st, BaseTransform tr) {
+        RectBounds bounds = shape.getBounds();
+        if (st != null) {
+            // Generous enough for any join, cap or stroke type
+            final float pad = st.getLineWidth() * Math.max(st.getMiterLimit(), 2f);
+            bounds = new RectBounds(bounds.getMinX() - pad, bounds.getMinY() - pad,
+                                    bounds.getMaxX() + pad, bounds.getMaxY() + pad);
+        }
+        final RectBounds devBounds = new RectBounds();
+        tr.transform(bounds, devBounds);
+        devBounds.grow(1f, 1f);
+
+        if (PrismSettings.debug) {
+            System.out.println("+ SWG.paintShapeTiled, devBounds: " + devBounds);
+        }
+        final Paint p = this.paint;
+        final BaseTransform paintTx = this.tx;
+        final RectBounds nb = this.nodeBounds;
+        final float compositeAlpha = swPaint.getCompositeAlpha();
+        final boolean aa = isAntialiasedShape();
+        return tiledRenderer.render(devBounds, finalClip, piscesCompositeRule, t -> {
+            t.paint.setCompositeAlpha(compositeAlpha);
+            t.paint.setPaintFromShape(p, paintTx, shape, nb, 0, 0, 0, 0);
+            t.shapeRenderer.renderShape(t.pr, shape, st, tr, t.clip, aa);
+        });
+    }
+
     private void paintShapePaintAlreadySet(Shape shape, BasicStroke st, BaseTransform tr) {
         if (this.finalClip.isEmpty()) {
             if (PrismSettings.debug) {
@@ -714,7 +778,7 @@ final class SWGraphics implements ReadbackGraphics {
         }
 
         final SWArgbPreTexture swTex = (SWArgbPreTexture) tex;
-        int data[] = swTex.getDataNoClone();
+        final int data[] = swTex.getDataNoClone();
 
         final RectBounds srcBBox = new RectBounds(Math.min(dx1, dx2), Math.min(dy1, dy2),
                 Math.max(dx1, dx2), Math.max(dy1, dy2));
@@ -738,17 +802,32 @@ final class SWGraphics implements ReadbackGraphics {
         final int txMax = Math.min(tex.getContentWidth() - 1, SWUtils.fastCeil(Math.max(sx1, sx2)) - 1);
         final int tyMax = Math.min(tex.getContentHeight() - 1, SWUtils.fastCeil(Math.max(sy1, sy2)) - 1);
 
-        this.pr.drawImage(RendererBase.TYPE_INT_ARGB_PRE, imageMode,
-                data, tex.getContentWidth(), tex.getContentHeight(),
-                swTex.getOffset(), tex.getPhysicalWidth(),
-                piscesTx,
-                tex.getWrapMode() == Texture.WrapMode.REPEAT,
-                tex.getLinearFiltering(),
-                (int)(SWUtils.TO_PISCES * dstBBox.getMinX()), (int)(SWUtils.TO_PISCES * dstBBox.getMinY()),
-                (int)(SWUtils.TO_PISCES * dstBBox.getWidth()), (int)(SWUtils.TO_PISCES * dstBBox.getHeight()),
-                lEdge, rEdge, tEdge, bEdge,
-                txMin, tyMin, txMax, tyMax,
-                swTex.hasAlpha());
+        final int cw = tex.getContentWidth();
+        final int ch = tex.getContentHeight();
+        final int offset = swTex.getOffset();
+        final int stride = tex.getPhysicalWidth();
+        final boolean repeat = tex.getWrapMode() == Texture.WrapMode.REPEAT;
+        final boolean linear = tex.getLinearFiltering();
+        final int x = (int)(SWUtils.TO_PISCES * dstBBox.getMinX());
+        final int y = (int)(SWUtils.TO_PISCES * dstBBox.getMinY());
+        final int w = (int)(SWUtils.TO_PISCES * dstBBox.getWidth());
+        final int h = (int)(SWUtils.TO_PISCES * dstBBox.getHeight());
+        final boolean hasAlpha = swTex.hasAlpha();
+
+        // IMAGE_MODE_MULTIPLY depends on color or paint state that was
+        // set on this.pr by the caller, so only plain draws are tiled
+        if (tiledRenderer == null || imageMode != RendererBase.IMAGE_MODE_NORMAL ||
+            !tiledRenderer.render(dstBBox, finalClip, piscesCompositeRule, t ->
+                t.pr.drawImage(RendererBase.TYPE_INT_ARGB_PRE, imageMode,
+                        data, cw, ch, offset, stride, piscesTx, repeat, linear,
+                        x, y, w, h, lEdge, rEdge, tEdge, bEdge,
+                        txMin, tyMin, txMax, tyMax, hasAlpha)))
+        {
+            this.pr.drawImage(RendererBase.TYPE_INT_ARGB_PRE, imageMode,
+                    data, cw, ch, offset, stride, piscesTx, repeat, linear,
+                    x, y, w, h, lEdge, rEdge, tEdge, bEdge,
+                    txMin, tyMin, txMax, tyMax, hasAlpha);
+        }
 
         if (PrismSettings.debug) {
             System.out.println("* drawTexture, DONE");
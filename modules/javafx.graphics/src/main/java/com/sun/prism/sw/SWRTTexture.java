@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2014, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -41,6 +41,8 @@ import java.nio.IntBuffer;
 class SWRTTexture extends SWArgbPreTexture implements RTTexture {
 
     private PiscesRenderer pr;
+    private SWTiledRenderer tiledRenderer;
+    private boolean tiledRendererChecked;
     private JavaSurface surface;
     private final Rectangle dimensions = new Rectangle();
     private boolean isOpaque;
@@ -119,6 +121,24 @@ class SWRTTexture extends SWArgbPreTexture implements RTTexture {
         return new SWGraphics(this, getResourceFactory().getContext(), pr);
     }
 
+    SWTiledRenderer getTiledRenderer() {
+        if (!tiledRendererChecked) {
+            tiledRendererChecked = true;
+            tiledRenderer = SWTiledRenderer.create(getResourceFactory().getContext(),
+                    getDataNoClone(), physicalWidth, physicalHeight);
+        }
+        return tiledRenderer;
+    }
+
+    @Override
+    public void dispose() {
+        if (tiledRenderer != null) {
+            tiledRenderer.dispose();
+            tiledRenderer = null;
+        }
+        super.dispose();
+    }
+
     public boolean isOpaque() {
         return isOpaque;
     }
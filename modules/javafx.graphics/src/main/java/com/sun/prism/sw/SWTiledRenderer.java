@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package com.sun.prism.sw;
+
+import com.sun.javafx.geom.RectBounds;
+import com.sun.javafx.geom.Rectangle;
+import com.sun.pisces.JavaSurface;
+import com.sun.pisces.PiscesRenderer;
+import com.sun.pisces.RendererBase;
+import com.sun.prism.impl.PrismSettings;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Splits a {@code SWRTTexture} into horizontal tiles and rasterizes large
+ * primitives into all tiles concurrently.
+ *
+ * Every tile owns a {@code JavaSurface} that wraps the pixel array of the
+ * render target, a {@code PiscesRenderer}, a {@code SWPaint} and a shape
+ * renderer, so no native or paint state is shared between worker threads.
+ * The tile clip keeps each worker on its own rows of the pixel array. Marlin
+ * hands out one {@code RendererContext} per thread, so every worker also
+ * rasterizes with its own context.
+ *
+ * Each operation completes before {@link #render} returns, so the caller
+ * still sees the immediate mode semantics of {@code Graphics}.
+ */
+final class SWTiledRenderer {
+
+    /**
+     * Primitives covering fewer device pixels than this are cheaper to
+     * rasterize on the calling thread than to hand off to the pool.
+     */
+    private static final int MIN_TILED_AREA = 128 * 128;
+
+    /**
+     * Targets lower than this are never split.
+     */
+    private static final int MIN_TILE_HEIGHT = 32;
+
+    private static ForkJoinPool pool;
+
+    interface TileOp {
+        void render(Tile tile);
+    }
+
+    static final class Tile {
+        final PiscesRenderer pr;
+        final SWPaint paint;
+        final SWContext.ShapeRenderer shapeRenderer;
+        final Rectangle bounds;
+        final Rectangle clip = new Rectangle();
+        private final JavaSurface surface;
+
+        private Tile(SWContext context, JavaSurface surface, Rectangle bounds) {
+            this.surface = surface;
+            this.pr = new PiscesRenderer(surface);
+            this.paint = new SWPaint(context, pr);
+            this.shapeRenderer = SWContext.createShapeRenderer();
+            this.bounds = bounds;
+        }
+
+        private void dispose() {
+            shapeRenderer.dispose();
+            pr.dispose();
+            surface.dispose();
+        }
+    }
+
+    private final Tile[] tiles;
+
+    private SWTiledRenderer(SWContext context, int[] data, int width, int height, int numTiles) {
+        tiles = new Tile[numTiles];
+        final int tileHeight = (height + numTiles - 1) / numTiles;
+        for (int i = 0; i < numTiles; i++) {
+            final int y = i * tileHeight;
+            final JavaSurface surface = new JavaSurface(data, RendererBase.TYPE_INT_ARGB_PRE, width, height);
+            tiles[i] = new Tile(context, surface,
+                    new Rectangle(0, y, width, Math.min(tileHeight, height - y)));
+        }
+    }
+
+    /**
+     * Returns a tiled renderer for the given target, or {@code null} if
+     * tiling is disabled or the target is too small to benefit from it.
+     */
+    static SWTiledRenderer create(SWContext context, int[] data, int width, int height) {
+        final int numTiles = Math.min(PrismSettings.swTileCount, height / MIN_TILE_HEIGHT);
+        if (numTiles <= 1 || width * height < MIN_TILED_AREA * numTiles) {
+            return null;
+        }
+        return new SWTiledRenderer(context, data, width, height, numTiles);
+    }
+
+    /**
+     * Releases the native renderers and surfaces of all tiles. Must be called
+     * on the render thread once the target is no longer rendered to.
+     */
+    void dispose() {
+        for (Tile t : tiles) {
+            t.dispose();
+        }
+    }
+
+    /**
+     * Runs {@code op} for every tile that intersects both {@code devBounds}
+     * and {@code clip}. Each tile has its composite rule and clip set up
+     * before {@code op} is called; the paint must be set up by {@code op}.
+     *
+     * @return {@code false} if the affected area is too small to be worth
+     * splitting, in which case nothing was rendered
+     */
+    boolean render(RectBounds devBounds, Rectangle clip, int compositeRule, TileOp op) {
+        final Rectangle area = new Rectangle(devBounds);
+        area.intersectWith(clip);
+        if (area.isEmpty() || area.width * area.height < MIN_TILED_AREA) {
+            return false;
+        }
+
+        int first = -1;
+        int last = -1;
+        for (int i = 0; i < tiles.length; i++) {
+            final Tile t = tiles[i];
+            t.clip.setBounds(clip);
+            t.clip.intersectWith(t.bounds);
+            t.clip.intersectWith(area);
+            if (!t.clip.isEmpty()) {
+                if (first < 0) {
+                    first = i;
+                }
+                last = i;
+            }
+        }
+        if (first == last) {
+            return false;
+        }
+
+        final TileAction[] actions = new TileAction[last - first + 1];
+        for (int i = first; i <= last; i++) {
+            final Tile t = tiles[i];
+            t.pr.setCompositeRule(compositeRule);
+            t.pr.setClip(t.clip.x, t.clip.y, t.clip.width, t.clip.height);
+            actions[i - first] = new TileAction(t, op);
+        }
+        getPool().invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(actions);
+            }
+        });
+        return true;
+    }
+
+    private static final class TileAction extends RecursiveAction {
+        private final Tile tile;
+        private final TileOp op;
+
+        TileAction(Tile tile, TileOp op) {
+            this.tile = tile;
+            this.op = op;
+        }
+
+        @Override
+        protected void compute() {
+            op.render(tile);
+        }
+    }
+
+    private static synchronized ForkJoinPool getPool() {
+        if (pool == null) {
+            @SuppressWarnings("removal")
+            final ForkJoinPool p = AccessController.doPrivileged(
+                    (PrivilegedAction<ForkJoinPool>) () -> new ForkJoinPool(
+                            PrismSettings.swTileCount,
+                            fjp -> {
+                                final ForkJoinWorkerThread t =
+                                        ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(fjp);
+                                t.setName("Prism SW Tile Renderer-" + t.getPoolIndex());
+                                t.setDaemon(true);
+                                return t;
+                            },
+                            null, false));
+            pool = p;
+        }
+        return pool;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,11 +31,11 @@ import javafx.scene.Node;
 
 import com.sun.javafx.collections.TrackableObservableList;
 
-import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
@@ -70,7 +70,7 @@ final public class Rule {
         if (declarations == null && serializedDecls != null) {
 
             try {
-                ByteArrayInputStream bis = new ByteArrayInputStream(serializedDecls);
+                ByteBufferInputStream bis = new ByteBufferInputStream(serializedDecls);
                 DataInputStream dis = new DataInputStream(bis);
 
                 short nDeclarations = dis.readShort();
@@ -189,10 +189,12 @@ final public class Rule {
         }
     }
 
-    private byte[] serializedDecls;
+    // The declarations of a rule read from a binary stylesheet are decoded
+    // when they are first requested. The buffer is a slice of the stylesheet.
+    private ByteBuffer serializedDecls;
     private final int bssVersion;
 
-    private Rule(List<Selector> selectors, byte[] buf, int bssVersion) {
+    private Rule(List<Selector> selectors, ByteBuffer buf, int bssVersion) {
 
         this.selectors = selectors;
         this.declarations = null;
@@ -278,7 +280,24 @@ final public class Rule {
                 }
             };
 
-            declarationObservableList = new TrackableObservableList<Declaration>(rule.getUnobservedDeclarationList()) {
+        }
+
+        private ObservableList<Selector> getSelectors() {
+            return selectorObservableList;
+        }
+
+        // The declarations are not decoded until they are requested, so
+        // tools and StyleManager can observe the selectors of a rule read
+        // from a binary stylesheet without decoding its declarations.
+        private ObservableList<Declaration> getDeclarations() {
+            if (declarationObservableList == null) {
+                declarationObservableList = createDeclarationObservableList();
+            }
+            return declarationObservableList;
+        }
+
+        private ObservableList<Declaration> createDeclarationObservableList() {
+            return new TrackableObservableList<Declaration>(rule.getUnobservedDeclarationList()) {
                 @Override protected void onChanged(Change<Declaration> c) {
                     while (c.next()) {
                         if (c.wasAdded()) {
@@ -307,20 +326,11 @@ final public class Rule {
                     }
                 }
             };
-
-        }
-
-        private ObservableList<Selector> getSelectors() {
-            return selectorObservableList;
-        }
-
-        private ObservableList<Declaration> getDeclarations() {
-            return declarationObservableList;
         }
 
         private final Rule rule;
         private final ObservableList<Selector> selectorObservableList;
-        private final ObservableList<Declaration> declarationObservableList;
+        private ObservableList<Declaration> declarationObservableList;
 
     }
 
@@ -352,7 +362,10 @@ final public class Rule {
             os.write(bos.toByteArray());
 
         } else {
-            // no declarations!
+            // no declarations! Version 7 frames the empty declaration list
+            // like any other; version 6 wrote a short the reader expected
+            // to be an int.
+            os.writeInt(2);
             os.writeShort(0);
         }
     }
@@ -378,13 +391,10 @@ final public class Rule {
             return new Rule(selectors, declarations);
         }
 
-        // de-serialize decls into byte array
+        // de-serialize decls into byte array, or share the bytes of a
+        // stylesheet read from a buffer
         int nBytes = is.readInt();
-        byte[] buf = new byte[nBytes];
-
-        if (nBytes > 0) {
-            is.readFully(buf);
-        }
+        ByteBuffer buf = Stylesheet.readBuffer(is, nBytes);
         return new Rule(selectors, buf, bssVersion);
     }
 }
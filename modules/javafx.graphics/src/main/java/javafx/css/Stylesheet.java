@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -33,7 +33,6 @@ import javafx.collections.ObservableList;
 import com.sun.javafx.collections.TrackableObservableList;
 import com.sun.javafx.css.FontFaceImpl;
 
-import java.io.BufferedInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
@@ -44,6 +43,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -63,8 +63,10 @@ public class Stylesheet {
      * binary stream changes. This number does not correlate with JavaFX versions.
      * Version 5: persist @font-face
      * Version 6: converter classes moved to public package
+     * Version 7: declarations of every rule are framed, so that they can be
+     *            decoded lazily
      */
-    final static int BINARY_CSS_VERSION = 6;
+    final static int BINARY_CSS_VERSION = 7;
 
     private final String url;
     /**
@@ -270,6 +272,22 @@ public class Stylesheet {
     private String[] stringStore;
     final String[] getStringStore() { return stringStore; }
 
+    /*
+     * Reads the next length bytes of a binary stylesheet. The bytes of a
+     * stylesheet read from a buffer are shared rather than copied.
+     */
+    static ByteBuffer readBuffer(DataInputStream is, int length) throws IOException {
+        if (is instanceof ByteBufferInputStream.DataInput) {
+            return ((ByteBufferInputStream.DataInput)is).slice(length);
+        }
+
+        byte[] buf = new byte[length];
+        if (length > 0) {
+            is.readFully(buf);
+        }
+        return ByteBuffer.wrap(buf);
+    }
+
     /**
      * Loads a binary stylesheet from a {@code URL}.
      *
@@ -283,6 +301,8 @@ public class Stylesheet {
             return null;
         }
 
+        // The stylesheet is read into the heap, so that the lazily decoded
+        // rules do not keep the file open (which locks it on Windows)
         try (InputStream stream = url.openStream()) {
             return loadBinary(stream, url.toExternalForm());
         } catch (FileNotFoundException ex) {
@@ -305,10 +325,14 @@ public class Stylesheet {
     }
 
     private static Stylesheet loadBinary(InputStream stream, String uri) throws IOException {
+        // The declarations of the rules are decoded lazily from the buffer
+        return loadBinary(ByteBuffer.wrap(stream.readAllBytes()), uri);
+    }
+
+    private static Stylesheet loadBinary(ByteBuffer buffer, String uri) throws IOException {
         Stylesheet stylesheet = null;
 
-        try (DataInputStream dataInputStream =
-                     new DataInputStream(new BufferedInputStream(stream, 40 * 1024))) {
+        try (DataInputStream dataInputStream = new ByteBufferInputStream.DataInput(buffer)) {
 
             // read file version
             final int bssVersion = dataInputStream.readShort();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,15 +25,20 @@
 package javafx.scene;
 
 import java.lang.ref.WeakReference;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.RecursiveAction;
 
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -62,6 +67,8 @@ import com.sun.javafx.css.PseudoClassState;
 import com.sun.javafx.css.StyleCache;
 import com.sun.javafx.css.StyleCacheEntry;
 import com.sun.javafx.css.StyleManager;
+import com.sun.javafx.css.StyleManager.SelectorMatch;
+import com.sun.javafx.css.StyleManager.StyleMatcher;
 import com.sun.javafx.css.StyleMap;
 import javafx.css.converter.FontConverter;
 import com.sun.javafx.util.Logging;
@@ -107,10 +114,17 @@ final class CssStyleHelper {
         // are gotten. By comparing the actual pseudo-class state to the
         // pseudo-class states that apply, a CacheEntry can be created or
         // fetched using only those pseudoclasses that matter.
-        final PseudoClassState[] triggerStates = new PseudoClassState[depth];
+        final PseudoClassState[] triggerStates;
+        final StyleMap styleMap;
 
-        final StyleMap styleMap =
-                StyleManager.getInstance().findMatchingStyles(node, node.getSubScene(), triggerStates);
+        final MatchedStyles matched = (matchedStyles != null) ? matchedStyles.remove(node) : null;
+        if (matched != null && matched.isValidFor(node)) {
+            triggerStates = matched.triggerStates;
+            styleMap = matched.styleMap;
+        } else {
+            triggerStates = new PseudoClassState[depth];
+            styleMap = StyleManager.getInstance().findMatchingStyles(node, node.getSubScene(), triggerStates);
+        }
 
         //
         // reuse the existing styleHelper if possible.
@@ -187,6 +201,209 @@ final class CssStyleHelper {
         return helper;
     }
 
+    /*
+     * Parallel selector matching.
+     *
+     * Matching the selectors of a node against its ancestors only reads the
+     * scene graph and the stylesheets, so when CSS is reapplied to a large
+     * subtree, the style maps of all of its nodes are found up front on the
+     * fork-join pool while the FX application thread waits. Creating the
+     * style helpers, cascading and applying the styles is still done node by
+     * node on the FX application thread, which takes the matched styles from
+     * matchedStyles instead of matching again.
+     */
+
+    @SuppressWarnings("removal")
+    static boolean parallelMatching = AccessController.doPrivileged(
+            (PrivilegedAction<Boolean>) () -> Boolean.getBoolean("javafx.css.parallelMatching"));
+
+    /** Subtrees with fewer nodes are matched while they are visited. */
+    static final int PARALLEL_MATCHING_THRESHOLD = 256;
+
+    /** The number of nodes a MatchingTask matches on a single thread. */
+    private static final int MATCHING_CHUNK_SIZE = 64;
+
+    private static Map<Node, MatchedStyles> matchedStyles;
+
+    /**
+     * Matches the styles of {@code root} and all of its descendants in
+     * parallel, if parallel matching is enabled and the subtree is large
+     * enough. The caller must call {@link #clearMatchedStyles} once it has
+     * created the style helpers of the subtree.
+     *
+     * @return true if styles were matched
+     */
+    static boolean matchStylesInParallel(Node root) {
+        if (!parallelMatching || matchedStyles != null || !(root instanceof Parent)) {
+            return false;
+        }
+        final List<Node> nodes = new ArrayList<>();
+        collectNodes(root, nodes);
+        final int count = nodes.size();
+        if (count < PARALLEL_MATCHING_THRESHOLD) {
+            return false;
+        }
+
+        // gathering stylesheets and looking up the caches has to be done here
+        final StyleManager styleManager = StyleManager.getInstance();
+        final StyleMatcher[] matchers = new StyleMatcher[count];
+        for (int i = 0; i < count; i++) {
+            final Node node = nodes.get(i);
+            matchers[i] = styleManager.findStyleMatcher(node, node.getSubScene());
+        }
+
+        final SelectorMatch[] matches = new SelectorMatch[count];
+        final PseudoClassState[][] triggerStates = new PseudoClassState[count][];
+        new MatchingTask(nodes, matchers, matches, triggerStates, 0, count).invoke();
+
+        // the StyleMaps are looked up with the style lock taken once
+        final StyleMap[] styleMaps = StyleMatcher.getStyleMaps(matches);
+        final Map<Styleable, StyleableState> states = new IdentityHashMap<>(count);
+        matchedStyles = new IdentityHashMap<>(count);
+        for (int i = 0; i < count; i++) {
+            final Node node = nodes.get(i);
+            matchedStyles.put(node, new MatchedStyles(getState(node, states), styleMaps[i], triggerStates[i]));
+        }
+        return true;
+    }
+
+    static void clearMatchedStyles() {
+        matchedStyles = null;
+    }
+
+    private static void collectNodes(Node node, List<Node> nodes) {
+        nodes.add(node);
+        if (node instanceof Parent) {
+            final List<Node> children = ((Parent) node).getChildren();
+            for (int n = 0, nMax = children.size(); n < nMax; n++) {
+                collectNodes(children.get(n), nodes);
+            }
+        } else if (node instanceof SubScene) {
+            final Node subSceneRoot = ((SubScene) node).getRoot();
+            if (subSceneRoot != null) {
+                collectNodes(subSceneRoot, nodes);
+            }
+        }
+    }
+
+    private static StyleableState getState(Styleable styleable, Map<Styleable, StyleableState> states) {
+        if (styleable == null) {
+            return null;
+        }
+        StyleableState state = states.get(styleable);
+        if (state == null) {
+            state = new StyleableState(styleable, getState(styleable.getStyleableParent(), states));
+            states.put(styleable, state);
+        }
+        return state;
+    }
+
+    private static int getStyleableDepth(Styleable styleable) {
+        int depth = 0;
+        while (styleable != null) {
+            depth++;
+            styleable = styleable.getStyleableParent();
+        }
+        return depth;
+    }
+
+    /**
+     * The id, style and style classes a styleable and its styleable ancestors
+     * had when the styles of a node were matched. Selectors only look at
+     * these, besides the pseudo-classes and the type of the styleables.
+     */
+    private static final class StyleableState {
+        private final Styleable styleable;
+        private final StyleableState parent;
+        private final String id;
+        private final String style;
+        private final List<String> styleClasses;
+
+        StyleableState(Styleable styleable, StyleableState parent) {
+            this.styleable = styleable;
+            this.parent = parent;
+            this.id = styleable.getId();
+            this.style = styleable.getStyle();
+            this.styleClasses = new ArrayList<>(styleable.getStyleClass());
+        }
+
+        boolean isValidFor(Styleable styleable) {
+            StyleableState state = this;
+            while (state != null && styleable != null) {
+                if (state.styleable != styleable
+                        || !Objects.equals(state.id, styleable.getId())
+                        || !Objects.equals(state.style, styleable.getStyle())
+                        || !state.styleClasses.equals(styleable.getStyleClass())) {
+                    return false;
+                }
+                state = state.parent;
+                styleable = styleable.getStyleableParent();
+            }
+            return state == null && styleable == null;
+        }
+    }
+
+    /**
+     * The styles matched for a node, together with the state of the node and
+     * of its ancestors they were matched for. The styles are only used if
+     * none of them was changed in a way that affects matching before the
+     * style helper of the node is created.
+     */
+    private static final class MatchedStyles {
+        private final StyleableState state;
+        private final StyleMap styleMap;
+        private final PseudoClassState[] triggerStates;
+
+        MatchedStyles(StyleableState state, StyleMap styleMap, PseudoClassState[] triggerStates) {
+            this.state = state;
+            this.styleMap = styleMap;
+            this.triggerStates = triggerStates;
+        }
+
+        boolean isValidFor(Node node) {
+            return state.isValidFor(node);
+        }
+    }
+
+    /**
+     * Finds the selectors that apply to a range of nodes, splitting the range
+     * across the fork-join pool.
+     */
+    @SuppressWarnings("serial")
+    private static final class MatchingTask extends RecursiveAction {
+        private final List<Node> nodes;
+        private final StyleMatcher[] matchers;
+        private final SelectorMatch[] matches;
+        private final PseudoClassState[][] triggerStates;
+        private final int from;
+        private final int to;
+
+        MatchingTask(List<Node> nodes, StyleMatcher[] matchers, SelectorMatch[] matches,
+                     PseudoClassState[][] triggerStates, int from, int to) {
+            this.nodes = nodes;
+            this.matchers = matchers;
+            this.matches = matches;
+            this.triggerStates = triggerStates;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > MATCHING_CHUNK_SIZE) {
+                final int mid = (from + to) >>> 1;
+                invokeAll(new MatchingTask(nodes, matchers, matches, triggerStates, from, mid),
+                          new MatchingTask(nodes, matchers, matches, triggerStates, mid, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                final Node node = nodes.get(i);
+                triggerStates[i] = new PseudoClassState[getStyleableDepth(node)];
+                matches[i] = matchers[i].matchSelectors(node, triggerStates[i]);
+            }
+        }
+    }
+
     private static void updateParentTriggerStates(Styleable styleable, int depth, PseudoClassState[] triggerStates) {
         // make sure parent's transition states include the pseudo-classes
         // found when matching selectors
@@ -368,10 +585,13 @@ final class CssStyleHelper {
 
             int ctr = 0;
             int[] smapIds = new int[depth];
-            smapIds[ctr++] = this.smapId = styleMap.getId();
+            this.smapId = styleMap.getId();
+            smapIds[ctr++] = this.sharedSmapId = styleMap.getSharedId();
 
             //
-            // Create a set of StyleMap id's from the parent's smapIds.
+            // Create a set of StyleMap id's from the parent's smapIds. The
+            // shared ids are used, so that nodes in other scenes that have
+            // the same set of styles share the calculated values, too.
             // The resulting smapIds array may have less than depth elements.
             // If a parent doesn't have a styleHelper or the styleHelper's
             // internal state is null, then that parent doesn't contribute
@@ -387,7 +607,7 @@ final class CssStyleHelper {
                     Node parentNode = (Node)parent;
                 final CssStyleHelper helper = parentNode.styleHelper;
                     if (helper != null && helper.cacheContainer != null) {
-                        smapIds[ctr++] = helper.cacheContainer.smapId;
+                        smapIds[ctr++] = helper.cacheContainer.sharedSmapId;
                     }
                 }
                 parent = parent.getStyleableParent();
@@ -438,6 +658,10 @@ final class CssStyleHelper {
         // The id of StyleMap that contains the styles that apply to this node
         private final int smapId;
 
+        // The id shared by the StyleMaps of all scenes that contain the same
+        // styles, see SharedStyleCache
+        private final int sharedSmapId;
+
         // All nodes with the same set of styles share the same cache of
         // calculated values. But one node might have a different font-size
         // than another so the values are stored in cache by font-size.
@@ -451,14 +675,94 @@ final class CssStyleHelper {
         private final Map<CssMetaData, CalculatedValue> cssSetProperties;
 
         private boolean forceSlowpath = false;
+
+        // The transition states and the font for relative sizes that styles
+        // were last applied with. On the next transition, only the properties
+        // that depend on a pseudo-class that has changed since then need to
+        // be looked at. Null if the next transition has to apply everything.
+        private Set<PseudoClass>[] appliedStates;
+        private Font appliedFont;
+    }
+
+    /*
+     * Returns the pseudo-classes that were added or removed between the
+     * applied states and the transition states, or null if the two can't be
+     * compared because the depth of the node or the font has changed.
+     */
+    private static Set<PseudoClass> getChangedStates(
+            final Set<PseudoClass>[] appliedStates,
+            final Set<PseudoClass>[] transitionStates,
+            final Font appliedFont,
+            final Font fontForRelativeSizes) {
+
+        if (appliedStates == null || appliedStates.length != transitionStates.length) return null;
+        if (Objects.equals(appliedFont, fontForRelativeSizes) == false) return null;
+
+        Set<PseudoClass> changedStates = null;
+        for (int n=0; n<transitionStates.length; n++) {
+            final Set<PseudoClass> applied = appliedStates[n];
+            final Set<PseudoClass> transition = transitionStates[n];
+            if (applied.equals(transition)) continue;
+
+            if (changedStates == null) changedStates = new PseudoClassState();
+            for (PseudoClass pseudoClass : applied) {
+                if (!transition.contains(pseudoClass)) changedStates.add(pseudoClass);
+            }
+            for (PseudoClass pseudoClass : transition) {
+                if (!applied.contains(pseudoClass)) changedStates.add(pseudoClass);
+            }
+        }
+        return changedStates != null ? changedStates : Collections.emptySet();
+    }
+
+    /*
+     * Returns true if the value of the property might change when the given
+     * pseudo-classes change. Inherited properties and fonts depend on the
+     * parent, so they are always looked at.
+     */
+    private static boolean isStateDependent(
+            final CssMetaData<? extends Styleable, ?> cssMetaData,
+            final StyleMap styleMap,
+            final Set<PseudoClass> changedStates) {
+
+        if (cssMetaData.isInherits() || cssMetaData.getConverter() == FontConverter.getInstance()) {
+            return true;
+        }
+
+        if (styleMap.isStateDependent(cssMetaData.getProperty(), changedStates)) {
+            return true;
+        }
+
+        final List<CssMetaData<? extends Styleable, ?>> subProperties = cssMetaData.getSubProperties();
+        for (int n=0, nMax=(subProperties != null) ? subProperties.size() : 0; n<nMax; n++) {
+            if (isStateDependent(subProperties.get(n), styleMap, changedStates)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Returns true if the property holds the value of the calculated value,
+     * set with the same origin.
+     */
+    private static boolean isStillApplied(
+            final StyleableProperty<?> styleableProperty,
+            final CalculatedValue calculatedValue) {
+
+        return styleableProperty.getStyleOrigin() == calculatedValue.getOrigin()
+                && Objects.equals(styleableProperty.getValue(), calculatedValue.getValue());
     }
 
     private boolean resetInProgress = false;
 
     private void resetToInitialValues(final Styleable styleable) {
 
-        if (cacheContainer == null ||
-                cacheContainer.cssSetProperties == null ||
+        if (cacheContainer == null) return;
+
+        cacheContainer.appliedStates = null;
+
+        if (cacheContainer.cssSetProperties == null ||
                 cacheContainer.cssSetProperties.isEmpty()) return;
 
         resetInProgress = true;
@@ -619,6 +923,11 @@ final class CssStyleHelper {
         // if the style-map is empty, then we are only looking for inherited styles.
         final boolean inheritOnly = styleMap.isEmpty();
 
+        // The relative sized properties will no longer have the values that
+        // were applied in the last transition, so the next transition has to
+        // look at every property again.
+        cacheContainer.appliedStates = null;
+
         final Set<PseudoClass>[] transitionStates = getTransitionStates(node);
         CalculatedValue cachedFont = new CalculatedValue(fontForRelativeSizes, null, false);
 
@@ -814,6 +1123,17 @@ final class CssStyleHelper {
         final boolean isForceSlowpath = cacheContainer.forceSlowpath;
         cacheContainer.forceSlowpath = false;
 
+        // If the calculated values are already cached and only pseudo-classes
+        // have changed since styles were last applied, then the properties whose
+        // styles do not depend on any of the changed pseudo-classes still have
+        // the values they were given and can be skipped.
+        final Set<PseudoClass> changedStates = (fastpath && !isForceSlowpath)
+                ? getChangedStates(cacheContainer.appliedStates, transitionStates,
+                        cacheContainer.appliedFont, fontForRelativeSizes)
+                : null;
+        cacheContainer.appliedStates = transitionStates;
+        cacheContainer.appliedFont = fontForRelativeSizes;
+
         // For each property that is settable, we need to do a lookup and
         // transition to that value.
         transitionStateInProgress = true;
@@ -852,6 +1172,16 @@ final class CssStyleHelper {
                     continue;
                 }
 
+                // A property that does not depend on the changed pseudo-classes
+                // has the same calculated value as in the applied states. If
+                // the property still holds that value with the same origin,
+                // nothing changed it since CSS applied it.
+                if (changedStates != null && calculatedValue != null
+                        && !isStateDependent(cssMetaData, styleMap, changedStates)
+                        && isStillApplied(cssMetaData.getStyleableProperty(node), calculatedValue)) {
+                    continue;
+                }
+
             } else if (calculatedValue == null) {
 
                 // slowpath!
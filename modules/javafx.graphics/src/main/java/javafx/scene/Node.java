@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -9373,6 +9373,19 @@ public abstract class Node implements EventTarget, Styleable {
     //
     private void reapplyCss() {
 
+        // Match the styles of a large subtree in parallel before visiting it
+        final boolean matchedInParallel = CssStyleHelper.matchStylesInParallel(this);
+        try {
+            doReapplyCss();
+        } finally {
+            if (matchedInParallel) {
+                CssStyleHelper.clearMatchedStyles();
+            }
+        }
+    }
+
+    private void doReapplyCss() {
+
         // Hang on to current styleHelper so we can know whether
         // createStyleHelper returned the same styleHelper
         final CssStyleHelper oldStyleHelper = styleHelper;
@@ -9409,7 +9422,7 @@ public abstract class Node implements EventTarget, Styleable {
                 List<Node> children = ((Parent) this).getChildren();
                 for (int n = 0, nMax = children.size(); n < nMax; n++) {
                     Node child = children.get(n);
-                    child.reapplyCss();
+                    child.doReapplyCss();
                 }
             }
 
@@ -9418,7 +9431,7 @@ public abstract class Node implements EventTarget, Styleable {
             // SubScene root is a Parent, but reapplyCss is a private method in Node
             final Node subSceneRoot = ((SubScene)this).getRoot();
             if (subSceneRoot != null) {
-                subSceneRoot.reapplyCss();
+                subSceneRoot.doReapplyCss();
             }
 
         } else if (styleHelper == null) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2010, 2023, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2010, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -852,17 +852,13 @@ public class Image {
     private volatile boolean isAnimated;
     // We keep the animation frames associated with the Image rather than with
     // the animation, so most of the data can be garbage collected while
-    // the animation is still running.
-    private PlatformImage[] animFrames;
+    // the animation is still running. The frames are requested from the loader
+    // as they are shown, so loaders may decode them on demand.
+    private ImageLoader animFrames;
 
     // Generates the animation Timeline for multiframe images.
     private void initializeAnimatedImage(ImageLoader loader) {
-        final int frameCount = loader.getFrameCount();
-        animFrames = new PlatformImage[frameCount];
-
-        for (int i = 0; i < frameCount; ++i) {
-            animFrames[i] = loader.getFrame(i);
-        }
+        animFrames = loader;
 
         PlatformImage zeroFrame = loader.getFrame(0);
 
@@ -918,7 +914,7 @@ public class Image {
             final Image image = imageRef.get();
             if (image != null) {
                 image.platformImagePropertyImpl().set(
-                        image.animFrames[frameIndex]);
+                        image.animFrames.getFrame(frameIndex));
             } else {
                 timeline.stop();
             }
@@ -932,8 +928,12 @@ public class Image {
         }
     }
 
-    private void cycleTasks() {
+    private void cycleTasks(ImageTask task) {
         synchronized (pendingTasks) {
+            // a task that was cancelled before it started never ran
+            if (!task.started) {
+                return;
+            }
             runningTasks--;
             // do we have any pending tasks to run ?
             // we can assume we are under the throttle limit because
@@ -951,11 +951,13 @@ public class Image {
         // This is an artificial throttle on background image loading tasks.
         // It has been shown that with large images, we can quickly use up the
         // heap loading images, even if they result in thumbnails.
-        // The limit of MAX_RUNNING_TASKS is arbitrary, and was based on initial
-        // testing with
-        // about 60 2-6 megapixel images.
+        // The limit is set by the toolkit. It is 4 by default, based on
+        // initial testing with about 60 2-6 megapixel images.
         synchronized (pendingTasks) {
-            if (runningTasks >= MAX_RUNNING_TASKS) {
+            if (maxRunningTasks == 0) {
+                maxRunningTasks = Toolkit.getToolkit().getMaxImageLoadingTasks();
+            }
+            if (runningTasks >= maxRunningTasks) {
                 pendingTasks.offer(backgroundTask);
             } else {
                 runningTasks++;
@@ -1009,7 +1011,7 @@ public class Image {
         platformImage.set(newPlatformImage);
     }
 
-    private static final int MAX_RUNNING_TASKS = 4;
+    private static int maxRunningTasks = 0;
     private static int runningTasks = 0;
     private static final Queue<ImageTask> pendingTasks =
             new LinkedList<ImageTask>();
@@ -1019,6 +1021,9 @@ public class Image {
 
         private final AsyncOperation peer;
 
+        // guarded by pendingTasks
+        private boolean started;
+
         public ImageTask() {
             peer = constructPeer();
         }
@@ -1026,19 +1031,19 @@ public class Image {
         @Override
         public void onCancel() {
             finishImage(new CancellationException("Loading cancelled"));
-            cycleTasks();
+            cycleTasks(this);
         }
 
         @Override
         public void onException(Exception exception) {
             finishImage(exception);
-            cycleTasks();
+            cycleTasks(this);
         }
 
         @Override
         public void onCompletion(ImageLoader value) {
             finishImage(value);
-            cycleTasks();
+            cycleTasks(this);
         }
 
         @Override
@@ -1052,10 +1057,14 @@ public class Image {
         }
 
         public void start() {
+            started = true;
             peer.start();
         }
 
         public void cancel() {
+            synchronized (pendingTasks) {
+                pendingTasks.remove(this);
+            }
             peer.cancel();
         }
 
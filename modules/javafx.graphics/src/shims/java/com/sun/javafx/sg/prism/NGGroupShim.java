@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -33,6 +33,17 @@ import com.sun.javafx.geom.transform.GeneralTransform3D;
 
 public class NGGroupShim extends NGGroup {
 
+    private Boolean parallelCulling;
+
+    public void setParallelCulling(boolean parallelCulling) {
+        this.parallelCulling = parallelCulling;
+    }
+
+    @Override
+    boolean isParallelCulling() {
+        return parallelCulling != null ? parallelCulling : super.isParallelCulling();
+    }
+
     @Override
     public int accumulateGroupDirtyRegion(
             final RectBounds clip,
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package com.sun.javafx.tk.quantum;
+
+import com.sun.javafx.tk.ImageLoader;
+import java.io.IOException;
+
+public class DecodedImageCacheShim {
+
+    public interface BeforeDecode {
+        void run() throws IOException;
+    }
+
+    public static Object createCache(long maxSize) {
+        return new DecodedImageCache(maxSize);
+    }
+
+    public static ImageLoader load(Object cache, String url,
+                                   double width, double height,
+                                   BeforeDecode beforeDecode) throws IOException {
+        final DecodedImageCache.Key key =
+                new DecodedImageCache.Key(url, width, height, true, 1.0f, true);
+        return ((DecodedImageCache) cache).load(key, () -> {
+            beforeDecode.run();
+            return new PrismImageLoader2(url, width, height, true, 1.0f, true);
+        });
+    }
+
+    public static int getCount(Object cache) {
+        return ((DecodedImageCache) cache).getCount();
+    }
+
+    public static long getSize(Object cache) {
+        return ((DecodedImageCache) cache).getSize();
+    }
+
+    public static long getByteCount(ImageLoader loader) {
+        return ((PrismImageLoader2) loader).getByteCount();
+    }
+}
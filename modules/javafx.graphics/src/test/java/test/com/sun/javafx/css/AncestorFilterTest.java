@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.css;
+
+import com.sun.javafx.css.AncestorFilter;
+import javafx.css.Selector;
+import javafx.scene.Group;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public class AncestorFilterTest {
+
+    private Rectangle leaf;
+
+    @Before
+    public void setup() {
+        Pane outer = new Pane();
+        outer.setId("outer");
+        outer.getStyleClass().addAll("foo", "bar");
+        Group inner = new Group();
+        inner.getStyleClass().add("baz");
+        leaf = new Rectangle();
+        leaf.getStyleClass().add("leaf");
+        inner.getChildren().add(leaf);
+        outer.getChildren().add(inner);
+    }
+
+    private boolean mayMatch(String selector) {
+        long[] required = AncestorFilter.getRequiredBits(Selector.createSelector(selector));
+        return AncestorFilter.mayMatch(AncestorFilter.of(leaf), required);
+    }
+
+    @Test
+    public void testSimpleSelectorHasNoRequiredBits() {
+        assertNull(AncestorFilter.getRequiredBits(Selector.createSelector(".leaf")));
+        assertNull(AncestorFilter.getRequiredBits(Selector.createSelector("* > .leaf")));
+    }
+
+    @Test
+    public void testMatchingAncestorsMayMatch() {
+        assertTrue(mayMatch(".foo .leaf"));
+        assertTrue(mayMatch(".foo.bar > .baz .leaf"));
+        assertTrue(mayMatch("#outer .leaf"));
+        assertTrue(mayMatch("Pane Group > Rectangle"));
+    }
+
+    @Test
+    public void testMissingAncestorIsRejected() {
+        assertFalse(mayMatch(".qux .leaf"));
+        assertFalse(mayMatch(".foo.qux .leaf"));
+        assertFalse(mayMatch("#inner .leaf"));
+        assertFalse(mayMatch("Button .leaf"));
+    }
+
+    @Test
+    public void testLeafItselfIsNotAnAncestor() {
+        assertFalse(mayMatch(".leaf .leaf"));
+    }
+
+    @Test
+    public void testIdAndStyleClassAreDistinct() {
+        assertFalse(mayMatch("#foo .leaf"));
+        assertFalse(mayMatch(".outer .leaf"));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.css;
+
+import com.sun.javafx.css.SharedStyleCache;
+import java.util.List;
+import javafx.css.Selector;
+import javafx.scene.Group;
+import javafx.scene.Scene;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import static org.junit.Assert.*;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SharedStyleCacheTest {
+
+    // .rect { -fx-fill: red; } .other { -fx-fill: blue; }
+    private static final String STYLESHEET =
+            "data:base64,LnJlY3QgeyAtZngtZmlsbDogcmVkOyB9IC5vdGhlciB7IC1meC1maWxsOiBibHVlOyB9";
+
+    @Before
+    public void setup() {
+        SharedStyleCache.clear();
+    }
+
+    private static Rectangle createScene(String style) {
+        Rectangle rect = new Rectangle();
+        rect.getStyleClass().add("rect");
+        rect.setStyle(style);
+        Group root = new Group(rect);
+        Scene scene = new Scene(root);
+        scene.getStylesheets().add(STYLESHEET);
+        root.applyCss();
+        return rect;
+    }
+
+    @Test
+    public void testSameSelectorsHaveSameSharedId() {
+        Selector rect = Selector.createSelector(".rect");
+        Selector other = Selector.createSelector(".other");
+
+        int id = SharedStyleCache.getSharedId(Rectangle.class, List.of(rect, other));
+        assertEquals(id, SharedStyleCache.getSharedId(Rectangle.class, List.of(rect, other)));
+        assertNotEquals(id, SharedStyleCache.getSharedId(Rectangle.class, List.of(other, rect)));
+        assertNotEquals(id, SharedStyleCache.getSharedId(Rectangle.class, List.of(rect)));
+        assertNotEquals(id, SharedStyleCache.getSharedId(Group.class, List.of(rect, other)));
+        assertNotEquals(id, SharedStyleCache.getSharedId(Rectangle.class,
+                List.of(Selector.createSelector(".rect"), other)));
+    }
+
+    @Test
+    public void testSharedIdsAreNotReusedAfterClear() {
+        List<Selector> selectors = List.of(Selector.createSelector(".rect"));
+        int id = SharedStyleCache.getSharedId(Rectangle.class, selectors);
+        SharedStyleCache.clear();
+        assertNotEquals(id, SharedStyleCache.getSharedId(Rectangle.class, selectors));
+    }
+
+    @Test
+    public void testScenesShareCalculatedValues() {
+        Rectangle first = createScene(null);
+        assertEquals(Color.RED, first.getFill());
+
+        SharedStyleCache.resetStatistics();
+        Rectangle second = createScene(null);
+        assertEquals(Color.RED, second.getFill());
+        assertTrue(SharedStyleCache.getHitCount() > 0);
+        assertEquals(0, SharedStyleCache.getMissCount());
+        assertTrue(SharedStyleCache.getStyleCacheCount() > 0);
+        assertTrue(SharedStyleCache.getCalculatedValueCount() > 0);
+    }
+
+    @Test
+    public void testInlineStylesAreNotShared() {
+        Rectangle first = createScene("-fx-fill: green;");
+        assertEquals(Color.GREEN, first.getFill());
+
+        Rectangle second = createScene("-fx-fill: yellow;");
+        assertEquals(Color.YELLOW, second.getFill());
+
+        Rectangle third = createScene(null);
+        assertEquals(Color.RED, third.getFill());
+    }
+}
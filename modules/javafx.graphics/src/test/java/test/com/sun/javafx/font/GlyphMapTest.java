@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.font;
+
+import com.sun.javafx.font.GlyphMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GlyphMapTest {
+
+    @Test
+    public void testPutAndGet() {
+        GlyphMap<String> map = new GlyphMap<>();
+        assertNull(map.get(0));
+        map.put(0, "zero");
+        map.put(0xFFFF, "invisible");
+        map.put(-1, "negative");
+        map.put((200 << 24) | 5, "slot");
+        assertEquals("zero", map.get(0));
+        assertEquals("invisible", map.get(0xFFFF));
+        assertEquals("negative", map.get(-1));
+        assertEquals("slot", map.get((200 << 24) | 5));
+        assertNull(map.get(1));
+        assertEquals(4, map.size());
+        map.put(0, "nil");
+        assertEquals("nil", map.get(0));
+        assertEquals(4, map.size());
+    }
+
+    @Test
+    public void testMatchesHashMap() {
+        GlyphMap<Integer> map = new GlyphMap<>();
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(5);
+        for (int i = 0; i < 20000; i++) {
+            int glyphCode = random.nextInt(30000);
+            map.put(glyphCode, i);
+            expected.put(glyphCode, i);
+        }
+        assertEquals(expected.size(), map.size());
+        for (int glyphCode = 0; glyphCode < 30000; glyphCode++) {
+            assertEquals(expected.get(glyphCode), map.get(glyphCode));
+        }
+    }
+
+    @Test
+    public void testClear() {
+        GlyphMap<String> map = new GlyphMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, "g" + i);
+        }
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get(7));
+        map.put(7, "seven");
+        assertEquals("seven", map.get(7));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullValue() {
+        new GlyphMap<String>().put(1, null);
+    }
+}
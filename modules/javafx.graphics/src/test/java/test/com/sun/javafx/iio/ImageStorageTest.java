@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -26,6 +26,7 @@
 package test.com.sun.javafx.iio;
 
 import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.ImageFrameStream;
 import com.sun.javafx.iio.ImageStorage;
 import com.sun.javafx.iio.ImageStorageException;
 import com.sun.javafx.iio.common.ImageTools;
@@ -36,6 +37,7 @@ import org.junit.Test;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Base64;
 import java.util.zip.GZIPInputStream;
 
@@ -85,6 +87,73 @@ public class ImageStorageTest {
         assertEquals(frames.length, 2);
     }
 
+    @Test
+    public void testStreamedAnimation() throws Exception {
+        String path = getResourcePath("gif/animation/test3Frames.gif");
+        ImageFrame[] frames = ImageStorage.loadAll(path, null, 0, 0, true, 1.0f, true);
+        ImageFrameStream stream = ImageStorage.loadStream(path, null, 0, 0, true, 1.0f, true);
+        assertTrue(stream.isDecodedOnDemand());
+        assertEquals(3, stream.getFrameCount());
+        assertEquals((int) frames[0].getMetadata().loopCount, stream.getLoopCount());
+
+        // request the frames out of order to make the stream start over
+        for (int i : new int[] { 0, 1, 2, 1, 0, 2, 2 }) {
+            ImageFrame frame = stream.getFrame(i);
+            assertEquals((int) frames[i].getMetadata().delayTime, stream.getFrameDelay(i));
+            assertEquals(frames[i].getWidth(), frame.getWidth());
+            assertEquals(frames[i].getHeight(), frame.getHeight());
+            assertEquals((ByteBuffer) frames[i].getImageData(), (ByteBuffer) frame.getImageData());
+        }
+    }
+
+    @Test
+    public void testCopiedStreamedAnimation() throws Exception {
+        String path = getResourcePath("gif/animation/test3Frames.gif");
+        ImageFrame[] frames = ImageStorage.loadAll(path, null, 0, 0, true, 1.0f, true);
+        ImageFrameStream stream = ImageStorage.loadStream(path, null, 0, 0, true, 1.0f, true);
+        ImageFrameStream copy = stream.copy();
+        assertEquals(stream.getFrameCount(), copy.getFrameCount());
+
+        // interleave requests that would restart a shared decoder
+        int[] streamFrames = { 0, 1, 2, 2, 0, 1 };
+        int[] copyFrames = { 2, 0, 1, 0, 2, 2 };
+        for (int i = 0; i < streamFrames.length; i++) {
+            assertEquals((ByteBuffer) frames[streamFrames[i]].getImageData(),
+                         (ByteBuffer) stream.getFrame(streamFrames[i]).getImageData());
+            assertEquals((ByteBuffer) frames[copyFrames[i]].getImageData(),
+                         (ByteBuffer) copy.getFrame(copyFrames[i]).getImageData());
+        }
+    }
+
+    @Test
+    public void testStreamedScaledAnimation() throws Exception {
+        String path = getResourcePath("gif/animation/test3Frames.gif");
+        ImageFrame[] frames = ImageStorage.loadAll(path, null, 7, 5, false, 1.0f, true);
+        ImageFrameStream stream = ImageStorage.loadStream(path, null, 7, 5, false, 1.0f, true);
+        for (int i = 0; i < frames.length; i++) {
+            ImageFrame frame = stream.getFrame(i);
+            assertEquals(7, frame.getWidth());
+            assertEquals(5, frame.getHeight());
+            assertEquals((ByteBuffer) frames[i].getImageData(), (ByteBuffer) frame.getImageData());
+        }
+    }
+
+    @Test
+    public void testStreamedIncompleteAnimation() throws Exception {
+        String path = getResourcePath("gif/animation/test3rdFrameIncomplete.gif");
+        ImageFrameStream stream = ImageStorage.loadStream(path, null, 0, 0, true, 1.0f, true);
+        assertEquals(2, stream.getFrameCount());
+        assertNotNull(stream.getFrame(1));
+    }
+
+    @Test
+    public void testStreamNotAnimated() throws ImageStorageException {
+        String path = getResourcePath("testpngnoextension");
+        ImageFrameStream stream = ImageStorage.loadStream(path, null, 0, 0, true, 1.0f, true);
+        assertFalse(stream.isDecodedOnDemand());
+        assertEquals(1, stream.getFrameCount());
+    }
+
     @Test(expected = ImageStorageException.class)
     public void testCorruptFirstFrame() throws ImageStorageException  {
         String path = getResourcePath("gif/animation/testBad.gif");
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2014, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2014, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -25,13 +25,19 @@
 
 package test.com.sun.javafx.iio.png;
 
+import com.sun.javafx.iio.ImageFrame;
+import com.sun.javafx.iio.common.ImageTools;
 import com.sun.javafx.iio.png.PNGImageLoader2;
 import test.com.sun.javafx.iio.ImageTestHelper;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Random;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+
 public class PNGImageLoaderTest {
 
     private void testImage(InputStream stream) throws IOException {
@@ -76,4 +82,61 @@ public class PNGImageLoaderTest {
         ByteArrayInputStream stream = ImageTestHelper.constructStreamFromInts(corruptedIDATLength);
         testImage(stream);
     }
+
+    private void testScaledLoad(int imageType) throws IOException {
+        BufferedImage bImg = new BufferedImage(30, 20, imageType);
+        Random r = new Random(1);
+        for (int y = 0; y < 20; y++) {
+            for (int x = 0; x < 30; x++) {
+                bImg.setRGB(x, y, r.nextInt());
+            }
+        }
+        ByteArrayInputStream in = ImageTestHelper.writeImageToStream(bImg, "png", null);
+        ImageFrame full = new PNGImageLoader2(in).load(0, 0, 0, true, true);
+
+        // scaling while decoding gives the same result as scaling afterwards
+        int[][] sizes = {{13, 7}, {30, 9}, {45, 33}};
+        for (int[] size : sizes) {
+            for (boolean smooth : new boolean[] {true, false}) {
+                ImageFrame expected = ImageTools.scaleImageFrame(full, size[0], size[1], smooth);
+                in.reset();
+                ImageFrame scaled = new PNGImageLoader2(in).load(0, size[0], size[1], false, smooth);
+                assertEquals(expected.getImageType(), scaled.getImageType());
+                assertEquals(size[0], scaled.getWidth());
+                assertEquals(size[1], scaled.getHeight());
+                assertEquals(expected.getStride(), scaled.getStride());
+                assertEquals(expected.getImageData(), scaled.getImageData());
+            }
+        }
+    }
+
+    @Test
+    public void testScaledLoadRGB() throws IOException {
+        testScaledLoad(BufferedImage.TYPE_INT_RGB);
+    }
+
+    @Test
+    public void testScaledLoadRGBA() throws IOException {
+        testScaledLoad(BufferedImage.TYPE_INT_ARGB);
+    }
+
+    @Test
+    public void testScaledLoadGray() throws IOException {
+        testScaledLoad(BufferedImage.TYPE_BYTE_GRAY);
+    }
+
+    @Test
+    public void testScaledLoadGray16() throws IOException {
+        testScaledLoad(BufferedImage.TYPE_USHORT_GRAY);
+    }
+
+    @Test
+    public void testScaledLoadPalette() throws IOException {
+        testScaledLoad(BufferedImage.TYPE_BYTE_INDEXED);
+    }
+
+    @Test
+    public void testScaledLoadBinary() throws IOException {
+        testScaledLoad(BufferedImage.TYPE_BYTE_BINARY);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2012, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -52,6 +52,7 @@ import com.sun.javafx.image.impl.IntArgbPre;
 import static junit.framework.Assert.*;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.IntBuffer;
 import javafx.scene.image.PixelFormat;
 import javafx.scene.image.WritablePixelFormat;
@@ -1019,4 +1020,45 @@ public class ConverterTest {
             }
         }
     }
+
+    @Test
+    public void testNonPretoPre() {
+        for (int a = 0; a <= 0xff; a++) {
+            for (int c = 0; c <= 0xff; c++) {
+                int expected = (a == 0) ? 0 : (c * a + 0x7f) / 0xff;
+                int pre = PixelUtils.NonPretoPre((a << 24) | (c << 16) | ((0xff - c) << 8) | c);
+                assertEquals(a, pre >>> 24);
+                assertEquals(expected, (pre >> 16) & 0xff);
+                assertEquals(a == 0 ? 0 : ((0xff - c) * a + 0x7f) / 0xff, (pre >> 8) & 0xff);
+                assertEquals(expected, pre & 0xff);
+            }
+        }
+    }
+
+    @Test
+    public void testBgraConvertersIgnoreBufferOrder() {
+        int w = 64;
+        byte bgra[] = new byte[w * 4];
+        for (int i = 0; i < bgra.length; i++) {
+            bgra[i] = (byte) (i * 37 + 11);
+        }
+        int expected[] = new int[w];
+        ByteBgra.ToIntArgbPreConverter().convert(bgra, 0, 0, expected, 0, 0, w, 1);
+        for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+            ByteBuffer src = ByteBuffer.allocateDirect(w * 4).order(order);
+            src.put(bgra).rewind();
+            IntBuffer dst = IntBuffer.allocate(w);
+            ByteBgra.ToIntArgbPreConverter().convert(src, 0, 0, dst, 0, 0, w, 1);
+            for (int i = 0; i < w; i++) {
+                assertEquals(expected[i], dst.get(i));
+            }
+            assertEquals(order, src.order());
+
+            ByteBuffer back = ByteBuffer.allocate(w * 4).order(order);
+            IntArgbPre.ToByteBgraPreConverter().convert(dst, 0, 0, back, 0, 0, w, 1);
+            for (int i = 0; i < w; i++) {
+                assertEquals(expected[i], ByteBgraPre.getter.getArgbPre(back, i * 4));
+            }
+        }
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.scene.text;
+
+import com.sun.javafx.scene.text.FontHelper;
+import com.sun.javafx.scene.text.TextMeasurer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javafx.scene.text.Font;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import test.com.sun.javafx.pgstub.StubTextLayoutFactory;
+
+import static org.junit.Assert.*;
+
+public class TextMeasurerTest {
+    private ExecutorService executor;
+    private TextMeasurer measurer;
+    private Object font;
+
+    @Before
+    public void setup() {
+        executor = Executors.newFixedThreadPool(4);
+        measurer = new TextMeasurer(new StubTextLayoutFactory(), executor, 4);
+        font = FontHelper.getNativeFont(new Font(10));
+    }
+
+    @After
+    public void cleanup() {
+        executor.shutdownNow();
+    }
+
+    private static List<String> createTexts(int count) {
+        List<String> texts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            texts.add("x".repeat(i % 97));
+        }
+        Collections.shuffle(texts);
+        return texts;
+    }
+
+    @Test
+    public void testMeasure() {
+        TextMeasurer.Metrics metrics = measurer.measure("abc\nde", font, 0, 0, 0);
+        assertEquals(30, metrics.getWidth(), 0.001);
+        assertEquals(20, metrics.getHeight(), 0.001);
+        assertEquals(30, measurer.computeWidth("abc", font), 0.001);
+    }
+
+    @Test
+    public void testMeasureAllMatchesMeasure() {
+        List<String> texts = createTexts(1000);
+        TextMeasurer.Metrics[] metrics = measurer.measureAll(texts, font, 0, 0, 0).join();
+        assertEquals(texts.size(), metrics.length);
+        for (int i = 0; i < texts.size(); i++) {
+            assertEquals(measurer.computeWidth(texts.get(i), font), metrics[i].getWidth(), 0);
+        }
+    }
+
+    @Test
+    public void testComputeMaxWidth() {
+        List<String> texts = createTexts(5000);
+        assertEquals(960, measurer.computeMaxWidth(texts, font).join(), 0.001);
+        assertEquals(0, measurer.computeMaxWidth(Collections.emptyList(), font).join(), 0);
+    }
+}
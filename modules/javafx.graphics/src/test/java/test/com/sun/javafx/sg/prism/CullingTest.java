@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2015, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -232,4 +232,36 @@ public class CullingTest extends NGTestBase {
         Assert.assertEquals(2 | (1 << 2), NGNodeShim.cullingBits(gbn));
         Assert.assertEquals(1 << 2, NGNodeShim.cullingBits(bn1));
     }
+
+    @Test
+    public void test_group_manyChildren() {
+        checkGroupWithManyChildren(false);
+    }
+
+    @Test
+    public void test_group_manyChildren_parallel() {
+        checkGroupWithManyChildren(true);
+    }
+
+    private void checkGroupWithManyChildren(boolean parallelCulling) {
+        // Enough children for the group to be marked in chunks when
+        // parallel culling is enabled
+        NGNode[] children = new NGNode[500];
+        for (int i = 0; i < children.length; i++) {
+            children[i] = createRectangle(i * 10, 0, 5, 5);
+        }
+        TestNGGroup gbn = createGroup(children);
+        gbn.setParallelCulling(parallelCulling);
+        translate(gbn, 10, 10);
+        DirtyRegionContainer drc = new DirtyRegionContainer(2);
+        drc.deriveWithNewRegions(new RectBounds[]{new RectBounds(0, 0, 997, 100), new RectBounds(2007, 0, 3007, 100)});
+        NGNodeShim.markCullRegions(gbn,drc, -1, BaseTransform.IDENTITY_TRANSFORM, new GeneralTransform3D());
+
+        Assert.assertEquals(1 | (1 << 2), NGNodeShim.cullingBits(gbn));
+        for (int i = 0; i < children.length; i++) {
+            int x = i * 10 + 10;
+            int expected = x + 5 <= 997 ? 2 : (x >= 2007 && x + 5 <= 3007) ? 2 << 2 : 0;
+            Assert.assertEquals("child " + i, expected, NGNodeShim.cullingBits(children[i]));
+        }
+    }
 }
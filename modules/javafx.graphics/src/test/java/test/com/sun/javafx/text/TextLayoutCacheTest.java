@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.javafx.text;
+
+import com.sun.javafx.text.TextLayoutCache;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TextLayoutCacheTest {
+    private TextLayoutCache<Integer, String> cache;
+
+    @Before
+    public void setup() {
+        cache = new TextLayoutCache<>(16 * 100);
+    }
+
+    @Test
+    public void testGetReturnsPutValue() {
+        assertTrue(cache.put(1, "one", 10));
+        assertEquals("one", cache.get(1));
+        assertNull(cache.get(2));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.size());
+        assertEquals(10, cache.getWeight());
+    }
+
+    @Test
+    public void testReplaceUpdatesWeight() {
+        cache.put(1, "one", 10);
+        cache.put(1, "uno", 12);
+        assertEquals("uno", cache.get(1));
+        assertEquals(1, cache.size());
+        assertEquals(12, cache.getWeight());
+    }
+
+    @Test
+    public void testWeightIsBounded() {
+        for (int i = 0; i < 10000; i++) {
+            cache.put(i, Integer.toString(i), 1 + i % 7);
+        }
+        assertTrue(cache.getWeight() <= 16 * 100);
+        assertTrue(cache.getEvictionCount() > 0);
+        assertEquals(Integer.toString(9999), cache.get(9999));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() {
+        /* Keys 16 apart land in the same segment, which holds a weight of 100 */
+        for (int i = 0; i < 10; i++) {
+            cache.put(i * 16, "v" + i, 10);
+        }
+        assertEquals("v0", cache.get(0));
+        cache.put(160, "v10", 10);
+        assertEquals("v0", cache.get(0));
+        assertNull(cache.get(16));
+        assertEquals("v10", cache.get(160));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testHeavyEntryIsNotCached() {
+        /* An entry may weigh an eighth of its segment at most */
+        assertEquals(12, cache.getMaxEntryWeight());
+        assertFalse(cache.put(1, "one", 13));
+        assertNull(cache.get(1));
+        assertEquals(0, cache.getWeight());
+        assertTrue(cache.put(1, "one", 12));
+    }
+
+    @Test
+    public void testClear() {
+        cache.put(1, "one", 10);
+        cache.put(2, "two", 10);
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+        assertNull(cache.get(1));
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int offset = t * 1000;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    cache.put(offset + i, "v", 3);
+                    cache.get(offset + i / 2);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(3L * cache.size(), cache.getWeight());
+        assertTrue(cache.getWeight() <= 16 * 100);
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+
+package test.com.sun.javafx.tk.quantum;
+
+import com.sun.javafx.tk.ImageLoader;
+import com.sun.javafx.tk.quantum.DecodedImageCacheShim;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DecodedImageCacheTest {
+
+    // a 12x12 image, which takes 576 bytes decoded
+    private static final String URL =
+            DecodedImageCacheTest.class.getResource("/test/com/sun/javafx/iio/checker.png").toExternalForm();
+
+    private final AtomicInteger decodes = new AtomicInteger();
+
+    private ImageLoader load(Object cache, double size) throws Exception {
+        return DecodedImageCacheShim.load(cache, URL, size, size, decodes::incrementAndGet);
+    }
+
+    @Test
+    public void sameImageIsDecodedOnce() throws Exception {
+        final Object cache = DecodedImageCacheShim.createCache(1024 * 1024);
+        final ImageLoader first = load(cache, 0);
+        assertNull(first.getException());
+        assertEquals(12, first.getWidth(), 0);
+
+        assertSame(first, load(cache, 0));
+        assertEquals(1, decodes.get());
+        assertEquals(1, DecodedImageCacheShim.getCount(cache));
+        assertEquals(576, DecodedImageCacheShim.getSize(cache));
+    }
+
+    @Test
+    public void differentSizesAreCachedSeparately() throws Exception {
+        final Object cache = DecodedImageCacheShim.createCache(1024 * 1024);
+        final ImageLoader large = load(cache, 0);
+        final ImageLoader small = load(cache, 6);
+        assertEquals(6, small.getWidth(), 0);
+
+        assertSame(large, load(cache, 0));
+        assertSame(small, load(cache, 6));
+        assertEquals(2, decodes.get());
+        assertEquals(576 + 144, DecodedImageCacheShim.getSize(cache));
+    }
+
+    @Test
+    public void leastRecentlyUsedImageIsEvicted() throws Exception {
+        final Object cache = DecodedImageCacheShim.createCache(576 + 144);
+        final ImageLoader large = load(cache, 0);
+        load(cache, 6);
+        load(cache, 0);
+        assertEquals(2, decodes.get());
+
+        // the 4x4 image doesn't fit next to the other two, so the 6x6 image goes
+        final ImageLoader tiny = load(cache, 4);
+        assertEquals(64, DecodedImageCacheShim.getByteCount(tiny));
+        assertEquals(2, DecodedImageCacheShim.getCount(cache));
+        assertEquals(576 + 64, DecodedImageCacheShim.getSize(cache));
+
+        assertSame(large, load(cache, 0));
+        assertEquals(3, decodes.get());
+        load(cache, 6);
+        assertEquals(4, decodes.get());
+    }
+
+    @Test
+    public void imageLargerThanCacheIsNotCached() throws Exception {
+        final Object cache = DecodedImageCacheShim.createCache(100);
+        load(cache, 0);
+        load(cache, 0);
+        assertEquals(2, decodes.get());
+        assertEquals(0, DecodedImageCacheShim.getCount(cache));
+        assertEquals(0, DecodedImageCacheShim.getSize(cache));
+    }
+
+    @Test
+    public void failedImageIsNotCached() throws Exception {
+        final Object cache = DecodedImageCacheShim.createCache(1024 * 1024);
+        final String url = URL.replace("checker.png", "missing.png");
+        assertNotNull(DecodedImageCacheShim.load(cache, url, 0, 0, decodes::incrementAndGet).getException());
+        assertNotNull(DecodedImageCacheShim.load(cache, url, 0, 0, decodes::incrementAndGet).getException());
+        assertEquals(2, decodes.get());
+        assertEquals(0, DecodedImageCacheShim.getCount(cache));
+    }
+
+    @Test
+    public void concurrentRequestsShareOneDecode() throws Exception {
+        final Object cache = DecodedImageCacheShim.createCache(1024 * 1024);
+        final CountDownLatch decoding = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicReference<ImageLoader> first = new AtomicReference<>();
+        final AtomicReference<ImageLoader> second = new AtomicReference<>();
+
+        final Thread firstThread = new Thread(() -> {
+            try {
+                first.set(DecodedImageCacheShim.load(cache, URL, 0, 0, () -> {
+                    decodes.incrementAndGet();
+                    decoding.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                }));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        firstThread.start();
+        decoding.await();
+
+        final Thread secondThread = new Thread(() -> {
+            try {
+                second.set(load(cache, 0));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        secondThread.start();
+        while (secondThread.getState() != Thread.State.WAITING
+                && secondThread.getState() != Thread.State.TERMINATED) {
+            Thread.sleep(1);
+        }
+
+        release.countDown();
+        firstThread.join();
+        secondThread.join();
+
+        assertEquals(1, decodes.get());
+        assertNotNull(first.get());
+        assertSame(first.get(), second.get());
+        assertEquals(1, DecodedImageCacheShim.getCount(cache));
+    }
+
+    @Test(timeout = 10000)
+    public void concurrentRequestsAreNotSharedWithoutCache() throws Exception {
+        final Object cache = DecodedImageCacheShim.createCache(0);
+        final CountDownLatch decoding = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        final Thread firstThread = new Thread(() -> {
+            try {
+                DecodedImageCacheShim.load(cache, URL, 0, 0, () -> {
+                    decodes.incrementAndGet();
+                    decoding.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        firstThread.start();
+        decoding.await();
+
+        // the second request doesn't wait for the first one
+        final ImageLoader second = load(cache, 0);
+        release.countDown();
+        firstThread.join();
+
+        assertNull(second.getException());
+        assertEquals(2, decodes.get());
+    }
+
+    @Test
+    public void cancelledDecodeIsNotShared() throws Exception {
+        final Object cache = DecodedImageCacheShim.createCache(1024 * 1024);
+        final CountDownLatch decoding = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicReference<Exception> first = new AtomicReference<>();
+        final AtomicReference<ImageLoader> second = new AtomicReference<>();
+
+        final Thread firstThread = new Thread(() -> {
+            try {
+                DecodedImageCacheShim.load(cache, URL, 0, 0, () -> {
+                    decodes.incrementAndGet();
+                    decoding.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                    // what a decode cancelled by Image.cancel() throws
+                    throw new InterruptedIOException();
+                });
+            } catch (Exception e) {
+                first.set(e);
+            }
+        });
+        firstThread.start();
+        decoding.await();
+
+        final Thread secondThread = new Thread(() -> {
+            try {
+                second.set(load(cache, 0));
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        secondThread.start();
+        while (secondThread.getState() != Thread.State.WAITING
+                && secondThread.getState() != Thread.State.TERMINATED) {
+            Thread.sleep(1);
+        }
+
+        release.countDown();
+        firstThread.join();
+        secondThread.join();
+
+        assertTrue(first.get() instanceof InterruptedIOException);
+        assertNotNull(second.get());
+        assertNull(second.get().getException());
+        assertEquals(2, decodes.get());
+        assertEquals(1, DecodedImageCacheShim.getCount(cache));
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2011, 2021, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2011, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -679,6 +679,44 @@ public class StylesheetTest {
         assertEquals("0x0000ffff", decl.getParsedValue().getValue().toString());
     }
 
+    @Test
+    public void testLoadBinaryStylesheetFromFile() throws IOException {
+        byte[] stylesheetData = convertCssTextToBinary(".empty { } .rect { -fx-fill: blue; -fx-stroke: red; }");
+        File file = File.createTempFile("loadBinary_", ".bss");
+        file.deleteOnExit();
+        Files.write(file.toPath(), stylesheetData);
+
+        var rules = Stylesheet.loadBinary(file.toURI().toURL()).getRules();
+        // the declarations are not decoded yet, but the file is no longer needed
+        Files.delete(file.toPath());
+        assertEquals(2, rules.size());
+
+        assertEquals("*.empty", rules.get(0).getSelectors().get(0).toString());
+        assertTrue(rules.get(0).getDeclarations().isEmpty());
+
+        var rule = rules.get(1);
+        assertEquals("*.rect", rule.getSelectors().get(0).toString());
+        assertEquals(2, rule.getDeclarations().size());
+        assertEquals("-fx-fill", rule.getDeclarations().get(0).getProperty());
+        assertEquals("0x0000ffff", rule.getDeclarations().get(0).getParsedValue().getValue().toString());
+        assertEquals("-fx-stroke", rule.getDeclarations().get(1).getProperty());
+        assertSame(rule, rule.getDeclarations().get(1).getRule());
+    }
+
+    @Test
+    public void testLoadBinaryStylesheetFromMissingFile() throws IOException {
+        File file = File.createTempFile("loadBinary_", ".bss");
+        file.delete();
+        assertNull(Stylesheet.loadBinary(file.toURI().toURL()));
+    }
+
+    @Test(expected = IOException.class)
+    public void testLoadBinaryStylesheetWithNewerVersion() throws IOException {
+        byte[] stylesheetData = convertCssTextToBinary(".rect { -fx-fill: blue; }");
+        stylesheetData[1]++;
+        Stylesheet.loadBinary(new ByteArrayInputStream(stylesheetData));
+    }
+
     @Test
     public void testLoadStylesheetFromDataURI() {
         var rect = new Rectangle();
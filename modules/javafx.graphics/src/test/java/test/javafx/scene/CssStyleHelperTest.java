@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2020, 2026, Oracle and/or its affiliates. All rights reserved.
  * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
  * This code is free software; you can redistribute it and/or modify it
@@ -31,10 +31,12 @@ import java.io.IOException;
 import javafx.css.CssParser;
 import javafx.css.PseudoClass;
 import javafx.css.Stylesheet;
+import javafx.scene.CssStyleHelperShim;
 import javafx.scene.Scene;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Text;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -608,4 +610,185 @@ public class CssStyleHelperTest {
         assertEquals(Color.BLUE, E.backgroundProperty().getValue().getFills().get(0).getFill());
         assertEquals(Color.BLUE, F.backgroundProperty().getValue().getFills().get(0).getFill());
     }
+
+    @Test
+    public void parallelMatchingAppliesSameStylesTest() throws IOException {
+        Stylesheet stylesheet = null;
+        root.getStyleClass().add("root");
+        stylesheet = new CssParser().parse(
+                "parallelMatchingAppliesSameStylesTest",
+                ".root {}\n"
+                + ".a .child { -fx-background-color: red; }\n"
+                + ".b > .child { -fx-background-color: blue; }\n"
+                + ".a:ps1 .child { -fx-background-color: green; }\n"
+        );
+        StyleManager.getInstance().setDefaultUserAgentStylesheet(stylesheet);
+        stage.show();
+        Toolkit.getToolkit().firePulse();
+
+        final boolean parallelMatching = CssStyleHelperShim.isParallelMatching();
+        CssStyleHelperShim.setParallelMatching(true);
+        try {
+            // enough nodes for the container to be matched in parallel
+            final int groups = 16;
+            final int perGroup = CssStyleHelperShim.getParallelMatchingThreshold() / groups;
+            final Pane container = new Pane();
+            for (int i = 0; i < groups; i++) {
+                final Pane group = new Pane();
+                group.getStyleClass().add(i % 2 == 0 ? "a" : "b");
+                for (int j = 0; j < perGroup; j++) {
+                    final Pane child = new Pane();
+                    child.getStyleClass().add("child");
+                    group.getChildren().add(child);
+                }
+                container.getChildren().add(group);
+            }
+            root.getChildren().add(container);
+            Toolkit.getToolkit().firePulse();
+
+            for (int i = 0; i < groups; i++) {
+                final Pane group = (Pane) container.getChildren().get(i);
+                final Color expected = i % 2 == 0 ? Color.RED : Color.BLUE;
+                for (javafx.scene.Node child : group.getChildren()) {
+                    assertEquals(expected, ((Pane) child).getBackground().getFills().get(0).getFill());
+                }
+            }
+
+            // the trigger states found in parallel make the children react to :ps1
+            final Pane first = (Pane) container.getChildren().get(0);
+            first.pseudoClassStateChanged(PseudoClass.getPseudoClass("ps1"), true);
+            Toolkit.getToolkit().firePulse();
+            for (javafx.scene.Node child : first.getChildren()) {
+                assertEquals(Color.GREEN, ((Pane) child).getBackground().getFills().get(0).getFill());
+            }
+            final Pane third = (Pane) container.getChildren().get(2);
+            for (javafx.scene.Node child : third.getChildren()) {
+                assertEquals(Color.RED, ((Pane) child).getBackground().getFills().get(0).getFill());
+            }
+        } finally {
+            CssStyleHelperShim.setParallelMatching(parallelMatching);
+        }
+    }
+
+    @Test
+    public void parallelMatchingRematchesWhenAnAncestorChangesTest() throws IOException {
+        root.getStyleClass().add("root");
+        Stylesheet stylesheet = new CssParser().parse(
+                "parallelMatchingRematchesWhenAnAncestorChangesTest",
+                ".root {}\n"
+                + ".container { -fx-opacity: 0.5; }\n"
+                + ".child { -fx-background-color: red; }\n"
+                + ".marked .child { -fx-background-color: green; }\n"
+        );
+        StyleManager.getInstance().setDefaultUserAgentStylesheet(stylesheet);
+        stage.show();
+        Toolkit.getToolkit().firePulse();
+
+        final boolean parallelMatching = CssStyleHelperShim.isParallelMatching();
+        CssStyleHelperShim.setParallelMatching(true);
+        try {
+            final int groups = 16;
+            final int perGroup = CssStyleHelperShim.getParallelMatchingThreshold() / groups;
+            final Pane container = new Pane();
+            container.getStyleClass().add("container");
+            for (int i = 0; i < groups; i++) {
+                final Pane group = new Pane();
+                for (int j = 0; j < perGroup; j++) {
+                    final Pane child = new Pane();
+                    child.getStyleClass().add("child");
+                    group.getChildren().add(child);
+                }
+                container.getChildren().add(group);
+            }
+            root.getChildren().add(container);
+            Toolkit.getToolkit().firePulse();
+            assertEquals(0.5, container.getOpacity(), 0);
+
+            // resetting the opacity of the container, once its styles no longer
+            // apply, marks it after the styles of the children were matched
+            container.opacityProperty().addListener(o -> container.getStyleClass().add("marked"));
+            container.getStyleClass().remove("container");
+            Toolkit.getToolkit().firePulse();
+
+            for (javafx.scene.Node group : container.getChildren()) {
+                for (javafx.scene.Node child : ((Pane) group).getChildren()) {
+                    assertEquals(Color.GREEN, ((Pane) child).getBackground().getFills().get(0).getFill());
+                }
+            }
+        } finally {
+            CssStyleHelperShim.setParallelMatching(parallelMatching);
+        }
+    }
+
+    @Test
+    public void pseudoClassChangeOnlyReappliesPropertiesThatDependOnIt() throws IOException {
+        root.getStyleClass().add("root");
+        Stylesheet stylesheet = new CssParser().parse(
+                "pseudoClassChangeOnlyReappliesPropertiesThatDependOnIt",
+                ".root {}\n"
+                + ".a { -fx-rotate: 10; }\n"
+                + ".a:ps1 { -fx-rotate: 45; }\n"
+        );
+        StyleManager.getInstance().setDefaultUserAgentStylesheet(stylesheet);
+        Pane A = new Pane();
+        A.getStyleClass().add("a");
+        A.setStyle("-fx-opacity: 0.5;");
+        root.getChildren().add(A);
+        stage.show();
+        Toolkit.getToolkit().firePulse();
+        assertEquals(10, A.getRotate(), 1e-6);
+        assertEquals(0.5, A.getOpacity(), 1e-6);
+
+        // cache the calculated values of the :ps1 state
+        A.pseudoClassStateChanged(PseudoClass.getPseudoClass("ps1"), true);
+        Toolkit.getToolkit().firePulse();
+        A.pseudoClassStateChanged(PseudoClass.getPseudoClass("ps1"), false);
+        Toolkit.getToolkit().firePulse();
+        assertEquals(10, A.getRotate(), 1e-6);
+
+        // -fx-opacity does not depend on :ps1, but the value CSS applied
+        // has been replaced, so the inline style is applied again
+        A.setOpacity(1.0);
+        A.pseudoClassStateChanged(PseudoClass.getPseudoClass("ps1"), true);
+        Toolkit.getToolkit().firePulse();
+        assertEquals(45, A.getRotate(), 1e-6);
+        assertEquals(0.5, A.getOpacity(), 1e-6);
+
+        // but it is still reapplied when the styles are
+        A.setStyle("-fx-opacity: 0.25;");
+        Toolkit.getToolkit().firePulse();
+        assertEquals(0.25, A.getOpacity(), 1e-6);
+    }
+
+    @Test
+    public void pseudoClassChangeReappliesLookedUpValues() throws IOException {
+        root.getStyleClass().add("root");
+        Stylesheet stylesheet = new CssParser().parse(
+                "pseudoClassChangeReappliesLookedUpValues",
+                ".root {}\n"
+                + ".a { -my-color: blue; }\n"
+                + ".a:ps1 { -my-color: red; }\n"
+                + ".r { -fx-fill: -my-color; }\n"
+        );
+        StyleManager.getInstance().setDefaultUserAgentStylesheet(stylesheet);
+        Pane A = new Pane();
+        A.getStyleClass().add("a");
+        Rectangle R = new Rectangle();
+        R.getStyleClass().add("r");
+        root.getChildren().add(A);
+        A.getChildren().add(R);
+        stage.show();
+        Toolkit.getToolkit().firePulse();
+        assertEquals(Color.BLUE, R.getFill());
+
+        for (int n = 0; n < 2; n++) {
+            A.pseudoClassStateChanged(PseudoClass.getPseudoClass("ps1"), true);
+            Toolkit.getToolkit().firePulse();
+            assertEquals(Color.RED, R.getFill());
+
+            A.pseudoClassStateChanged(PseudoClass.getPseudoClass("ps1"), false);
+            Toolkit.getToolkit().firePulse();
+            assertEquals(Color.BLUE, R.getFill());
+        }
+    }
 }
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
+ *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
+ *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
+ *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
+ */
+
+package test.com.sun.prism.sw;
+
+import java.util.concurrent.CountDownLatch;
+
+import javafx.application.Platform;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.paint.Stop;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Ellipse;
+import javafx.scene.shape.Polygon;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Rotate;
+import javafx.scene.transform.Scale;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import test.util.Util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * Checks that the tiled rasterization of the SW pipeline produces the same
+ * pixels as rendering on the calling thread.
+ */
+public class SWTiledRenderingTest {
+
+    private static final int SIZE = 512;
+
+    // Targets of this height are never split into tiles
+    private static final int STRIP_HEIGHT = 30;
+
+    // Largest difference allowed per color channel
+    private static final int TOLERANCE = 2;
+
+    private static final CountDownLatch startupLatch = new CountDownLatch(1);
+
+    @BeforeClass
+    public static void setupOnce() {
+        System.setProperty("prism.order", "sw");
+        System.setProperty("prism.sw.tiles", "4");
+        Util.startup(startupLatch, startupLatch::countDown);
+    }
+
+    @AfterClass
+    public static void teardownOnce() {
+        Platform.exit();
+    }
+
+    private static Node createScene() {
+        final Rectangle background = new Rectangle(SIZE, SIZE,
+                new LinearGradient(0, 0, 1, 1, true, CycleMethod.NO_CYCLE,
+                        new Stop(0, Color.LIGHTYELLOW), new Stop(1, Color.STEELBLUE)));
+
+        final Ellipse ellipse = new Ellipse(SIZE / 2.0, SIZE / 2.0, 220, 120);
+        ellipse.setFill(new RadialGradient(0, 0, 0.5, 0.5, 0.5, true, CycleMethod.REFLECT,
+                new Stop(0, Color.ORANGE), new Stop(1, Color.DARKRED)));
+        ellipse.setStroke(Color.BLACK);
+        ellipse.setStrokeWidth(7.5);
+        ellipse.getTransforms().add(new Rotate(30, SIZE / 2.0, SIZE / 2.0));
+
+        final Rectangle scaled = new Rectangle(40.3, 60.7, 200, 180);
+        scaled.setFill(Color.rgb(30, 160, 90, 0.8));
+        scaled.getTransforms().add(new Scale(1.5, 1.3));
+        final Polygon polygon = new Polygon(60, 450, 256, 30, 452, 450);
+        polygon.setFill(Color.TRANSPARENT);
+        polygon.setStroke(Color.NAVY);
+        polygon.setStrokeWidth(11);
+        final Group translucent = new Group(scaled, polygon);
+        translucent.setOpacity(0.6);
+        translucent.setClip(new Circle(SIZE / 2.0, SIZE / 2.0, 200));
+
+        final WritableImage image = new WritableImage(64, 64);
+        final PixelWriter writer = image.getPixelWriter();
+        for (int y = 0; y < 64; y++) {
+            for (int x = 0; x < 64; x++) {
+                writer.setArgb(x, y, ((x / 8 + y / 8) % 2 == 0) ? 0xFFFF00FF : 0x8000FFFF);
+            }
+        }
+        final ImageView imageView = new ImageView(image);
+        imageView.setX(150);
+        imageView.setY(150);
+        imageView.setFitWidth(300);
+        imageView.setFitHeight(300);
+        imageView.setRotate(15);
+        imageView.setClip(new Rectangle(170, 120, 260, 400));
+
+        return new Group(background, ellipse, translucent, imageView);
+    }
+
+    @Test(timeout = 20000)
+    public void tiledRenderingMatchesUntiledRendering() {
+        Util.runAndWait(() -> {
+            final Node root = createScene();
+
+            // The whole scene is large enough to be rendered in tiles
+            final WritableImage tiled = root.snapshot(new SnapshotParameters(), null);
+            assertEquals(SIZE, (int) tiled.getWidth());
+            assertEquals(SIZE, (int) tiled.getHeight());
+            final PixelReader tiledReader = tiled.getPixelReader();
+
+            for (int y = 0; y < SIZE; y += STRIP_HEIGHT) {
+                final int h = Math.min(STRIP_HEIGHT, SIZE - y);
+                final SnapshotParameters params = new SnapshotParameters();
+                params.setViewport(new Rectangle2D(0, y, SIZE, h));
+                final PixelReader stripReader = root.snapshot(params, null).getPixelReader();
+                for (int row = 0; row < h; row++) {
+                    for (int x = 0; x < SIZE; x++) {
+                        final int expected = stripReader.getArgb(x, row);
+                        final int actual = tiledReader.getArgb(x, y + row);
+                        if (!isClose(expected, actual)) {
+                            fail("Pixel (" + x + ", " + (y + row) + ") is "
+                                    + Integer.toHexString(actual) + " instead of "
+                                    + Integer.toHexString(expected));
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    private static boolean isClose(int argb1, int argb2) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            final int c1 = (argb1 >> shift) & 0xFF;
+            final int c2 = (argb2 >> shift) & 0xFF;
+            if (Math.abs(c1 - c2) > TOLERANCE) {
+                return false;
+            }
+        }
+        return true;
+    }
+}